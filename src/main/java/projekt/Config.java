@@ -8,6 +8,7 @@ import projekt.model.buildings.Port;
 import projekt.model.buildings.Settlement;
 import projekt.model.tiles.Tile;
 
+import java.nio.file.Path;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
@@ -110,6 +111,12 @@ public final class Config {
      */
     public static final int MAX_CITIES = 4;
 
+    /**
+     * The minimum length of a player's longest road to count as the longest road of the game.
+     * Only used to summarize archived games, the game itself does not award the longest road.
+     */
+    public static final int LONGEST_ROAD_MIN_LENGTH = 5;
+
     /**
      * The amount of resources needed to build each settlement type.
      */
@@ -145,10 +152,21 @@ public final class Config {
      * The probability of a tile type to be picked is the same as defined by the rules of the base game.
      *
      * @return A supplier returning randomly picked tile types
-     * @see #makeSupplier(SortedMap, boolean)
+     * @see #makeSupplier(SortedMap, boolean, Random)
      */
     public static Supplier<Tile.Type> generateTileTypes() {
-        return makeSupplier(TILE_RATIOS, true);
+        return generateTileTypes(RANDOM);
+    }
+
+    /**
+     * Create a new generator for tile types that draws from the given {@link Random}.
+     *
+     * @param random the source of randomness
+     * @return A supplier returning randomly picked tile types
+     * @see #generateTileTypes()
+     */
+    public static Supplier<Tile.Type> generateTileTypes(final Random random) {
+        return makeSupplier(TILE_RATIOS, true, random);
     }
 
     /**
@@ -158,15 +176,26 @@ public final class Config {
      * as defined by the rules of the base game.
      *
      * @return A supplier returning randomly picked roll numbers
-     * @see #makeSupplier(SortedMap, boolean)
+     * @see #makeSupplier(SortedMap, boolean, Random)
      */
     public static Supplier<Integer> generateRollNumbers() {
+        return generateRollNumbers(RANDOM);
+    }
+
+    /**
+     * Creates a new supplier returning randomly picked roll numbers that draws from the given {@link Random}.
+     *
+     * @param random the source of randomness
+     * @return A supplier returning randomly picked roll numbers
+     * @see #generateRollNumbers()
+     */
+    public static Supplier<Integer> generateRollNumbers(final Random random) {
         final Map<Integer, Integer> ratios = IntStream.iterate(NUMBER_OF_DICE, i -> i >= NUMBER_OF_DICE && i <= NUMBER_OF_DICE * DICE_SIDES, i -> i + 1)
             .filter(i -> i != 7)
             .mapToObj(i -> Map.entry(i, i == NUMBER_OF_DICE || i == NUMBER_OF_DICE * DICE_SIDES ? 1 : 2))
             .collect(Collectors.toUnmodifiableMap(Map.Entry::getKey, Map.Entry::getValue));
 
-        return makeSupplier(new TreeMap<>(ratios), true);
+        return makeSupplier(new TreeMap<>(ratios), true, random);
     }
 
     /**
@@ -183,6 +212,17 @@ public final class Config {
      * @see TilePosition
      */
     public static BiFunction<TilePosition, TilePosition.EdgeDirection, Port> generatePortMapper() {
+        return generatePortMapper(RANDOM);
+    }
+
+    /**
+     * Creates a BiFunction that places ports like {@link #generatePortMapper()} and draws from the given {@link Random}.
+     *
+     * @param random the source of randomness
+     * @return the BiFunction
+     * @see #generatePortMapper()
+     */
+    public static BiFunction<TilePosition, TilePosition.EdgeDirection, Port> generatePortMapper(final Random random) {
         final Iterator<ResourceType> resourceTypes = Spliterators.iterator(Arrays.spliterator(ResourceType.values()));
         final Set<Set<TilePosition>> visitedIntersections = new HashSet<>();
         final Predicate<TilePosition> isOutsideGrid = tilePosition -> abs(tilePosition.q()) >= GRID_RADIUS
@@ -208,9 +248,9 @@ public final class Config {
                 return null;
             }
 
-            if (RANDOM.nextDouble() < 0.65) {  // place port?
+            if (random.nextDouble() < 0.65) {  // place port?
                 visitedIntersections.addAll(intersectionPositions);
-                if (resourceTypes.hasNext() && RANDOM.nextBoolean()) { // place specialized port?
+                if (resourceTypes.hasNext() && random.nextBoolean()) { // place specialized port?
                     return new Port(2, resourceTypes.next());
                 } else {
                     return new Port(3);
@@ -222,6 +262,135 @@ public final class Config {
     }
 
 
+    // Trading
+
+    /**
+     * How long, in milliseconds, players have to answer a trade offer from another player.
+     * Players that do not answer in time are treated as declining.
+     */
+    public static final long TRADE_RESPONSE_TIMEOUT = 60_000;
+
+    /**
+     * The number of cards of one resource an AI player must hold before it offers one of them in the order book.
+     */
+    public static final int AI_TRADE_ORDER_SURPLUS = 3;
+
+    /**
+     * The number of rounds a trade order posted by an AI player stays in the order book.
+     */
+    public static final int AI_TRADE_ORDER_DURATION = 2;
+
+
+    // Journal
+
+    /**
+     * Whether games record a journal by default.
+     */
+    public static final boolean JOURNAL_ENABLED = false;
+
+    /**
+     * The directory game journals are written to if journals are enabled.
+     */
+    public static final Path JOURNAL_DIRECTORY = Path.of("journals");
+
+    /**
+     * How often, in milliseconds, buffered journal entries are written and synced to disk.
+     * At most this much of a game is lost if the process crashes.
+     */
+    public static final long JOURNAL_SYNC_INTERVAL = 200;
+
+    /**
+     * Whether blocks of journal entries are compressed before they are written.
+     */
+    public static final boolean JOURNAL_COMPRESSION = true;
+
+    /**
+     * The number of steps between two full keyframes of a replay timeline.
+     * Seeking applies at most this many deltas.
+     */
+    public static final int REPLAY_KEYFRAME_INTERVAL = 32;
+
+
+    // Autosave
+
+    /**
+     * Whether games are autosaved by default.
+     */
+    public static final boolean AUTOSAVE_ENABLED = false;
+
+    /**
+     * The directory autosaves are written to if autosaves are enabled.
+     */
+    public static final Path AUTOSAVE_DIRECTORY = Path.of("saves");
+
+    /**
+     * The number of rounds between two autosaves.
+     */
+    public static final int AUTOSAVE_INTERVAL = 1;
+
+
+    // Simulation
+
+    /**
+     * The time, in milliseconds, AI players wait before each action, so human players can follow the game.
+     */
+    public static final long AI_ACTION_DELAY = 1000;
+
+    /**
+     * The number of rounds after which a simulated game is stopped without a winner.
+     */
+    public static final int SIMULATION_ROUND_LIMIT = 500;
+
+    /**
+     * The highest round per-round statistics are kept for. Later rounds are counted as this round.
+     * It covers the round limit, so no simulated game is cut short in the statistics.
+     */
+    public static final int STATISTICS_MAX_ROUND = SIMULATION_ROUND_LIMIT;
+
+
+    // Training
+
+    /**
+     * The number of games whose training samples may wait for the sample writer before simulations block.
+     */
+    public static final int TRAINING_QUEUE_CAPACITY = 64;
+
+
+    // Board view
+
+    /**
+     * The radius from which on boards are drawn on a single canvas instead of with one node per tile, edge and
+     * intersection, which becomes too slow to pan and zoom on larger boards.
+     */
+    public static final int CANVAS_RENDERER_MIN_RADIUS = 7;
+
+    /**
+     * The number of distinct UI updates that may wait for the next frame before the game thread waits for the UI.
+     * Updates of the same element replace each other, so this only fills up if thousands of elements change
+     * between two frames.
+     */
+    public static final int UI_UPDATE_CAPACITY = 4096;
+
+
+    // Diagnostics
+
+    /**
+     * Whether the FX thread watchdog is started with the first scene. It logs whenever the FX thread does not
+     * respond for longer than {@link #FX_STALL_THRESHOLD}.
+     */
+    public static final boolean FX_WATCHDOG_ENABLED = true;
+
+    /**
+     * The time in milliseconds the FX thread may be blocked before the watchdog logs a stall.
+     */
+    public static final long FX_STALL_THRESHOLD = 250;
+
+    /**
+     * The number of slowest FX tasks shown in the performance overlay, which is toggled with F3.
+     */
+    public static final int FX_SLOWEST_TASK_COUNT = 5;
+
+
     // Development cards
 
     /**
@@ -249,10 +418,21 @@ public final class Config {
      * The probability of a card to be picked is the same as defined by the rules of the base game.
      *
      * @return A supplier returning randomly picked development cards
-     * @see #makeSupplier(SortedMap, boolean)
+     * @see #makeSupplier(SortedMap, boolean, Random)
      */
     public static Supplier<DevelopmentCardType> developmentCardGenerator() {
-        return makeSupplier(DEVELOPMENT_CARD_RATIOS, false);
+        return developmentCardGenerator(RANDOM);
+    }
+
+    /**
+     * Create a new generator for development cards that draws from the given {@link Random}.
+     *
+     * @param random the source of randomness
+     * @return A supplier returning randomly picked development cards
+     * @see #developmentCardGenerator()
+     */
+    public static Supplier<DevelopmentCardType> developmentCardGenerator(final Random random) {
+        return makeSupplier(DEVELOPMENT_CARD_RATIOS, false, random);
     }
 
 
@@ -265,9 +445,14 @@ public final class Config {
      *
      * @param ratios        mappings of keys to their respective ratio
      * @param enableCounter whether to enable the counter / log
+     * @param random        the source of randomness
      * @return a supplier returning chosen keys
      */
-    private static <T> Supplier<T> makeSupplier(final SortedMap<T, Integer> ratios, final boolean enableCounter) {
+    private static <T> Supplier<T> makeSupplier(
+        final SortedMap<T, Integer> ratios,
+        final boolean enableCounter,
+        final Random random
+    ) {
         final Map<T, Integer> counter = new HashMap<>();
         final int sum = ratios.values().stream().mapToInt(i -> i).sum();
         return () -> {
@@ -276,7 +461,7 @@ public final class Config {
                 if (enableCounter && counter.equals(ratios)) {
                     counter.clear();
                 }
-                final int d = RANDOM.nextInt(sum);
+                final int d = random.nextInt(sum);
                 int start = 0;
                 int bound = 0;
 
@@ -7,18 +7,27 @@ import projekt.controller.actions.BuildRoadAction;
 import projekt.controller.actions.BuildVillageAction;
 import projekt.controller.actions.EndTurnAction;
 import projekt.controller.actions.PlayerAction;
+import projekt.controller.actions.PostTradeOrderAction;
 import projekt.controller.actions.RollDiceAction;
 import projekt.controller.actions.SelectCardsAction;
 import projekt.controller.actions.SelectRobberTileAction;
 import projekt.controller.actions.StealCardAction;
+import projekt.controller.ai.OpeningSolver;
+import projekt.controller.ai.OpponentModel;
+import projekt.controller.ai.RobberEvaluator;
+import projekt.controller.ai.TilePayouts;
 import projekt.model.GameState;
 import projekt.model.HexGrid;
 import projekt.model.Player;
 import projekt.model.ResourceType;
+import projekt.model.buildings.Edge;
 
+import java.util.Arrays;
+import java.util.Comparator;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
-import java.util.Map.Entry;
+import java.util.Random;
 import java.util.Set;
 
 /**
@@ -26,9 +35,22 @@ import java.util.Set;
  * It will always execute actions in a given order if they are allowed by the
  * player's objective.
  * Implements all actions that are required to not stop the game flow.
- * All implemented actions are performed randomly.
+ * Villages are placed using the {@link OpeningSolver} and the robber is moved
+ * using the {@link RobberEvaluator}. At the end of a turn, a surplus resource
+ * is offered in the trade order book for a missing one. All other implemented
+ * actions are performed randomly.
  */
 public class BasicAiController extends AiController {
+    private static final Comparator<Edge> EDGE_ORDER = Comparator.comparing(Edge::getPosition1)
+        .thenComparing(Edge::getPosition2);
+
+    private final OpeningSolver openingSolver;
+    private final TilePayouts tilePayouts;
+    private final RobberEvaluator robberEvaluator;
+    private Edge plannedRoad;
+    private long actionDelay = Config.AI_ACTION_DELAY;
+    private Random random = Config.RANDOM;
+
     /**
      * Creates a new BasicAiController with the given player controller, hex grid,
      * game state and active player controller.
@@ -41,18 +63,68 @@ public class BasicAiController extends AiController {
     public BasicAiController(
         final PlayerController playerController, final HexGrid hexGrid, final GameState gameState,
         final Property<PlayerController> activePlayerController
+    ) {
+        this(playerController, hexGrid, gameState, activePlayerController, null);
+    }
+
+    /**
+     * Creates a new BasicAiController with the given player controller, hex grid,
+     * game state, active player controller and opponent model.
+     * If an opponent model is given, it is used to estimate the other players'
+     * hands instead of reading them directly.
+     *
+     * @param playerController       the player controller this belongs to
+     * @param hexGrid                the hex grid
+     * @param gameState              the game state
+     * @param activePlayerController the active player controller
+     * @param opponentModel          the opponent model of this player, may be
+     *                               {@code null}
+     */
+    public BasicAiController(
+        final PlayerController playerController, final HexGrid hexGrid, final GameState gameState,
+        final Property<PlayerController> activePlayerController, final OpponentModel opponentModel
     ) {
         super(playerController, hexGrid, gameState, activePlayerController);
+        this.openingSolver = new OpeningSolver(hexGrid);
+        this.tilePayouts = new TilePayouts(hexGrid, gameState.getPlayers());
+        hexGrid.addBoardChangeListener(tilePayouts);
+        this.robberEvaluator = opponentModel == null
+            ? new RobberEvaluator(tilePayouts)
+            : new RobberEvaluator(tilePayouts, opponentModel);
+    }
+
+    /**
+     * Sets the time this AI waits before each action.
+     *
+     * @param actionDelay the delay in milliseconds, {@code 0} to act immediately
+     */
+    public void setActionDelay(final long actionDelay) {
+        this.actionDelay = actionDelay;
+    }
+
+    /**
+     * Sets the source of randomness for the actions this AI performs randomly.
+     *
+     * @param random the source of randomness
+     */
+    public void setRandom(final Random random) {
+        this.random = random;
     }
 
     @Override
     protected void executeActionBasedOnObjective(final PlayerObjective objective) {
         final Set<Class<? extends PlayerAction>> actions = objective.getAllowedActions();
+        if (actions.isEmpty()) {
+            return;
+        }
         try {
-            Thread.sleep(1000);
+            if (actionDelay > 0) {
+                Thread.sleep(actionDelay);
+            }
         } catch (final InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
+            // the objective was cancelled, e.g. a trade offer was accepted by someone else
+            Thread.currentThread().interrupt();
+            return;
         }
         if (actions.contains(RollDiceAction.class)) {
             playerController.triggerAction(new RollDiceAction());
@@ -70,32 +142,77 @@ public class BasicAiController extends AiController {
             selectRobberTileAction();
         }
         if (actions.contains(AcceptTradeAction.class)) {
-            playerController.triggerAction(new AcceptTradeAction(Config.RANDOM.nextBoolean()));
+            playerController.triggerAction(new AcceptTradeAction(random.nextBoolean()));
         }
         if (actions.contains(StealCardAction.class)) {
             stealCardAction();
         }
+        if (actions.contains(PostTradeOrderAction.class)) {
+            postTradeOrder();
+        }
         if (actions.contains(EndTurnAction.class)) {
             playerController.triggerAction(new EndTurnAction());
         }
     }
 
     /**
-     * This method builds a village on a random buildable intersection.
+     * This method builds a village on the best buildable intersection according to
+     * the opening solver and remembers the road that belongs to the placement.
      */
     private void buildVillage() {
-        playerController.getPlayerState().buildableVillageIntersections().stream().findAny().ifPresent(intersection -> {
-            playerController.triggerAction(new BuildVillageAction(intersection));
-        });
+        openingSolver.rank(playerController.getPlayerState().buildableVillageIntersections(), playerController.getPlayer())
+            .stream().findFirst().ifPresent(placement -> {
+                plannedRoad = placement.road();
+                playerController.triggerAction(new BuildVillageAction(placement.intersection()));
+            });
     }
 
     /**
-     * This method builds a road on a random buildable edge.
+     * This method builds the road planned with the last village if it is still
+     * buildable, otherwise on a random buildable edge.
      */
     private void buildRoad() {
-        playerController.getPlayerState().buildableRoadEdges().stream().findAny().ifPresent(edge -> {
-            playerController.triggerAction(new BuildRoadAction(edge));
-        });
+        final Set<Edge> buildableRoadEdges = playerController.getPlayerState().buildableRoadEdges();
+        final Edge road = plannedRoad;
+        plannedRoad = null;
+        if (road != null && buildableRoadEdges.contains(road)) {
+            playerController.triggerAction(new BuildRoadAction(road));
+            return;
+        }
+        // sets iterate in no particular order, so the edges are sorted before one is drawn
+        final List<Edge> edges = buildableRoadEdges.stream().sorted(EDGE_ORDER).toList();
+        if (!edges.isEmpty()) {
+            playerController.triggerAction(new BuildRoadAction(edges.get(random.nextInt(edges.size()))));
+        }
+    }
+
+    /**
+     * This method offers one card of the resource the player holds the most of
+     * for one card of a resource the player does not hold, if the player holds
+     * at least {@link Config#AI_TRADE_ORDER_SURPLUS} cards of it and has no
+     * offer resting in the order book yet.
+     */
+    private void postTradeOrder() {
+        if (!playerController.getRestingTradeOrders().isEmpty()) {
+            return;
+        }
+        final Map<ResourceType, Integer> resources = playerController.getPlayer().getResources();
+        final ResourceType surplus = Arrays.stream(ResourceType.values())
+            .max(Comparator.comparingInt(resourceType -> resources.getOrDefault(resourceType, 0)))
+            .filter(resourceType -> resources.getOrDefault(resourceType, 0) >= Config.AI_TRADE_ORDER_SURPLUS)
+            .orElse(null);
+        final ResourceType missing = Arrays.stream(ResourceType.values())
+            .filter(resourceType -> resources.getOrDefault(resourceType, 0) == 0)
+            .findFirst()
+            .orElse(null);
+        if (surplus == null || missing == null) {
+            return;
+        }
+        playerController.triggerAction(new PostTradeOrderAction(
+            Map.of(surplus, 1),
+            Map.of(missing, 1),
+            Config.AI_TRADE_ORDER_DURATION
+        ));
     }
 
     /**
@@ -105,27 +222,32 @@ public class BasicAiController extends AiController {
      * example when using a development card.
      */
     private void selectCards() {
+        final Map<ResourceType, Integer> resources = playerController.getPlayer().getResources();
         final Map<ResourceType, Integer> selectedCards = new HashMap<>();
         for (int i = 0; i < playerController.getPlayerState().cardsToSelect(); i++) {
-            playerController.getPlayer().getResources().entrySet().stream()
-                .filter(entry -> entry.getValue() - selectedCards.getOrDefault(entry.getKey(), 0) > 0).findAny()
-                .ifPresent(entry -> {
-                    selectedCards.put(entry.getKey(), selectedCards.getOrDefault(entry.getKey(), 0) + 1);
-                });
+            final List<ResourceType> remaining = Arrays.stream(ResourceType.values())
+                .filter(resourceType -> resources.getOrDefault(resourceType, 0) - selectedCards.getOrDefault(resourceType, 0) > 0)
+                .toList();
+            if (!remaining.isEmpty()) {
+                selectedCards.merge(remaining.get(random.nextInt(remaining.size())), 1, Integer::sum);
+            }
         }
         playerController.triggerAction(new SelectCardsAction(selectedCards));
     }
 
     /**
-     * This method selects a random robber tile.
+     * This method places the robber on the tile that hurts the leading opponent
+     * the most without blocking the player's own production.
      */
     private void selectRobberTileAction() {
-        playerController.triggerAction(
-            new SelectRobberTileAction(hexGrid.getTiles().values().stream().findAny().get().getPosition()));
+        robberEvaluator.rankTiles(playerController.getPlayer(), hexGrid.getRobberPosition()).stream()
+            .findFirst()
+            .ifPresent(tile -> playerController.triggerAction(new SelectRobberTileAction(tile.position())));
     }
 
     /**
-     * This method steals a random card from a random player that has resources.
+     * This method steals from the player with the most valuable expected hand and
+     * picks the resource the player holds the least of.
      * <p>
      * Important: When there is nothing to steal or no one to steal from, no action
      * is performed and the EndTurnAction is triggered due to the control flow in
@@ -134,13 +256,18 @@ public class BasicAiController extends AiController {
      * the EndTurnAction.
      */
     private void stealCardAction() {
-        final Player playerToStealFrom = playerController.getPlayerState().playersToStealFrom().stream().findAny()
-            .orElse(null);
+        final Player playerToStealFrom = robberEvaluator
+            .rankStealTargets(playerController.getPlayer(), playerController.getPlayerState().playersToStealFrom())
+            .stream().findFirst().map(RobberEvaluator.StealTarget::player).orElse(null);
         if (playerToStealFrom == null) {
             return;
         }
-        final ResourceType resourceToSteal = playerToStealFrom.getResources().entrySet().stream()
-            .filter(entry -> entry.getValue() > 0).map(Entry::getKey).findAny().orElse(null);
+        final Map<ResourceType, Integer> ownResources = playerController.getPlayer().getResources();
+        final Map<ResourceType, Integer> victimResources = playerToStealFrom.getResources();
+        final ResourceType resourceToSteal = Arrays.stream(ResourceType.values())
+            .filter(resourceType -> victimResources.getOrDefault(resourceType, 0) > 0)
+            .min(Comparator.comparingInt(resourceType -> ownResources.getOrDefault(resourceType, 0)))
+            .orElse(null);
         if (resourceToSteal == null) {
             return;
         }
@@ -1,9 +1,7 @@
 package projekt.controller;
 
-import javafx.beans.property.BooleanProperty;
 import javafx.beans.property.IntegerProperty;
 import javafx.beans.property.Property;
-import javafx.beans.property.SimpleBooleanProperty;
 import javafx.beans.property.SimpleIntegerProperty;
 import javafx.beans.property.SimpleObjectProperty;
 import org.tudalgo.algoutils.student.annotation.DoNotTouch;
@@ -11,7 +9,12 @@ import org.tudalgo.algoutils.student.annotation.StudentImplementationRequired;
 import projekt.Config;
 import projekt.controller.actions.AcceptTradeAction;
 import projekt.controller.actions.EndTurnAction;
-import projekt.controller.actions.PlayerAction;
+import projekt.controller.actions.IllegalActionException;
+import projekt.controller.ai.OpponentModel;
+import projekt.controller.journal.GameJournal;
+import projekt.controller.snapshot.Autosaver;
+import projekt.controller.snapshot.GameSnapshot;
+import projekt.controller.trade.TradeOrderBook;
 import projekt.model.DevelopmentCardType;
 import projekt.model.GameState;
 import projekt.model.HexGridImpl;
@@ -19,13 +22,28 @@ import projekt.model.Player;
 import projekt.model.ResourceType;
 import projekt.model.tiles.Tile;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Comparator;
-import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Random;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
@@ -44,11 +62,29 @@ public class GameController {
     private final Supplier<Integer> dice;
     private final IntegerProperty currentDiceRoll = new SimpleIntegerProperty(0);
     private final List<AiController> aiControllers = new ArrayList<>();
-    private final Supplier<DevelopmentCardType> availableDevelopmentCards = Config.developmentCardGenerator();
+    private final Supplier<DevelopmentCardType> availableDevelopmentCards;
     private final IntegerProperty roundCounter = new SimpleIntegerProperty(0);
+    private final TradeOrderBook tradeOrderBook = new TradeOrderBook();
+    private final List<GameEventListener> gameEventListeners = new CopyOnWriteArrayList<>();
+    private long seed;
+    private Random random = Config.RANDOM;
+    private Path journalDirectory = Config.JOURNAL_ENABLED ? Config.JOURNAL_DIRECTORY : null;
+    private Path autosaveDirectory = Config.AUTOSAVE_ENABLED ? Config.AUTOSAVE_DIRECTORY : null;
+    private boolean recording = false;
+    private GameJournal journal;
+    private Autosaver autosaver;
+    private long aiActionDelay = Config.AI_ACTION_DELAY;
+    private long tradeResponseTimeout = Config.TRADE_RESPONSE_TIMEOUT;
+    private int roundLimit = 0;
 
     private final Property<PlayerController> activePlayerControllerProperty = new SimpleObjectProperty<>();
 
+    private final ExecutorService tradeResponders = Executors.newCachedThreadPool(runnable -> {
+        final Thread thread = new Thread(runnable, "TradeResponderThread");
+        thread.setDaemon(true);
+        return thread;
+    });
+
     /**
      * Initializes the {@link GameController} with the given {@link GameState},
      * {@link PlayerController}s and dice.
@@ -61,24 +97,48 @@ public class GameController {
         final GameState state,
         final Map<Player, PlayerController> playerControllers,
         final Supplier<Integer> dice
+    ) {
+        this(state, playerControllers, dice, Config.developmentCardGenerator());
+    }
+
+    /**
+     * Initializes the {@link GameController} with the given {@link GameState},
+     * {@link PlayerController}s, dice and development card stack.
+     *
+     * @param state                     The {@link GameState}.
+     * @param playerControllers         The {@link PlayerController}s.
+     * @param dice                      The dice.
+     * @param availableDevelopmentCards The stack development cards are drawn from.
+     */
+    public GameController(
+        final GameState state,
+        final Map<Player, PlayerController> playerControllers,
+        final Supplier<Integer> dice,
+        final Supplier<DevelopmentCardType> availableDevelopmentCards
     ) {
         this.state = state;
         this.playerControllers = playerControllers;
         this.dice = dice;
+        this.availableDevelopmentCards = availableDevelopmentCards;
+        roundCounter.addListener((observable, oldValue, round) -> tradeOrderBook.expire(round.intValue()));
+        state.getWinnerProperty().addListener((observable, oldValue, winner) -> {
+            if (winner != null) {
+                endGame();
+            }
+        });
     }
 
     /**
      * Initializes the {@link GameController} with the given {@link GameState} and
      * dice.
-     * The {@link PlayerController}s are initialized with an empty {@link HashMap}.
+     * The {@link PlayerController}s are initialized with an empty {@link LinkedHashMap},
+     * so players take their turns in the order they were added to the game.
      *
      * @param state The {@link GameState}.
      * @param dice  The dice.
      */
     public GameController(final GameState state, final Supplier<Integer> dice) {
-        this.state = state;
-        this.dice = dice;
-        this.playerControllers = new HashMap<>();
+        this(state, new LinkedHashMap<>(), dice);
     }
 
     /**
@@ -90,36 +150,138 @@ public class GameController {
      * @see #GameController(GameState, Supplier)
      */
     public GameController(final GameState state) {
-        this(state, () -> IntStream.rangeClosed(1, Config.NUMBER_OF_DICE)
-            .map(i -> Config.RANDOM.nextInt(1, Config.DICE_SIDES + 1))
-            .sum());
+        this(state, rollDice(Config.RANDOM));
+    }
+
+    /**
+     * Initializes the {@link GameController} with the {@link GameState} and the
+     * round of the given snapshot, so the saved game can be continued with
+     * {@link #resumeGame()}.
+     * The dice is initialized like in {@link #GameController(GameState)}.
+     *
+     * @param snapshot The snapshot of the game.
+     * @see GameSnapshot#load(Path)
+     */
+    public GameController(final GameSnapshot snapshot) {
+        this(snapshot.state());
+        roundCounter.set(snapshot.round());
     }
 
     /**
      * Initializes the {@link GameController} with a new {@link GameState} that has
      * a new {@link HexGridImpl} that uses the radius from
      * {@link Config#GRID_RADIUS} and an empty list of {@link Player}s.
+     * The game is seeded with a seed drawn from {@link Config#RANDOM}.
      *
-     * @see #GameController(GameState)
+     * @see #GameController(long)
      */
     public GameController() {
-        this(new GameState(new HexGridImpl(Config.GRID_RADIUS), new ArrayList<>()));
+        this(Config.RANDOM.nextLong());
+    }
+
+    /**
+     * Initializes the {@link GameController} with a new {@link GameState} that has
+     * a new {@link HexGridImpl} that uses the radius from
+     * {@link Config#GRID_RADIUS} and an empty list of {@link Player}s.
+     * The grid, the dice, the development cards and the AI players draw from a
+     * {@link Random} of their own that is seeded with the given seed, so games
+     * with the same seed and players are played the same way, even concurrently.
+     *
+     * @param seed The seed of the game.
+     * @see #GameController(GameState)
+     */
+    public GameController(final long seed) {
+        this(new Random(seed));
+        this.seed = seed;
+    }
+
+    /**
+     * Initializes the {@link GameController} with a new {@link GameState} whose
+     * grid, dice and development cards draw from the given {@link Random}.
+     *
+     * @param random The source of randomness of this game.
+     */
+    private GameController(final Random random) {
+        this(
+            new GameState(
+                new HexGridImpl(
+                    Config.GRID_RADIUS,
+                    Config.generateRollNumbers(random),
+                    Config.generateTileTypes(random),
+                    Config.generatePortMapper(random)
+                ),
+                new ArrayList<>()
+            ),
+            new LinkedHashMap<>(),
+            rollDice(random),
+            Config.developmentCardGenerator(random)
+        );
+        this.random = random;
+    }
+
+    /**
+     * Returns dice that respect the configured dice sides and number of dice.
+     *
+     * @param random The source of randomness.
+     * @return The dice.
+     */
+    private static Supplier<Integer> rollDice(final Random random) {
+        return () -> IntStream.rangeClosed(1, Config.NUMBER_OF_DICE)
+            .map(i -> random.nextInt(1, Config.DICE_SIDES + 1))
+            .sum();
     }
 
     /**
      * Initializes the {@link PlayerController}s for all players in the game.
+     * Since this happens right before the game starts, recording the game is
+     * started as well.
+     *
+     * @see #startRecording()
      */
     public void initPlayerControllers() {
+        startRecording();
         for (final Player player : state.getPlayers()) {
             playerControllers.put(player, new PlayerController(this, player));
             if (player.isAi()) {
-                aiControllers.add(new BasicAiController(playerControllers.get(player), state.getGrid(), state,
-                                                        activePlayerControllerProperty
-                ));
+                final OpponentModel opponentModel = new OpponentModel(player, state.getPlayers());
+                addGameEventListener(opponentModel);
+                final BasicAiController aiController = new BasicAiController(
+                    playerControllers.get(player), state.getGrid(), state, activePlayerControllerProperty, opponentModel
+                );
+                aiController.setActionDelay(aiActionDelay);
+                aiController.setRandom(new Random(random.nextLong()));
+                aiControllers.add(aiController);
             }
         }
     }
 
+    /**
+     * Registers a listener that is notified about events in this game.
+     *
+     * @param listener The listener to add.
+     */
+    public void addGameEventListener(final GameEventListener listener) {
+        gameEventListeners.add(listener);
+    }
+
+    /**
+     * Removes a listener registered with {@link #addGameEventListener(GameEventListener)}.
+     *
+     * @param listener The listener to remove.
+     */
+    public void removeGameEventListener(final GameEventListener listener) {
+        gameEventListeners.remove(listener);
+    }
+
+    /**
+     * Notifies all registered listeners about an event.
+     *
+     * @param event The notification to send to each listener.
+     */
+    void notifyListeners(final Consumer<GameEventListener> event) {
+        gameEventListeners.forEach(event);
+    }
+
     /**
      * Returns the {@link GameState}.
      *
@@ -174,6 +336,91 @@ public class GameController {
         return roundCounter;
     }
 
+    /**
+     * Returns the {@link TradeOrderBook} holding the standing trade offers.
+     *
+     * @return The {@link TradeOrderBook} holding the standing trade offers.
+     */
+    public TradeOrderBook getTradeOrderBook() {
+        return tradeOrderBook;
+    }
+
+    /**
+     * Returns the seed of this game, or {@code 0} if the game was not created from a seed.
+     *
+     * @return The seed of this game.
+     * @see #GameController(long)
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Returns the {@link Random} this game draws from, which is {@link Config#RANDOM}
+     * if the game was not created from a seed.
+     *
+     * @return The {@link Random} of this game.
+     */
+    public Random getRandom() {
+        return random;
+    }
+
+    /**
+     * Sets the directory the journal of this game is written to.
+     *
+     * By default, a journal is only recorded if {@link Config#JOURNAL_ENABLED} is set.
+     * Must be called before the game is started.
+     *
+     * @param journalDirectory The directory, or {@code null} to not record a journal.
+     * @see GameJournal
+     */
+    public void setJournalDirectory(final Path journalDirectory) {
+        this.journalDirectory = journalDirectory;
+    }
+
+    /**
+     * Sets the directory this game is autosaved to.
+     *
+     * By default, a game is only autosaved if {@link Config#AUTOSAVE_ENABLED} is set.
+     * Must be called before the game is started.
+     *
+     * @param autosaveDirectory The directory, or {@code null} to disable autosaves.
+     * @see Autosaver
+     */
+    public void setAutosaveDirectory(final Path autosaveDirectory) {
+        this.autosaveDirectory = autosaveDirectory;
+    }
+
+    /**
+     * Sets the time AI players of this game wait before each action.
+     * Must be called before the player controllers are initialized.
+     *
+     * @param aiActionDelay The delay in milliseconds, {@code 0} to act immediately.
+     */
+    public void setAiActionDelay(final long aiActionDelay) {
+        this.aiActionDelay = aiActionDelay;
+    }
+
+    /**
+     * Sets the time candidates of a trade offer have to answer before they are treated as declining.
+     *
+     * @param tradeResponseTimeout The timeout in milliseconds.
+     */
+    public void setTradeResponseTimeout(final long tradeResponseTimeout) {
+        this.tradeResponseTimeout = tradeResponseTimeout;
+    }
+
+    /**
+     * Sets the number of rounds after which this game ends without a winner.
+     * The limit only applies to games played with {@link #playGame()} or
+     * {@link #resumeGame()}.
+     *
+     * @param roundLimit The number of rounds, or {@code 0} to play until a player wins.
+     */
+    public void setRoundLimit(final int roundLimit) {
+        this.roundLimit = roundLimit;
+    }
+
     /**
      * Sets the active {@link PlayerController} {@link Property} to the
      * {@link PlayerController} of the given {@link Player}.
@@ -189,7 +436,9 @@ public class GameController {
      */
     public int castDice() {
         currentDiceRoll.set(dice.get());
-        return currentDiceRoll.get();
+        final int roll = currentDiceRoll.get();
+        notifyListeners(listener -> listener.diceRolled(roll));
+        return roll;
     }
 
     /**
@@ -198,7 +447,9 @@ public class GameController {
      * @return The drawn development card.
      */
     public DevelopmentCardType drawDevelopmentCard() {
-        return availableDevelopmentCards.get();
+        final DevelopmentCardType developmentCard = availableDevelopmentCards.get();
+        notifyListeners(listener -> listener.developmentCardDrawn(developmentCard));
+        return developmentCard;
     }
 
     /**
@@ -271,6 +522,195 @@ public class GameController {
         getState().setWinner(getWinners().iterator().next());
     }
 
+    /**
+     * Continues a game restored from a {@link GameSnapshot} with the round it was
+     * saved in. Unlike {@link #startGame()}, the first round is skipped, since the
+     * players already placed their first villages and roads.
+     * The game is stopped without a winner once the round limit is exceeded.
+     *
+     * @throws IllegalStateException If the game has not passed its first round.
+     * @see #setRoundLimit(int)
+     * @see #GameController(GameSnapshot)
+     */
+    public void resumeGame() {
+        if (roundCounter.get() < 1) {
+            throw new IllegalStateException("The game has not passed its first round");
+        }
+        if (playerControllers.isEmpty()) {
+            initPlayerControllers();
+        }
+
+        playRounds();
+    }
+
+    /**
+     * Plays the game like {@link #startGame()}, or like {@link #resumeGame()} if
+     * it was restored from a {@link GameSnapshot}, records it and releases the
+     * resources of the game once it ended, whether it was won, stopped or failed.
+     *
+     * @throws IllegalStateException If there are less {@link Player}s than
+     *                               configured.
+     * @see #setRoundLimit(int)
+     */
+    public void playGame() {
+        startRecording();
+        try {
+            if (roundCounter.get() == 0) {
+                if (this.state.getPlayers().size() < Config.MIN_PLAYERS) {
+                    throw new IllegalStateException("Not enough players");
+                }
+                if (playerControllers.isEmpty()) {
+                    initPlayerControllers();
+                }
+                firstRound();
+                roundCounter.set(1);
+            }
+            resumeGame();
+        } finally {
+            endGame();
+        }
+    }
+
+    /**
+     * Plays rounds like {@link #startGame()} until a player has won or the round
+     * limit is exceeded. Sets the winner, or notifies the listeners that the game
+     * was stopped.
+     */
+    private void playRounds() {
+        while (!isRoundLimitReached() && getWinners().isEmpty()) {
+            for (final PlayerController playerController : playerControllers.values()) {
+                withActivePlayer(playerController, () -> {
+                    // Dice roll
+                    playerController.waitForNextAction(PlayerObjective.DICE_ROLL);
+                    final var diceRoll = currentDiceRoll.get();
+
+                    if (diceRoll == 7) {
+                        diceRollSeven();
+                    } else {
+                        distributeResources(diceRoll);
+                    }
+                    // Regular turn
+                    regularTurn();
+                });
+            }
+            roundCounter.set(roundCounter.get() + 1);
+        }
+
+        // Game End
+        if (isRoundLimitReached()) {
+            notifyListeners(listener -> listener.gameStopped(roundLimit));
+        } else {
+            getState().setWinner(getWinners().iterator().next());
+        }
+    }
+
+    /**
+     * Returns whether the game was stopped because the round limit was exceeded.
+     *
+     * @return Whether the round limit was exceeded.
+     */
+    public boolean isRoundLimitReached() {
+        return roundLimit > 0 && roundCounter.get() > roundLimit;
+    }
+
+    /**
+     * Starts recording this game: opens the journal and registers the autosaver,
+     * if they are enabled. Does nothing if the game is already recorded.
+     * A resumed game is not journaled, since its journal would not start at the
+     * beginning of the game.
+     * Recording stops once a winner is set or {@link #playGame()} returns.
+     */
+    public synchronized void startRecording() {
+        if (recording) {
+            return;
+        }
+        recording = true;
+        final String name = String.format("game-%d-%016x", System.currentTimeMillis(), seed);
+        journal = roundCounter.get() == 0 ? openJournal(name) : null;
+        autosaver = openAutosaver(name);
+    }
+
+    /**
+     * Stops recording this game and shuts down the threads answering trade offers.
+     */
+    private synchronized void endGame() {
+        closeJournal(journal);
+        journal = null;
+        if (autosaver != null) {
+            roundCounter.removeListener(autosaver);
+            autosaver = null;
+        }
+        tradeResponders.shutdownNow();
+    }
+
+    /**
+     * Creates a new {@link GameJournal} in the journal directory and registers it as listener.
+     * A journal that cannot be created does not prevent the game from starting.
+     *
+     * @param name The name of the game.
+     * @return The journal, or {@code null} if no journal is recorded.
+     */
+    private GameJournal openJournal(final String name) {
+        if (journalDirectory == null) {
+            return null;
+        }
+        try {
+            Files.createDirectories(journalDirectory);
+            final GameJournal journal = new GameJournal(
+                journalDirectory.resolve(name + GameJournal.FILE_EXTENSION),
+                seed,
+                state
+            );
+            addGameEventListener(journal);
+            return journal;
+        } catch (final IOException e) {
+            e.printStackTrace();
+            return null;
+        }
+    }
+
+    /**
+     * Creates a new {@link Autosaver} in the autosave directory and registers it on the round counter.
+     *
+     * @param name The name of the game.
+     * @return The autosaver, or {@code null} if autosaves are disabled.
+     */
+    private Autosaver openAutosaver(final String name) {
+        if (autosaveDirectory == null) {
+            return null;
+        }
+        try {
+            Files.createDirectories(autosaveDirectory);
+        } catch (final IOException e) {
+            e.printStackTrace();
+            return null;
+        }
+        final Autosaver autosaver = new Autosaver(
+            this,
+            autosaveDirectory.resolve(name + GameSnapshot.FILE_EXTENSION),
+            Config.AUTOSAVE_INTERVAL
+        );
+        roundCounter.addListener(autosaver);
+        return autosaver;
+    }
+
+    /**
+     * Unregisters and closes the given journal.
+     *
+     * @param journal The journal, may be {@code null}.
+     */
+    private void closeJournal(final GameJournal journal) {
+        if (journal == null) {
+            return;
+        }
+        removeGameEventListener(journal);
+        try {
+            journal.close();
+        } catch (final IOException e) {
+            e.printStackTrace();
+        }
+    }
+
     /**
      * Executes the given {@link Runnable} and set the active player to the given
      * {@link PlayerController}.
@@ -321,6 +761,14 @@ public class GameController {
     /**
      * Offer the trade to all players that can accept the trade. As soon as one
      * player accepts the trade, the offering player can continue with his round.
+     * <p>
+     * The offer is broadcast to all candidates at once: every AI player answers on
+     * its own thread, while human players share the screen and are asked one after
+     * another on a single thread. Answers are settled on the calling thread in the
+     * order they arrive, so the first valid acceptance wins and all other pending
+     * answers are cancelled. Candidates that do not answer within
+     * {@link Config#TRADE_RESPONSE_TIMEOUT}, or the timeout set with
+     * {@link #setTradeResponseTimeout(long)}, are treated as declining.
      *
      * @param offeringPlayer The player offering the trade.
      * @param offer          The resources the offering player offers.
@@ -331,26 +779,133 @@ public class GameController {
         final Player offeringPlayer, final Map<ResourceType, Integer> offer,
         final Map<ResourceType, Integer> request
     ) {
-        final BooleanProperty tradeAccepted = new SimpleBooleanProperty(true);
-        for (final PlayerController playerController : playerControllers.values().stream()
-            .filter(pc -> pc.canAcceptTradeOffer(offeringPlayer, request)).collect(Collectors.toList())) {
-            playerController.setPlayerTradeOffer(offeringPlayer, offer, request);
-            withActivePlayer(playerController, () -> {
-                final PlayerAction action = playerController.waitForNextAction(PlayerObjective.ACCEPT_TRADE);
-                if (action instanceof final AcceptTradeAction tradeAction) {
-                    if (tradeAction.accepted()) {
-                        tradeAccepted.set(true);
-                    }
+        final List<PlayerController> candidates = playerControllers.values().stream()
+            .filter(pc -> pc.canAcceptTradeOffer(offeringPlayer, request))
+            .toList();
+        final long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(tradeResponseTimeout);
+        final AtomicBoolean closed = new AtomicBoolean(false);
+        final List<Callable<TradeResponse>> tasks = new ArrayList<>();
+        final List<PlayerController> humans = new ArrayList<>();
+        for (final PlayerController candidate : candidates) {
+            candidate.setPlayerTradeOffer(offeringPlayer, offer, request);
+            if (candidate.getPlayer().isAi()) {
+                tasks.add(() -> awaitTradeResponse(candidate, deadline));
+            } else {
+                humans.add(candidate);
+            }
+        }
+        if (!humans.isEmpty()) {
+            tasks.add(() -> awaitHumanTradeResponse(humans, deadline, closed));
+        }
+
+        final CompletionService<TradeResponse> responses = new ExecutorCompletionService<>(tradeResponders);
+        final List<Future<TradeResponse>> pending = tasks.stream().map(responses::submit).toList();
+        try {
+            for (int i = 0; i < pending.size(); i++) {
+                final Future<TradeResponse> next = responses.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+                if (next == null) {
+                    break;
+                }
+                if (settleTrade(next)) {
+                    break;
                 }
-            });
-            playerController.resetPlayerTradeOffer();
-            if (tradeAccepted.get()) {
-                break;
+            }
+        } catch (final InterruptedException e) {
+            throw new RuntimeException("Main thread was interrupted!", e);
+        } finally {
+            synchronized (closed) {
+                closed.set(true);
+            }
+            pending.forEach(future -> future.cancel(true));
+            for (final PlayerController candidate : candidates) {
+                candidate.resetPlayerTradeOffer();
+                candidate.setPlayerObjective(PlayerObjective.IDLE);
             }
         }
         activePlayerControllerProperty.setValue(playerControllers.get(offeringPlayer));
     }
 
+    /**
+     * Settles the trade if the given answer accepts it and both players still have
+     * the required resources.
+     *
+     * @param answer the completed answer of a candidate
+     * @return whether the trade was settled
+     */
+    private boolean settleTrade(final Future<TradeResponse> answer) {
+        try {
+            final TradeResponse response = answer.get();
+            if (response == null || !response.action().accepted()) {
+                return false;
+            }
+            final Player player = response.playerController().getPlayer();
+            notifyListeners(listener -> listener.actionAccepted(player, response.action()));
+            try {
+                response.action().execute(response.playerController());
+            } catch (final IllegalActionException e) {
+                notifyListeners(listener -> listener.actionRevoked(player, response.action()));
+                throw e;
+            }
+            return true;
+        } catch (final IllegalActionException | ExecutionException e) {
+            e.printStackTrace();
+            return false;
+        } catch (final InterruptedException e) {
+            throw new RuntimeException("Main thread was interrupted!", e);
+        }
+    }
+
+    /**
+     * Waits for the given player to answer the current trade offer.
+     *
+     * @param playerController the player to ask
+     * @param deadline         the {@link System#nanoTime()} at which to give up
+     * @return the answer or {@code null} if the player did not answer in time
+     * @throws InterruptedException if the answer was cancelled
+     */
+    private TradeResponse awaitTradeResponse(final PlayerController playerController, final long deadline)
+    throws InterruptedException {
+        final AcceptTradeAction action = playerController.awaitTradeResponse(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+        return action == null ? null : new TradeResponse(playerController, action);
+    }
+
+    /**
+     * Asks the given human players one after another, making each of them the
+     * active player while they are asked, until one accepts the trade offer.
+     *
+     * @param humans   the human players to ask
+     * @param deadline the {@link System#nanoTime()} at which to give up
+     * @param closed   set once the offer is settled or cancelled
+     * @return the first accepting answer or {@code null} if no one accepted in time
+     * @throws InterruptedException if the answer was cancelled
+     */
+    private TradeResponse awaitHumanTradeResponse(
+        final List<PlayerController> humans, final long deadline,
+        final AtomicBoolean closed
+    ) throws InterruptedException {
+        for (final PlayerController human : humans) {
+            synchronized (closed) {
+                if (closed.get()) {
+                    return null;
+                }
+                activePlayerControllerProperty.setValue(human);
+            }
+            final TradeResponse response = awaitTradeResponse(human, deadline);
+            if (response != null && response.action().accepted()) {
+                return response;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * The answer of a player to a trade offer.
+     *
+     * @param playerController the answering player
+     * @param action           the answer
+     */
+    private record TradeResponse(PlayerController playerController, AcceptTradeAction action) {}
+
     /**
      * Triggers the actions that happen when a 7 is rolled.
      * <p>
@@ -386,11 +941,19 @@ public class GameController {
         for (final var tile : state.getGrid().getTiles(diceRoll).stream().filter(Predicate.not(Tile::hasRobber))
             .collect(Collectors.toSet())) {
             for (final var intersection : tile.getIntersections()) {
-                Optional.ofNullable(intersection.getSettlement()).ifPresent(
-                    settlement -> settlement.owner().addResource(
+                Optional.ofNullable(intersection.getSettlement()).ifPresent(settlement -> {
+                    settlement.owner().addResource(tile.getType().resourceType, settlement.type().resourceAmount);
+                    final Map<ResourceType, Integer> payout = Map.of(
                         tile.getType().resourceType,
                         settlement.type().resourceAmount
+                    );
+                    notifyListeners(listener -> listener.resourcesGained(settlement.owner(), payout));
+                    notifyListeners(listener -> listener.resourcesProduced(
+                        tile,
+                        settlement.owner(),
+                        settlement.type().resourceAmount
                     ));
+                });
             }
         }
     }
@@ -0,0 +1,104 @@
+package projekt.controller;
+
+import projekt.controller.actions.PlayerAction;
+import projekt.model.DevelopmentCardType;
+import projekt.model.Player;
+import projekt.model.ResourceType;
+import projekt.model.tiles.Tile;
+
+import java.util.Map;
+
+/**
+ * Receives notifications about events in a game managed by a {@link GameController}.
+ * All methods have empty default implementations, so listeners only need to
+ * override the events they are interested in.
+ * Listeners are called on the thread that caused the event, usually the game
+ * loop, and should return quickly.
+ *
+ * @see GameController#addGameEventListener(GameEventListener)
+ */
+public interface GameEventListener {
+
+    /**
+     * Called when a player received resources, e.g. from a dice roll, a trade or
+     * a development card.
+     *
+     * @param player    the player receiving the resources
+     * @param resources the received resources
+     */
+    default void resourcesGained(final Player player, final Map<ResourceType, Integer> resources) {}
+
+    /**
+     * Called when a tile produced resources for a player after a dice roll.
+     * The resources are also reported by {@link #resourcesGained(Player, Map)}.
+     *
+     * @param tile   the producing tile
+     * @param player the player receiving the resources
+     * @param amount the number of resources of the tile's type
+     */
+    default void resourcesProduced(final Tile tile, final Player player, final int amount) {}
+
+    /**
+     * Called when a player gave away resources, e.g. for building, trading or
+     * dropping cards.
+     *
+     * @param player    the player losing the resources
+     * @param resources the lost resources
+     */
+    default void resourcesLost(final Player player, final Map<ResourceType, Integer> resources) {}
+
+    /**
+     * Called when a player stole a resource from another player.
+     * Only the two players involved can see which resource was stolen; listeners
+     * acting on behalf of other players must ignore {@code resourceType}.
+     *
+     * @param thief        the player stealing the resource
+     * @param victim       the player the resource was stolen from
+     * @param resourceType the stolen resource
+     */
+    default void resourceStolen(final Player thief, final Player victim, final ResourceType resourceType) {}
+
+    /**
+     * Called when an action of a player passed the objective check and is about
+     * to be executed. The execution may still fail, in which case the action has
+     * no effect; only failed trade answers are reported with
+     * {@link #actionRevoked(Player, PlayerAction)}.
+     * Actions a player triggers while executing another action, e.g. when playing
+     * a development card, are reported after the action containing them.
+     *
+     * @param player the player executing the action
+     * @param action the action
+     */
+    default void actionAccepted(final Player player, final PlayerAction action) {}
+
+    /**
+     * Called when the execution of an accepted trade answer failed, so the answer
+     * had no effect.
+     *
+     * @param player the player whose action failed
+     * @param action the failed action
+     */
+    default void actionRevoked(final Player player, final PlayerAction action) {}
+
+    /**
+     * Called when the dice were rolled.
+     *
+     * @param roll the sum of all dice
+     */
+    default void diceRolled(final int roll) {}
+
+    /**
+     * Called when a development card was drawn from the stack.
+     *
+     * @param developmentCardType the drawn development card
+     */
+    default void developmentCardDrawn(final DevelopmentCardType developmentCardType) {}
+
+    /**
+     * Called when a game played with {@link GameController#playGame()} or
+     * {@link GameController#resumeGame()} was stopped without a winner because the round limit was exceeded.
+     *
+     * @param roundLimit the round limit of the game
+     */
+    default void gameStopped(final int roundLimit) {}
+}
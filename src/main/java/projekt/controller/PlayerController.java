@@ -5,9 +5,12 @@ import javafx.beans.property.SimpleObjectProperty;
 import org.tudalgo.algoutils.student.annotation.DoNotTouch;
 import org.tudalgo.algoutils.student.annotation.StudentImplementationRequired;
 import projekt.Config;
+import projekt.controller.actions.AcceptTradeAction;
 import projekt.controller.actions.IllegalActionException;
 import projekt.controller.actions.PlayerAction;
+import projekt.controller.trade.TradeOrder;
 import projekt.model.DevelopmentCardType;
+import projekt.model.HexGrid;
 import projekt.model.Intersection;
 import projekt.model.Player;
 import projekt.model.PlayerState;
@@ -19,12 +22,14 @@ import projekt.model.buildings.Port;
 import projekt.model.buildings.Settlement;
 import projekt.model.tiles.Tile;
 
+import java.io.Serial;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.BlockingDeque;
 import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -43,7 +48,7 @@ public class PlayerController {
 
     private final GameController gameController;
 
-    private final BlockingDeque<PlayerAction> actions = new LinkedBlockingDeque<>();
+    private final BlockingDeque<PlayerAction> actions = new ActionQueue();
 
     private final Property<PlayerState> playerStateProperty = new SimpleObjectProperty<>();
 
@@ -252,6 +257,68 @@ public class PlayerController {
         return actions.take();
     }
 
+    /**
+     * Takes the next action from the queue, waiting up to the given time for one
+     * to be triggered.
+     *
+     * @param timeout how long to wait before giving up
+     * @param unit    the unit of {@code timeout}
+     * @return The next action or {@code null} if no action was triggered in time
+     * @throws InterruptedException if the thread is interrupted while waiting for
+     *                              the next action
+     */
+    public PlayerAction pollNextAction(final long timeout, final TimeUnit unit) throws InterruptedException {
+        return actions.poll(timeout, unit);
+    }
+
+    /**
+     * The queue of triggered actions.
+     * Taking an action that the current objective allows notifies the
+     * {@link GameEventListener}s that the action is accepted, right before
+     * {@link #waitForNextAction()} executes it.
+     */
+    private final class ActionQueue extends LinkedBlockingDeque<PlayerAction> {
+        @Serial
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public PlayerAction take() throws InterruptedException {
+            final PlayerAction action = super.take();
+            if (playerObjectiveProperty.getValue().allowedActions.contains(action.getClass())) {
+                gameController.notifyListeners(listener -> listener.actionAccepted(player, action));
+            }
+            return action;
+        }
+    }
+
+    /**
+     * Sets the objective to {@link PlayerObjective#ACCEPT_TRADE} and waits up to
+     * the given time for the player to answer the current trade offer.
+     * Answers left over from earlier offers are discarded and actions other than
+     * {@link AcceptTradeAction} are ignored.
+     * The answer is returned but not executed, so the {@link GameController} can
+     * decide which of several concurrent answers is settled.
+     *
+     * @param timeout how long to wait for an answer
+     * @param unit    the unit of {@code timeout}
+     * @return the answer or {@code null} if the player did not answer in time
+     * @throws InterruptedException if the thread is interrupted while waiting for
+     *                              the answer
+     */
+    public AcceptTradeAction awaitTradeResponse(final long timeout, final TimeUnit unit) throws InterruptedException {
+        actions.removeIf(AcceptTradeAction.class::isInstance);
+        setPlayerObjective(PlayerObjective.ACCEPT_TRADE);
+        final long deadline = System.nanoTime() + unit.toNanos(timeout);
+        long remaining;
+        while ((remaining = deadline - System.nanoTime()) > 0) {
+            final PlayerAction action = pollNextAction(remaining, TimeUnit.NANOSECONDS);
+            if (action instanceof final AcceptTradeAction response) {
+                return response;
+            }
+        }
+        return null;
+    }
+
     /**
      * Waits for the next action and executes it.
      *
@@ -315,14 +382,15 @@ public class PlayerController {
         if (!canBuildVillage()) {
             return Set.of();
         }
-        Stream<Intersection> intersections = gameController.getState().getGrid().getIntersections().values().stream()
+        final HexGrid grid = gameController.getState().getGrid();
+        // after the first round, only the ends of the player's roads qualify
+        final Stream<Intersection> intersections = isFirstRound()
+            ? grid.getIntersections().values().stream()
+            : grid.getRoads(player).values().stream().flatMap(road -> road.getIntersections().stream()).distinct();
+        return intersections
             .filter(intersection -> intersection.getSettlement() == null).filter(intersection -> intersection
-                .getAdjacentIntersections().stream().noneMatch(Intersection::hasSettlement));
-        if (!isFirstRound()) {
-            intersections = intersections.filter(intersection -> intersection.getConnectedEdges().stream()
-                .anyMatch(edge -> edge.hasRoad() && edge.getRoadOwner().equals(player)));
-        }
-        return intersections.collect(Collectors.toUnmodifiableSet());
+                .getAdjacentIntersections().stream().noneMatch(Intersection::hasSettlement))
+            .collect(Collectors.toUnmodifiableSet());
     }
 
     /**
@@ -363,6 +431,7 @@ public class PlayerController {
         }
         if (!playerObjectiveProperty.getValue().equals(PlayerObjective.PLACE_VILLAGE)) {
             player.removeResources(requiredResources);
+            gameController.notifyListeners(listener -> listener.resourcesLost(player, requiredResources));
         }
     }
 
@@ -413,6 +482,7 @@ public class PlayerController {
             throw new IllegalActionException("Cannot upgrade village at given intersection");
         }
         player.removeResources(requiredResources);
+        gameController.notifyListeners(listener -> listener.resourcesLost(player, requiredResources));
     }
 
     /**
@@ -429,17 +499,21 @@ public class PlayerController {
         if (!canBuildRoad()) {
             return Set.of();
         }
-        Stream<Edge> edges = gameController.getState().getGrid().getEdges().values().stream()
-            .filter(edge -> !edge.hasRoad());
+        final HexGrid grid = gameController.getState().getGrid();
+        // only edges next to one of the player's villages or roads qualify, so there is no need to look at the whole grid
         if (isFirstRound()) {
-            edges = edges.filter(edge -> edge.getIntersections().stream()
-                .anyMatch(intersection -> intersection.playerHasSettlement(player)
-                    && intersection.getConnectedEdges().stream().noneMatch(Edge::hasRoad)));
-        } else {
-            edges = edges.filter(edge -> edge.getConnectedRoads(player).size() < 4)
-                .filter(edge -> !edge.getConnectedRoads(player).isEmpty());
+            return player.getSettlements().stream()
+                .map(Settlement::intersection)
+                .filter(intersection -> intersection.getConnectedEdges().stream().noneMatch(Edge::hasRoad))
+                .flatMap(intersection -> intersection.getConnectedEdges().stream())
+                .collect(Collectors.toUnmodifiableSet());
         }
-        return edges.collect(Collectors.toUnmodifiableSet());
+        return grid.getRoads(player).values().stream()
+            .flatMap(road -> road.getConnectedEdges().stream())
+            .filter(edge -> !edge.hasRoad())
+            .distinct()
+            .filter(edge -> edge.getConnectedRoads(player).size() < 4)
+            .collect(Collectors.toUnmodifiableSet());
     }
 
     /**
@@ -494,6 +568,7 @@ public class PlayerController {
         final var requiredResources = Config.ROAD_BUILDING_COST;
         if (!playerObjectiveProperty.getValue().equals(PlayerObjective.PLACE_ROAD)) {
             player.removeResources(requiredResources);
+            gameController.notifyListeners(listener -> listener.resourcesLost(player, requiredResources));
         }
     }
 
@@ -525,6 +600,7 @@ public class PlayerController {
         final var requiredResources = Config.DEVELOPMENT_CARD_COST;
         player.addDevelopmentCard(gameController.drawDevelopmentCard());
         player.removeResources(requiredResources);
+        gameController.notifyListeners(listener -> listener.resourcesLost(player, requiredResources));
     }
 
     /**
@@ -554,7 +630,9 @@ public class PlayerController {
             case INVENTION -> {
                 cardsToSelect = 2;
                 waitForNextAction(PlayerObjective.SELECT_CARDS);
-                player.addResources(selectedResources);
+                final Map<ResourceType, Integer> inventedResources = selectedResources;
+                player.addResources(inventedResources);
+                gameController.notifyListeners(listener -> listener.resourcesGained(player, inventedResources));
             }
             case MONOPOLY -> {
                 cardsToSelect = 1;
@@ -564,6 +642,13 @@ public class PlayerController {
                     final int amount = player.getResources().getOrDefault(resourceType, 0);
                     player.removeResource(resourceType, amount);
                     getPlayer().addResource(resourceType, amount);
+                    if (amount > 0) {
+                        final Map<ResourceType, Integer> monopolized = Map.of(resourceType, amount);
+                        gameController.notifyListeners(listener -> {
+                            listener.resourcesLost(player, monopolized);
+                            listener.resourcesGained(getPlayer(), monopolized);
+                        });
+                    }
                 }
             }
             default -> {
@@ -600,6 +685,10 @@ public class PlayerController {
             throw new IllegalActionException("Player does not have the offered resources");
         }
         player.addResource(request, 1);
+        gameController.notifyListeners(listener -> {
+            listener.resourcesLost(player, Map.of(offerType, offerAmount));
+            listener.resourcesGained(player, Map.of(request, 1));
+        });
     }
 
     /**
@@ -612,6 +701,51 @@ public class PlayerController {
         gameController.offerTrade(player, offer, request);
     }
 
+    /**
+     * Posts a standing trade offer to the order book of the game.
+     * If a matching offer of another player rests in the book, the trade is
+     * settled immediately, otherwise the offer rests until it is matched or
+     * expires.
+     *
+     * @param give     the resources to give
+     * @param receive  the resources to receive in return
+     * @param duration the number of rounds the offer stays in the book, including
+     *                 the current one
+     * @throws IllegalActionException if the offer is invalid or the player does
+     *                                not have the offered resources
+     */
+    public void postTradeOrder(
+        final Map<ResourceType, Integer> give, final Map<ResourceType, Integer> receive,
+        final int duration
+    ) throws IllegalActionException {
+        if (duration < 1) {
+            throw new IllegalActionException("Trade orders must last at least one round");
+        }
+        try {
+            gameController.getTradeOrderBook()
+                .post(player, give, receive, gameController.getRoundCounterProperty().get() + duration - 1)
+                .ifPresent(match -> gameController.notifyListeners(listener -> {
+                    listener.resourcesLost(match.maker().owner(), match.maker().give());
+                    listener.resourcesGained(player, match.maker().give());
+                    listener.resourcesLost(player, match.maker().receive());
+                    listener.resourcesGained(match.maker().owner(), match.maker().receive());
+                }));
+        } catch (final IllegalArgumentException e) {
+            throw new IllegalActionException(e.getMessage());
+        }
+    }
+
+    /**
+     * Returns the standing trade offers of this player that rest in the order book.
+     *
+     * @return the resting trade offers of this player
+     */
+    public List<TradeOrder> getRestingTradeOrders() {
+        return gameController.getTradeOrderBook().getOrders().stream()
+            .filter(order -> order.owner().equals(player))
+            .toList();
+    }
+
     /**
      * Checks whether this player can accept a trade offer from the other player.
      * A player cannot accept a trade offer from himself or if he does not have
@@ -698,6 +832,15 @@ public class PlayerController {
         tradingPlayer.addResources(playerTradingRequest);
         player.addResources(playerTradingOffer);
         tradingPlayer.removeResources(playerTradingOffer);
+        final Player offeringPlayer = tradingPlayer;
+        final Map<ResourceType, Integer> offer = playerTradingOffer;
+        final Map<ResourceType, Integer> request = playerTradingRequest;
+        gameController.notifyListeners(listener -> {
+            listener.resourcesLost(player, request);
+            listener.resourcesGained(offeringPlayer, request);
+            listener.resourcesGained(player, offer);
+            listener.resourcesLost(offeringPlayer, offer);
+        });
     }
 
     // Robber methods
@@ -717,6 +860,7 @@ public class PlayerController {
         playerObjectiveProperty.setValue(PlayerObjective.IDLE);
         // remove resources from player
         player.removeResources(resourcesToDrop);
+        gameController.notifyListeners(listener -> listener.resourcesLost(player, resourcesToDrop));
         cardsToSelect = 0;
     }
 
@@ -736,6 +880,7 @@ public class PlayerController {
         playerObjectiveProperty.setValue(PlayerObjective.IDLE);
         // add resource to player
         player.addResource(resourceToSteal, 1);
+        gameController.notifyListeners(listener -> listener.resourceStolen(player, playerToStealFrom, resourceToSteal));
     }
 
     /**
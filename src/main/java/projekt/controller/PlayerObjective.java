@@ -7,6 +7,7 @@ import projekt.controller.actions.BuyDevelopmentCardAction;
 import projekt.controller.actions.EndTurnAction;
 import projekt.controller.actions.PlayDevelopmentCardAction;
 import projekt.controller.actions.PlayerAction;
+import projekt.controller.actions.PostTradeOrderAction;
 import projekt.controller.actions.RollDiceAction;
 import projekt.controller.actions.SelectCardsAction;
 import projekt.controller.actions.SelectRobberTileAction;
@@ -27,7 +28,7 @@ public enum PlayerObjective {
     SELECT_ROBBER_TILE(Set.of(SelectRobberTileAction.class)),
     REGULAR_TURN(Set.of(BuildRoadAction.class, EndTurnAction.class, BuildVillageAction.class,
                         UpgradeVillageAction.class, TradeAction.class, BuyDevelopmentCardAction.class,
-                        PlayDevelopmentCardAction.class
+                        PlayDevelopmentCardAction.class, PostTradeOrderAction.class
     )),
     PLACE_VILLAGE(Set.of(BuildVillageAction.class)),
     PLACE_ROAD(Set.of(BuildRoadAction.class)),
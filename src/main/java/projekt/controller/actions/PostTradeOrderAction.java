@@ -0,0 +1,30 @@
+package projekt.controller.actions;
+
+import projekt.controller.PlayerController;
+import projekt.model.ResourceType;
+
+import java.util.Map;
+
+/**
+ * An action to post a standing trade offer to the order book.
+ *
+ * @param give     the resources the player gives
+ * @param receive  the resources the player wants in return
+ * @param duration the number of rounds the offer stays in the order book, including the current one
+ */
+public record PostTradeOrderAction(
+    Map<ResourceType, Integer> give,
+    Map<ResourceType, Integer> receive,
+    int duration
+) implements PlayerAction {
+
+    /**
+     * Posts the offer and settles it if a matching offer exists.
+     *
+     * @throws IllegalActionException if the offer is invalid
+     */
+    @Override
+    public void execute(final PlayerController pc) throws IllegalActionException {
+        pc.postTradeOrder(give, receive, duration);
+    }
+}
@@ -0,0 +1,247 @@
+package projekt.controller.ai;
+
+import projekt.model.HexGrid;
+import projekt.model.Intersection;
+import projekt.model.Player;
+import projekt.model.ResourceType;
+import projekt.model.TilePosition;
+import projekt.model.buildings.Edge;
+import projekt.model.buildings.Port;
+import projekt.model.buildings.Settlement;
+import projekt.model.tiles.Tile;
+
+import java.io.Serial;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.IntConsumer;
+
+/**
+ * Ranks village placements, primarily for the first round of the game.
+ * Every intersection is scored by the expected production of its adjacent tiles, weighted by
+ * how scarce each resource is on the board, the number of resources the player does not produce yet
+ * and its port access.
+ * Each candidate is then paired with the adjacent road that opens up the best follow-up placement.
+ * Both passes run in parallel on the common fork/join pool.
+ * Ties are broken by position on the board, so the ranking does not depend on the iteration order of sets.
+ */
+public class OpeningSolver {
+    private static final int SEQUENTIAL_THRESHOLD = 64;
+    private static final double DIVERSITY_WEIGHT = 0.02;
+    private static final double GENERIC_PORT_WEIGHT = 0.01;
+    private static final double SPECIALIZED_PORT_WEIGHT = 0.5;
+    private static final double ROAD_WEIGHT = 0.25;
+    private static final double MIN_SCARCITY = 0.5;
+    private static final double MAX_SCARCITY = 2;
+    private static final Comparator<Edge> EDGE_ORDER = Comparator.comparing(Edge::getPosition1)
+        .thenComparing(Edge::getPosition2);
+
+    private final HexGrid hexGrid;
+    private final double[] scarcity = new double[ResourceType.values().length];
+
+    /**
+     * A village placement together with the road to build next to it.
+     *
+     * @param intersection the intersection to place the village on
+     * @param road         the adjacent edge to build the road on, {@code null} if there is none
+     * @param score        the score of this placement, higher is better
+     */
+    public record Placement(Intersection intersection, Edge road, double score) {}
+
+    /**
+     * Creates a new solver for the given hex grid.
+     * Resource scarcity is derived from the tiles once, since tile types and roll numbers never change.
+     *
+     * @param hexGrid the hex grid
+     */
+    public OpeningSolver(final HexGrid hexGrid) {
+        this.hexGrid = hexGrid;
+        final double[] production = new double[scarcity.length];
+        for (final Tile tile : hexGrid.getTiles().values()) {
+            if (tile.getType().resourceType != null) {
+                production[tile.getType().resourceType.ordinal()] += RollProbabilities.of(tile.getRollNumber());
+            }
+        }
+        final double average = Arrays.stream(production).average().orElse(0);
+        for (int i = 0; i < scarcity.length; i++) {
+            scarcity[i] = production[i] == 0
+                ? MAX_SCARCITY
+                : Math.max(MIN_SCARCITY, Math.min(MAX_SCARCITY, average / production[i]));
+        }
+    }
+
+    /**
+     * Returns the given candidate intersections ranked by their best placement for the given player,
+     * best placement first.
+     * The candidates are expected to be legal village positions, for example
+     * {@link projekt.model.PlayerState#buildableVillageIntersections()}.
+     *
+     * @param candidates the intersections to rank
+     * @param player     the player to place the village for
+     * @return an unmodifiable list of placements, one per candidate, best first
+     */
+    public List<Placement> rank(final Collection<Intersection> candidates, final Player player) {
+        if (candidates.isEmpty()) {
+            return List.of();
+        }
+        final Intersection[] intersections = hexGrid.getIntersections().values().toArray(Intersection[]::new);
+        final Map<Intersection, Integer> indices = new HashMap<>(intersections.length * 2);
+        for (int i = 0; i < intersections.length; i++) {
+            indices.put(intersections[i], i);
+        }
+        final double[] ownProduction = ownProduction(player);
+
+        final double[] scores = new double[intersections.length];
+        final boolean[] occupied = new boolean[intersections.length];
+        final Edge[][] edges = new Edge[intersections.length][];
+        final int[][] neighbours = new int[intersections.length][];
+        invoke(intersections.length, i -> {
+            final Intersection intersection = intersections[i];
+            scores[i] = score(intersection, ownProduction);
+            occupied[i] = intersection.hasSettlement();
+            edges[i] = intersection.getConnectedEdges().stream().sorted(EDGE_ORDER).toArray(Edge[]::new);
+            neighbours[i] = new int[edges[i].length];
+            for (int j = 0; j < edges[i].length; j++) {
+                neighbours[i][j] = edges[i][j].getIntersections().stream()
+                    .filter(other -> !other.equals(intersection))
+                    .mapToInt(indices::get)
+                    .findAny()
+                    .orElseThrow();
+            }
+        });
+        final boolean[] blocked = new boolean[intersections.length];
+        for (int i = 0; i < intersections.length; i++) {
+            blocked[i] = occupied[i];
+            for (final int neighbour : neighbours[i]) {
+                blocked[i] |= occupied[neighbour];
+            }
+        }
+
+        final Intersection[] candidateArray = candidates.toArray(Intersection[]::new);
+        final Placement[] placements = new Placement[candidateArray.length];
+        invoke(candidateArray.length, c -> {
+            final int i = indices.get(candidateArray[c]);
+            Edge bestRoad = null;
+            double bestExpansion = -1;
+            for (int j = 0; j < edges[i].length; j++) {
+                if (edges[i][j].hasRoad()) {
+                    continue;
+                }
+                final int next = neighbours[i][j];
+                double expansion = 0;
+                for (final int target : neighbours[next]) {
+                    if (target != i && !blocked[target]) {
+                        expansion = Math.max(expansion, scores[target]);
+                    }
+                }
+                if (expansion > bestExpansion) {
+                    bestExpansion = expansion;
+                    bestRoad = edges[i][j];
+                }
+            }
+            placements[c] = new Placement(candidateArray[c], bestRoad, scores[i] + ROAD_WEIGHT * Math.max(0, bestExpansion));
+        });
+
+        return Arrays.stream(placements)
+            .sorted(Comparator.comparingDouble(Placement::score).reversed()
+                .thenComparingInt(placement -> indices.get(placement.intersection())))
+            .toList();
+    }
+
+    /**
+     * Returns the score of a village on the given intersection, ignoring roads.
+     *
+     * @param intersection  the intersection to score
+     * @param ownProduction the expected production per roll of the player's existing settlements
+     * @return the score of the intersection
+     */
+    private double score(final Intersection intersection, final double[] ownProduction) {
+        final double[] production = new double[scarcity.length];
+        for (final TilePosition position : intersection.getAdjacentTilePositions()) {
+            final Tile tile = hexGrid.getTileAt(position);
+            if (tile != null && tile.getType().resourceType != null) {
+                production[tile.getType().resourceType.ordinal()] += RollProbabilities.of(tile.getRollNumber());
+            }
+        }
+        double score = 0;
+        for (int i = 0; i < production.length; i++) {
+            score += production[i] * scarcity[i];
+            if (production[i] > 0 && ownProduction[i] == 0) {
+                score += DIVERSITY_WEIGHT;
+            }
+        }
+        final Port port = intersection.getPort();
+        if (port != null) {
+            score += port.resourceType() == null
+                ? GENERIC_PORT_WEIGHT
+                : SPECIALIZED_PORT_WEIGHT * (production[port.resourceType().ordinal()]
+                    + ownProduction[port.resourceType().ordinal()]);
+        }
+        return score;
+    }
+
+    /**
+     * Returns the expected production per roll of the given player's settlements, indexed by resource type.
+     *
+     * @param player the player
+     * @return the expected production per resource type
+     */
+    private double[] ownProduction(final Player player) {
+        final double[] production = new double[scarcity.length];
+        for (final Settlement settlement : player.getSettlements()) {
+            for (final TilePosition position : settlement.intersection().getAdjacentTilePositions()) {
+                final Tile tile = hexGrid.getTileAt(position);
+                if (tile != null && tile.getType().resourceType != null) {
+                    production[tile.getType().resourceType.ordinal()] += RollProbabilities.of(tile.getRollNumber())
+                        * settlement.type().resourceAmount;
+                }
+            }
+        }
+        return production;
+    }
+
+    /**
+     * Runs the given body for every index in {@code [0, size)} on the common fork/join pool.
+     *
+     * @param size the number of indices
+     * @param body the body to run for each index
+     */
+    private static void invoke(final int size, final IntConsumer body) {
+        ForkJoinPool.commonPool().invoke(new RangeAction(0, size, body));
+    }
+
+    /**
+     * Splits an index range in halves until it is small enough to be processed sequentially.
+     */
+    private static class RangeAction extends RecursiveAction {
+        @Serial
+        private static final long serialVersionUID = 1L;
+
+        private final int from;
+        private final int to;
+        private final IntConsumer body;
+
+        RangeAction(final int from, final int to, final IntConsumer body) {
+            this.from = from;
+            this.to = to;
+            this.body = body;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= SEQUENTIAL_THRESHOLD) {
+                for (int i = from; i < to; i++) {
+                    body.accept(i);
+                }
+            } else {
+                final int middle = (from + to) >>> 1;
+                invokeAll(new RangeAction(from, middle, body), new RangeAction(middle, to, body));
+            }
+        }
+    }
+}
@@ -0,0 +1,186 @@
+package projekt.controller.ai;
+
+import projekt.controller.GameEventListener;
+import projekt.model.Player;
+import projekt.model.ResourceType;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Tracks the likely hands of all players from the point of view of one observing player,
+ * using public game events only.
+ * <p>
+ * For every player the model keeps the exact hand size, which is public, and the expected
+ * amount of each resource type. Payouts, builds, trades and discards reveal their resources and
+ * update the expectations exactly. A steal between two other players moves one card of unknown
+ * type, so the expected amounts of the victim are shifted to the thief in proportion to the
+ * victim's hand. When a player later spends more of a resource than expected, the difference is
+ * taken from the other resource types, which keeps the hand size consistent.
+ * Every event is processed in constant time.
+ */
+public class OpponentModel implements GameEventListener, RobberEvaluator.HandEstimator {
+    private static final ResourceType[] RESOURCE_TYPES = ResourceType.values();
+
+    private final Player observer;
+    private final Map<Player, Integer> indices = new HashMap<>();
+    private final double[][] expected;
+    private final int[] handSizes;
+
+    /**
+     * Creates a new model for the given observer.
+     * All players are assumed to start with empty hands.
+     *
+     * @param observer the player whose knowledge this model represents
+     * @param players  all players of the game
+     */
+    public OpponentModel(final Player observer, final List<Player> players) {
+        this.observer = observer;
+        for (int i = 0; i < players.size(); i++) {
+            indices.put(players.get(i), i);
+        }
+        this.expected = new double[players.size()][RESOURCE_TYPES.length];
+        this.handSizes = new int[players.size()];
+    }
+
+    @Override
+    public synchronized void resourcesGained(final Player player, final Map<ResourceType, Integer> resources) {
+        final int index = indices.getOrDefault(player, -1);
+        if (index < 0) {
+            return;
+        }
+        resources.forEach((resourceType, amount) -> {
+            expected[index][resourceType.ordinal()] += amount;
+            handSizes[index] += amount;
+        });
+    }
+
+    @Override
+    public synchronized void resourcesLost(final Player player, final Map<ResourceType, Integer> resources) {
+        final int index = indices.getOrDefault(player, -1);
+        if (index < 0) {
+            return;
+        }
+        resources.forEach((resourceType, amount) -> remove(index, resourceType.ordinal(), amount));
+    }
+
+    @Override
+    public synchronized void resourceStolen(final Player thief, final Player victim, final ResourceType resourceType) {
+        final int thiefIndex = indices.getOrDefault(thief, -1);
+        final int victimIndex = indices.getOrDefault(victim, -1);
+        if (thiefIndex < 0 || victimIndex < 0) {
+            return;
+        }
+        if (thief.equals(observer) || victim.equals(observer)) {
+            remove(victimIndex, resourceType.ordinal(), 1);
+            expected[thiefIndex][resourceType.ordinal()]++;
+            handSizes[thiefIndex]++;
+            return;
+        }
+        final int handSize = handSizes[victimIndex];
+        if (handSize <= 0) {
+            return;
+        }
+        for (int i = 0; i < RESOURCE_TYPES.length; i++) {
+            final double moved = expected[victimIndex][i] / handSize;
+            expected[victimIndex][i] -= moved;
+            expected[thiefIndex][i] += moved;
+        }
+        handSizes[victimIndex]--;
+        handSizes[thiefIndex]++;
+    }
+
+    @Override
+    public synchronized double getExpectedAmount(final Player player, final ResourceType resourceType) {
+        final int index = indices.getOrDefault(player, -1);
+        return index < 0 ? 0 : expected[index][resourceType.ordinal()];
+    }
+
+    /**
+     * Returns the number of cards the given player holds.
+     *
+     * @param player the player
+     * @return the hand size of the player
+     */
+    public synchronized int getHandSize(final Player player) {
+        final int index = indices.getOrDefault(player, -1);
+        return index < 0 ? 0 : handSizes[index];
+    }
+
+    /**
+     * Draws a concrete hand for the given player that is consistent with its hand size,
+     * picking each card with a probability proportional to the remaining expected amounts.
+     * Useful to determinize hidden information for search-based AIs.
+     *
+     * @param player the player
+     * @param random the source of randomness
+     * @return a sampled hand
+     */
+    public synchronized Map<ResourceType, Integer> sampleHand(final Player player, final Random random) {
+        final Map<ResourceType, Integer> hand = new EnumMap<>(ResourceType.class);
+        final int index = indices.getOrDefault(player, -1);
+        if (index < 0) {
+            return hand;
+        }
+        final double[] weights = expected[index].clone();
+        for (int card = 0; card < handSizes[index]; card++) {
+            double total = 0;
+            for (final double weight : weights) {
+                total += weight;
+            }
+            int picked = RESOURCE_TYPES.length - 1;
+            if (total > 0) {
+                double target = random.nextDouble() * total;
+                for (int i = 0; i < weights.length; i++) {
+                    target -= weights[i];
+                    if (target < 0) {
+                        picked = i;
+                        break;
+                    }
+                }
+            } else {
+                picked = random.nextInt(RESOURCE_TYPES.length);
+            }
+            weights[picked] = Math.max(0, weights[picked] - 1);
+            hand.merge(RESOURCE_TYPES[picked], 1, Integer::sum);
+        }
+        return hand;
+    }
+
+    /**
+     * Removes the given amount of a resource from a player's hand.
+     * If the player had less of the resource than expected, the difference is taken
+     * from the other resource types in proportion to their expected amounts.
+     *
+     * @param index    the index of the player
+     * @param resource the ordinal of the resource type
+     * @param amount   the amount to remove
+     */
+    private void remove(final int index, final int resource, final int amount) {
+        final double[] hand = expected[index];
+        final double deficit = amount - hand[resource];
+        hand[resource] = Math.max(0, hand[resource] - amount);
+        handSizes[index] = Math.max(0, handSizes[index] - amount);
+        if (deficit <= 0) {
+            return;
+        }
+        double others = 0;
+        for (int i = 0; i < hand.length; i++) {
+            if (i != resource) {
+                others += hand[i];
+            }
+        }
+        if (others <= 0) {
+            return;
+        }
+        final double scale = Math.max(0, others - deficit) / others;
+        for (int i = 0; i < hand.length; i++) {
+            if (i != resource) {
+                hand[i] *= scale;
+            }
+        }
+    }
+}
@@ -0,0 +1,169 @@
+package projekt.controller.ai;
+
+import projekt.model.Player;
+import projekt.model.ResourceType;
+import projekt.model.TilePosition;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Evaluates where to place the robber and whom to steal from.
+ * Tiles are ranked by the production they deny to the leading opponent, plus a fraction of the
+ * production denied to the remaining opponents, minus the production the robbing player loses itself.
+ * Steal targets are ranked by the expected value of a random card from their hand.
+ * All values are read from a {@link TilePayouts} table, so ranking is linear in the number of tiles.
+ */
+public class RobberEvaluator {
+    private static final double OPPONENT_WEIGHT = 0.25;
+    private static final double SELF_HARM_WEIGHT = 1.5;
+    private static final double LEADER_BONUS = 0.25;
+
+    private final TilePayouts payouts;
+    private final HandEstimator handEstimator;
+
+    /**
+     * Estimates the hand of a player.
+     */
+    @FunctionalInterface
+    public interface HandEstimator {
+        /**
+         * Returns the expected amount of the given resource the given player holds.
+         *
+         * @param player       the player
+         * @param resourceType the resource type
+         * @return the expected amount
+         */
+        double getExpectedAmount(Player player, ResourceType resourceType);
+    }
+
+    /**
+     * A tile the robber can be placed on.
+     *
+     * @param position the position of the tile
+     * @param score    the score of the tile, higher is better
+     */
+    public record TileScore(TilePosition position, double score) {}
+
+    /**
+     * A player that can be stolen from.
+     *
+     * @param player the player to steal from
+     * @param score  the score of the target, higher is better
+     */
+    public record StealTarget(Player player, double score) {}
+
+    /**
+     * Creates a new evaluator that reads the players' hands directly.
+     *
+     * @param payouts the payout table
+     */
+    public RobberEvaluator(final TilePayouts payouts) {
+        this(payouts, (player, resourceType) -> player.getResources().getOrDefault(resourceType, 0));
+    }
+
+    /**
+     * Creates a new evaluator that estimates the players' hands using the given estimator.
+     *
+     * @param payouts       the payout table
+     * @param handEstimator the estimator for the players' hands
+     */
+    public RobberEvaluator(final TilePayouts payouts, final HandEstimator handEstimator) {
+        this.payouts = payouts;
+        this.handEstimator = handEstimator;
+    }
+
+    /**
+     * Returns all tiles except the one the robber is currently on, best tile for the given player first.
+     *
+     * @param self            the player moving the robber
+     * @param currentPosition the current position of the robber, may be {@code null}
+     * @return the ranked tiles
+     */
+    public List<TileScore> rankTiles(final Player self, final TilePosition currentPosition) {
+        final int selfIndex = payouts.indexOf(self);
+        final int leader = getLeader(selfIndex);
+        final int players = payouts.getPlayers().size();
+        final List<TileScore> scores = new ArrayList<>(payouts.getTileCount());
+        for (int tile = 0; tile < payouts.getTileCount(); tile++) {
+            final TilePosition position = payouts.getTile(tile).getPosition();
+            if (position.equals(currentPosition)) {
+                continue;
+            }
+            double score = 0;
+            for (int player = 0; player < players; player++) {
+                final double payout = payouts.getExpectedPayout(tile, player);
+                if (player == selfIndex) {
+                    score -= SELF_HARM_WEIGHT * payout;
+                } else if (player == leader) {
+                    score += payout;
+                } else {
+                    score += OPPONENT_WEIGHT * payout;
+                }
+            }
+            scores.add(new TileScore(position, score));
+        }
+        scores.sort(Comparator.comparingDouble(TileScore::score).reversed());
+        return scores;
+    }
+
+    /**
+     * Returns the given candidates ranked by the expected value of a card stolen from them, best first.
+     * Resources the stealing player holds few of are valued higher.
+     *
+     * @param self       the player stealing
+     * @param candidates the players that can be stolen from
+     * @return the ranked steal targets
+     */
+    public List<StealTarget> rankStealTargets(final Player self, final Collection<Player> candidates) {
+        final ResourceType[] resourceTypes = ResourceType.values();
+        final double[] values = new double[resourceTypes.length];
+        for (int i = 0; i < resourceTypes.length; i++) {
+            values[i] = 1.0 / (1 + self.getResources().getOrDefault(resourceTypes[i], 0));
+        }
+        final int leader = getLeader(payouts.indexOf(self));
+        final List<StealTarget> targets = new ArrayList<>(candidates.size());
+        for (final Player candidate : candidates) {
+            double total = 0;
+            double value = 0;
+            for (int i = 0; i < resourceTypes.length; i++) {
+                final double amount = handEstimator.getExpectedAmount(candidate, resourceTypes[i]);
+                total += amount;
+                value += amount * values[i];
+            }
+            double score = total > 0 ? value / total : 0;
+            if (leader >= 0 && payouts.indexOf(candidate) == leader) {
+                score *= 1 + LEADER_BONUS;
+            }
+            targets.add(new StealTarget(candidate, score));
+        }
+        targets.sort(Comparator.comparingDouble(StealTarget::score).reversed());
+        return targets;
+    }
+
+    /**
+     * Returns the index of the opponent with the most settlement points, breaking ties by expected production.
+     *
+     * @param self the index of the player to exclude
+     * @return the index of the leader, or -1 if there is no opponent
+     */
+    private int getLeader(final int self) {
+        int leader = -1;
+        double leaderProduction = 0;
+        for (int player = 0; player < payouts.getPlayers().size(); player++) {
+            if (player == self) {
+                continue;
+            }
+            final double production = payouts.getExpectedProduction(player);
+            if (leader < 0
+                || payouts.getSettlementPoints(player) > payouts.getSettlementPoints(leader)
+                || payouts.getSettlementPoints(player) == payouts.getSettlementPoints(leader) && production > leaderProduction) {
+                leader = player;
+                leaderProduction = production;
+            }
+        }
+        return leader;
+    }
+}
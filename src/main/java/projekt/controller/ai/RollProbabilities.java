@@ -0,0 +1,43 @@
+package projekt.controller.ai;
+
+import projekt.Config;
+
+/**
+ * Probabilities of every possible dice roll, computed once from {@link Config#NUMBER_OF_DICE}
+ * and {@link Config#DICE_SIDES}.
+ */
+public final class RollProbabilities {
+    private static final double[] PROBABILITIES = computeProbabilities();
+
+    private RollProbabilities() {}
+
+    /**
+     * Returns the probability of rolling the given sum with all dice.
+     * Rolls that cannot occur have a probability of zero.
+     *
+     * @param roll the sum of all dice
+     * @return the probability of the roll
+     */
+    public static double of(final int roll) {
+        return roll >= 0 && roll < PROBABILITIES.length ? PROBABILITIES[roll] : 0;
+    }
+
+    private static double[] computeProbabilities() {
+        long[] ways = {1};
+        for (int die = 0; die < Config.NUMBER_OF_DICE; die++) {
+            final long[] next = new long[ways.length + Config.DICE_SIDES];
+            for (int sum = 0; sum < ways.length; sum++) {
+                for (int side = 1; side <= Config.DICE_SIDES; side++) {
+                    next[sum + side] += ways[sum];
+                }
+            }
+            ways = next;
+        }
+        final double total = Math.pow(Config.DICE_SIDES, Config.NUMBER_OF_DICE);
+        final double[] probabilities = new double[ways.length];
+        for (int sum = 0; sum < ways.length; sum++) {
+            probabilities[sum] = ways[sum] / total;
+        }
+        return probabilities;
+    }
+}
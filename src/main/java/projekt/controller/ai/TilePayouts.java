@@ -0,0 +1,194 @@
+package projekt.controller.ai;
+
+import projekt.model.BoardChangeListener;
+import projekt.model.HexGrid;
+import projekt.model.Intersection;
+import projekt.model.Player;
+import projekt.model.TilePosition;
+import projekt.model.buildings.Settlement;
+import projekt.model.tiles.Tile;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Precomputed payout data for every tile of a hex grid.
+ * For each tile this holds the probability of its roll number and the amount of resources
+ * every player receives when it is rolled, so evaluators do not have to scan intersections
+ * for each candidate.
+ * The table is built once and then patched in constant time whenever a settlement changes, which
+ * requires it to be registered on the grid with {@link HexGrid#addBoardChangeListener(BoardChangeListener)}.
+ * It is updated on the thread that changes the grid, so it should only be read on that thread.
+ */
+public class TilePayouts implements BoardChangeListener {
+    private final HexGrid hexGrid;
+    private final List<Player> players;
+    private final Map<Player, Integer> playerIndices = new HashMap<>();
+    private final Tile[] tiles;
+    private final Map<TilePosition, Integer> tileIndices = new HashMap<>();
+    private final double[] probabilities;
+    private final int[][] amounts;
+    private final int[] settlementPoints;
+    private final Map<Intersection, Settlement> settlements = new HashMap<>();
+
+    /**
+     * Creates the payout table for the given hex grid and players.
+     *
+     * @param hexGrid the hex grid
+     * @param players the players, in a fixed order
+     */
+    public TilePayouts(final HexGrid hexGrid, final List<Player> players) {
+        this.hexGrid = hexGrid;
+        this.players = List.copyOf(players);
+        for (int i = 0; i < this.players.size(); i++) {
+            playerIndices.put(this.players.get(i), i);
+        }
+        this.tiles = hexGrid.getTiles().values().toArray(Tile[]::new);
+        this.probabilities = new double[tiles.length];
+        for (int i = 0; i < tiles.length; i++) {
+            tileIndices.put(tiles[i].getPosition(), i);
+            probabilities[i] = tiles[i].getType().resourceType == null ? 0 : RollProbabilities.of(tiles[i].getRollNumber());
+        }
+        this.amounts = new int[tiles.length][this.players.size()];
+        this.settlementPoints = new int[this.players.size()];
+        refresh();
+    }
+
+    /**
+     * Rebuilds the whole table from the settlements currently on the grid.
+     */
+    public void refresh() {
+        for (final int[] tileAmounts : amounts) {
+            Arrays.fill(tileAmounts, 0);
+        }
+        Arrays.fill(settlementPoints, 0);
+        settlements.clear();
+        for (final Intersection intersection : hexGrid.getIntersections().values()) {
+            if (intersection.hasSettlement()) {
+                apply(intersection, intersection.getSettlement(), 1);
+            }
+        }
+    }
+
+    /**
+     * Updates the table after the settlement on the given intersection was placed, upgraded or removed.
+     *
+     * @param intersection the intersection whose settlement changed
+     */
+    @Override
+    public void settlementChanged(final Intersection intersection) {
+        final Settlement previous = settlements.get(intersection);
+        if (previous != null) {
+            apply(intersection, previous, -1);
+        }
+        if (intersection.hasSettlement()) {
+            apply(intersection, intersection.getSettlement(), 1);
+        }
+    }
+
+    /**
+     * Returns the players of this table, in the order used for player indices.
+     *
+     * @return the players
+     */
+    public List<Player> getPlayers() {
+        return players;
+    }
+
+    /**
+     * Returns the index of the given player, or -1 if the player is unknown.
+     *
+     * @param player the player
+     * @return the index of the player
+     */
+    public int indexOf(final Player player) {
+        return playerIndices.getOrDefault(player, -1);
+    }
+
+    /**
+     * Returns the number of tiles in this table.
+     *
+     * @return the number of tiles
+     */
+    public int getTileCount() {
+        return tiles.length;
+    }
+
+    /**
+     * Returns the tile with the given index.
+     *
+     * @param tile the index of the tile
+     * @return the tile
+     */
+    public Tile getTile(final int tile) {
+        return tiles[tile];
+    }
+
+    /**
+     * Returns the index of the tile at the given position, or -1 if there is no tile.
+     *
+     * @param position the position of the tile
+     * @return the index of the tile
+     */
+    public int indexOf(final TilePosition position) {
+        return tileIndices.getOrDefault(position, -1);
+    }
+
+    /**
+     * Returns the expected amount of resources the given player receives from the given tile per roll.
+     *
+     * @param tile   the index of the tile
+     * @param player the index of the player
+     * @return the expected payout per roll
+     */
+    public double getExpectedPayout(final int tile, final int player) {
+        return probabilities[tile] * amounts[tile][player];
+    }
+
+    /**
+     * Returns the expected amount of resources the given player receives per roll from all tiles,
+     * ignoring the robber.
+     *
+     * @param player the index of the player
+     * @return the expected production per roll
+     */
+    public double getExpectedProduction(final int player) {
+        double production = 0;
+        for (int tile = 0; tile < tiles.length; tile++) {
+            production += getExpectedPayout(tile, player);
+        }
+        return production;
+    }
+
+    /**
+     * Returns the victory points the given player has from settlements.
+     *
+     * @param player the index of the player
+     * @return the victory points from settlements
+     */
+    public int getSettlementPoints(final int player) {
+        return settlementPoints[player];
+    }
+
+    private void apply(final Intersection intersection, final Settlement settlement, final int sign) {
+        final int player = indexOf(settlement.owner());
+        if (sign > 0) {
+            settlements.put(intersection, settlement);
+        } else {
+            settlements.remove(intersection);
+        }
+        if (player < 0) {
+            return;
+        }
+        final int amount = sign * settlement.type().resourceAmount;
+        settlementPoints[player] += amount;
+        for (final TilePosition position : intersection.getAdjacentTilePositions()) {
+            final int tile = indexOf(position);
+            if (tile >= 0) {
+                amounts[tile][player] += amount;
+            }
+        }
+    }
+}
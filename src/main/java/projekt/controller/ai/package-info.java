@@ -0,0 +1,4 @@
+/**
+ * Contains evaluators and search helpers used by {@link projekt.controller.AiController AI controllers}.
+ */
+package projekt.controller.ai;
@@ -0,0 +1,237 @@
+package projekt.controller.archive;
+
+import projekt.Config;
+import projekt.controller.io.ByteBuffers;
+import projekt.controller.journal.JournalReplayer;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * A sorted on-disk index of {@link GameSummary}s written by {@link GameIndexBuilder}.
+ * <p>
+ * The index file holds a header, one fixed-size row per game sorted by board hash and seed, one bitmap per
+ * {@link Flag} and the names of the journals. It is mapped into memory as a whole and rows are only decoded
+ * when they are requested, so games on a board are found by binary search and combinations of flags by
+ * intersecting bitmaps, both without touching the other games.
+ */
+public final class GameIndex {
+    /**
+     * The magic number the index starts with.
+     */
+    public static final int MAGIC = 0x464F5049;
+
+    /**
+     * The version of the index format.
+     */
+    public static final byte VERSION = 1;
+
+    static final int HEADER_SIZE = Integer.BYTES + 1 + Integer.BYTES;
+    static final int PLAYER_SIZE = 6;
+    static final int ROW_SIZE = 2 * Long.BYTES + Integer.BYTES + Short.BYTES + 4 + Config.MAX_PLAYERS * PLAYER_SIZE;
+
+    private static final JournalReplayer.Status[] STATUSES = JournalReplayer.Status.values();
+    private static final Flag[] FLAGS = Flag.values();
+
+    private final ByteBuffer buffer;
+    private final int size;
+    private final BitSet[] bitmaps = new BitSet[FLAGS.length];
+    private final int namesOffset;
+
+    /**
+     * Precomputed properties of a game, each stored as a bitmap over all games.
+     */
+    public enum Flag {
+        /**
+         * The journal was replayed until a player won.
+         */
+        FINISHED(summary -> summary.status() == JournalReplayer.Status.FINISHED),
+        /**
+         * Somebody won the game.
+         */
+        HAS_WINNER(summary -> summary.winner() != null),
+        /**
+         * The game was won by an AI.
+         */
+        AI_WINNER(summary -> summary.winner() != null && summary.winner().ai()),
+        /**
+         * The game was won by a player without cities.
+         */
+        WINNER_WITHOUT_CITIES(summary -> summary.winner() != null && summary.winner().cities() == 0),
+        /**
+         * The game was won by the player with the longest road.
+         */
+        WINNER_HAS_LONGEST_ROAD(summary -> summary.winner() != null && summary.winnerId() == summary.longestRoadHolderId()),
+        /**
+         * All players of the game were AIs.
+         */
+        ALL_AI(summary -> summary.players().stream().allMatch(GameSummary.PlayerSummary::ai));
+
+        private final Predicate<GameSummary> predicate;
+
+        Flag(final Predicate<GameSummary> predicate) {
+            this.predicate = predicate;
+        }
+
+        /**
+         * Returns whether the given game has this flag.
+         *
+         * @param summary the game
+         * @return whether the game has this flag
+         */
+        public boolean test(final GameSummary summary) {
+            return predicate.test(summary);
+        }
+    }
+
+    private GameIndex(final ByteBuffer buffer) {
+        if (buffer.getInt() != MAGIC) {
+            throw new IllegalArgumentException("Not a game index");
+        }
+        final byte version = buffer.get();
+        if (version != VERSION) {
+            throw new IllegalArgumentException("Unsupported game index version: " + version);
+        }
+        this.size = buffer.getInt();
+        this.buffer = buffer;
+        final int words = bitmapWords(size);
+        int offset = HEADER_SIZE + size * ROW_SIZE;
+        for (int flag = 0; flag < FLAGS.length; flag++) {
+            final long[] bits = new long[words];
+            buffer.position(offset).asLongBuffer().get(bits);
+            bitmaps[flag] = BitSet.valueOf(bits);
+            offset += words * Long.BYTES;
+        }
+        this.namesOffset = offset;
+    }
+
+    /**
+     * Opens the index file at the given path.
+     *
+     * @param file the index file
+     * @return the index
+     * @throws IOException              if the file cannot be read
+     * @throws IllegalArgumentException if the file is not a game index
+     */
+    public static GameIndex open(final Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            return new GameIndex(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        }
+    }
+
+    /**
+     * Returns the number of games in this index.
+     *
+     * @return the number of games
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the game in the given row.
+     *
+     * @param row the row, in {@code [0, size())}
+     * @return the game
+     */
+    public GameSummary get(final int row) {
+        final int offset = HEADER_SIZE + row * ROW_SIZE;
+        final int playerCount = buffer.get(offset + 25);
+        final List<GameSummary.PlayerSummary> players = new ArrayList<>(playerCount);
+        for (int i = 0; i < playerCount; i++) {
+            final int player = offset + 26 + i * PLAYER_SIZE;
+            players.add(new GameSummary.PlayerSummary(
+                buffer.get(player),
+                buffer.get(player + 1) != 0,
+                buffer.get(player + 2),
+                buffer.get(player + 3),
+                buffer.get(player + 4),
+                buffer.get(player + 5)
+            ));
+        }
+        return new GameSummary(
+            ByteBuffers.getString(buffer.duplicate().position(namesOffset + buffer.getInt(offset + 16))),
+            buffer.getLong(offset + 8),
+            buffer.getLong(offset),
+            STATUSES[buffer.get(offset + 22)],
+            Short.toUnsignedInt(buffer.getShort(offset + 20)),
+            buffer.get(offset + 23),
+            buffer.get(offset + 24),
+            players
+        );
+    }
+
+    /**
+     * Returns all games played on the board with the given hash, ordered by seed.
+     *
+     * @param boardHash the hash of the board
+     * @return the games
+     */
+    public List<GameSummary> findByBoard(final long boardHash) {
+        final List<GameSummary> games = new ArrayList<>();
+        for (int row = lowerBound(boardHash); row < size && boardHash(row) == boardHash; row++) {
+            games.add(get(row));
+        }
+        return games;
+    }
+
+    /**
+     * Returns the rows of all games that have all of the given flags.
+     *
+     * @param flags the flags
+     * @return the rows, a new set the caller may modify
+     */
+    public BitSet select(final Flag... flags) {
+        final BitSet rows = new BitSet(size);
+        rows.set(0, size);
+        for (final Flag flag : flags) {
+            rows.and(bitmaps[flag.ordinal()]);
+        }
+        return rows;
+    }
+
+    /**
+     * Returns all games that have all of the given flags.
+     *
+     * @param flags the flags
+     * @return the games, in index order
+     */
+    public List<GameSummary> find(final Flag... flags) {
+        return select(flags).stream().mapToObj(this::get).toList();
+    }
+
+    /**
+     * Returns the first row whose board hash is not less than the given hash.
+     *
+     * @param boardHash the board hash
+     * @return the row, {@link #size()} if there is none
+     */
+    private int lowerBound(final long boardHash) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            final int middle = (low + high) >>> 1;
+            if (boardHash(middle) < boardHash) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    private long boardHash(final int row) {
+        return buffer.getLong(HEADER_SIZE + row * ROW_SIZE);
+    }
+
+    static int bitmapWords(final int size) {
+        return (size + Long.SIZE - 1) / Long.SIZE;
+    }
+}
@@ -0,0 +1,217 @@
+package projekt.controller.archive;
+
+import projekt.Config;
+import projekt.controller.io.ByteBuffers;
+import projekt.controller.journal.GameJournal;
+import projekt.controller.journal.JournalReader;
+import projekt.controller.journal.JournalReplayer;
+import projekt.model.DevelopmentCardType;
+import projekt.model.GameState;
+import projekt.model.Intersection;
+import projekt.model.Player;
+import projekt.model.buildings.Settlement;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+/**
+ * Builds a {@link GameIndex} from a directory of game journals.
+ * Every journal is replayed once, in parallel, and reduced to a {@link GameSummary}; journals that cannot be
+ * read are skipped.
+ */
+public final class GameIndexBuilder {
+    private GameIndexBuilder() {}
+
+    /**
+     * Replays all journals in the given directory and writes their summaries to the given index file.
+     *
+     * @param directory the directory containing the journals
+     * @param indexFile the index file, replaced if it exists
+     * @return the number of indexed games
+     * @throws IOException if the directory cannot be listed or the index cannot be written
+     */
+    public static int build(final Path directory, final Path indexFile) throws IOException {
+        final List<Path> journals;
+        try (Stream<Path> files = Files.list(directory)) {
+            journals = files.filter(file -> file.getFileName().toString().endsWith(GameJournal.FILE_EXTENSION)).toList();
+        }
+        final List<GameSummary> summaries = journals.parallelStream()
+            .map(GameIndexBuilder::summarize)
+            .filter(Objects::nonNull)
+            .toList();
+        write(summaries, indexFile);
+        return summaries.size();
+    }
+
+    /**
+     * Replays the given journal and summarizes the game.
+     *
+     * @param journal the journal
+     * @return the summary, {@code null} if the journal cannot be read
+     */
+    private static GameSummary summarize(final Path journal) {
+        final JournalReader reader;
+        try {
+            reader = new JournalReader(journal);
+        } catch (final IOException | IllegalArgumentException e) {
+            System.err.println("Skipping " + journal + ": " + e.getMessage());
+            return null;
+        }
+        final long boardHash = reader.getHeader().layout().stableHash();
+        return summarize(journal.getFileName().toString(), reader.getHeader().seed(), boardHash, JournalReplayer.replay(reader));
+    }
+
+    /**
+     * Summarizes the state a replay ended with.
+     *
+     * @param journal   the file name of the journal
+     * @param seed      the seed of the game
+     * @param boardHash the hash of the board layout
+     * @param result    the result of the replay
+     * @return the summary
+     */
+    static GameSummary summarize(final String journal, final long seed, final long boardHash, final JournalReplayer.Result result) {
+        final GameState state = result.state();
+        final List<GameSummary.PlayerSummary> players = new ArrayList<>();
+        int longestRoad = Config.LONGEST_ROAD_MIN_LENGTH - 1;
+        int longestRoadHolderId = 0;
+        for (final Player player : state.getPlayers()) {
+            int villages = 0;
+            int cities = 0;
+            for (final Intersection intersection : state.getGrid().getIntersections().values()) {
+                final Settlement settlement = intersection.getSettlement();
+                if (settlement != null && settlement.owner().equals(player)) {
+                    if (settlement.type() == Settlement.Type.CITY) {
+                        cities++;
+                    } else {
+                        villages++;
+                    }
+                }
+            }
+            final int road = LongestRoad.of(state.getGrid(), player);
+            // a tie leaves the longest road with nobody, the journal does not tell who reached it first
+            if (road > longestRoad) {
+                longestRoad = road;
+                longestRoadHolderId = player.getID();
+            } else if (road == longestRoad) {
+                longestRoadHolderId = 0;
+            }
+            players.add(new GameSummary.PlayerSummary(
+                player.getID(),
+                player.isAi(),
+                villages,
+                cities,
+                player.getDevelopmentCards().getOrDefault(DevelopmentCardType.VICTORY_POINTS, 0),
+                road
+            ));
+        }
+        final Player winner = state.getWinnerProperty().getValue();
+        return new GameSummary(
+            journal,
+            seed,
+            boardHash,
+            result.status(),
+            result.round(),
+            winner == null ? 0 : winner.getID(),
+            longestRoadHolderId,
+            players
+        );
+    }
+
+    /**
+     * Sorts the given summaries by board hash and seed and writes them as an index file.
+     *
+     * @param summaries the summaries
+     * @param indexFile the index file, replaced if it exists
+     * @throws IOException if the file cannot be written
+     */
+    static void write(final List<GameSummary> summaries, final Path indexFile) throws IOException {
+        final List<GameSummary> sorted = summaries.stream()
+            .sorted(Comparator.comparingLong(GameSummary::boardHash)
+                .thenComparingLong(GameSummary::seed)
+                .thenComparing(GameSummary::journal))
+            .toList();
+        final int size = sorted.size();
+        final int words = GameIndex.bitmapWords(size);
+        int namesSize = 0;
+        for (final GameSummary summary : sorted) {
+            namesSize += Short.BYTES + summary.journal().getBytes(StandardCharsets.UTF_8).length;
+        }
+        final GameIndex.Flag[] flags = GameIndex.Flag.values();
+        final ByteBuffer buffer = ByteBuffer.allocate(
+            GameIndex.HEADER_SIZE + size * GameIndex.ROW_SIZE + flags.length * words * Long.BYTES + namesSize
+        );
+        buffer.putInt(GameIndex.MAGIC);
+        buffer.put(GameIndex.VERSION);
+        buffer.putInt(size);
+        int nameOffset = 0;
+        for (final GameSummary summary : sorted) {
+            final int row = buffer.position();
+            buffer.putLong(summary.boardHash());
+            buffer.putLong(summary.seed());
+            buffer.putInt(nameOffset);
+            buffer.putShort((short) summary.rounds());
+            buffer.put((byte) summary.status().ordinal());
+            buffer.put((byte) summary.winnerId());
+            buffer.put((byte) summary.longestRoadHolderId());
+            buffer.put((byte) summary.players().size());
+            for (final GameSummary.PlayerSummary player : summary.players()) {
+                buffer.put((byte) player.id());
+                buffer.put((byte) (player.ai() ? 1 : 0));
+                buffer.put((byte) player.villages());
+                buffer.put((byte) player.cities());
+                buffer.put((byte) player.victoryPointCards());
+                buffer.put((byte) player.longestRoad());
+            }
+            buffer.position(row + GameIndex.ROW_SIZE);
+            nameOffset += Short.BYTES + summary.journal().getBytes(StandardCharsets.UTF_8).length;
+        }
+        for (final GameIndex.Flag flag : flags) {
+            final long[] bits = new long[words];
+            for (int row = 0; row < size; row++) {
+                if (flag.test(sorted.get(row))) {
+                    bits[row / Long.SIZE] |= 1L << row;
+                }
+            }
+            for (final long word : bits) {
+                buffer.putLong(word);
+            }
+        }
+        for (final GameSummary summary : sorted) {
+            ByteBuffers.putString(buffer, summary.journal());
+        }
+        buffer.flip();
+        try (FileChannel channel = FileChannel.open(
+            indexFile,
+            StandardOpenOption.CREATE,
+            StandardOpenOption.TRUNCATE_EXISTING,
+            StandardOpenOption.WRITE
+        )) {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        }
+    }
+
+    /**
+     * Builds the index of a journal directory and prints how long it took.
+     *
+     * @param args the journal directory and the index file
+     * @throws IOException if the index cannot be built
+     */
+    public static void main(final String[] args) throws IOException {
+        final long start = System.nanoTime();
+        final int games = build(Path.of(args[0]), Path.of(args[1]));
+        System.out.printf("Indexed %d games in %.1f s%n", games, (System.nanoTime() - start) / 1e9);
+    }
+}
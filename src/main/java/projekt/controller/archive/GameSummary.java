@@ -0,0 +1,65 @@
+package projekt.controller.archive;
+
+import projekt.controller.journal.JournalReplayer;
+
+import java.util.List;
+
+/**
+ * The summary of an archived game as it is stored in a {@link GameIndex}.
+ *
+ * @param journal             the file name of the game's journal
+ * @param seed                the seed of the game
+ * @param boardHash           the {@linkplain projekt.controller.journal.BoardLayout#stableHash() hash} of the board layout
+ * @param status              how the replay of the journal ended
+ * @param rounds              the round the game ended in
+ * @param winnerId            the id of the winner, {@code 0} if nobody won
+ * @param longestRoadHolderId the id of the player with the longest road, {@code 0} if nobody has one
+ * @param players             the players in turn order
+ */
+public record GameSummary(
+    String journal,
+    long seed,
+    long boardHash,
+    JournalReplayer.Status status,
+    int rounds,
+    int winnerId,
+    int longestRoadHolderId,
+    List<PlayerSummary> players
+) {
+    /**
+     * Creates a new summary with an unmodifiable copy of the given players.
+     */
+    public GameSummary {
+        players = List.copyOf(players);
+    }
+
+    /**
+     * The final state of a single player.
+     *
+     * @param id                the id of the player
+     * @param ai                whether the player is an AI
+     * @param villages          the number of villages at the end of the game
+     * @param cities            the number of cities at the end of the game
+     * @param victoryPointCards the number of victory point cards at the end of the game
+     * @param longestRoad       the length of the player's longest road
+     */
+    public record PlayerSummary(int id, boolean ai, int villages, int cities, int victoryPointCards, int longestRoad) {
+        /**
+         * Returns the victory points of this player.
+         *
+         * @return the victory points
+         */
+        public int victoryPoints() {
+            return villages + 2 * cities + victoryPointCards;
+        }
+    }
+
+    /**
+     * Returns the winner of the game.
+     *
+     * @return the winner, {@code null} if nobody won
+     */
+    public PlayerSummary winner() {
+        return players.stream().filter(player -> player.id() == winnerId).findFirst().orElse(null);
+    }
+}
@@ -0,0 +1,67 @@
+package projekt.controller.archive;
+
+import projekt.model.HexGrid;
+import projekt.model.Intersection;
+import projekt.model.Player;
+import projekt.model.buildings.Edge;
+import projekt.model.buildings.Settlement;
+
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Computes the length of a player's longest road, since {@link HexGrid#getLongestRoad(Player)} is not available.
+ * A road is a trail of the player's edges that uses every edge at most once and does not pass through
+ * another player's settlement.
+ */
+final class LongestRoad {
+    private LongestRoad() {}
+
+    /**
+     * Returns the number of edges of the given player's longest road.
+     *
+     * @param grid   the grid
+     * @param player the player
+     * @return the length of the longest road
+     */
+    static int of(final HexGrid grid, final Player player) {
+        final Set<Edge> used = new HashSet<>();
+        int longest = 0;
+        for (final Edge road : grid.getRoads(player).values()) {
+            used.add(road);
+            for (final Intersection end : road.getIntersections()) {
+                longest = Math.max(longest, 1 + extend(player, end, used));
+            }
+            used.remove(road);
+        }
+        return longest;
+    }
+
+    /**
+     * Returns the length of the longest trail continuing at the given intersection without the used edges.
+     *
+     * @param player       the player
+     * @param intersection the intersection the trail continues at
+     * @param used         the edges already in the trail
+     * @return the number of edges the trail can be extended by
+     */
+    private static int extend(final Player player, final Intersection intersection, final Set<Edge> used) {
+        final Settlement settlement = intersection.getSettlement();
+        if (settlement != null && !settlement.owner().equals(player)) {
+            return 0;
+        }
+        int longest = 0;
+        for (final Edge edge : intersection.getConnectedEdges()) {
+            if (!player.equals(edge.getRoadOwner()) || !used.add(edge)) {
+                continue;
+            }
+            for (final Intersection next : edge.getIntersections()) {
+                if (!next.equals(intersection)) {
+                    longest = Math.max(longest, 1 + extend(player, next, used));
+                }
+            }
+            used.remove(edge);
+        }
+        return longest;
+    }
+}
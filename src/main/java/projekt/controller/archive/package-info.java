@@ -0,0 +1,4 @@
+/**
+ * Contains the index over archived game journals that answers questions about many games without replaying them.
+ */
+package projekt.controller.archive;
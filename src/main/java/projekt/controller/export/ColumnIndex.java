@@ -0,0 +1,122 @@
+package projekt.controller.export;
+
+import projekt.controller.io.ByteBuffers;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * The index of a directory written by {@link ColumnarExporter}.
+ *
+ * @param directory the directory of the export
+ * @param columns   the columns in the order they were created
+ */
+public record ColumnIndex(Path directory, List<Column> columns) {
+    private static final int CHUNK_SIZE = 1 << 30;
+
+    /**
+     * Creates a new index with an unmodifiable copy of the given columns.
+     */
+    public ColumnIndex {
+        columns = List.copyOf(columns);
+    }
+
+    /**
+     * An exported column.
+     *
+     * @param name the name of the column
+     * @param type the type of the values
+     * @param rows the number of values
+     */
+    public record Column(String name, ColumnType type, long rows) {}
+
+    /**
+     * Reads the index of the given export directory.
+     *
+     * @param directory the directory of the export
+     * @return the index
+     * @throws IOException              if the index cannot be read
+     * @throws IllegalArgumentException if the index is not valid
+     */
+    public static ColumnIndex read(final Path directory) throws IOException {
+        final ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(directory.resolve(ColumnarExporter.INDEX_FILE)));
+        if (buffer.getInt() != ColumnarExporter.MAGIC) {
+            throw new IllegalArgumentException("Not a column index");
+        }
+        final byte version = buffer.get();
+        if (version != ColumnarExporter.VERSION) {
+            throw new IllegalArgumentException("Unsupported column index version: " + version);
+        }
+        final int count = buffer.getInt();
+        final List<Column> columns = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            columns.add(new Column(ByteBuffers.getString(buffer), ColumnType.values()[buffer.get()], buffer.getLong()));
+        }
+        return new ColumnIndex(directory, columns);
+    }
+
+    /**
+     * Returns the column with the given name.
+     *
+     * @param name the name of the column
+     * @return the column
+     * @throws NoSuchElementException if there is no such column
+     */
+    public Column getColumn(final String name) {
+        return columns.stream()
+            .filter(column -> column.name().equals(name))
+            .findFirst()
+            .orElseThrow(() -> new NoSuchElementException("No column " + name));
+    }
+
+    /**
+     * Maps the values of the column with the given name into memory.
+     * A single buffer holds at most 2 GB, so the column is mapped in chunks of at most 1 GB.
+     *
+     * @param name the name of the column
+     * @return read-only little-endian buffers holding exactly the column's values, in order
+     * @throws IOException            if the column cannot be mapped
+     * @throws NoSuchElementException if there is no such column
+     */
+    public List<ByteBuffer> map(final String name) throws IOException {
+        return map(name, CHUNK_SIZE / getColumn(name).type().width);
+    }
+
+    /**
+     * Maps the values of the column with the given name into memory, in chunks of at most the given number of rows.
+     *
+     * @param name      the name of the column
+     * @param chunkRows the maximum number of rows per chunk
+     * @return read-only little-endian buffers holding exactly the column's values, in order
+     * @throws IOException              if the column cannot be mapped
+     * @throws NoSuchElementException   if there is no such column
+     * @throws IllegalArgumentException if a chunk of the given size does not fit in a single buffer
+     */
+    public List<ByteBuffer> map(final String name, final int chunkRows) throws IOException {
+        final Column column = getColumn(name);
+        final long chunkSize = (long) chunkRows * column.type().width;
+        if (chunkRows < 1 || chunkSize > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Invalid chunk size: " + chunkRows);
+        }
+        final long size = column.rows() * column.type().width;
+        final List<ByteBuffer> chunks = new ArrayList<>((int) ((size + chunkSize - 1) / chunkSize));
+        try (FileChannel channel = FileChannel.open(
+            directory.resolve(name + ColumnarExporter.COLUMN_EXTENSION),
+            StandardOpenOption.READ
+        )) {
+            for (long position = 0; position < size; position += chunkSize) {
+                chunks.add(channel.map(FileChannel.MapMode.READ_ONLY, position, Math.min(chunkSize, size - position))
+                    .order(ByteOrder.LITTLE_ENDIAN));
+            }
+        }
+        return chunks;
+    }
+}
@@ -0,0 +1,21 @@
+package projekt.controller.export;
+
+/**
+ * The type of the values of an exported column.
+ * All values are signed and stored little-endian, so a column can be mapped directly as an array of this type.
+ */
+public enum ColumnType {
+    BYTE(1),
+    SHORT(2),
+    INT(4),
+    LONG(8);
+
+    /**
+     * The number of bytes per value.
+     */
+    public final int width;
+
+    ColumnType(final int width) {
+        this.width = width;
+    }
+}
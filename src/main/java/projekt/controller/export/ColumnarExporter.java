@@ -0,0 +1,265 @@
+package projekt.controller.export;
+
+import projekt.controller.io.ByteBuffers;
+import projekt.model.ResourceType;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Writes {@link GameResult}s in a columnar binary layout, with one file per column.
+ * <p>
+ * Results are stored in three tables whose rows are appended in game order:
+ * <ul>
+ *     <li>{@code game}: one row per game with its seed, rounds, winner and the first rows of its players and rounds</li>
+ *     <li>{@code player}: one row per player and game with its id, AI type and final victory points</li>
+ *     <li>{@code round}: one row per round, player and game with the victory points and resources at the end
+ *     of the round</li>
+ * </ul>
+ * Each column is a file named {@code <table>.<column>.col} holding nothing but its little-endian values,
+ * so analysis jobs can map a single column of millions of games as a plain array.
+ * The file {@value #INDEX_FILE} lists all columns with their type and row count and is written on
+ * {@link #close()}; see {@link ColumnIndex}.
+ * Results may be added from any thread; each column is buffered and written in large blocks.
+ */
+public class ColumnarExporter implements Closeable {
+    /**
+     * The name of the index file.
+     */
+    public static final String INDEX_FILE = "columns.idx";
+
+    /**
+     * The file extension of column files.
+     */
+    public static final String COLUMN_EXTENSION = ".col";
+
+    /**
+     * The magic number the index starts with.
+     */
+    public static final int MAGIC = 0x464F5043;
+
+    /**
+     * The version of the export format.
+     */
+    public static final byte VERSION = 1;
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final ResourceType[] RESOURCE_TYPES = ResourceType.values();
+
+    private final Path directory;
+    private final Map<String, Column> columns = new LinkedHashMap<>();
+    private final Column gameSeed;
+    private final Column gameRounds;
+    private final Column gameWinnerId;
+    private final Column gamePlayerCount;
+    private final Column gamePlayerStart;
+    private final Column gameRoundStart;
+    private final Column playerGame;
+    private final Column playerId;
+    private final Column playerAiType;
+    private final Column playerVictoryPoints;
+    private final Column roundGame;
+    private final Column roundRound;
+    private final Column roundPlayerId;
+    private final Column roundVictoryPoints;
+    private final Column[] roundResources = new Column[RESOURCE_TYPES.length];
+    private int games = 0;
+    private long players = 0;
+    private long rounds = 0;
+    private boolean closed = false;
+
+    /**
+     * Creates a new exporter writing to the given directory.
+     * Existing columns in the directory are replaced.
+     *
+     * @param directory the directory, created if it does not exist
+     * @throws IOException if the directory or a column file cannot be created
+     */
+    public ColumnarExporter(final Path directory) throws IOException {
+        this.directory = directory;
+        Files.createDirectories(directory);
+        this.gameSeed = column("game.seed", ColumnType.LONG);
+        this.gameRounds = column("game.rounds", ColumnType.INT);
+        this.gameWinnerId = column("game.winner_id", ColumnType.BYTE);
+        this.gamePlayerCount = column("game.player_count", ColumnType.BYTE);
+        this.gamePlayerStart = column("game.player_start", ColumnType.LONG);
+        this.gameRoundStart = column("game.round_start", ColumnType.LONG);
+        this.playerGame = column("player.game", ColumnType.INT);
+        this.playerId = column("player.id", ColumnType.BYTE);
+        this.playerAiType = column("player.ai_type", ColumnType.BYTE);
+        this.playerVictoryPoints = column("player.victory_points", ColumnType.BYTE);
+        this.roundGame = column("round.game", ColumnType.INT);
+        this.roundRound = column("round.round", ColumnType.SHORT);
+        this.roundPlayerId = column("round.player_id", ColumnType.BYTE);
+        this.roundVictoryPoints = column("round.victory_points", ColumnType.BYTE);
+        for (final ResourceType resourceType : RESOURCE_TYPES) {
+            roundResources[resourceType.ordinal()] = column(
+                "round." + resourceType.name().toLowerCase(Locale.ROOT),
+                ColumnType.SHORT
+            );
+        }
+    }
+
+    /**
+     * Appends the given result to all tables.
+     *
+     * @param result the result to append
+     * @throws IOException if writing fails
+     */
+    public synchronized void add(final GameResult result) throws IOException {
+        if (closed) {
+            throw new IllegalStateException("Exporter is closed");
+        }
+        final int game = games++;
+        gameSeed.putLong(result.seed());
+        gameRounds.putInt(result.rounds());
+        gameWinnerId.putByte(result.winnerId());
+        gamePlayerCount.putByte(result.players().size());
+        gamePlayerStart.putLong(players);
+        gameRoundStart.putLong(rounds);
+        for (final GameResult.PlayerResult player : result.players()) {
+            playerGame.putInt(game);
+            playerId.putByte(player.id());
+            playerAiType.putByte(player.aiType());
+            playerVictoryPoints.putByte(player.victoryPoints());
+            players++;
+        }
+        for (int round = 0; round < result.rounds(); round++) {
+            for (final GameResult.PlayerResult player : result.players()) {
+                roundGame.putInt(game);
+                roundRound.putShort(round + 1);
+                roundPlayerId.putByte(player.id());
+                roundVictoryPoints.putByte(player.victoryPointSeries()[round]);
+                final int[] resources = player.resourceSeries()[round];
+                for (int i = 0; i < roundResources.length; i++) {
+                    roundResources[i].putShort(resources[i]);
+                }
+                rounds++;
+            }
+        }
+    }
+
+    /**
+     * Writes all buffered values, closes the column files and writes the index.
+     *
+     * @throws IOException if writing fails
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        final ByteBuffer index = ByteBuffer.allocate(BUFFER_SIZE);
+        index.putInt(MAGIC);
+        index.put(VERSION);
+        index.putInt(columns.size());
+        for (final Column column : columns.values()) {
+            column.close();
+            ByteBuffers.putString(index, column.name);
+            index.put((byte) column.type.ordinal());
+            index.putLong(column.rows);
+        }
+        index.flip();
+        try (FileChannel channel = open(directory.resolve(INDEX_FILE))) {
+            while (index.hasRemaining()) {
+                channel.write(index);
+            }
+        }
+    }
+
+    /**
+     * Creates a new column and its file.
+     *
+     * @param name the name of the column
+     * @param type the type of the column
+     * @return the column
+     * @throws IOException if the file cannot be created
+     */
+    private Column column(final String name, final ColumnType type) throws IOException {
+        final Column column = new Column(name, type, open(directory.resolve(name + COLUMN_EXTENSION)));
+        columns.put(name, column);
+        return column;
+    }
+
+    private static FileChannel open(final Path path) throws IOException {
+        return FileChannel.open(
+            path,
+            StandardOpenOption.CREATE,
+            StandardOpenOption.TRUNCATE_EXISTING,
+            StandardOpenOption.WRITE
+        );
+    }
+
+    /**
+     * A column file with its write buffer.
+     */
+    private static final class Column {
+        private final String name;
+        private final ColumnType type;
+        private final FileChannel channel;
+        private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        private long rows = 0;
+
+        private Column(final String name, final ColumnType type, final FileChannel channel) {
+            this.name = name;
+            this.type = type;
+            this.channel = channel;
+        }
+
+        private void putByte(final int value) throws IOException {
+            reserve().put((byte) value);
+        }
+
+        private void putShort(final int value) throws IOException {
+            reserve().putShort((short) value);
+        }
+
+        private void putInt(final int value) throws IOException {
+            reserve().putInt(value);
+        }
+
+        private void putLong(final long value) throws IOException {
+            reserve().putLong(value);
+        }
+
+        /**
+         * Counts a new row and makes sure the buffer can hold it.
+         *
+         * @return the buffer
+         * @throws IOException if writing the full buffer fails
+         */
+        private ByteBuffer reserve() throws IOException {
+            if (buffer.remaining() < type.width) {
+                flush();
+            }
+            rows++;
+            return buffer;
+        }
+
+        private void flush() throws IOException {
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            buffer.clear();
+        }
+
+        private void close() throws IOException {
+            try {
+                flush();
+            } finally {
+                channel.close();
+            }
+        }
+    }
+}
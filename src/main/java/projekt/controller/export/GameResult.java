@@ -0,0 +1,43 @@
+package projekt.controller.export;
+
+import java.util.List;
+
+/**
+ * The result of a finished game as it is exported.
+ *
+ * @param seed     the seed of the game
+ * @param rounds   the number of rounds played
+ * @param winnerId the id of the winner, {@code 0} if nobody won
+ * @param players  the players in turn order
+ */
+public record GameResult(long seed, int rounds, int winnerId, List<PlayerResult> players) {
+    /**
+     * The AI type of a human player.
+     */
+    public static final int HUMAN = 0;
+
+    /**
+     * The AI type of a player controlled by a {@link projekt.controller.BasicAiController}.
+     */
+    public static final int BASIC_AI = 1;
+
+    /**
+     * Creates a new result with an unmodifiable copy of the given players.
+     */
+    public GameResult {
+        players = List.copyOf(players);
+    }
+
+    /**
+     * The result of a single player.
+     * The series hold one entry per round, starting with the first round after the setup rounds.
+     *
+     * @param id                 the id of the player
+     * @param aiType             the AI type of the player, {@link #HUMAN} or {@link #BASIC_AI}
+     * @param victoryPoints      the victory points at the end of the game
+     * @param victoryPointSeries the victory points at the end of each round
+     * @param resourceSeries     the resources in hand at the end of each round, indexed by round and
+     *                           {@link projekt.model.ResourceType} ordinal
+     */
+    public record PlayerResult(int id, int aiType, int victoryPoints, int[] victoryPointSeries, int[][] resourceSeries) {}
+}
@@ -0,0 +1,94 @@
+package projekt.controller.export;
+
+import javafx.beans.value.ChangeListener;
+import javafx.beans.value.ObservableValue;
+import projekt.controller.GameController;
+import projekt.model.Player;
+import projekt.model.ResourceType;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Records the per-round series of a game for a {@link GameResult}.
+ * It listens to the game's round counter, so it runs on the game thread and needs no synchronization.
+ */
+public class ResultRecorder implements ChangeListener<Number> {
+    private static final ResourceType[] RESOURCE_TYPES = ResourceType.values();
+
+    private final GameController gameController;
+    private final List<List<int[]>> series = new ArrayList<>();
+
+    /**
+     * Creates a new recorder for the given game.
+     *
+     * @param gameController the game to record
+     */
+    public ResultRecorder(final GameController gameController) {
+        this.gameController = gameController;
+    }
+
+    /**
+     * Registers this recorder on the game's round counter.
+     */
+    public void attach() {
+        gameController.getRoundCounterProperty().addListener(this);
+    }
+
+    @Override
+    public void changed(final ObservableValue<? extends Number> observable, final Number oldValue, final Number newValue) {
+        if (oldValue.intValue() < 1 || newValue.intValue() <= oldValue.intValue()) {
+            return;
+        }
+        final List<Player> players = gameController.getState().getPlayers();
+        while (series.size() < players.size()) {
+            series.add(new ArrayList<>());
+        }
+        for (int i = 0; i < players.size(); i++) {
+            final Player player = players.get(i);
+            final int[] entry = new int[RESOURCE_TYPES.length + 1];
+            entry[0] = player.getVictoryPoints();
+            for (final ResourceType resourceType : RESOURCE_TYPES) {
+                entry[resourceType.ordinal() + 1] = player.getResources().getOrDefault(resourceType, 0);
+            }
+            series.get(i).add(entry);
+        }
+    }
+
+    /**
+     * Unregisters this recorder and returns the result of the game.
+     *
+     * @return the result
+     */
+    public GameResult finish() {
+        gameController.getRoundCounterProperty().removeListener(this);
+        final List<Player> players = gameController.getState().getPlayers();
+        final List<GameResult.PlayerResult> results = new ArrayList<>(players.size());
+        for (int i = 0; i < players.size(); i++) {
+            final Player player = players.get(i);
+            final List<int[]> playerSeries = i < series.size() ? series.get(i) : List.of();
+            final int[] victoryPointSeries = new int[playerSeries.size()];
+            final int[][] resourceSeries = new int[playerSeries.size()][];
+            for (int round = 0; round < playerSeries.size(); round++) {
+                final int[] entry = playerSeries.get(round);
+                victoryPointSeries[round] = entry[0];
+                resourceSeries[round] = Arrays.copyOfRange(entry, 1, entry.length);
+            }
+            results.add(new GameResult.PlayerResult(
+                player.getID(),
+                player.isAi() ? GameResult.BASIC_AI : GameResult.HUMAN,
+                player.getVictoryPoints(),
+                victoryPointSeries,
+                resourceSeries
+            ));
+        }
+        final Player winner = gameController.getState().getWinnerProperty().getValue();
+        return new GameResult(
+            gameController.getSeed(),
+            series.isEmpty() ? 0 : series.get(0).size(),
+            winner == null ? 0 : winner.getID(),
+            results
+        );
+    }
+}
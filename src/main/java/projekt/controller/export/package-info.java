@@ -0,0 +1,4 @@
+/**
+ * Contains the columnar binary export of game results for offline analysis.
+ */
+package projekt.controller.export;
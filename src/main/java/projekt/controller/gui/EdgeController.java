@@ -3,6 +3,7 @@ package projekt.controller.gui;
 import javafx.scene.input.MouseEvent;
 import projekt.model.buildings.Edge;
 import projekt.view.EdgeLine;
+import projekt.view.HexGridView;
 
 import java.util.function.Consumer;
 
@@ -10,7 +11,9 @@ import java.util.function.Consumer;
  * The controller for an edge.
  */
 public class EdgeController {
-    private final EdgeLine line;
+    private final Edge edge;
+    private final HexGridView view;
+    private EdgeLine line;
 
     /**
      * Creates a new edge controller.
@@ -18,7 +21,21 @@ public class EdgeController {
      * @param edge the edge to render
      */
     public EdgeController(final Edge edge) {
-        this.line = new EdgeLine(edge);
+        this(edge, null);
+    }
+
+    /**
+     * Creates a new edge controller for an edge that is drawn by the given view of its hex grid.
+     *
+     * @param edge the edge to render
+     * @param view the view of the hex grid the edge is drawn by, or {@code null} to render it with its own line
+     */
+    public EdgeController(final Edge edge, final HexGridView view) {
+        this.edge = edge;
+        this.view = view;
+        if (view == null) {
+            this.line = new EdgeLine(edge);
+        }
     }
 
     /**
@@ -27,15 +44,19 @@ public class EdgeController {
      * @return the edge
      */
     public Edge getEdge() {
-        return line.getEdge();
+        return edge;
     }
 
     /**
      * Returns the edge line.
+     * If the edge is drawn by a view of its hex grid, the line is only created on the first call.
      *
      * @return the edge line
      */
     public EdgeLine getEdgeLine() {
+        if (line == null) {
+            line = new EdgeLine(edge);
+        }
         return line;
     }
 
@@ -45,13 +66,21 @@ public class EdgeController {
      * @param handler the handler to call when the edge is clicked
      */
     public void highlight(final Consumer<MouseEvent> handler) {
-        line.highlight(handler);
+        if (view != null) {
+            UpdateBatcher.submit(edge, "highlight", () -> view.highlightEdge(edge, handler));
+        } else {
+            line.highlight(handler);
+        }
     }
 
     /**
      * Unhighlights the edge.
      */
     public void unhighlight() {
-        line.unhighlight();
+        if (view != null) {
+            UpdateBatcher.submit(edge, "highlight", () -> view.unhighlightEdge(edge));
+        } else {
+            line.unhighlight();
+        }
     }
 }
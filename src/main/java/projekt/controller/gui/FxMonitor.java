@@ -0,0 +1,327 @@
+package projekt.controller.gui;
+
+import javafx.animation.AnimationTimer;
+import javafx.application.Platform;
+import javafx.scene.Scene;
+import projekt.Config;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.Stream;
+
+/**
+ * Measures how busy the FX application thread is.
+ * <p>
+ * A watchdog thread posts a ping to the FX thread four times per {@link Config#FX_STALL_THRESHOLD} and logs the
+ * stack of the FX thread if a ping is not answered within the threshold, and again once the thread responds.
+ * A dialog shown with {@code showAndWait} does not count as a stall, since its nested event loop keeps answering.
+ * <p>
+ * While tracking is enabled, tasks passed to {@link #runLater(Runnable)} and updates of the {@link UpdateBatcher}
+ * are timed together with the method that submitted them, and the slowest tasks of the last few seconds are kept.
+ * Tasks that ran a nested event loop, e.g. to wait for a dialog, are marked as such, since most of their time was
+ * spent waiting for the user. Tracking walks the stack on every submission and also measures the frame rate and
+ * the pulse duration of scenes passed to {@link #attach(Scene)}, so it is off unless the performance overlay is shown.
+ */
+public final class FxMonitor {
+    private static final long STALL_THRESHOLD_NANOS = TimeUnit.MILLISECONDS.toNanos(Config.FX_STALL_THRESHOLD);
+    private static final long TASK_WINDOW_NANOS = TimeUnit.SECONDS.toNanos(5);
+    private static final long FRAME_WINDOW_NANOS = TimeUnit.SECONDS.toNanos(1);
+    private static final int LOGGED_STACK_DEPTH = 10;
+    private static final StackWalker STACK_WALKER = StackWalker.getInstance();
+    private static final Set<String> INTERNAL_CLASSES = Set.of(FxMonitor.class.getName(), UpdateBatcher.class.getName());
+    private static final AtomicInteger PENDING_TASKS = new AtomicInteger();
+    private static volatile boolean tracking = false;
+    // guarded by the class
+    private static List<TaskSample> currentTasks = new ArrayList<>();
+    private static List<TaskSample> previousTasks = List.of();
+    private static long taskWindowStart = System.nanoTime();
+    // only accessed on the FX application thread
+    private static final Deque<Long> FRAMES = new ArrayDeque<>();
+    private static long dispatchCount = 0;
+    private static long pulseNanos = 0;
+    private static Thread watchdog;
+    private static AnimationTimer frameTimer;
+
+    private FxMonitor() {}
+
+    /**
+     * Starts the watchdog if it is enabled and not running yet. Must be called on the FX application thread.
+     */
+    public static void startWatchdog() {
+        if (!Config.FX_WATCHDOG_ENABLED || watchdog != null) {
+            return;
+        }
+        final Thread fxThread = Thread.currentThread();
+        watchdog = new Thread(() -> watch(fxThread), "FxWatchdog");
+        watchdog.setDaemon(true);
+        watchdog.start();
+    }
+
+    /**
+     * Pings the given FX thread until the toolkit exits and logs when it does not respond in time.
+     *
+     * @param fxThread the FX application thread
+     */
+    private static void watch(final Thread fxThread) {
+        final long interval = STALL_THRESHOLD_NANOS / 4;
+        while (true) {
+            final AtomicBoolean answered = new AtomicBoolean();
+            final long sent = System.nanoTime();
+            try {
+                Platform.runLater(() -> {
+                    dispatchCount++;
+                    answered.set(true);
+                });
+            } catch (final IllegalStateException e) {
+                // the toolkit has exited
+                return;
+            }
+            boolean stalled = false;
+            while (!answered.get()) {
+                LockSupport.parkNanos(interval);
+                if (!stalled && System.nanoTime() - sent > STALL_THRESHOLD_NANOS) {
+                    stalled = true;
+                    final StringBuilder message = new StringBuilder(String.format(
+                        "FX thread blocked for more than %d ms at:%n",
+                        Config.FX_STALL_THRESHOLD
+                    ));
+                    Stream.of(fxThread.getStackTrace())
+                        .limit(LOGGED_STACK_DEPTH)
+                        .forEach(element -> message.append("\tat ").append(element).append(System.lineSeparator()));
+                    System.err.print(message);
+                }
+            }
+            if (stalled) {
+                System.err.printf(
+                    "FX thread responded after %d ms%n",
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - sent)
+                );
+            }
+            LockSupport.parkNanos(interval);
+        }
+    }
+
+    /**
+     * Runs the given task on the FX application thread, like {@link Platform#runLater(Runnable)}, and times it
+     * while tracking is enabled.
+     *
+     * @param task the task
+     */
+    public static void runLater(final Runnable task) {
+        if (!tracking) {
+            Platform.runLater(task);
+            return;
+        }
+        final Runnable timedTask = timed(task, findOrigin(null));
+        PENDING_TASKS.incrementAndGet();
+        Platform.runLater(() -> {
+            PENDING_TASKS.decrementAndGet();
+            timedTask.run();
+        });
+    }
+
+    /**
+     * Returns the given update, timed if tracking is enabled.
+     *
+     * @param update the update
+     * @param detail what the update sets, or {@code null}
+     * @return the update to run instead
+     */
+    static Runnable track(final Runnable update, final String detail) {
+        return tracking ? timed(update, findOrigin(detail)) : update;
+    }
+
+    private static Runnable timed(final Runnable task, final String origin) {
+        return () -> {
+            final long dispatched = ++dispatchCount;
+            final long start = System.nanoTime();
+            try {
+                task.run();
+            } finally {
+                // anything dispatched meanwhile was run by a nested event loop
+                record(new TaskSample(origin, System.nanoTime() - start, dispatchCount != dispatched));
+            }
+        };
+    }
+
+    /**
+     * Returns the first method on the stack outside of the monitor and the {@link UpdateBatcher}, as
+     * {@code Class.method}. Lambdas are attributed to the method they are declared in.
+     *
+     * @param detail a detail appended in parentheses, or {@code null}
+     * @return the origin
+     */
+    private static String findOrigin(final String detail) {
+        final String origin = STACK_WALKER.walk(frames -> frames
+            .filter(frame -> !INTERNAL_CLASSES.contains(frame.getClassName()))
+            .findFirst()
+            .map(frame -> {
+                final String className = frame.getClassName();
+                String method = frame.getMethodName();
+                if (method.startsWith("lambda$") && method.indexOf('$', 7) > 7) {
+                    method = method.substring(7, method.indexOf('$', 7));
+                }
+                return className.substring(className.lastIndexOf('.') + 1) + "."
+                    + (method.equals("new") ? "<init>" : method);
+            })
+            .orElse("unknown"));
+        return detail == null ? origin : String.format("%s (%s)", origin, detail);
+    }
+
+    /**
+     * Keeps the given sample if it is among the slowest of the current window.
+     *
+     * @param sample the sample
+     */
+    private static synchronized void record(final TaskSample sample) {
+        rotateTaskWindow();
+        int index = currentTasks.size();
+        while (index > 0 && currentTasks.get(index - 1).nanos() < sample.nanos()) {
+            index--;
+        }
+        if (index < Config.FX_SLOWEST_TASK_COUNT) {
+            currentTasks.add(index, sample);
+            if (currentTasks.size() > Config.FX_SLOWEST_TASK_COUNT) {
+                currentTasks.remove(currentTasks.size() - 1);
+            }
+        }
+    }
+
+    private static void rotateTaskWindow() {
+        final long now = System.nanoTime();
+        if (now - taskWindowStart < TASK_WINDOW_NANOS) {
+            return;
+        }
+        previousTasks = now - taskWindowStart < 2 * TASK_WINDOW_NANOS ? currentTasks : List.of();
+        currentTasks = new ArrayList<>();
+        taskWindowStart = now;
+    }
+
+    /**
+     * Returns the slowest tasks that ran within the last five to ten seconds, slowest first.
+     *
+     * @return the slowest tasks
+     */
+    public static synchronized List<TaskSample> getSlowestTasks() {
+        rotateTaskWindow();
+        return Stream.concat(currentTasks.stream(), previousTasks.stream())
+            .sorted(Comparator.comparingLong(TaskSample::nanos).reversed())
+            .limit(Config.FX_SLOWEST_TASK_COUNT)
+            .toList();
+    }
+
+    /**
+     * Measures the pulse duration of the given scene while tracking is enabled.
+     * Must be called on the FX application thread.
+     *
+     * @param scene the scene
+     */
+    public static void attach(final Scene scene) {
+        scene.addPostLayoutPulseListener(() -> {
+            if (tracking && !FRAMES.isEmpty()) {
+                pulseNanos = System.nanoTime() - FRAMES.getLast();
+            }
+        });
+    }
+
+    /**
+     * Enables or disables tracking. Must be called on the FX application thread.
+     *
+     * @param enabled whether to track tasks and frames
+     */
+    public static void setTracking(final boolean enabled) {
+        if (frameTimer == null) {
+            frameTimer = new AnimationTimer() {
+                @Override
+                public void handle(final long now) {
+                    dispatchCount++;
+                    FRAMES.addLast(now);
+                    while (now - FRAMES.getFirst() > FRAME_WINDOW_NANOS) {
+                        FRAMES.removeFirst();
+                    }
+                }
+            };
+        }
+        tracking = enabled;
+        FRAMES.clear();
+        pulseNanos = 0;
+        if (enabled) {
+            frameTimer.start();
+        } else {
+            frameTimer.stop();
+        }
+    }
+
+    /**
+     * Returns whether tasks and frames are tracked.
+     *
+     * @return whether tracking is enabled
+     */
+    public static boolean isTracking() {
+        return tracking;
+    }
+
+    /**
+     * Returns the number of frames within the last second. Must be called on the FX application thread.
+     *
+     * @return the frames per second
+     */
+    public static int getFramesPerSecond() {
+        return FRAMES.size();
+    }
+
+    /**
+     * Returns the longest time between two frames within the last second.
+     * Must be called on the FX application thread.
+     *
+     * @return the longest frame time in nanoseconds
+     */
+    public static long getLongestFrameNanos() {
+        long longest = 0;
+        final Iterator<Long> iterator = FRAMES.iterator();
+        long previous = iterator.hasNext() ? iterator.next() : 0;
+        while (iterator.hasNext()) {
+            final long frame = iterator.next();
+            longest = Math.max(longest, frame - previous);
+            previous = frame;
+        }
+        return longest;
+    }
+
+    /**
+     * Returns the time from the start of the last pulse to the end of its layout, which includes animations,
+     * batched updates, CSS and layout, but not rendering. Must be called on the FX application thread.
+     *
+     * @return the pulse duration in nanoseconds
+     */
+    public static long getPulseNanos() {
+        return pulseNanos;
+    }
+
+    /**
+     * Returns the number of tracked tasks and batched updates waiting to run on the FX application thread.
+     *
+     * @return the queue depth
+     */
+    public static int getQueueDepth() {
+        return PENDING_TASKS.get() + UpdateBatcher.getPendingCount();
+    }
+
+    /**
+     * A task that ran on the FX application thread.
+     *
+     * @param origin     the method that submitted the task
+     * @param nanos      the time the task took
+     * @param nestedLoop whether the task ran a nested event loop, e.g. to wait for a dialog
+     */
+    public record TaskSample(String origin, long nanos, boolean nestedLoop) {}
+}
@@ -1,6 +1,5 @@
 package projekt.controller.gui;
 
-import javafx.application.Platform;
 import javafx.beans.property.IntegerProperty;
 import javafx.beans.property.Property;
 import javafx.scene.control.Alert;
@@ -8,9 +7,12 @@ import javafx.scene.layout.Region;
 import javafx.util.Builder;
 import org.tudalgo.algoutils.student.annotation.DoNotTouch;
 import projekt.controller.PlayerController;
+import projekt.model.BoardChangeListener;
 import projekt.model.GameState;
+import projekt.model.Intersection;
 import projekt.model.Player;
 import projekt.model.ResourceType;
+import projekt.model.buildings.Edge;
 import projekt.view.GameBoardBuilder;
 
 import java.util.Map;
@@ -29,6 +31,7 @@ public class GameBoardController implements SceneController {
      * Creates a new game board controller.
      * Updates the player information on the game board when the active player
      * changes.
+     * Updates the building counters of the players when the board changes.
      * Updates the dice roll on the game board when the dice roll changes.
      * Shows an alert when a player wins.
      *
@@ -56,29 +59,40 @@ public class GameBoardController implements SceneController {
             if (newValue == null) {
                 return;
             }
-            Platform.runLater(() -> updatePlayerInformation(newValue.getPlayer(), Map.of()));
+            updatePlayerInformation(newValue.getPlayer(), Map.of());
         });
         diceRollProperty.addListener((observable, oldValue, newValue) -> {
             if (newValue == null) {
                 return;
             }
-            Platform.runLater(() -> gameBoardBuilder.setDiceRoll(newValue.intValue()));
+            UpdateBatcher.submit(gameBoardBuilder, "diceRoll", () -> gameBoardBuilder.setDiceRoll(newValue.intValue()));
         });
         winnerProperty.subscribe((oldValue, newValue) -> {
             if (newValue == null) {
                 return;
             }
-            Platform.runLater(() -> {
+            FxMonitor.runLater(() -> {
                 new Alert(Alert.AlertType.INFORMATION, String.format("Player %s won!", newValue.getName()))
                     .showAndWait();
                 SceneController.loadMainMenuScene();
             });
         });
+        gameState.getGrid().addBoardChangeListener(new BoardChangeListener() {
+            @Override
+            public void roadChanged(final Edge edge) {
+                UpdateBatcher.submit(edge, "counters", () -> gameBoardBuilder.updateRoad(edge));
+            }
+
+            @Override
+            public void settlementChanged(final Intersection intersection) {
+                UpdateBatcher.submit(intersection, "counters", () -> gameBoardBuilder.updateSettlement(intersection));
+            }
+        });
         roundCounterProperty.subscribe((oldValue, newValue) -> {
             if (newValue == null) {
                 return;
             }
-            Platform.runLater(() -> gameBoardBuilder.setRoundCounter(newValue.intValue()));
+            UpdateBatcher.submit(gameBoardBuilder, "roundCounter", () -> gameBoardBuilder.setRoundCounter(newValue.intValue()));
         });
     }
 
@@ -99,8 +113,11 @@ public class GameBoardController implements SceneController {
      *                         player
      */
     public void updatePlayerInformation(final Player player, final Map<ResourceType, Integer> changedResources) {
-        Platform.runLater(
-            () -> gameBoardBuilder.updatePlayerInformation(player, gameState.getPlayers(), changedResources));
+        UpdateBatcher.submit(
+            gameBoardBuilder,
+            "playerInformation",
+            () -> gameBoardBuilder.updatePlayerInformation(player, gameState.getPlayers(), changedResources)
+        );
     }
 
     @Override
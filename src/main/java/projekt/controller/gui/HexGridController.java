@@ -1,57 +1,133 @@
 package projekt.controller.gui;
 
-import javafx.application.Platform;
 import javafx.event.Event;
 import javafx.scene.input.MouseEvent;
 import javafx.scene.input.ScrollEvent;
 import javafx.scene.layout.Region;
 import javafx.util.Builder;
 import org.tudalgo.algoutils.student.annotation.DoNotTouch;
+import projekt.Config;
 import projekt.controller.gui.tiles.TileController;
+import projekt.model.BoardChangeListener;
 import projekt.model.HexGrid;
 import projekt.model.Intersection;
+import projekt.model.TilePosition;
 import projekt.model.buildings.Edge;
 import projekt.model.tiles.Tile;
+import projekt.view.BoardGeometry;
 import projekt.view.HexGridBuilder;
+import projekt.view.HexGridCanvas;
+import projekt.view.HexGridCanvasBuilder;
+import projekt.view.HexGridView;
 
 import java.util.Collections;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * The controller for the hex grid.
+ * <p>
+ * Boards with a radius of at least {@link Config#CANVAS_RENDERER_MIN_RADIUS} are drawn on a {@link HexGridCanvas},
+ * smaller ones with one node per tile, edge and intersection. The highlight and click API is the same for both.
+ * The controllers of single elements are only created when they are first requested.
+ * Roads, settlements and the robber are redrawn when the hex grid reports a change, so only the changed
+ * elements are updated.
  */
 @DoNotTouch
 public class HexGridController implements Controller {
     private final HexGrid hexGrid;
-    private final HexGridBuilder builder;
-    private final Map<Intersection, IntersectionController> intersectionControllers;
-    private final Map<Edge, EdgeController> edgeControllers;
-    private final Map<Tile, TileController> tileControllers;
+    private final Builder<Region> builder;
+    private final HexGridBuilder nodeBuilder;
+    private final HexGridCanvas canvas;
+    private final HexGridView view;
+    private final Map<Intersection, IntersectionController> intersectionControllers = new ConcurrentHashMap<>();
+    private final Map<Edge, EdgeController> edgeControllers = new ConcurrentHashMap<>();
+    private final Map<Tile, TileController> tileControllers = new ConcurrentHashMap<>();
     private static double lastX, lastY;
 
     /**
      * Creates a new hex grid controller.
+     * The renderer is chosen by the size of the hex grid.
      *
      * @param hexGrid the hex grid to render
      */
     public HexGridController(final HexGrid hexGrid) {
-        this.intersectionControllers = hexGrid.getIntersections().values().stream().map(IntersectionController::new)
-            .collect(Collectors.toMap(IntersectionController::getIntersection, controller -> controller));
-        this.edgeControllers = hexGrid.getEdges().values().stream().map(EdgeController::new)
-            .collect(Collectors.toMap(EdgeController::getEdge, controller -> controller));
-        this.tileControllers = hexGrid.getTiles().values().stream().map(TileController::new)
-            .collect(Collectors.toMap(TileController::getTile, controller -> controller));
-        this.builder = new HexGridBuilder(hexGrid,
-                                          intersectionControllers.values().stream().map(IntersectionController::getBuilder)
-                                              .collect(Collectors.toSet()),
-                                          edgeControllers.values().stream().map(EdgeController::getEdgeLine).collect(Collectors.toSet()),
-                                          tileControllers.values().stream().map(TileController::getBuilder).collect(Collectors.toSet()),
-                                          this::zoomHandler, this::mousePressedHandler, this::mouseDraggedHandler, this::centerPaneHandler
-        );
+        this(hexGrid, getRadius(hexGrid) >= Config.CANVAS_RENDERER_MIN_RADIUS);
+    }
+
+    /**
+     * Creates a new hex grid controller.
+     *
+     * @param hexGrid the hex grid to render
+     * @param canvas  whether to draw the hex grid on a single canvas instead of with one node per element
+     */
+    public HexGridController(final HexGrid hexGrid, final boolean canvas) {
+        final BoardGeometry geometry = new BoardGeometry(hexGrid);
+        if (canvas) {
+            this.canvas = new HexGridCanvas(geometry);
+            this.nodeBuilder = null;
+            this.view = this.canvas;
+            this.builder = new HexGridCanvasBuilder(this.canvas);
+        } else {
+            this.canvas = null;
+            this.nodeBuilder = new HexGridBuilder(geometry,
+                                                  this::zoomHandler, this::mousePressedHandler, this::mouseDraggedHandler, this::centerPaneHandler
+            );
+            this.view = nodeBuilder;
+            this.builder = nodeBuilder;
+        }
         this.hexGrid = hexGrid;
+        hexGrid.addBoardChangeListener(new BoardChangeListener() {
+            @Override
+            public void roadChanged(final Edge edge) {
+                UpdateBatcher.submit(edge, "update", () -> view.updateEdge(edge));
+            }
+
+            @Override
+            public void settlementChanged(final Intersection intersection) {
+                UpdateBatcher.submit(intersection, "update", () -> view.updateIntersection(intersection));
+            }
+
+            @Override
+            public void robberMoved(final TilePosition from, final TilePosition to) {
+                Stream.of(from, to)
+                    .filter(Objects::nonNull)
+                    .map(hexGrid::getTileAt)
+                    .filter(Objects::nonNull)
+                    .forEach(tile -> UpdateBatcher.submit(tile, "update", () -> view.updateTile(tile)));
+            }
+        });
+    }
+
+    /**
+     * Returns the radius of the given hex grid, counting the center tile.
+     *
+     * @param hexGrid the hex grid
+     * @return the radius
+     */
+    private static int getRadius(final HexGrid hexGrid) {
+        return hexGrid.getTiles().keySet().stream()
+            .mapToInt(position -> Math.max(Math.abs(position.q()), Math.max(Math.abs(position.r()), Math.abs(position.s()))))
+            .max()
+            .orElse(-1) + 1;
+    }
+
+    /**
+     * Takes over the zoom and position of the view of the given controller, if both use the same renderer.
+     *
+     * @param other the controller to copy the viewport from
+     */
+    public void copyViewport(final HexGridController other) {
+        if (canvas != null && other.canvas != null) {
+            canvas.copyViewport(other.canvas);
+        } else if (nodeBuilder != null && other.nodeBuilder != null) {
+            nodeBuilder.copyViewport(other.nodeBuilder);
+        }
     }
 
     /**
@@ -115,7 +191,17 @@ public class HexGridController implements Controller {
     }
 
     /**
-     * Returns the intersection controllers.
+     * Returns the controller of the given intersection, creating it if needed.
+     *
+     * @param intersection the intersection
+     * @return the intersection controller
+     */
+    public IntersectionController getIntersectionController(final Intersection intersection) {
+        return intersectionControllers.computeIfAbsent(intersection, key -> new IntersectionController(key, view));
+    }
+
+    /**
+     * Returns the intersection controllers that were created so far.
      *
      * @return the intersection controllers
      */
@@ -124,7 +210,7 @@ public class HexGridController implements Controller {
     }
 
     /**
-     * Returns the intersection controllers as a map.
+     * Returns the intersection controllers that were created so far as a map.
      *
      * @return the intersection controllers as a map
      */
@@ -133,7 +219,17 @@ public class HexGridController implements Controller {
     }
 
     /**
-     * Returns the edge controllers.
+     * Returns the controller of the given edge, creating it if needed.
+     *
+     * @param edge the edge
+     * @return the edge controller
+     */
+    public EdgeController getEdgeController(final Edge edge) {
+        return edgeControllers.computeIfAbsent(edge, key -> new EdgeController(key, view));
+    }
+
+    /**
+     * Returns the edge controllers that were created so far.
      *
      * @return the edge controllers
      */
@@ -142,7 +238,7 @@ public class HexGridController implements Controller {
     }
 
     /**
-     * Returns the edge controllers as a map.
+     * Returns the edge controllers that were created so far as a map.
      *
      * @return the edge controllers as a map
      */
@@ -165,7 +261,17 @@ public class HexGridController implements Controller {
      * @param handler the handler to call when a tile is clicked
      */
     public void highlightTiles(final Consumer<Tile> handler) {
-        tileControllers.values().forEach(controller -> controller.highlight(handler));
+        hexGrid.getTiles().values().forEach(tile -> getTileController(tile).highlight(handler));
+    }
+
+    /**
+     * Returns the controller of the given tile, creating it if needed.
+     *
+     * @param tile the tile
+     * @return the tile controller
+     */
+    public TileController getTileController(final Tile tile) {
+        return tileControllers.computeIfAbsent(tile, key -> new TileController(key, view));
     }
 
     /**
@@ -179,21 +285,33 @@ public class HexGridController implements Controller {
      * Draws all tiles again.
      */
     public void drawTiles() {
-        Platform.runLater(() -> builder.drawTiles());
+        if (canvas != null) {
+            UpdateBatcher.submit(canvas, "refresh", canvas::refresh);
+        } else {
+            UpdateBatcher.submit(nodeBuilder, "drawTiles", nodeBuilder::drawTiles);
+        }
     }
 
     /**
      * Draws all intersections again.
      */
     public void drawIntersections() {
-        Platform.runLater(() -> builder.drawIntersections());
+        if (canvas != null) {
+            UpdateBatcher.submit(canvas, "refresh", canvas::refresh);
+        } else {
+            UpdateBatcher.submit(nodeBuilder, "drawIntersections", nodeBuilder::drawIntersections);
+        }
     }
 
     /**
      * Draws all edges again.
      */
     public void drawEdges() {
-        Platform.runLater(() -> builder.drawEdges());
+        if (canvas != null) {
+            UpdateBatcher.submit(canvas, "refresh", canvas::refresh);
+        } else {
+            UpdateBatcher.submit(nodeBuilder, "drawEdges", nodeBuilder::drawEdges);
+        }
     }
 
     @Override
@@ -1,8 +1,8 @@
 package projekt.controller.gui;
 
-import javafx.application.Platform;
 import javafx.scene.input.MouseEvent;
 import projekt.model.Intersection;
+import projekt.view.HexGridView;
 import projekt.view.IntersectionBuilder;
 
 import java.util.function.Consumer;
@@ -11,7 +11,9 @@ import java.util.function.Consumer;
  * The controller for an intersection.
  */
 public class IntersectionController implements Controller {
-    private final IntersectionBuilder buidler;
+    private final Intersection intersection;
+    private final HexGridView view;
+    private IntersectionBuilder buidler;
 
     /**
      * Creates a new intersection controller.
@@ -19,7 +21,22 @@ public class IntersectionController implements Controller {
      * @param intersection the intersection to render
      */
     public IntersectionController(final Intersection intersection) {
-        this.buidler = new IntersectionBuilder(intersection);
+        this(intersection, null);
+    }
+
+    /**
+     * Creates a new intersection controller for an intersection that is drawn by the given view of its hex grid.
+     *
+     * @param intersection the intersection to render
+     * @param view         the view of the hex grid the intersection is drawn by, or {@code null} to render it with
+     *                     its own node
+     */
+    public IntersectionController(final Intersection intersection, final HexGridView view) {
+        this.intersection = intersection;
+        this.view = view;
+        if (view == null) {
+            this.buidler = new IntersectionBuilder(intersection);
+        }
     }
 
     /**
@@ -28,7 +45,7 @@ public class IntersectionController implements Controller {
      * @return the intersection
      */
     public Intersection getIntersection() {
-        return buidler.getIntersection();
+        return intersection;
     }
 
     /**
@@ -37,18 +54,33 @@ public class IntersectionController implements Controller {
      * @param handler the handler to call when the intersection is clicked
      */
     public void highlight(final Consumer<MouseEvent> handler) {
-        Platform.runLater(() -> buidler.highlight(handler));
+        if (view != null) {
+            UpdateBatcher.submit(intersection, "highlight", () -> view.highlightIntersection(intersection, handler));
+        } else {
+            UpdateBatcher.submit(intersection, "highlight", () -> buidler.highlight(handler));
+        }
     }
 
     /**
      * Unhighlights the intersection.
      */
     public void unhighlight() {
-        Platform.runLater(() -> buidler.unhighlight());
+        if (view != null) {
+            UpdateBatcher.submit(intersection, "highlight", () -> view.unhighlightIntersection(intersection));
+        } else {
+            UpdateBatcher.submit(intersection, "highlight", () -> buidler.unhighlight());
+        }
     }
 
+    /**
+     * {@inheritDoc}
+     * If the intersection is drawn by a view of its hex grid, the builder is only created on the first call.
+     */
     @Override
     public IntersectionBuilder getBuilder() {
+        if (buidler == null) {
+            buidler = new IntersectionBuilder(intersection);
+        }
         return buidler;
     }
 }
@@ -15,6 +15,7 @@ public class MainMenuSceneController implements SceneController {
      */
     public MainMenuSceneController() {
         builder = new MainMenuBuilder(SceneController::quit, SceneController::loadCreateGameScene,
+                                      SceneController::loadReplayScene,
                                       SceneController::loadSettingsScene, SceneController::loadHighscoreScene,
                                       SceneController::loadAboutScene
         );
@@ -0,0 +1,114 @@
+package projekt.controller.gui;
+
+import javafx.animation.KeyFrame;
+import javafx.animation.Timeline;
+import javafx.beans.property.BooleanProperty;
+import javafx.beans.property.SimpleBooleanProperty;
+import javafx.scene.Node;
+import javafx.scene.Parent;
+import javafx.scene.Scene;
+import javafx.scene.input.KeyCode;
+import javafx.scene.input.KeyEvent;
+import javafx.scene.layout.Region;
+import javafx.util.Builder;
+import javafx.util.Duration;
+import projekt.view.PerformanceOverlayBuilder;
+
+/**
+ * The controller for the performance overlay, which is toggled with F3 in every attached scene.
+ * <p>
+ * While shown, the overlay is refreshed four times per second with the frame rate, the pulse duration, the queue
+ * depth of the FX application thread, the number of nodes in the scene and the slowest recent tasks, as measured
+ * by the {@link FxMonitor}. Showing the overlay enables tracking of the monitor, hiding it disables tracking again.
+ */
+public class PerformanceOverlayController implements Controller {
+    private final PerformanceOverlayBuilder builder = new PerformanceOverlayBuilder();
+    private final BooleanProperty shownProperty = new SimpleBooleanProperty(false);
+    private final Timeline refreshTimeline = new Timeline(new KeyFrame(Duration.millis(250), e -> refresh()));
+    private Scene scene;
+
+    /**
+     * Creates a new performance overlay controller.
+     */
+    public PerformanceOverlayController() {
+        refreshTimeline.setCycleCount(Timeline.INDEFINITE);
+        shownProperty.subscribe(shown -> {
+            FxMonitor.setTracking(shown);
+            if (shown) {
+                refresh();
+                refreshTimeline.play();
+            } else {
+                refreshTimeline.stop();
+            }
+        });
+    }
+
+    @Override
+    public Builder<Region> getBuilder() {
+        return builder;
+    }
+
+    @Override
+    public Region buildView() {
+        final Region overlay = builder.build();
+        overlay.visibleProperty().bind(shownProperty);
+        return overlay;
+    }
+
+    /**
+     * Makes F3 toggle the overlay in the given scene and measures the scene while the overlay is shown.
+     * The overlay built last is expected to be part of this scene.
+     *
+     * @param scene the scene
+     */
+    public void attach(final Scene scene) {
+        this.scene = scene;
+        FxMonitor.attach(scene);
+        scene.addEventFilter(KeyEvent.KEY_PRESSED, event -> {
+            if (event.getCode() == KeyCode.F3) {
+                shownProperty.set(!shownProperty.get());
+                event.consume();
+            }
+        });
+    }
+
+    /**
+     * Shows the current measurements in the overlay.
+     */
+    private void refresh() {
+        final StringBuilder text = new StringBuilder(String.format(
+            "FPS %d (longest frame %.1f ms)%nPulse %.1f ms%nQueue %d%nNodes %d",
+            FxMonitor.getFramesPerSecond(),
+            FxMonitor.getLongestFrameNanos() / 1e6,
+            FxMonitor.getPulseNanos() / 1e6,
+            FxMonitor.getQueueDepth(),
+            scene == null ? 0 : countNodes(scene.getRoot())
+        ));
+        text.append(String.format("%nSlowest tasks:"));
+        for (final FxMonitor.TaskSample task : FxMonitor.getSlowestTasks()) {
+            text.append(String.format(
+                "%n%8.1f ms %s%s",
+                task.nanos() / 1e6,
+                task.origin(),
+                task.nestedLoop() ? " [nested loop]" : ""
+            ));
+        }
+        builder.setText(text.toString());
+    }
+
+    /**
+     * Returns the number of nodes in the scene graph below and including the given node.
+     *
+     * @param node the root of the scene graph
+     * @return the number of nodes
+     */
+    private static int countNodes(final Node node) {
+        int count = 1;
+        if (node instanceof final Parent parent) {
+            for (final Node child : parent.getChildrenUnmodifiable()) {
+                count += countNodes(child);
+            }
+        }
+        return count;
+    }
+}
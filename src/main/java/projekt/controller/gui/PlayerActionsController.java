@@ -1,6 +1,5 @@
 package projekt.controller.gui;
 
-import javafx.application.Platform;
 import javafx.beans.property.Property;
 import javafx.beans.property.SimpleObjectProperty;
 import javafx.event.ActionEvent;
@@ -83,30 +82,31 @@ public class PlayerActionsController implements Controller {
         final Property<PlayerController> playerControllerProperty
     ) {
         this.playerControllerProperty.subscribe((oldValue, newValue) -> {
-            Platform.runLater(() -> {
+            FxMonitor.runLater(() -> {
                 playerObjectiveSubscription.unsubscribe();
                 playerObjectiveSubscription = newValue.getPlayerObjectiveProperty().subscribe((
                                                                                                   oldObjective,
                                                                                                   newObjective
-                                                                                              ) -> Platform.runLater(() -> this.playerObjectiveProperty.setValue(newObjective)));
+                                                                                              ) -> submitObjective(newValue, newObjective));
 
                 playerStateSubscription.unsubscribe();
                 playerStateSubscription = newValue.getPlayerStateProperty().subscribe(
-                    (oldState, newState) -> Platform.runLater(() -> this.playerStateProperty.setValue(newState)));
-                this.playerStateProperty.setValue(newValue.getPlayerStateProperty().getValue());
-                this.playerObjectiveProperty.setValue(newValue.getPlayerObjectiveProperty().getValue());
+                    (oldState, newState) -> submitState(newValue, newState));
+                // replaces updates of the previous player that are still pending
+                submitState(newValue, newValue.getPlayerStateProperty().getValue());
+                submitObjective(newValue, newValue.getPlayerObjectiveProperty().getValue());
             });
         });
         this.gameBoardController = gameBoardController;
         playerControllerProperty.subscribe((oldValue, newValue) -> {
-            Platform.runLater(() -> {
+            FxMonitor.runLater(() -> {
                 if (newValue == null) {
                     return;
                 }
                 this.playerControllerProperty.setValue(newValue);
             });
         });
-        Platform.runLater(() -> {
+        FxMonitor.runLater(() -> {
             this.playerControllerProperty.setValue(playerControllerProperty.getValue());
         });
 
@@ -123,10 +123,40 @@ public class PlayerActionsController implements Controller {
         );
     }
 
+    /**
+     * Submits the given objective of the given player controller to the objective property.
+     * It is dropped when applied if the player controller is no longer the current one.
+     *
+     * @param playerController the player controller the objective belongs to
+     * @param objective        the objective
+     */
+    private void submitObjective(final PlayerController playerController, final PlayerObjective objective) {
+        UpdateBatcher.submit(this.playerObjectiveProperty, "value", () -> {
+            if (this.playerControllerProperty.getValue() == playerController) {
+                this.playerObjectiveProperty.setValue(objective);
+            }
+        });
+    }
+
+    /**
+     * Submits the given state of the given player controller to the state property.
+     * It is dropped when applied if the player controller is no longer the current one.
+     *
+     * @param playerController the player controller the state belongs to
+     * @param state            the state
+     */
+    private void submitState(final PlayerController playerController, final PlayerState state) {
+        UpdateBatcher.submit(this.playerStateProperty, "value", () -> {
+            if (this.playerControllerProperty.getValue() == playerController) {
+                this.playerStateProperty.setValue(state);
+            }
+        });
+    }
+
     /**
      * Updates the UI based on the given objective. This includes enabling and
      * disabling buttons and prompting the user if necessary.
-     * Also redraws the game board and updates the player information.
+     * Also updates the player information. The game board redraws changed elements by itself.
      *
      * @param objective the objective to check
      */
@@ -134,9 +164,6 @@ public class PlayerActionsController implements Controller {
     private void updateUIBasedOnObjective(final PlayerObjective objective) {
         System.out.println("objective: " + objective);
         removeAllHighlights();
-        drawEdges();
-        drawIntersections();
-        getHexGridController().drawTiles();
         builder.disableAllButtons();
         updatePlayerInformation();
 
@@ -347,7 +374,7 @@ public class PlayerActionsController implements Controller {
     @StudentImplementationRequired("H3.1")
     private void buildVillageButtonAction(final ActionEvent event) {
         getPlayerState().buildableVillageIntersections().stream()
-            .map(intersection -> getHexGridController().getIntersectionControllersMap().get(intersection))
+            .map(intersection -> getHexGridController().getIntersectionController(intersection))
             .forEach(ic -> ic.highlight(buildActionWrapper(e -> {
                 getPlayerController().triggerAction(new BuildVillageAction(ic.getIntersection()));
                 drawIntersections();
@@ -382,7 +409,7 @@ public class PlayerActionsController implements Controller {
     @StudentImplementationRequired("H3.1")
     private void upgradeVillageButtonAction(final ActionEvent event) {
         getPlayerState().upgradableVillageIntersections().stream()
-            .map(intersection -> getHexGridController().getIntersectionControllersMap().get(intersection))
+            .map(intersection -> getHexGridController().getIntersectionController(intersection))
             .forEach(ic -> ic.highlight(buildActionWrapper(e -> {
                 getPlayerController().triggerAction(new UpgradeVillageAction(ic.getIntersection()));
                 drawIntersections();
@@ -417,7 +444,7 @@ public class PlayerActionsController implements Controller {
     @StudentImplementationRequired("H3.1")
     private void buildRoadButtonAction(final ActionEvent event) {
         getPlayerState().buildableRoadEdges().stream()
-            .map(edge -> getHexGridController().getEdgeControllersMap().get(edge))
+            .map(edge -> getHexGridController().getEdgeController(edge))
             .forEach(ec -> ec.highlight(buildActionWrapper(e -> {
                 getPlayerController().triggerAction(new BuildRoadAction(ec.getEdge()));
                 drawEdges();
@@ -0,0 +1,134 @@
+package projekt.controller.gui;
+
+import javafx.beans.property.IntegerProperty;
+import javafx.beans.property.SimpleIntegerProperty;
+import javafx.scene.layout.Region;
+import javafx.scene.layout.StackPane;
+import javafx.util.Builder;
+import projekt.controller.journal.JournalEntry;
+import projekt.controller.journal.ReplayTimeline;
+import projekt.model.Player;
+import projekt.view.GameBoardBuilder;
+import projekt.view.ReplayControlsBuilder;
+
+import java.util.Map;
+
+/**
+ * The controller for the replay viewer scene.
+ * <p>
+ * The viewer shows a recorded game on the regular game board and lets the user jump to any action or round.
+ * Every step is restored from the {@link ReplayTimeline} as a new game state, which is shown with a new
+ * {@link HexGridController}. Seeks are coalesced: however many steps are requested before the next
+ * render, e.g. while the slider is dragged, only the last one is restored and drawn.
+ */
+public class ReplayViewerController implements SceneController {
+    private final ReplayTimeline timeline;
+    private final IntegerProperty stepProperty = new SimpleIntegerProperty(0);
+    private final StackPane boardPane = new StackPane();
+    private final ReplayControlsBuilder controlsBuilder;
+    private final GameBoardBuilder gameBoardBuilder;
+    private boolean renderScheduled = false;
+    private HexGridController hexGridController;
+
+    /**
+     * Creates a new replay viewer controller showing the first step of the given timeline.
+     *
+     * @param timeline the timeline of the recorded game
+     */
+    public ReplayViewerController(final ReplayTimeline timeline) {
+        this.timeline = timeline;
+        this.controlsBuilder = new ReplayControlsBuilder(
+            timeline.getLastStep(),
+            stepProperty,
+            this::previousRound,
+            this::nextRound,
+            SceneController::loadMainMenuScene
+        );
+        this.gameBoardBuilder = new GameBoardBuilder(boardPane, controlsBuilder::build);
+        stepProperty.addListener((observable, oldValue, newValue) -> requestRender());
+        render();
+    }
+
+    /**
+     * Jumps to the start of the current round, or to the start of the previous round if already there.
+     */
+    private void previousRound() {
+        final int step = stepProperty.get();
+        final int round = timeline.getRound(step);
+        final int roundStart = timeline.getFirstStep(round);
+        stepProperty.set(roundStart < step || round == 0 ? roundStart : timeline.getFirstStep(round - 1));
+    }
+
+    /**
+     * Jumps to the start of the next round, or to the last step if this is the last round.
+     */
+    private void nextRound() {
+        final int round = timeline.getRound(stepProperty.get());
+        stepProperty.set(round < timeline.getLastRound() ? timeline.getFirstStep(round + 1) : timeline.getLastStep());
+    }
+
+    /**
+     * Schedules the current step to be rendered, unless a render is already pending.
+     */
+    private void requestRender() {
+        if (renderScheduled) {
+            return;
+        }
+        renderScheduled = true;
+        FxMonitor.runLater(this::render);
+    }
+
+    /**
+     * Restores the current step and shows it on the board.
+     * The zoom and position of the previous board are kept.
+     */
+    private void render() {
+        renderScheduled = false;
+        final ReplayTimeline.Step step = timeline.getStep(stepProperty.get());
+        final HexGridController previous = hexGridController;
+        hexGridController = new HexGridController(step.state().getGrid());
+        final Region board = hexGridController.buildView();
+        if (previous != null) {
+            hexGridController.copyViewport(previous);
+        }
+        boardPane.getChildren().setAll(board);
+
+        final Player player = step.activePlayer() != null ? step.activePlayer() : step.state().getPlayers().get(0);
+        gameBoardBuilder.updatePlayerInformation(player, step.state().getPlayers(), Map.of());
+        gameBoardBuilder.setDiceRoll(step.diceRoll());
+        gameBoardBuilder.setRoundCounter(step.round());
+        controlsBuilder.setDescription(String.format(
+            "Step %d / %d: %s",
+            step.step(),
+            timeline.getLastStep(),
+            describe(timeline.getEntry(step.step()))
+        ));
+    }
+
+    /**
+     * Returns a short description of the given record.
+     *
+     * @param entry the record
+     * @return the description
+     */
+    private static String describe(final JournalEntry entry) {
+        if (entry instanceof final JournalEntry.Action action) {
+            return String.format("%s: %s", action.player().getName(), action.action().getClass().getSimpleName());
+        } else if (entry instanceof final JournalEntry.Dice dice) {
+            return String.format("Rolled %d", dice.roll());
+        } else if (entry instanceof final JournalEntry.DevelopmentCard developmentCard) {
+            return String.format("Drew %s", developmentCard.type());
+        }
+        return "Game start";
+    }
+
+    @Override
+    public String getTitle() {
+        return "Replay";
+    }
+
+    @Override
+    public Builder<Region> getBuilder() {
+        return gameBoardBuilder;
+    }
+}
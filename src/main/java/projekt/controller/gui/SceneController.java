@@ -1,8 +1,17 @@
 package projekt.controller.gui;
 
 import javafx.application.Platform;
+import javafx.scene.control.Alert;
+import javafx.stage.FileChooser;
 import javafx.stage.Stage;
 import org.tudalgo.algoutils.student.annotation.DoNotTouch;
+import projekt.Config;
+import projekt.controller.journal.GameJournal;
+import projekt.controller.journal.ReplayTimeline;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
 
 /**
  * The controller for a scene.
@@ -60,6 +69,29 @@ public interface SceneController extends Controller {
         SceneSwitcher.getInstance().loadScene(SceneSwitcher.SceneType.GAME_BOARD);
     }
 
+    /**
+     * Asks for a game journal and loads the replay viewer for it.
+     */
+    static void loadReplayScene() {
+        final FileChooser fileChooser = new FileChooser();
+        fileChooser.setTitle("Open Replay");
+        fileChooser.getExtensionFilters().add(
+            new FileChooser.ExtensionFilter("Game journals", "*" + GameJournal.FILE_EXTENSION)
+        );
+        if (Files.isDirectory(Config.JOURNAL_DIRECTORY)) {
+            fileChooser.setInitialDirectory(Config.JOURNAL_DIRECTORY.toFile());
+        }
+        final File file = fileChooser.showOpenDialog(null);
+        if (file == null) {
+            return;
+        }
+        try {
+            SceneSwitcher.getInstance().loadReplayScene(ReplayTimeline.of(file.toPath()));
+        } catch (final IOException | IllegalArgumentException e) {
+            new Alert(Alert.AlertType.ERROR, String.format("Could not open replay: %s", e.getMessage())).showAndWait();
+        }
+    }
+
     /**
      * Loads the about scene.
      */
@@ -1,9 +1,11 @@
 package projekt.controller.gui;
 
 import javafx.scene.Scene;
+import javafx.scene.layout.StackPane;
 import javafx.stage.Stage;
 import org.tudalgo.algoutils.student.annotation.DoNotTouch;
 import projekt.controller.GameController;
+import projekt.controller.journal.ReplayTimeline;
 
 import java.util.function.Consumer;
 import java.util.function.Supplier;
@@ -17,8 +19,10 @@ import java.util.function.Supplier;
 public class SceneSwitcher {
     private final Stage stage;
     private GameController gameController;
+    private ReplayTimeline replayTimeline;
     private static SceneSwitcher INSTANCE;
     private final Consumer<GameController> gameLoopStarter;
+    private final PerformanceOverlayController performanceOverlayController = new PerformanceOverlayController();
 
     /**
      * Creates a new SceneSwitcher.
@@ -81,6 +85,7 @@ public class SceneSwitcher {
                 getInstance().gameController.getRoundCounterProperty()
             );
         }),
+        REPLAY(() -> new ReplayViewerController(SceneSwitcher.getInstance().replayTimeline)),
         ABOUT(AboutController::new);
 
         private final Supplier<SceneController> controller;
@@ -97,6 +102,7 @@ public class SceneSwitcher {
 
     /**
      * Loads the given {@link SceneType} and shows it on the {@link Stage}.
+     * The scene shows the performance overlay on top of the view of its controller.
      *
      * @param sceneType The type of the scene to load.
      */
@@ -104,10 +110,22 @@ public class SceneSwitcher {
     public void loadScene(final SceneType sceneType) {
         System.out.println("Loading scene: " + sceneType);
         final SceneController controller = sceneType.controller.get();
-        final Scene scene = new Scene(controller.buildView());
+        final Scene scene = new Scene(new StackPane(controller.buildView(), performanceOverlayController.buildView()));
         scene.getStylesheets().add("css/hexmap.css");
+        performanceOverlayController.attach(scene);
+        FxMonitor.startWatchdog();
         stage.setScene(scene);
         stage.setTitle(controller.getTitle());
         stage.show();
     }
+
+    /**
+     * Loads the replay viewer for the given timeline.
+     *
+     * @param timeline The timeline of the game to replay.
+     */
+    public void loadReplayScene(final ReplayTimeline timeline) {
+        this.replayTimeline = timeline;
+        loadScene(SceneType.REPLAY);
+    }
 }
@@ -0,0 +1,80 @@
+package projekt.controller.gui;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * A bounded lock-free queue for exactly one producer thread and one consumer thread.
+ * The producer only writes the tail and the consumer only writes the head, so both sides get along without
+ * locks or compare-and-set; ordered writes publish the slots.
+ *
+ * @param <T> the type of the elements
+ */
+final class SpscRingBuffer<T> {
+    private final AtomicReferenceArray<T> slots;
+    private final int mask;
+    private final AtomicLong head = new AtomicLong();
+    private final AtomicLong tail = new AtomicLong();
+
+    /**
+     * Creates a new ring buffer.
+     *
+     * @param capacity the minimum capacity, rounded up to the next power of two
+     */
+    SpscRingBuffer(final int capacity) {
+        final int size = Integer.highestOneBit(Math.max(1, capacity - 1)) << 1;
+        this.slots = new AtomicReferenceArray<>(size);
+        this.mask = size - 1;
+    }
+
+    /**
+     * Appends the given element, if there is room. Must only be called by the producer.
+     *
+     * @param element the element
+     * @return whether the element was added
+     */
+    boolean offer(final T element) {
+        final long currentTail = tail.get();
+        if (currentTail - head.get() == slots.length()) {
+            return false;
+        }
+        slots.lazySet((int) currentTail & mask, element);
+        tail.lazySet(currentTail + 1);
+        return true;
+    }
+
+    /**
+     * Removes and returns the oldest element. Must only be called by the consumer.
+     *
+     * @return the element, or {@code null} if the buffer is empty
+     */
+    T poll() {
+        final long currentHead = head.get();
+        if (currentHead == tail.get()) {
+            return null;
+        }
+        final int index = (int) currentHead & mask;
+        final T element = slots.get(index);
+        slots.lazySet(index, null);
+        head.lazySet(currentHead + 1);
+        return element;
+    }
+
+    /**
+     * Returns the number of elements in the buffer. The result may be outdated as soon as it is returned.
+     *
+     * @return the number of elements
+     */
+    int size() {
+        return (int) (tail.get() - head.get());
+    }
+
+    /**
+     * Returns the capacity of the buffer.
+     *
+     * @return the capacity
+     */
+    int capacity() {
+        return slots.length();
+    }
+}
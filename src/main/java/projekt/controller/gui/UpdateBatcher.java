@@ -0,0 +1,148 @@
+package projekt.controller.gui;
+
+import javafx.animation.AnimationTimer;
+import javafx.application.Platform;
+import projekt.Config;
+
+import java.util.ArrayDeque;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Collects updates of the UI from any thread and applies them on the FX application thread once per frame.
+ * <p>
+ * Updates are keyed by the object they change and the aspect of it they set, for example the highlight of an
+ * intersection. A newer update replaces a pending update with the same key, so however fast the game changes,
+ * the UI only applies the latest state of every element at display rate and intermediate states are dropped.
+ * <p>
+ * Keys of updates from other threads are passed to the FX thread through a bounded {@link SpscRingBuffer}
+ * with room for {@link Config#UI_UPDATE_CAPACITY} keys; since each key is in it at most once, it only fills up
+ * if that many different elements change within a frame, and the submitting thread then waits until the UI
+ * catches up. Other threads are expected to be the single game thread; concurrent producers are serialized.
+ * Updates from the FX thread itself are applied in the next frame as well.
+ * <p>
+ * The frame timer only runs while updates are pending. Updates of different keys are applied in the order
+ * their keys were first submitted in since the last frame. While the {@link FxMonitor} tracks tasks, updates are
+ * timed with the method that submitted them.
+ */
+public final class UpdateBatcher {
+    private static final long PRODUCER_WAIT_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+    private static final Map<Object, Runnable> LATEST = new ConcurrentHashMap<>();
+    private static final SpscRingBuffer<Object> CHANNEL = new SpscRingBuffer<>(Config.UI_UPDATE_CAPACITY);
+    private static final Object PRODUCER_LOCK = new Object();
+    private static final AtomicBoolean ACTIVE = new AtomicBoolean();
+    // only accessed on the FX application thread
+    private static final Queue<Object> FX_KEYS = new ArrayDeque<>();
+    private static AnimationTimer timer;
+
+    private UpdateBatcher() {}
+
+    /**
+     * Submits an update that replaces any pending update of the same aspect of the same target.
+     *
+     * @param target the object the update changes
+     * @param aspect the part of the object the update sets
+     * @param update the update
+     */
+    public static void submit(final Object target, final String aspect, final Runnable update) {
+        enqueue(new Key(target, aspect), FxMonitor.track(update, aspect));
+    }
+
+    /**
+     * Submits an update that is always applied.
+     *
+     * @param update the update
+     */
+    public static void submit(final Runnable update) {
+        enqueue(new Object(), FxMonitor.track(update, null));
+    }
+
+    /**
+     * Returns the number of updates waiting for the next frame.
+     *
+     * @return the number of pending updates
+     */
+    public static int getPendingCount() {
+        return LATEST.size();
+    }
+
+    private static void enqueue(final Object key, final Runnable update) {
+        if (LATEST.put(key, update) != null) {
+            // the key is still queued and will pick up the new update
+            return;
+        }
+        if (Platform.isFxApplicationThread()) {
+            FX_KEYS.add(key);
+        } else {
+            synchronized (PRODUCER_LOCK) {
+                while (!CHANNEL.offer(key)) {
+                    LockSupport.parkNanos(PRODUCER_WAIT_NANOS);
+                }
+            }
+        }
+        if (ACTIVE.compareAndSet(false, true)) {
+            Platform.runLater(UpdateBatcher::startTimer);
+        }
+    }
+
+    private static void startTimer() {
+        if (timer == null) {
+            timer = new AnimationTimer() {
+                @Override
+                public void handle(final long now) {
+                    applyPending();
+                }
+            };
+        }
+        timer.start();
+    }
+
+    /**
+     * Applies the updates of all keys queued before this frame and stops the timer if nothing is left.
+     * Updates submitted while applying are left for the next frame.
+     */
+    private static void applyPending() {
+        for (int count = CHANNEL.size(); count > 0; count--) {
+            apply(CHANNEL.poll());
+        }
+        for (int count = FX_KEYS.size(); count > 0; count--) {
+            apply(FX_KEYS.poll());
+        }
+        if (CHANNEL.size() == 0 && FX_KEYS.isEmpty()) {
+            timer.stop();
+            ACTIVE.set(false);
+            // a producer may have queued a key after the check without starting the timer
+            if (CHANNEL.size() > 0 && ACTIVE.compareAndSet(false, true)) {
+                timer.start();
+            }
+        }
+    }
+
+    /**
+     * Applies the latest update of the given key. An update that throws does not keep the following ones from
+     * being applied.
+     */
+    private static void apply(final Object key) {
+        final Runnable update = LATEST.remove(key);
+        if (update == null) {
+            return;
+        }
+        try {
+            update.run();
+        } catch (final RuntimeException e) {
+            Thread.currentThread().getUncaughtExceptionHandler().uncaughtException(Thread.currentThread(), e);
+        }
+    }
+
+    /**
+     * The key of a replaceable update.
+     *
+     * @param target the object the update changes
+     * @param aspect the part of the object the update sets
+     */
+    private record Key(Object target, String aspect) {}
+}
@@ -1,7 +1,9 @@
 package projekt.controller.gui.tiles;
 
 import projekt.controller.gui.Controller;
+import projekt.controller.gui.UpdateBatcher;
 import projekt.model.tiles.Tile;
+import projekt.view.HexGridView;
 import projekt.view.tiles.TileBuilder;
 
 import java.util.function.Consumer;
@@ -10,7 +12,9 @@ import java.util.function.Consumer;
  * The controller for a tile.
  */
 public class TileController implements Controller {
-    private final TileBuilder builder;
+    private final Tile tile;
+    private final HexGridView view;
+    private TileBuilder builder;
 
     /**
      * Creates a new tile controller.
@@ -18,7 +22,21 @@ public class TileController implements Controller {
      * @param tile the tile to render
      */
     public TileController(final Tile tile) {
-        builder = new TileBuilder(tile);
+        this(tile, null);
+    }
+
+    /**
+     * Creates a new tile controller for a tile that is drawn by the given view of its hex grid.
+     *
+     * @param tile the tile to render
+     * @param view the view of the hex grid the tile is drawn by, or {@code null} to render it with its own node
+     */
+    public TileController(final Tile tile, final HexGridView view) {
+        this.tile = tile;
+        this.view = view;
+        if (view == null) {
+            builder = new TileBuilder(tile);
+        }
     }
 
     /**
@@ -27,7 +45,7 @@ public class TileController implements Controller {
      * @return the tile
      */
     public Tile getTile() {
-        return builder.getTile();
+        return tile;
     }
 
     /**
@@ -36,18 +54,33 @@ public class TileController implements Controller {
      * @param handler the handler to call when the tile is clicked
      */
     public void highlight(final Consumer<Tile> handler) {
-        builder.highlight(() -> handler.accept(getTile()));
+        if (view != null) {
+            UpdateBatcher.submit(tile, "highlight", () -> view.highlightTile(tile, () -> handler.accept(tile)));
+        } else {
+            builder.highlight(() -> handler.accept(getTile()));
+        }
     }
 
     /**
      * Unhighlights the tile.
      */
     public void unhighlight() {
-        builder.unhighlight();
+        if (view != null) {
+            UpdateBatcher.submit(tile, "highlight", () -> view.unhighlightTile(tile));
+        } else {
+            builder.unhighlight();
+        }
     }
 
+    /**
+     * {@inheritDoc}
+     * If the tile is drawn by a view of its hex grid, the builder is only created on the first call.
+     */
     @Override
     public TileBuilder getBuilder() {
+        if (builder == null) {
+            builder = new TileBuilder(tile);
+        }
         return builder;
     }
 }
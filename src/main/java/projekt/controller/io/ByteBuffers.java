@@ -0,0 +1,119 @@
+package projekt.controller.io;
+
+import javafx.scene.paint.Color;
+import projekt.model.TilePosition;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Helpers to store model values in the binary formats of journals, snapshots, the columnar export and the
+ * game index.
+ * Tile positions take one byte per coordinate, which limits grids to a radius of 127.
+ */
+public final class ByteBuffers {
+    private ByteBuffers() {}
+
+    /**
+     * Writes the given position to the buffer.
+     *
+     * @param buffer   the buffer to write to
+     * @param position the position to write
+     */
+    public static void putPosition(final ByteBuffer buffer, final TilePosition position) {
+        buffer.put((byte) position.q());
+        buffer.put((byte) position.r());
+    }
+
+    /**
+     * Reads a position written by {@link #putPosition(ByteBuffer, TilePosition)} from the buffer.
+     *
+     * @param buffer the buffer to read from
+     * @return the position
+     */
+    public static TilePosition getPosition(final ByteBuffer buffer) {
+        return new TilePosition(buffer.get(), buffer.get());
+    }
+
+    /**
+     * Writes the given non-negative number to the buffer as a varint:
+     * seven bits per byte, least significant group first, with the high bit marking that more bytes follow.
+     * Numbers below 128 take a single byte.
+     *
+     * @param buffer the buffer to write to
+     * @param value  the number to write
+     */
+    public static void putVarInt(final ByteBuffer buffer, final int value) {
+        int remaining = value;
+        while ((remaining & ~0x7F) != 0) {
+            buffer.put((byte) (remaining & 0x7F | 0x80));
+            remaining >>>= 7;
+        }
+        buffer.put((byte) remaining);
+    }
+
+    /**
+     * Reads a number written by {@link #putVarInt(ByteBuffer, int)} from the buffer.
+     *
+     * @param buffer the buffer to read from
+     * @return the number
+     */
+    public static int getVarInt(final ByteBuffer buffer) {
+        int value = 0;
+        int shift = 0;
+        byte b;
+        do {
+            b = buffer.get();
+            value |= (b & 0x7F) << shift;
+            shift += 7;
+        } while (b < 0);
+        return value;
+    }
+
+    /**
+     * Returns the given color as 32-bit RGBA.
+     *
+     * @param color the color
+     * @return the RGBA value of the color
+     */
+    public static int toRgba(final Color color) {
+        return (int) Math.round(color.getRed() * 255) << 24
+            | (int) Math.round(color.getGreen() * 255) << 16
+            | (int) Math.round(color.getBlue() * 255) << 8
+            | (int) Math.round(color.getOpacity() * 255);
+    }
+
+    /**
+     * Returns the color for the given 32-bit RGBA value.
+     *
+     * @param rgba the RGBA value
+     * @return the color
+     */
+    public static Color fromRgba(final int rgba) {
+        return Color.rgb(rgba >>> 24, rgba >>> 16 & 0xFF, rgba >>> 8 & 0xFF, (rgba & 0xFF) / 255.0);
+    }
+
+    /**
+     * Writes the given string to the buffer as its UTF-8 length followed by its UTF-8 bytes.
+     *
+     * @param buffer the buffer to write to
+     * @param string the string to write
+     */
+    public static void putString(final ByteBuffer buffer, final String string) {
+        final byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+        buffer.putShort((short) bytes.length);
+        buffer.put(bytes);
+    }
+
+    /**
+     * Reads a string written by {@link #putString(ByteBuffer, String)} from the buffer.
+     *
+     * @param buffer the buffer to read from
+     * @return the string
+     */
+    public static String getString(final ByteBuffer buffer) {
+        final byte[] bytes = new byte[buffer.getShort()];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
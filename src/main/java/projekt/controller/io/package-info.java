@@ -0,0 +1,4 @@
+/**
+ * Contains helpers shared by the binary file formats of the game.
+ */
+package projekt.controller.io;
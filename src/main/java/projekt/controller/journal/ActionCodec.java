@@ -0,0 +1,196 @@
+package projekt.controller.journal;
+
+import projekt.controller.actions.AcceptTradeAction;
+import projekt.controller.actions.BuildRoadAction;
+import projekt.controller.actions.BuildVillageAction;
+import projekt.controller.actions.BuyDevelopmentCardAction;
+import projekt.controller.actions.EndTurnAction;
+import projekt.controller.actions.PlayDevelopmentCardAction;
+import projekt.controller.actions.PlayerAction;
+import projekt.controller.actions.PostTradeOrderAction;
+import projekt.controller.actions.RollDiceAction;
+import projekt.controller.actions.SelectCardsAction;
+import projekt.controller.actions.SelectRobberTileAction;
+import projekt.controller.actions.StealCardAction;
+import projekt.controller.actions.TradeAction;
+import projekt.controller.actions.UpgradeVillageAction;
+import projekt.controller.io.ByteBuffers;
+import projekt.model.DevelopmentCardType;
+import projekt.model.GameState;
+import projekt.model.Player;
+import projekt.model.ResourceType;
+import projekt.model.TradePayload;
+
+import java.nio.ByteBuffer;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Encodes {@link PlayerAction}s to bytes and back.
+ * <p>
+ * Every action starts with a one byte tag, followed by its fields. Tiles, intersections and edges are
+ * stored by their dense {@link BoardIndex} id and players by their id, both as varints.
+ * Resource maps are stored as a bit mask of the contained resource types followed by one varint per
+ * contained amount, so an empty map takes a single byte. Most actions take two to four bytes.
+ * Decoding resolves all references against the game state the codec was created for.
+ */
+public final class ActionCodec {
+    /**
+     * The maximum number of bytes a single encoded action takes.
+     */
+    public static final int MAX_ACTION_SIZE = 64;
+
+    private static final byte ACCEPT_TRADE = 0;
+    private static final byte BUILD_ROAD = 1;
+    private static final byte BUILD_VILLAGE = 2;
+    private static final byte BUY_DEVELOPMENT_CARD = 3;
+    private static final byte END_TURN = 4;
+    private static final byte PLAY_DEVELOPMENT_CARD = 5;
+    private static final byte POST_TRADE_ORDER = 6;
+    private static final byte ROLL_DICE = 7;
+    private static final byte SELECT_CARDS = 8;
+    private static final byte SELECT_ROBBER_TILE = 9;
+    private static final byte STEAL_CARD = 10;
+    private static final byte TRADE = 11;
+    private static final byte UPGRADE_VILLAGE = 12;
+
+    private static final ResourceType[] RESOURCE_TYPES = ResourceType.values();
+    private static final DevelopmentCardType[] DEVELOPMENT_CARD_TYPES = DevelopmentCardType.values();
+
+    private final BoardIndex board;
+    private final Player[] playersById;
+
+    /**
+     * Creates a new codec for the given game state.
+     *
+     * @param state the game state to resolve board elements and players in
+     */
+    public ActionCodec(final GameState state) {
+        this.board = new BoardIndex(state.getGrid());
+        this.playersById = new Player[state.getPlayers().stream().mapToInt(Player::getID).max().orElse(0) + 1];
+        state.getPlayers().forEach(player -> playersById[player.getID()] = player);
+    }
+
+    /**
+     * Writes the given action to the buffer.
+     *
+     * @param buffer the buffer to write to
+     * @param action the action to write
+     * @throws IllegalArgumentException if the action type is unknown
+     */
+    public void encode(final ByteBuffer buffer, final PlayerAction action) {
+        if (action instanceof final AcceptTradeAction accept) {
+            buffer.put(ACCEPT_TRADE);
+            buffer.put((byte) (accept.accepted() ? 1 : 0));
+        } else if (action instanceof final BuildRoadAction buildRoad) {
+            buffer.put(BUILD_ROAD);
+            ByteBuffers.putVarInt(buffer, board.getId(buildRoad.edge()));
+        } else if (action instanceof final BuildVillageAction buildVillage) {
+            buffer.put(BUILD_VILLAGE);
+            ByteBuffers.putVarInt(buffer, board.getId(buildVillage.intersection()));
+        } else if (action instanceof BuyDevelopmentCardAction) {
+            buffer.put(BUY_DEVELOPMENT_CARD);
+        } else if (action instanceof EndTurnAction) {
+            buffer.put(END_TURN);
+        } else if (action instanceof final PlayDevelopmentCardAction play) {
+            buffer.put(PLAY_DEVELOPMENT_CARD);
+            buffer.put((byte) play.developmentCard().ordinal());
+        } else if (action instanceof final PostTradeOrderAction order) {
+            buffer.put(POST_TRADE_ORDER);
+            putResources(buffer, order.give());
+            putResources(buffer, order.receive());
+            ByteBuffers.putVarInt(buffer, order.duration());
+        } else if (action instanceof RollDiceAction) {
+            buffer.put(ROLL_DICE);
+        } else if (action instanceof final SelectCardsAction select) {
+            buffer.put(SELECT_CARDS);
+            putResources(buffer, select.selectedCards());
+        } else if (action instanceof final SelectRobberTileAction robber) {
+            buffer.put(SELECT_ROBBER_TILE);
+            ByteBuffers.putVarInt(buffer, board.getId(robber.tilePosition()));
+        } else if (action instanceof final StealCardAction steal) {
+            buffer.put(STEAL_CARD);
+            buffer.put((byte) steal.resourceToSteal().ordinal());
+            ByteBuffers.putVarInt(buffer, steal.playerToStealFrom().getID());
+        } else if (action instanceof final TradeAction trade) {
+            buffer.put(TRADE);
+            putResources(buffer, trade.payload().offer());
+            putResources(buffer, trade.payload().request());
+            buffer.put((byte) (trade.payload().withBank() ? 1 : 0));
+            ByteBuffers.putVarInt(buffer, trade.payload().player() == null ? 0 : trade.payload().player().getID());
+        } else if (action instanceof final UpgradeVillageAction upgrade) {
+            buffer.put(UPGRADE_VILLAGE);
+            ByteBuffers.putVarInt(buffer, board.getId(upgrade.intersection()));
+        } else {
+            throw new IllegalArgumentException("Unknown action type: " + action.getClass().getName());
+        }
+    }
+
+    /**
+     * Reads an action written by {@link #encode(ByteBuffer, PlayerAction)} from the buffer.
+     *
+     * @param buffer the buffer to read from
+     * @return the action
+     * @throws IllegalArgumentException if the tag is unknown
+     */
+    public PlayerAction decode(final ByteBuffer buffer) {
+        final byte tag = buffer.get();
+        return switch (tag) {
+            case ACCEPT_TRADE -> new AcceptTradeAction(buffer.get() != 0);
+            case BUILD_ROAD -> new BuildRoadAction(board.getEdge(ByteBuffers.getVarInt(buffer)));
+            case BUILD_VILLAGE -> new BuildVillageAction(board.getIntersection(ByteBuffers.getVarInt(buffer)));
+            case BUY_DEVELOPMENT_CARD -> new BuyDevelopmentCardAction();
+            case END_TURN -> new EndTurnAction();
+            case PLAY_DEVELOPMENT_CARD -> new PlayDevelopmentCardAction(DEVELOPMENT_CARD_TYPES[buffer.get()]);
+            case POST_TRADE_ORDER -> new PostTradeOrderAction(getResources(buffer), getResources(buffer), ByteBuffers.getVarInt(buffer));
+            case ROLL_DICE -> new RollDiceAction();
+            case SELECT_CARDS -> new SelectCardsAction(getResources(buffer));
+            case SELECT_ROBBER_TILE -> new SelectRobberTileAction(board.getTile(ByteBuffers.getVarInt(buffer)));
+            case STEAL_CARD -> new StealCardAction(RESOURCE_TYPES[buffer.get()], getPlayer(ByteBuffers.getVarInt(buffer)));
+            case TRADE -> {
+                final Map<ResourceType, Integer> offer = getResources(buffer);
+                final Map<ResourceType, Integer> request = getResources(buffer);
+                final boolean withBank = buffer.get() != 0;
+                yield new TradeAction(new TradePayload(offer, request, withBank, getPlayer(ByteBuffers.getVarInt(buffer))));
+            }
+            case UPGRADE_VILLAGE -> new UpgradeVillageAction(board.getIntersection(ByteBuffers.getVarInt(buffer)));
+            default -> throw new IllegalArgumentException("Unknown action tag: " + tag);
+        };
+    }
+
+    /**
+     * Returns the player with the given id.
+     *
+     * @param id the id of the player
+     * @return the player or {@code null} if there is none
+     */
+    Player getPlayer(final int id) {
+        return id < playersById.length ? playersById[id] : null;
+    }
+
+    private static void putResources(final ByteBuffer buffer, final Map<ResourceType, Integer> resources) {
+        int mask = 0;
+        for (final ResourceType resourceType : RESOURCE_TYPES) {
+            if (resources.getOrDefault(resourceType, 0) != 0) {
+                mask |= 1 << resourceType.ordinal();
+            }
+        }
+        buffer.put((byte) mask);
+        for (final ResourceType resourceType : RESOURCE_TYPES) {
+            if ((mask & 1 << resourceType.ordinal()) != 0) {
+                ByteBuffers.putVarInt(buffer, resources.get(resourceType));
+            }
+        }
+    }
+
+    private static Map<ResourceType, Integer> getResources(final ByteBuffer buffer) {
+        final Map<ResourceType, Integer> resources = new EnumMap<>(ResourceType.class);
+        final int mask = buffer.get();
+        for (final ResourceType resourceType : RESOURCE_TYPES) {
+            if ((mask & 1 << resourceType.ordinal()) != 0) {
+                resources.put(resourceType, ByteBuffers.getVarInt(buffer));
+            }
+        }
+        return resources;
+    }
+}
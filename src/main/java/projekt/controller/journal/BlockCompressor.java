@@ -0,0 +1,151 @@
+package projekt.controller.journal;
+
+import java.util.Arrays;
+
+/**
+ * A small LZ77 block compressor in the style of LZ4.
+ * <p>
+ * A compressed block is a sequence of sequences. Each sequence starts with a token byte whose high
+ * nibble is the number of literals and whose low nibble is the match length minus {@value #MIN_MATCH}.
+ * A nibble of 15 is followed by extra length bytes that are added until one is below 255.
+ * The literals follow, then the match as a two byte little-endian offset back into the output and the
+ * extra match length bytes. The last sequence has literals only.
+ * Matches are found with a single-entry hash table of four byte prefixes, which favors speed over ratio.
+ * Journal records repeat the same few tags and ids, so blocks typically shrink to half their size or less.
+ */
+public final class BlockCompressor {
+    private static final int MIN_MATCH = 4;
+    private static final int LAST_LITERALS = 5;
+    private static final int HASH_BITS = 12;
+    private static final int MAX_OFFSET = 0xFFFF;
+
+    private BlockCompressor() {}
+
+    /**
+     * Compresses the first {@code length} bytes of the given array.
+     *
+     * @param source the bytes to compress
+     * @param length the number of bytes to compress
+     * @return the compressed block
+     */
+    public static byte[] compress(final byte[] source, final int length) {
+        final byte[] target = new byte[length + length / 255 + 16];
+        final int[] table = new int[1 << HASH_BITS];
+        Arrays.fill(table, -1);
+        int position = 0;
+        int anchor = 0;
+        int written = 0;
+        final int matchLimit = length - LAST_LITERALS - MIN_MATCH;
+        while (position <= matchLimit) {
+            final int sequence = readInt(source, position);
+            final int hash = sequence * 0x9E3779B1 >>> 32 - HASH_BITS;
+            final int candidate = table[hash];
+            table[hash] = position;
+            if (candidate < 0 || position - candidate > MAX_OFFSET || readInt(source, candidate) != sequence) {
+                position++;
+                continue;
+            }
+            int matchLength = MIN_MATCH;
+            while (position + matchLength < length - LAST_LITERALS
+                && source[candidate + matchLength] == source[position + matchLength]) {
+                matchLength++;
+            }
+            written = writeSequence(target, written, source, anchor, position - anchor, position - candidate, matchLength);
+            position += matchLength;
+            anchor = position;
+        }
+        written = writeSequence(target, written, source, anchor, length - anchor, 0, 0);
+        return Arrays.copyOf(target, written);
+    }
+
+    /**
+     * Decompresses a block written by {@link #compress(byte[], int)}.
+     *
+     * @param source         the array containing the block
+     * @param offset         the offset of the block in the array
+     * @param originalLength the length of the uncompressed data
+     * @return the uncompressed data
+     * @throws IllegalArgumentException if the block is malformed
+     */
+    public static byte[] decompress(final byte[] source, final int offset, final int originalLength) {
+        final byte[] target = new byte[originalLength];
+        int position = offset;
+        int written = 0;
+        try {
+            while (true) {
+                final int token = source[position++] & 0xFF;
+                int literalLength = token >>> 4;
+                if (literalLength == 15) {
+                    int extra;
+                    do {
+                        extra = source[position++] & 0xFF;
+                        literalLength += extra;
+                    } while (extra == 255);
+                }
+                System.arraycopy(source, position, target, written, literalLength);
+                position += literalLength;
+                written += literalLength;
+                if (written >= originalLength) {
+                    return target;
+                }
+                final int matchOffset = source[position++] & 0xFF | (source[position++] & 0xFF) << 8;
+                int matchLength = token & 0x0F;
+                if (matchLength == 15) {
+                    int extra;
+                    do {
+                        extra = source[position++] & 0xFF;
+                        matchLength += extra;
+                    } while (extra == 255);
+                }
+                matchLength += MIN_MATCH;
+                // byte by byte, because a match may overlap the bytes it produces
+                for (int i = 0; i < matchLength; i++) {
+                    target[written + i] = target[written - matchOffset + i];
+                }
+                written += matchLength;
+            }
+        } catch (final IndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("Malformed compressed block", e);
+        }
+    }
+
+    private static int writeSequence(
+        final byte[] target, final int offset, final byte[] source, final int literalStart,
+        final int literalLength, final int matchOffset, final int matchLength
+    ) {
+        final int tokenPosition = offset;
+        int written = writeExtraLength(target, offset + 1, literalLength);
+        System.arraycopy(source, literalStart, target, written, literalLength);
+        written += literalLength;
+        int token = Math.min(literalLength, 15) << 4;
+        if (matchOffset > 0) {
+            target[written++] = (byte) matchOffset;
+            target[written++] = (byte) (matchOffset >>> 8);
+            token |= Math.min(matchLength - MIN_MATCH, 15);
+            written = writeExtraLength(target, written, matchLength - MIN_MATCH);
+        }
+        target[tokenPosition] = (byte) token;
+        return written;
+    }
+
+    private static int writeExtraLength(final byte[] target, final int offset, final int length) {
+        if (length < 15) {
+            return offset;
+        }
+        int written = offset;
+        int remaining = length - 15;
+        while (remaining >= 255) {
+            target[written++] = (byte) 255;
+            remaining -= 255;
+        }
+        target[written++] = (byte) remaining;
+        return written;
+    }
+
+    private static int readInt(final byte[] source, final int offset) {
+        return source[offset] & 0xFF
+            | (source[offset + 1] & 0xFF) << 8
+            | (source[offset + 2] & 0xFF) << 16
+            | (source[offset + 3] & 0xFF) << 24;
+    }
+}
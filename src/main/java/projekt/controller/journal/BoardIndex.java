@@ -0,0 +1,106 @@
+package projekt.controller.journal;
+
+import projekt.model.HexGrid;
+import projekt.model.Intersection;
+import projekt.model.TilePosition;
+import projekt.model.buildings.Edge;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Assigns dense ids to the tiles, intersections and edges of a grid.
+ * Ids follow a canonical order of the elements' tile positions, so every grid of the same radius
+ * gets the same ids regardless of how its maps are ordered. On a radius-3 board every id fits in a single varint byte.
+ */
+final class BoardIndex {
+    private static final Comparator<TilePosition> POSITION_ORDER =
+        Comparator.comparingInt(TilePosition::q).thenComparingInt(TilePosition::r);
+
+    private final TilePosition[] tiles;
+    private final Intersection[] intersections;
+    private final Edge[] edges;
+    private final Map<TilePosition, Integer> tileIds = new HashMap<>();
+    private final Map<Set<TilePosition>, Integer> intersectionIds = new HashMap<>();
+    private final Map<Set<TilePosition>, Integer> edgeIds = new HashMap<>();
+
+    /**
+     * Creates a new index of the given grid.
+     *
+     * @param grid the grid
+     */
+    BoardIndex(final HexGrid grid) {
+        this.tiles = grid.getTiles().keySet().stream().sorted(POSITION_ORDER).toArray(TilePosition[]::new);
+        this.intersections = grid.getIntersections().values().stream()
+            .sorted(Comparator.comparingLong(intersection -> sortKey(intersection.getAdjacentTilePositions())))
+            .toArray(Intersection[]::new);
+        this.edges = grid.getEdges().values().stream()
+            .sorted(Comparator.comparingLong(edge -> sortKey(edge.getAdjacentTilePositions())))
+            .toArray(Edge[]::new);
+        for (int i = 0; i < tiles.length; i++) {
+            tileIds.put(tiles[i], i);
+        }
+        for (int i = 0; i < intersections.length; i++) {
+            intersectionIds.put(intersections[i].getAdjacentTilePositions(), i);
+        }
+        for (int i = 0; i < edges.length; i++) {
+            edgeIds.put(edges[i].getAdjacentTilePositions(), i);
+        }
+    }
+
+    /**
+     * Returns a key that orders sets of the same size by their sorted positions.
+     * Each position takes 16 bits, so the key holds up to four positions with coordinates in byte range.
+     *
+     * @param positions the positions
+     * @return the key
+     */
+    private static long sortKey(final Set<TilePosition> positions) {
+        final TilePosition[] sorted = positions.toArray(TilePosition[]::new);
+        Arrays.sort(sorted, POSITION_ORDER);
+        long key = 0;
+        for (final TilePosition position : sorted) {
+            key = key << 16 | (position.q() + 128) << 8 | position.r() + 128;
+        }
+        return key;
+    }
+
+    int getId(final TilePosition tile) {
+        return tileIds.get(tile);
+    }
+
+    int getId(final Intersection intersection) {
+        return intersectionIds.get(intersection.getAdjacentTilePositions());
+    }
+
+    int getId(final Edge edge) {
+        return edgeIds.get(edge.getAdjacentTilePositions());
+    }
+
+    int getTileCount() {
+        return tiles.length;
+    }
+
+    int getIntersectionCount() {
+        return intersections.length;
+    }
+
+    int getEdgeCount() {
+        return edges.length;
+    }
+
+    TilePosition getTile(final int id) {
+        return tiles[id];
+    }
+
+    Intersection getIntersection(final int id) {
+        return intersections[id];
+    }
+
+    Edge getEdge(final int id) {
+        return edges[id];
+    }
+}
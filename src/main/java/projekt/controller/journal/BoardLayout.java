@@ -0,0 +1,187 @@
+package projekt.controller.journal;
+
+import projekt.controller.io.ByteBuffers;
+import projekt.model.HexGrid;
+import projekt.model.HexGridImpl;
+import projekt.model.ResourceType;
+import projekt.model.TilePosition;
+import projekt.model.buildings.Edge;
+import projekt.model.buildings.Port;
+import projekt.model.tiles.Tile;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The static layout of a {@link HexGrid}: its radius, the type and roll number of every tile and its ports.
+ * Tiles are listed in the spiral order {@link HexGridImpl} creates them in, so a layout recreates
+ * exactly the same grid without relying on a random source.
+ *
+ * @param radius      the radius of the grid, center is included
+ * @param tileTypes   the type of each tile in spiral order
+ * @param rollNumbers the roll number of each tile in spiral order, {@code 0} for tiles without resources
+ * @param ports       the ports, keyed by the positions of the edge they are on
+ */
+public record BoardLayout(
+    int radius,
+    List<Tile.Type> tileTypes,
+    List<Integer> rollNumbers,
+    Map<Set<TilePosition>, Port> ports
+) {
+    private static final int NO_RESOURCE = 0xFF;
+
+    /**
+     * Creates a new layout with unmodifiable copies of the given values.
+     */
+    public BoardLayout {
+        tileTypes = List.copyOf(tileTypes);
+        rollNumbers = List.copyOf(rollNumbers);
+        ports = Map.copyOf(ports);
+    }
+
+    /**
+     * Returns the layout of the given grid.
+     *
+     * @param grid the grid
+     * @return the layout of the grid
+     */
+    public static BoardLayout of(final HexGrid grid) {
+        final TilePosition center = new TilePosition(0, 0);
+        final int radius = grid.getTiles().keySet().stream()
+            .mapToInt(position -> Math.max(Math.abs(position.q()), Math.max(Math.abs(position.r()), Math.abs(position.s()))))
+            .max()
+            .orElse(-1) + 1;
+        final List<Tile.Type> tileTypes = new ArrayList<>();
+        final List<Integer> rollNumbers = new ArrayList<>();
+        TilePosition.forEachSpiral(center, radius, (position, params) -> {
+            final Tile tile = grid.getTileAt(position);
+            tileTypes.add(tile.getType());
+            rollNumbers.add(tile.getRollNumber());
+        });
+        final Map<Set<TilePosition>, Port> ports = new HashMap<>();
+        for (final Map.Entry<Set<TilePosition>, Edge> entry : grid.getEdges().entrySet()) {
+            if (entry.getValue().hasPort()) {
+                ports.put(entry.getKey(), entry.getValue().getPort());
+            }
+        }
+        return new BoardLayout(radius, tileTypes, rollNumbers, ports);
+    }
+
+    /**
+     * Creates a new grid with this layout.
+     *
+     * @return the new grid
+     */
+    public HexGrid createGrid() {
+        final Iterator<Tile.Type> types = tileTypes.iterator();
+        final Iterator<Integer> rolls = rollNumbers.iterator();
+        return new HexGridImpl(
+            radius,
+            () -> {
+                int rollNumber = rolls.next();
+                while (rollNumber == 0) {
+                    rollNumber = rolls.next();
+                }
+                return rollNumber;
+            },
+            types::next,
+            (position, direction) -> ports.get(Set.of(position, TilePosition.neighbour(position, direction)))
+        );
+    }
+
+    /**
+     * Writes this layout to the given buffer.
+     * Roll numbers are stored as single bytes and positions as described in {@link ByteBuffers}.
+     *
+     * @param buffer the buffer to write to
+     */
+    public void write(final ByteBuffer buffer) {
+        buffer.put((byte) radius);
+        buffer.putShort((short) tileTypes.size());
+        for (int i = 0; i < tileTypes.size(); i++) {
+            buffer.put((byte) tileTypes.get(i).ordinal());
+            buffer.put(rollNumbers.get(i).byteValue());
+        }
+        buffer.putShort((short) ports.size());
+        for (final Map.Entry<Set<TilePosition>, Port> entry : ports.entrySet()) {
+            for (final TilePosition position : entry.getKey()) {
+                ByteBuffers.putPosition(buffer, position);
+            }
+            buffer.put((byte) entry.getValue().ratio());
+            buffer.put((byte) (entry.getValue().resourceType() == null
+                ? NO_RESOURCE
+                : entry.getValue().resourceType().ordinal()));
+        }
+    }
+
+    /**
+     * Returns a 64-bit hash of this layout that is the same for equal layouts in every run,
+     * unlike {@link #hashCode()}, whose port order depends on the iteration order of the port map.
+     *
+     * @return the hash of this layout
+     */
+    public long stableHash() {
+        long hash = mix(radius);
+        for (int i = 0; i < tileTypes.size(); i++) {
+            hash = mix(hash ^ tileTypes.get(i).ordinal() << 8 ^ rollNumbers.get(i));
+        }
+        long portHash = 0;
+        for (final Map.Entry<Set<TilePosition>, Port> entry : ports.entrySet()) {
+            long edgeHash = 0;
+            for (final TilePosition position : entry.getKey()) {
+                edgeHash += mix((long) position.q() << 32 ^ position.r() & 0xFFFFFFFFL);
+            }
+            final ResourceType resourceType = entry.getValue().resourceType();
+            portHash += mix(edgeHash ^ entry.getValue().ratio() << 8 ^ (resourceType == null ? NO_RESOURCE : resourceType.ordinal()));
+        }
+        return mix(hash ^ portHash);
+    }
+
+    /**
+     * Scrambles the bits of the given value with the finalizer of the SplitMix64 generator.
+     *
+     * @param value the value
+     * @return the scrambled value
+     */
+    private static long mix(final long value) {
+        long z = value + 0x9E3779B97F4A7C15L;
+        z = (z ^ z >>> 30) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ z >>> 27) * 0x94D049BB133111EBL;
+        return z ^ z >>> 31;
+    }
+
+    /**
+     * Reads a layout written by {@link #write(ByteBuffer)} from the given buffer.
+     *
+     * @param buffer the buffer to read from
+     * @return the layout
+     */
+    public static BoardLayout read(final ByteBuffer buffer) {
+        final int radius = buffer.get();
+        final int tileCount = buffer.getShort();
+        final List<Tile.Type> tileTypes = new ArrayList<>(tileCount);
+        final List<Integer> rollNumbers = new ArrayList<>(tileCount);
+        for (int i = 0; i < tileCount; i++) {
+            tileTypes.add(Tile.Type.values()[buffer.get()]);
+            rollNumbers.add((int) buffer.get());
+        }
+        final int portCount = buffer.getShort();
+        final Map<Set<TilePosition>, Port> ports = new HashMap<>();
+        for (int i = 0; i < portCount; i++) {
+            final TilePosition position1 = ByteBuffers.getPosition(buffer);
+            final TilePosition position2 = ByteBuffers.getPosition(buffer);
+            final int ratio = buffer.get();
+            final int resource = Byte.toUnsignedInt(buffer.get());
+            ports.put(
+                Set.of(position1, position2),
+                new Port(ratio, resource == NO_RESOURCE ? null : ResourceType.values()[resource])
+            );
+        }
+        return new BoardLayout(radius, tileTypes, rollNumbers, ports);
+    }
+}
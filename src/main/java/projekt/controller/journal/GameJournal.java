@@ -0,0 +1,237 @@
+package projekt.controller.journal;
+
+import projekt.Config;
+import projekt.controller.GameEventListener;
+import projekt.controller.actions.PlayerAction;
+import projekt.controller.io.ByteBuffers;
+import projekt.model.DevelopmentCardType;
+import projekt.model.GameState;
+import projekt.model.Player;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * An append-only binary journal of a single game.
+ * <p>
+ * The journal starts with a {@link JournalHeader}, followed by one record per accepted action, revoked action,
+ * dice roll and drawn development card, and a final record if the game was stopped at its round limit.
+ * Together with the header, these records are enough to replay the game.
+ * Each record is a {@link JournalEntry} tag followed by its fields; actions are encoded by {@link ActionCodec}
+ * and players are stored as varint ids.
+ * <p>
+ * Records are appended to an in-memory buffer, so recording never blocks the game loop on disk I/O.
+ * A background thread swaps the buffer for a spare one every {@link Config#JOURNAL_SYNC_INTERVAL}
+ * milliseconds and writes its records to the file as one block, which it then forces to disk.
+ * A block starts with the varint length of its records and the varint length of its compressed form,
+ * which is zero if the block is stored uncompressed, followed by the records in that form.
+ * Blocks are compressed with {@link BlockCompressor} if enabled and if that makes them smaller.
+ * A crash loses at most the records of the last interval, and a block cut off by a crash is skipped
+ * by the {@link JournalReader}.
+ */
+public class GameJournal implements GameEventListener, Closeable {
+    /**
+     * The file extension of journals.
+     */
+    public static final String FILE_EXTENSION = ".journal";
+
+    private static final int INITIAL_BUFFER_SIZE = 16 * 1024;
+
+    private final FileChannel channel;
+    private final ActionCodec codec;
+    private final boolean compressed;
+    private final Object flushLock = new Object();
+    private final Thread flusher;
+    private ByteBuffer active = ByteBuffer.allocate(INITIAL_BUFFER_SIZE);
+    private ByteBuffer spare = ByteBuffer.allocate(INITIAL_BUFFER_SIZE);
+    private volatile boolean closed = false;
+
+    /**
+     * Creates a new journal at the given path and writes its header.
+     * Blocks are compressed if {@link Config#JOURNAL_COMPRESSION} is enabled.
+     * An existing file at the path is replaced.
+     *
+     * @param path  the path of the journal file
+     * @param seed  the seed the game's random source was initialized with
+     * @param state the game state before the first action
+     * @throws IOException if the file cannot be created
+     */
+    public GameJournal(final Path path, final long seed, final GameState state) throws IOException {
+        this(path, seed, state, Config.JOURNAL_COMPRESSION);
+    }
+
+    /**
+     * Creates a new journal at the given path and writes its header.
+     * An existing file at the path is replaced.
+     *
+     * @param path       the path of the journal file
+     * @param seed       the seed the game's random source was initialized with
+     * @param state      the game state before the first action
+     * @param compressed whether blocks are compressed
+     * @throws IOException if the file cannot be created
+     */
+    public GameJournal(final Path path, final long seed, final GameState state, final boolean compressed) throws IOException {
+        this.codec = new ActionCodec(state);
+        this.compressed = compressed;
+        this.channel = FileChannel.open(
+            path,
+            StandardOpenOption.CREATE,
+            StandardOpenOption.TRUNCATE_EXISTING,
+            StandardOpenOption.WRITE
+        );
+        final ByteBuffer headerBuffer = ByteBuffer.allocate(INITIAL_BUFFER_SIZE);
+        JournalHeader.of(seed, state).write(headerBuffer);
+        headerBuffer.flip();
+        while (headerBuffer.hasRemaining()) {
+            channel.write(headerBuffer);
+        }
+        this.flusher = new Thread(this::runFlusher, "JournalFlusherThread");
+        this.flusher.setDaemon(true);
+        this.flusher.start();
+    }
+
+    @Override
+    public synchronized void actionAccepted(final Player player, final PlayerAction action) {
+        reserve();
+        active.put(JournalEntry.ACTION);
+        ByteBuffers.putVarInt(active, player.getID());
+        codec.encode(active, action);
+    }
+
+    @Override
+    public synchronized void actionRevoked(final Player player, final PlayerAction action) {
+        reserve();
+        active.put(JournalEntry.REVOKED);
+        ByteBuffers.putVarInt(active, player.getID());
+    }
+
+    @Override
+    public synchronized void diceRolled(final int roll) {
+        reserve();
+        active.put(JournalEntry.DICE);
+        active.put((byte) roll);
+    }
+
+    @Override
+    public synchronized void developmentCardDrawn(final DevelopmentCardType developmentCardType) {
+        reserve();
+        active.put(JournalEntry.DEVELOPMENT_CARD);
+        active.put((byte) developmentCardType.ordinal());
+    }
+
+    @Override
+    public synchronized void gameStopped(final int roundLimit) {
+        reserve();
+        active.put(JournalEntry.STOPPED);
+        ByteBuffers.putVarInt(active, roundLimit);
+    }
+
+    /**
+     * Writes all buffered records to the file as one block and forces them to disk.
+     *
+     * @throws IOException if writing fails
+     */
+    public void flush() throws IOException {
+        synchronized (flushLock) {
+            final ByteBuffer pending;
+            synchronized (this) {
+                if (active.position() == 0) {
+                    return;
+                }
+                pending = active;
+                active = spare;
+                spare = pending;
+            }
+            final ByteBuffer block = toBlock(pending);
+            pending.clear();
+            while (block.hasRemaining()) {
+                channel.write(block);
+            }
+            channel.force(false);
+        }
+    }
+
+    /**
+     * Stops the background thread, flushes all buffered records and closes the file.
+     *
+     * @throws IOException if writing fails
+     */
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        LockSupport.unpark(flusher);
+        try {
+            flush();
+        } finally {
+            channel.close();
+        }
+    }
+
+    /**
+     * Returns the block holding the records in the given buffer, ready to be written.
+     *
+     * @param records the buffer holding the records
+     * @return the block
+     */
+    private ByteBuffer toBlock(final ByteBuffer records) {
+        final int length = records.position();
+        final byte[] body = compressed ? BlockCompressor.compress(records.array(), length) : null;
+        final boolean stored = body == null || body.length >= length;
+        final ByteBuffer block = ByteBuffer.allocate(10 + (stored ? length : body.length));
+        ByteBuffers.putVarInt(block, length);
+        if (stored) {
+            ByteBuffers.putVarInt(block, 0);
+            block.put(records.array(), 0, length);
+        } else {
+            ByteBuffers.putVarInt(block, body.length);
+            block.put(body);
+        }
+        return block.flip();
+    }
+
+    /**
+     * Makes sure the active buffer can hold another record, growing it if necessary.
+     * Must be called while holding this journal's lock.
+     */
+    private void reserve() {
+        if (active.remaining() < ActionCodec.MAX_ACTION_SIZE + 6) {
+            final ByteBuffer grown = ByteBuffer.allocate(active.capacity() * 2);
+            active.flip();
+            grown.put(active);
+            active = grown;
+        }
+    }
+
+    /**
+     * Flushes the journal periodically until it is closed.
+     * The thread is woken with {@link LockSupport#unpark(Thread)} instead of being interrupted,
+     * because interrupting a thread blocked in a {@link FileChannel} closes the channel.
+     */
+    private void runFlusher() {
+        final long interval = TimeUnit.MILLISECONDS.toNanos(Config.JOURNAL_SYNC_INTERVAL);
+        while (!closed) {
+            LockSupport.parkNanos(this, interval);
+            if (closed) {
+                return;
+            }
+            try {
+                flush();
+            } catch (final IOException e) {
+                if (!closed) {
+                    throw new UncheckedIOException(e);
+                }
+                return;
+            }
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package projekt.controller.journal;
+
+import projekt.controller.actions.PlayerAction;
+import projekt.model.DevelopmentCardType;
+import projekt.model.Player;
+
+/**
+ * A single record of a game journal.
+ */
+public sealed interface JournalEntry {
+    /**
+     * The tag of an {@link Action} record.
+     */
+    byte ACTION = 1;
+
+    /**
+     * The tag of a {@link Revoked} record.
+     */
+    byte REVOKED = 2;
+
+    /**
+     * The tag of a {@link Dice} record.
+     */
+    byte DICE = 3;
+
+    /**
+     * The tag of a {@link DevelopmentCard} record.
+     */
+    byte DEVELOPMENT_CARD = 4;
+
+    /**
+     * The tag of a {@link Stopped} record.
+     */
+    byte STOPPED = 5;
+
+    /**
+     * An action a player submitted and the game accepted for execution.
+     *
+     * @param player the player who submitted the action
+     * @param action the action
+     */
+    record Action(Player player, PlayerAction action) implements JournalEntry {}
+
+    /**
+     * Marks the preceding action of a player as rejected by the game, so it had no effect.
+     *
+     * @param player the player whose last action was rejected
+     */
+    record Revoked(Player player) implements JournalEntry {}
+
+    /**
+     * A dice roll.
+     *
+     * @param roll the rolled number
+     */
+    record Dice(int roll) implements JournalEntry {}
+
+    /**
+     * A development card drawn from the stack.
+     *
+     * @param type the type of the drawn card
+     */
+    record DevelopmentCard(DevelopmentCardType type) implements JournalEntry {}
+
+    /**
+     * Marks the game as stopped without a winner because the round limit was exceeded.
+     * It is the last record of the journal.
+     *
+     * @param roundLimit the round limit of the game
+     */
+    record Stopped(int roundLimit) implements JournalEntry {}
+}
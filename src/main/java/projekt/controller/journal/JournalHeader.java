@@ -0,0 +1,128 @@
+package projekt.controller.journal;
+
+import projekt.controller.io.ByteBuffers;
+import projekt.model.GameState;
+import projekt.model.HexGrid;
+import projekt.model.Player;
+import projekt.model.PlayerImpl;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The header of a game journal. It holds everything needed to recreate the game's initial state:
+ * the random seed, the board layout and the players in turn order.
+ *
+ * @param seed    the seed the game's random source was initialized with
+ * @param layout  the layout of the board
+ * @param players the players in turn order
+ */
+public record JournalHeader(long seed, BoardLayout layout, List<PlayerEntry> players) {
+    /**
+     * The magic number every journal starts with.
+     */
+    public static final int MAGIC = 0x464F504A;
+
+    /**
+     * The version of the journal format.
+     */
+    public static final byte VERSION = 2;
+
+    /**
+     * Creates a new header with an unmodifiable copy of the given players.
+     */
+    public JournalHeader {
+        players = List.copyOf(players);
+    }
+
+    /**
+     * A player as stored in the header.
+     *
+     * @param id    the id of the player
+     * @param name  the name of the player
+     * @param color the color of the player as 32-bit RGBA
+     * @param ai    whether the player is an AI
+     */
+    public record PlayerEntry(int id, String name, int color, boolean ai) {}
+
+    /**
+     * Returns the header for the given game.
+     *
+     * @param seed  the seed the game's random source was initialized with
+     * @param state the game state before the first action
+     * @return the header
+     */
+    public static JournalHeader of(final long seed, final GameState state) {
+        return new JournalHeader(
+            seed,
+            BoardLayout.of(state.getGrid()),
+            state.getPlayers().stream()
+                .map(player -> new PlayerEntry(player.getID(), player.getName(), ByteBuffers.toRgba(player.getColor()), player.isAi()))
+                .toList()
+        );
+    }
+
+    /**
+     * Creates a new game state with the board and players of this header.
+     *
+     * @return the new game state
+     */
+    public GameState createGameState() {
+        final HexGrid grid = layout.createGrid();
+        final List<Player> gamePlayers = new ArrayList<>(players.size());
+        for (final PlayerEntry entry : players) {
+            gamePlayers.add(new PlayerImpl.Builder(entry.id())
+                .name(entry.name())
+                .color(ByteBuffers.fromRgba(entry.color()))
+                .ai(entry.ai())
+                .build(grid));
+        }
+        return new GameState(grid, gamePlayers);
+    }
+
+    /**
+     * Writes this header to the given buffer.
+     *
+     * @param buffer the buffer to write to
+     */
+    public void write(final ByteBuffer buffer) {
+        buffer.putInt(MAGIC);
+        buffer.put(VERSION);
+        buffer.putLong(seed);
+        layout.write(buffer);
+        buffer.put((byte) players.size());
+        for (final PlayerEntry entry : players) {
+            buffer.put((byte) entry.id());
+            ByteBuffers.putString(buffer, entry.name());
+            buffer.putInt(entry.color());
+            buffer.put((byte) (entry.ai() ? 1 : 0));
+        }
+    }
+
+    /**
+     * Reads a header written by {@link #write(ByteBuffer)} from the given buffer.
+     *
+     * @param buffer the buffer to read from
+     * @return the header
+     * @throws IllegalArgumentException if the buffer does not start with a journal header of a known version
+     */
+    public static JournalHeader read(final ByteBuffer buffer) {
+        if (buffer.getInt() != MAGIC) {
+            throw new IllegalArgumentException("Not a game journal");
+        }
+        final byte version = buffer.get();
+        if (version != VERSION) {
+            throw new IllegalArgumentException("Unsupported journal version: " + version);
+        }
+        final long seed = buffer.getLong();
+        final BoardLayout layout = BoardLayout.read(buffer);
+        final int playerCount = buffer.get();
+        final List<PlayerEntry> players = new ArrayList<>(playerCount);
+        for (int i = 0; i < playerCount; i++) {
+            final int id = buffer.get();
+            players.add(new PlayerEntry(id, ByteBuffers.getString(buffer), buffer.getInt(), buffer.get() != 0));
+        }
+        return new JournalHeader(seed, layout, players);
+    }
+}
@@ -0,0 +1,131 @@
+package projekt.controller.journal;
+
+import projekt.controller.actions.PlayerAction;
+import projekt.controller.io.ByteBuffers;
+import projekt.model.DevelopmentCardType;
+import projekt.model.GameState;
+import projekt.model.Player;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Reads a journal written by {@link GameJournal}.
+ * <p>
+ * Records are decoded against a fresh {@link GameState} created from the journal's header, so the
+ * players and board elements they reference belong to that state and can be used to replay the game on it.
+ * Blocks are decompressed one at a time and their records decoded in a single pass.
+ * If the journal ends with an incomplete block, e.g. because the game crashed while it was written,
+ * that block is ignored.
+ */
+public class JournalReader {
+    private final JournalHeader header;
+    private final GameState gameState;
+    private final ActionCodec codec;
+    private final List<JournalEntry> entries;
+
+    /**
+     * Reads the journal at the given path.
+     *
+     * @param path the path of the journal
+     * @throws IOException              if the file cannot be read
+     * @throws IllegalArgumentException if the file is not a journal
+     */
+    public JournalReader(final Path path) throws IOException {
+        this(ByteBuffer.wrap(Files.readAllBytes(path)));
+    }
+
+    /**
+     * Reads a journal from the given buffer.
+     *
+     * @param buffer the buffer containing the journal
+     * @throws IllegalArgumentException if the buffer does not contain a journal
+     */
+    public JournalReader(final ByteBuffer buffer) {
+        try {
+            this.header = JournalHeader.read(buffer);
+        } catch (final BufferUnderflowException e) {
+            throw new IllegalArgumentException("Incomplete journal header", e);
+        }
+        this.gameState = header.createGameState();
+        this.codec = new ActionCodec(gameState);
+        this.entries = readEntries(buffer);
+    }
+
+    /**
+     * Returns the header of the journal.
+     *
+     * @return the header
+     */
+    public JournalHeader getHeader() {
+        return header;
+    }
+
+    /**
+     * Returns the game state the entries were decoded against, in the state before the first action.
+     *
+     * @return the game state
+     */
+    public GameState getGameState() {
+        return gameState;
+    }
+
+    /**
+     * Returns all complete records of the journal in the order they were written.
+     *
+     * @return an unmodifiable list of the records
+     */
+    public List<JournalEntry> getEntries() {
+        return entries;
+    }
+
+    private List<JournalEntry> readEntries(final ByteBuffer buffer) {
+        final List<JournalEntry> result = new ArrayList<>();
+        while (buffer.hasRemaining()) {
+            final ByteBuffer block;
+            try {
+                block = readBlock(buffer);
+            } catch (final BufferUnderflowException e) {
+                break;
+            }
+            while (block.hasRemaining()) {
+                result.add(readEntry(block));
+            }
+        }
+        return Collections.unmodifiableList(result);
+    }
+
+    private static ByteBuffer readBlock(final ByteBuffer buffer) {
+        final int length = ByteBuffers.getVarInt(buffer);
+        final int compressedLength = ByteBuffers.getVarInt(buffer);
+        final int bodyLength = compressedLength == 0 ? length : compressedLength;
+        if (buffer.remaining() < bodyLength) {
+            throw new BufferUnderflowException();
+        }
+        final byte[] body = new byte[bodyLength];
+        buffer.get(body);
+        return ByteBuffer.wrap(compressedLength == 0 ? body : BlockCompressor.decompress(body, 0, length));
+    }
+
+    private JournalEntry readEntry(final ByteBuffer buffer) {
+        final byte tag = buffer.get();
+        return switch (tag) {
+            case JournalEntry.ACTION -> {
+                final Player player = codec.getPlayer(ByteBuffers.getVarInt(buffer));
+                final PlayerAction action = codec.decode(buffer);
+                yield new JournalEntry.Action(player, action);
+            }
+            case JournalEntry.REVOKED -> new JournalEntry.Revoked(codec.getPlayer(ByteBuffers.getVarInt(buffer)));
+            case JournalEntry.DICE -> new JournalEntry.Dice(buffer.get());
+            case JournalEntry.DEVELOPMENT_CARD -> new JournalEntry.DevelopmentCard(DevelopmentCardType.values()[buffer.get()]);
+            case JournalEntry.STOPPED -> new JournalEntry.Stopped(ByteBuffers.getVarInt(buffer));
+            default -> throw new IllegalArgumentException("Unknown journal record tag: " + tag);
+        };
+    }
+}
@@ -0,0 +1,160 @@
+package projekt.controller.journal;
+
+import projekt.controller.GameController;
+import projekt.model.GameState;
+import projekt.model.Player;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.function.ObjIntConsumer;
+import java.util.stream.Stream;
+
+/**
+ * Replays recorded games by running the regular game loop on the journal's actions.
+ * <p>
+ * Every player is driven by a {@link ReplayPlayerController}, so actions go straight into the
+ * {@link projekt.controller.PlayerController} logic without the action queue, the UI or the AI.
+ * Dice rolls and development cards are taken from the journal as well. Since the game logic itself runs
+ * unchanged, a replay also checks the recorded game against the current rules: if the logic asks for
+ * something other than the next record, the replay stops with {@link Status#DIVERGED}.
+ * Replays share no state, so whole directories of journals are replayed in parallel.
+ */
+public final class JournalReplayer {
+    private JournalReplayer() {}
+
+    /**
+     * How a replay ended.
+     */
+    public enum Status {
+        /**
+         * The game was replayed until a player won.
+         */
+        FINISHED,
+        /**
+         * The journal ended before the game did, e.g. because the game was aborted or crashed.
+         * The state reflects all recorded actions.
+         */
+        INCOMPLETE,
+        /**
+         * The game logic did not accept the journal's records.
+         * The state reflects all records up to the divergence.
+         */
+        DIVERGED,
+        /**
+         * The game was replayed until it was stopped without a winner at its round limit.
+         */
+        STOPPED
+    }
+
+    /**
+     * The outcome of a replay.
+     *
+     * @param journal the replayed journal, {@code null} if it was not read from a file
+     * @param state   the reconstructed game state
+     * @param round   the round the replay ended in
+     * @param records the number of records that were replayed
+     * @param status  how the replay ended
+     * @param failure the reason the replay diverged, {@code null} unless it diverged
+     */
+    public record Result(Path journal, GameState state, int round, int records, Status status, RuntimeException failure) {}
+
+    /**
+     * Replays the journal at the given path.
+     *
+     * @param journal the path of the journal
+     * @return the result of the replay
+     * @throws IOException if the journal cannot be read
+     */
+    public static Result replay(final Path journal) throws IOException {
+        final JournalReader reader = new JournalReader(journal);
+        return replay(journal, reader.getGameState(), new ReplaySource(reader.getEntries()), (gameController, position) -> {});
+    }
+
+    /**
+     * Replays the journal read by the given reader.
+     * The reader's game state is used for the replay, so a reader can only be replayed once.
+     *
+     * @param reader the journal
+     * @return the result of the replay
+     */
+    public static Result replay(final JournalReader reader) {
+        return replay(null, reader.getGameState(), new ReplaySource(reader.getEntries()), (gameController, position) -> {});
+    }
+
+    /**
+     * Replays all journals in the given directory in parallel.
+     *
+     * @param directory the directory containing the journals
+     * @return the results of all replays, ordered by path
+     * @throws IOException if the directory cannot be listed
+     */
+    public static List<Result> replayAll(final Path directory) throws IOException {
+        final List<Path> journals;
+        try (Stream<Path> files = Files.list(directory)) {
+            journals = files.filter(file -> file.getFileName().toString().endsWith(GameJournal.FILE_EXTENSION)).sorted().toList();
+        }
+        return journals.parallelStream()
+            .map(journal -> {
+                try {
+                    return replay(journal);
+                } catch (final IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            })
+            .toList();
+    }
+
+    /**
+     * Replays the records of the given source on the given state.
+     * The listener is called with the game and the number of applied records right before each record is
+     * consumed and once more after the replay ended.
+     *
+     * @param journal        the replayed journal, {@code null} if it was not read from a file
+     * @param state          the state to replay the game on
+     * @param source         the records to replay
+     * @param recordListener the listener
+     * @return the result of the replay
+     */
+    static Result replay(
+        final Path journal, final GameState state, final ReplaySource source,
+        final ObjIntConsumer<GameController> recordListener
+    ) {
+        final GameController gameController = new GameController(
+            state,
+            new LinkedHashMap<>(),
+            source::nextDiceRoll,
+            source::nextDevelopmentCard
+        );
+        gameController.setJournalDirectory(null);
+        gameController.setAutosaveDirectory(null);
+        gameController.setRoundLimit(source.getRoundLimit());
+        source.setRecordListener(position -> recordListener.accept(gameController, position));
+        for (final Player player : state.getPlayers()) {
+            gameController.getPlayerControllers().put(player, new ReplayPlayerController(gameController, player, source));
+        }
+        Status status;
+        RuntimeException failure = null;
+        try {
+            gameController.playGame();
+            status = gameController.isRoundLimitReached() ? Status.STOPPED : Status.FINISHED;
+        } catch (final ReplaySource.ExhaustedException e) {
+            status = Status.INCOMPLETE;
+        } catch (final RuntimeException e) {
+            status = Status.DIVERGED;
+            failure = e;
+        }
+        recordListener.accept(gameController, source.getPosition());
+        return new Result(
+            journal,
+            state,
+            gameController.getRoundCounterProperty().get(),
+            source.getPosition(),
+            status,
+            failure
+        );
+    }
+}
@@ -0,0 +1,26 @@
+package projekt.controller.journal;
+
+import projekt.model.DevelopmentCardType;
+import projekt.model.Player;
+
+/**
+ * Helpers to restore the hands of players read back from journals and snapshots.
+ */
+public final class PlayerHands {
+    private PlayerHands() {}
+
+    /**
+     * Adds the given number of played knights to the given player.
+     * Played knights are only tracked through removing them from the hand, so each knight is added to the hand
+     * and removed again; the rest of the hand is left unchanged.
+     *
+     * @param player        the player
+     * @param knightsPlayed the number of knights to add as played
+     */
+    public static void restoreKnightsPlayed(final Player player, final int knightsPlayed) {
+        for (int i = 0; i < knightsPlayed; i++) {
+            player.addDevelopmentCard(DevelopmentCardType.KNIGHT);
+            player.removeDevelopmentCard(DevelopmentCardType.KNIGHT);
+        }
+    }
+}
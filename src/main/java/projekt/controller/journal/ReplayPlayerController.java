@@ -0,0 +1,46 @@
+package projekt.controller.journal;
+
+import projekt.controller.GameController;
+import projekt.controller.PlayerController;
+import projekt.controller.PlayerObjective;
+import projekt.controller.actions.AcceptTradeAction;
+import projekt.controller.actions.PlayerAction;
+import projekt.model.Player;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A {@link PlayerController} that takes its actions from a journal instead of its action queue.
+ * Actions are returned immediately, so the game runs as fast as the game logic allows.
+ */
+public class ReplayPlayerController extends PlayerController {
+    private final ReplaySource source;
+
+    /**
+     * Creates a new controller that replays the actions of the given player.
+     *
+     * @param gameController the {@link GameController} replaying the game
+     * @param player         the {@link Player} this controller belongs to
+     * @param source         the records to replay
+     */
+    ReplayPlayerController(final GameController gameController, final Player player, final ReplaySource source) {
+        super(gameController, player);
+        this.source = source;
+    }
+
+    @Override
+    public PlayerAction blockingGetNextAction() {
+        return source.nextAction(getPlayer());
+    }
+
+    @Override
+    public PlayerAction pollNextAction(final long timeout, final TimeUnit unit) {
+        return source.nextAction(getPlayer());
+    }
+
+    @Override
+    public AcceptTradeAction awaitTradeResponse(final long timeout, final TimeUnit unit) {
+        setPlayerObjective(PlayerObjective.ACCEPT_TRADE);
+        return source.nextTradeResponse(getPlayer());
+    }
+}
@@ -0,0 +1,180 @@
+package projekt.controller.journal;
+
+import projekt.controller.actions.AcceptTradeAction;
+import projekt.controller.actions.PlayerAction;
+import projekt.model.DevelopmentCardType;
+import projekt.model.Player;
+
+import java.io.Serial;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.IntConsumer;
+
+/**
+ * A cursor over the records of a journal that hands them out in the order the game consumes them.
+ * <p>
+ * All records of a journal were written by the game thread, so they form a total order. Replaying the
+ * game consumes them in the same order; a record that does not match what the game asks for means the
+ * replayed game diverged from the recorded one, e.g. because the rules changed.
+ * Revoked actions had no effect and are dropped up front, and so is the record of a stopped game,
+ * whose round limit is applied to the replayed game instead.
+ */
+final class ReplaySource {
+    private final List<JournalEntry> entries;
+    private int roundLimit = 0;
+    private int cursor = 0;
+    private IntConsumer recordListener = position -> {};
+
+    /**
+     * Thrown when the game asks for a record after the last one.
+     */
+    static final class ExhaustedException extends RuntimeException {
+        @Serial
+        private static final long serialVersionUID = 1L;
+
+        ExhaustedException() {
+            super("End of journal reached", null, false, false);
+        }
+    }
+
+    /**
+     * Creates a new source for the given records.
+     *
+     * @param entries the records of the journal
+     */
+    ReplaySource(final List<JournalEntry> entries) {
+        this.entries = new ArrayList<>(entries.size());
+        for (final JournalEntry entry : entries) {
+            if (entry instanceof final JournalEntry.Revoked revoked) {
+                for (int i = this.entries.size() - 1; i >= 0; i--) {
+                    if (this.entries.get(i) instanceof final JournalEntry.Action action
+                        && action.player().equals(revoked.player())) {
+                        this.entries.remove(i);
+                        break;
+                    }
+                }
+            } else if (entry instanceof final JournalEntry.Stopped stopped) {
+                this.roundLimit = stopped.roundLimit();
+            } else {
+                this.entries.add(entry);
+            }
+        }
+    }
+
+    /**
+     * Sets the listener that is called with the number of consumed records right before a record is consumed,
+     * i.e. once all previous records have been applied to the game.
+     *
+     * @param recordListener the listener
+     */
+    void setRecordListener(final IntConsumer recordListener) {
+        this.recordListener = recordListener;
+    }
+
+    /**
+     * Returns the records that are replayed, without revoked actions.
+     *
+     * @return an unmodifiable list of the records
+     */
+    List<JournalEntry> getEntries() {
+        return Collections.unmodifiableList(entries);
+    }
+
+    /**
+     * Returns the round limit the recorded game was stopped at.
+     *
+     * @return the round limit, or {@code 0} if the game was not stopped
+     */
+    int getRoundLimit() {
+        return roundLimit;
+    }
+
+    /**
+     * Returns the next action, which must belong to the given player.
+     *
+     * @param player the player whose action is expected
+     * @return the action
+     * @throws ExhaustedException    if there are no more records
+     * @throws IllegalStateException if the next record is not an action of the player
+     */
+    synchronized PlayerAction nextAction(final Player player) {
+        final JournalEntry entry = next();
+        if (!(entry instanceof final JournalEntry.Action action) || !action.player().equals(player)) {
+            throw diverged("an action of " + player.getName(), entry);
+        }
+        return action.action();
+    }
+
+    /**
+     * Returns the answer of the given player to the current trade offer.
+     * Only the answer that settled an offer is recorded, so every other player declines.
+     *
+     * @param player the player asked
+     * @return the recorded acceptance, or a declining answer
+     */
+    synchronized AcceptTradeAction nextTradeResponse(final Player player) {
+        if (cursor < entries.size()
+            && entries.get(cursor) instanceof final JournalEntry.Action action
+            && action.player().equals(player)
+            && action.action() instanceof final AcceptTradeAction response) {
+            recordListener.accept(cursor);
+            cursor++;
+            return response;
+        }
+        return new AcceptTradeAction(false);
+    }
+
+    /**
+     * Returns the next dice roll.
+     *
+     * @return the rolled number
+     * @throws ExhaustedException    if there are no more records
+     * @throws IllegalStateException if the next record is not a dice roll
+     */
+    synchronized int nextDiceRoll() {
+        final JournalEntry entry = next();
+        if (!(entry instanceof final JournalEntry.Dice dice)) {
+            throw diverged("a dice roll", entry);
+        }
+        return dice.roll();
+    }
+
+    /**
+     * Returns the next drawn development card.
+     *
+     * @return the development card
+     * @throws ExhaustedException    if there are no more records
+     * @throws IllegalStateException if the next record is not a development card
+     */
+    synchronized DevelopmentCardType nextDevelopmentCard() {
+        final JournalEntry entry = next();
+        if (!(entry instanceof final JournalEntry.DevelopmentCard card)) {
+            throw diverged("a development card", entry);
+        }
+        return card.type();
+    }
+
+    /**
+     * Returns the number of records consumed so far.
+     *
+     * @return the number of consumed records
+     */
+    synchronized int getPosition() {
+        return cursor;
+    }
+
+    private JournalEntry next() {
+        if (cursor >= entries.size()) {
+            throw new ExhaustedException();
+        }
+        recordListener.accept(cursor);
+        return entries.get(cursor++);
+    }
+
+    private IllegalStateException diverged(final String expected, final JournalEntry actual) {
+        return new IllegalStateException(String.format(
+            "Replay diverged at record %d: expected %s but found %s", cursor - 1, expected, actual
+        ));
+    }
+}
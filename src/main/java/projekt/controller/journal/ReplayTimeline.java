@@ -0,0 +1,318 @@
+package projekt.controller.journal;
+
+import projekt.Config;
+import projekt.controller.GameController;
+import projekt.controller.PlayerController;
+import projekt.model.DevelopmentCardType;
+import projekt.model.GameState;
+import projekt.model.HexGrid;
+import projekt.model.Intersection;
+import projekt.model.Player;
+import projekt.model.ResourceType;
+import projekt.model.TilePosition;
+import projekt.model.buildings.Edge;
+import projekt.model.buildings.Settlement;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * The states of a recorded game after every record of its journal, for seeking through the game.
+ * <p>
+ * The timeline is built by replaying the journal once. After every record, the visible state of the game
+ * (round, dice roll, active player, robber, buildings, hands and played knights) is captured as a flat
+ * frame of integers. Every {@link Config#REPLAY_KEYFRAME_INTERVAL} steps the full frame is kept as a
+ * keyframe; in between, only the entries that changed from the previous step are kept as a delta.
+ * Seeking to a step copies the closest keyframe before it and applies at most one interval of deltas,
+ * so every step is reached in constant time, and only the target step is turned into a {@link GameState}.
+ * Step {@code 0} is the state before the first record and step {@link #getLastStep()} the state after the last.
+ */
+public final class ReplayTimeline {
+    private static final int ROUND = 0;
+    private static final int DICE_ROLL = 1;
+    private static final int ACTIVE_PLAYER = 2;
+    private static final int ROBBER = 3;
+    private static final int INTERSECTIONS = 4;
+    private static final ResourceType[] RESOURCE_TYPES = ResourceType.values();
+    private static final DevelopmentCardType[] DEVELOPMENT_CARD_TYPES = DevelopmentCardType.values();
+    private static final int PLAYER_SIZE = RESOURCE_TYPES.length + DEVELOPMENT_CARD_TYPES.length + 1;
+
+    private final JournalHeader header;
+    private final List<JournalEntry> entries;
+    private final JournalReplayer.Status status;
+    private final BoardIndex board;
+    private final int edgeOffset;
+    private final int playerOffset;
+    private final int keyframeInterval;
+    private final List<int[]> keyframes = new ArrayList<>();
+    private int[] deltas = new int[1024];
+    private int deltasSize = 0;
+    private int[] deltaStarts = new int[256];
+    private int[] roundStarts = new int[16];
+    private int steps = 0;
+    private int rounds = 0;
+    private int[] previous;
+
+    private ReplayTimeline(final JournalReader reader) {
+        this.header = reader.getHeader();
+        final GameState state = reader.getGameState();
+        final ReplaySource source = new ReplaySource(reader.getEntries());
+        this.entries = source.getEntries();
+        this.board = new BoardIndex(state.getGrid());
+        this.edgeOffset = INTERSECTIONS + board.getIntersectionCount();
+        this.playerOffset = edgeOffset + board.getEdgeCount();
+        this.keyframeInterval = Config.REPLAY_KEYFRAME_INTERVAL;
+        this.previous = new int[playerOffset + state.getPlayers().size() * PLAYER_SIZE];
+        this.status = JournalReplayer.replay(null, state, source, this::capture).status();
+        this.previous = null;
+    }
+
+    /**
+     * Builds the timeline of the journal at the given path.
+     *
+     * @param journal the path of the journal
+     * @return the timeline
+     * @throws IOException              if the journal cannot be read
+     * @throws IllegalArgumentException if the file is not a journal
+     */
+    public static ReplayTimeline of(final Path journal) throws IOException {
+        return of(new JournalReader(journal));
+    }
+
+    /**
+     * Builds the timeline of the journal read by the given reader.
+     * The reader's game state is used to build the timeline, so a reader can only be used once.
+     *
+     * @param reader the journal
+     * @return the timeline
+     */
+    public static ReplayTimeline of(final JournalReader reader) {
+        return new ReplayTimeline(reader);
+    }
+
+    /**
+     * A step of the timeline.
+     *
+     * @param step         the index of the step
+     * @param state        a new game state as it was at the step
+     * @param round        the round at the step
+     * @param diceRoll     the last dice roll at the step, {@code 0} if none
+     * @param activePlayer the active player of {@code state}, {@code null} if none
+     */
+    public record Step(int step, GameState state, int round, int diceRoll, Player activePlayer) {}
+
+    /**
+     * Returns the index of the last step, i.e. the number of replayed records.
+     *
+     * @return the index of the last step
+     */
+    public int getLastStep() {
+        return steps - 1;
+    }
+
+    /**
+     * Returns the number of the last round that was reached.
+     *
+     * @return the number of the last round
+     */
+    public int getLastRound() {
+        return rounds - 1;
+    }
+
+    /**
+     * Returns how the replay that built this timeline ended.
+     *
+     * @return the status of the replay
+     */
+    public JournalReplayer.Status getStatus() {
+        return status;
+    }
+
+    /**
+     * Returns the record that led to the given step.
+     *
+     * @param step the index of the step
+     * @return the record, {@code null} for step {@code 0}
+     */
+    public JournalEntry getEntry(final int step) {
+        return step == 0 ? null : entries.get(step - 1);
+    }
+
+    /**
+     * Returns the round of the given step.
+     *
+     * @param step the index of the step
+     * @return the round
+     */
+    public int getRound(final int step) {
+        int low = 0;
+        int high = rounds - 1;
+        while (low < high) {
+            final int middle = (low + high + 1) >>> 1;
+            if (roundStarts[middle] <= step) {
+                low = middle;
+            } else {
+                high = middle - 1;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Returns the first step of the given round.
+     * Rounds that were skipped map to the first step of the next round that was reached.
+     *
+     * @param round the round
+     * @return the index of the first step
+     */
+    public int getFirstStep(final int round) {
+        return roundStarts[Math.max(0, Math.min(round, rounds - 1))];
+    }
+
+    /**
+     * Returns the given step with a new game state.
+     *
+     * @param step the index of the step
+     * @return the step
+     * @throws IndexOutOfBoundsException if there is no such step
+     */
+    public Step getStep(final int step) {
+        final int[] frame = getFrame(step);
+        final GameState state = header.createGameState();
+        final List<Player> players = state.getPlayers();
+        final HexGrid grid = state.getGrid();
+        grid.setRobberPosition(frame[ROBBER] < 0 ? null : board.getTile(frame[ROBBER]));
+        for (int i = 0; i < board.getIntersectionCount(); i++) {
+            final int settlement = frame[INTERSECTIONS + i];
+            if (settlement != 0) {
+                final Intersection intersection = grid.getIntersections()
+                    .get(board.getIntersection(i).getAdjacentTilePositions());
+                final Player owner = players.get(settlement / 2 - 1);
+                intersection.placeVillage(owner, true);
+                if (settlement % 2 == 1) {
+                    intersection.upgradeSettlement(owner);
+                }
+            }
+        }
+        for (int i = 0; i < board.getEdgeCount(); i++) {
+            final int owner = frame[edgeOffset + i];
+            if (owner != 0) {
+                grid.getEdges().get(board.getEdge(i).getAdjacentTilePositions())
+                    .getRoadOwnerProperty().setValue(players.get(owner - 1));
+            }
+        }
+        for (int i = 0; i < players.size(); i++) {
+            final Player player = players.get(i);
+            int offset = playerOffset + i * PLAYER_SIZE;
+            for (final ResourceType resourceType : RESOURCE_TYPES) {
+                if (frame[offset] > 0) {
+                    player.addResource(resourceType, frame[offset]);
+                }
+                offset++;
+            }
+            for (final DevelopmentCardType developmentCardType : DEVELOPMENT_CARD_TYPES) {
+                for (int j = 0; j < frame[offset]; j++) {
+                    player.addDevelopmentCard(developmentCardType);
+                }
+                offset++;
+            }
+            PlayerHands.restoreKnightsPlayed(player, frame[offset]);
+        }
+        return new Step(
+            step,
+            state,
+            frame[ROUND],
+            frame[DICE_ROLL],
+            frame[ACTIVE_PLAYER] < 0 ? null : players.get(frame[ACTIVE_PLAYER])
+        );
+    }
+
+    /**
+     * Returns the frame of the given step, restored from the closest keyframe and the following deltas.
+     *
+     * @param step the index of the step
+     * @return a new array holding the frame
+     */
+    private int[] getFrame(final int step) {
+        if (step < 0 || step >= steps) {
+            throw new IndexOutOfBoundsException("No step " + step + " in a timeline of " + steps + " steps");
+        }
+        final int keyframe = step / keyframeInterval;
+        final int[] frame = keyframes.get(keyframe).clone();
+        for (int i = deltaStarts[keyframe * keyframeInterval + 1]; i < deltaStarts[step + 1]; i += 2) {
+            frame[deltas[i]] = deltas[i + 1];
+        }
+        return frame;
+    }
+
+    /**
+     * Captures the current state of the given game as the next step.
+     *
+     * @param gameController the replayed game
+     * @param position       the number of applied records
+     */
+    private void capture(final GameController gameController, final int position) {
+        final int[] frame = new int[previous.length];
+        final GameState state = gameController.getState();
+        final List<Player> players = state.getPlayers();
+        final HexGrid grid = state.getGrid();
+        frame[ROUND] = gameController.getRoundCounterProperty().get();
+        frame[DICE_ROLL] = gameController.getCurrentDiceRollProperty().get();
+        final PlayerController activePlayerController = gameController.getActivePlayerControllerProperty().getValue();
+        frame[ACTIVE_PLAYER] = activePlayerController == null ? -1 : players.indexOf(activePlayerController.getPlayer());
+        final TilePosition robberPosition = grid.getRobberPosition();
+        frame[ROBBER] = robberPosition == null ? -1 : board.getId(robberPosition);
+        for (int i = 0; i < board.getIntersectionCount(); i++) {
+            final Settlement settlement = board.getIntersection(i).getSettlement();
+            if (settlement != null) {
+                frame[INTERSECTIONS + i] = (players.indexOf(settlement.owner()) + 1) * 2
+                    + (settlement.type() == Settlement.Type.CITY ? 1 : 0);
+            }
+        }
+        for (int i = 0; i < board.getEdgeCount(); i++) {
+            final Edge edge = board.getEdge(i);
+            frame[edgeOffset + i] = edge.hasRoad() ? players.indexOf(edge.getRoadOwner()) + 1 : 0;
+        }
+        for (int i = 0; i < players.size(); i++) {
+            final Player player = players.get(i);
+            int offset = playerOffset + i * PLAYER_SIZE;
+            for (final ResourceType resourceType : RESOURCE_TYPES) {
+                frame[offset++] = player.getResources().getOrDefault(resourceType, 0);
+            }
+            for (final DevelopmentCardType developmentCardType : DEVELOPMENT_CARD_TYPES) {
+                frame[offset++] = player.getDevelopmentCards().getOrDefault(developmentCardType, 0);
+            }
+            frame[offset] = player.getKnightsPlayed();
+        }
+
+        if (steps + 2 > deltaStarts.length) {
+            deltaStarts = Arrays.copyOf(deltaStarts, deltaStarts.length * 2);
+        }
+        deltaStarts[steps] = deltasSize;
+        if (steps % keyframeInterval == 0) {
+            keyframes.add(frame);
+        } else {
+            for (int i = 0; i < frame.length; i++) {
+                if (frame[i] != previous[i]) {
+                    if (deltasSize + 2 > deltas.length) {
+                        deltas = Arrays.copyOf(deltas, deltas.length * 2);
+                    }
+                    deltas[deltasSize++] = i;
+                    deltas[deltasSize++] = frame[i];
+                }
+            }
+        }
+        deltaStarts[steps + 1] = deltasSize;
+        while (rounds <= frame[ROUND]) {
+            if (rounds == roundStarts.length) {
+                roundStarts = Arrays.copyOf(roundStarts, roundStarts.length * 2);
+            }
+            roundStarts[rounds++] = steps;
+        }
+        previous = frame;
+        steps++;
+    }
+}
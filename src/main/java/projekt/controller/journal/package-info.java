@@ -0,0 +1,4 @@
+/**
+ * Contains the binary action journal that records games and the classes to read it back.
+ */
+package projekt.controller.journal;
@@ -0,0 +1,242 @@
+package projekt.controller.simulation;
+
+import projekt.Config;
+import projekt.controller.GameController;
+import projekt.controller.export.ColumnarExporter;
+import projekt.controller.export.ResultRecorder;
+import projekt.controller.stats.GameRecorder;
+import projekt.controller.stats.StatisticsAggregator;
+import projekt.controller.training.SampleRecorder;
+import projekt.controller.training.SampleWriter;
+import projekt.model.GameState;
+import projekt.model.PlayerImpl;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongConsumer;
+
+/**
+ * Plays games between AI players without a UI, on a fixed number of threads.
+ * <p>
+ * Every game runs on its own {@link GameController} with a new seed, without journal, autosaves or AI delay,
+ * and stops after {@link Config#SIMULATION_ROUND_LIMIT} rounds if nobody wins. Statistics of all games
+ * are collected by a shared {@link StatisticsAggregator}. If set, their results are exported and training samples
+ * of all decisions are written.
+ * Every game draws from a {@link java.util.Random} of its own that is seeded with the seed of the game.
+ * Games that end with an exception are kept as {@link Failure}s, so callers can report why they failed.
+ */
+public class SimulationRunner {
+    private final int players;
+    private final int threads;
+    private final StatisticsAggregator statistics = new StatisticsAggregator();
+    private final ConcurrentLinkedQueue<Failure> failures = new ConcurrentLinkedQueue<>();
+    private ColumnarExporter exporter;
+    private SampleWriter sampleWriter;
+    private LongConsumer progressListener = games -> {};
+
+    /**
+     * Creates a new runner.
+     *
+     * @param players the number of AI players per game
+     * @param threads the number of games played in parallel
+     */
+    public SimulationRunner(final int players, final int threads) {
+        this.players = players;
+        this.threads = threads;
+    }
+
+    /**
+     * Sets the exporter the results of all following games are added to.
+     *
+     * @param exporter the exporter, or {@code null} to not export results
+     */
+    public void setExporter(final ColumnarExporter exporter) {
+        this.exporter = exporter;
+    }
+
+    /**
+     * Sets the writer the training samples of all following games are submitted to.
+     *
+     * @param sampleWriter the writer, or {@code null} to not record samples
+     */
+    public void setSampleWriter(final SampleWriter sampleWriter) {
+        this.sampleWriter = sampleWriter;
+    }
+
+    /**
+     * Sets the listener that is called about once a minute while {@link #run(long, int)} waits for the games,
+     * with the number of games played so far.
+     *
+     * @param progressListener the listener
+     */
+    public void setProgressListener(final LongConsumer progressListener) {
+        this.progressListener = progressListener;
+    }
+
+    /**
+     * Plays the given number of games with consecutive seeds and waits until all of them ended.
+     *
+     * @param firstSeed the seed of the first game
+     * @param games     the number of games
+     * @throws InterruptedException if the calling thread is interrupted while waiting
+     */
+    public void run(final long firstSeed, final int games) throws InterruptedException {
+        final ExecutorService executor = Executors.newFixedThreadPool(threads, runnable -> {
+            final Thread thread = new Thread(runnable, "SimulationThread");
+            thread.setDaemon(true);
+            return thread;
+        });
+        for (int i = 0; i < games; i++) {
+            final long seed = firstSeed + i;
+            executor.execute(() -> playGame(seed));
+        }
+        executor.shutdown();
+        while (!executor.awaitTermination(1, TimeUnit.MINUTES)) {
+            progressListener.accept(statistics.snapshot().getGames());
+        }
+    }
+
+    /**
+     * Returns the aggregated statistics of all games played so far.
+     *
+     * @return the statistics
+     */
+    public StatisticsAggregator getStatistics() {
+        return statistics;
+    }
+
+    /**
+     * Returns the games that ended with an exception so far, in the order they failed.
+     *
+     * @return the failures
+     */
+    public List<Failure> getFailures() {
+        return List.copyOf(failures);
+    }
+
+    /**
+     * Creates a game between the given number of AI players with the given seed, configured like
+     * {@link #configure(GameController, int)}.
+     *
+     * @param seed       the seed of the game
+     * @param players    the number of AI players
+     * @param roundLimit the number of rounds after which the game is stopped, or {@code 0} to play until a
+     *                   player wins
+     * @return the game, ready to be played with {@link GameController#playGame()}
+     */
+    public static GameController createGame(final long seed, final int players, final int roundLimit) {
+        final GameController gameController = new GameController(seed);
+        final GameState state = gameController.getState();
+        for (int id = 1; id <= players; id++) {
+            state.addPlayer(new PlayerImpl.Builder(id).ai(true).build(state.getGrid()));
+        }
+        configure(gameController, roundLimit);
+        return gameController;
+    }
+
+    /**
+     * Makes the given game run without journal, autosaves and AI delay and stop after the given number of rounds.
+     *
+     * @param gameController the game
+     * @param roundLimit     the number of rounds after which the game is stopped, or {@code 0} to play until a
+     *                       player wins
+     */
+    public static void configure(final GameController gameController, final int roundLimit) {
+        gameController.setJournalDirectory(null);
+        gameController.setAutosaveDirectory(null);
+        gameController.setAiActionDelay(0);
+        gameController.setRoundLimit(roundLimit);
+    }
+
+    /**
+     * Plays a single game with the given seed on the calling thread.
+     *
+     * @param seed the seed of the game
+     */
+    private void playGame(final long seed) {
+        final GameController gameController = createGame(seed, players, Config.SIMULATION_ROUND_LIMIT);
+        final GameRecorder recorder = new GameRecorder(gameController, statistics);
+        recorder.attach();
+        final ResultRecorder resultRecorder = exporter == null ? null : new ResultRecorder(gameController);
+        if (resultRecorder != null) {
+            resultRecorder.attach();
+        }
+        final SampleRecorder sampleRecorder = sampleWriter == null ? null : new SampleRecorder(gameController, sampleWriter);
+        if (sampleRecorder != null) {
+            sampleRecorder.attach();
+        }
+        try {
+            gameController.playGame();
+            recorder.finish();
+            if (resultRecorder != null) {
+                exporter.add(resultRecorder.finish());
+            }
+            if (sampleRecorder != null) {
+                sampleRecorder.finish();
+            }
+        } catch (final IOException | RuntimeException e) {
+            failures.add(new Failure(seed, e));
+        }
+    }
+
+    /**
+     * Plays AI games and prints their statistics.
+     *
+     * @param args the number of games, the number of threads, the first seed, the export directory and the
+     *             training sample file, all optional; {@code -} skips the export directory
+     * @throws InterruptedException if interrupted while waiting for the games
+     * @throws IOException          if the results cannot be exported
+     */
+    public static void main(final String[] args) throws InterruptedException, IOException {
+        final int games = args.length > 0 ? Integer.parseInt(args[0]) : 100;
+        final int threads = args.length > 1 ? Integer.parseInt(args[1]) : Runtime.getRuntime().availableProcessors();
+        final long seed = args.length > 2 ? Long.parseLong(args[2]) : Config.RANDOM.nextLong();
+        final SimulationRunner runner = new SimulationRunner(Config.MAX_PLAYERS, threads);
+        final ColumnarExporter exporter = args.length > 3 && !args[3].equals("-")
+            ? new ColumnarExporter(Path.of(args[3]))
+            : null;
+        final SampleWriter sampleWriter = args.length > 4 ? new SampleWriter(Path.of(args[4])) : null;
+        runner.setExporter(exporter);
+        runner.setSampleWriter(sampleWriter);
+        runner.setProgressListener(played -> System.out.println(played + " games played"));
+        final long start = System.nanoTime();
+        runner.run(seed, games);
+        if (exporter != null) {
+            exporter.close();
+        }
+        if (sampleWriter != null) {
+            sampleWriter.close();
+            System.out.println(sampleWriter.getSampleCount() + " training samples written");
+        }
+        final double seconds = (System.nanoTime() - start) / 1e9;
+        final List<Failure> failures = runner.getFailures();
+        for (final Failure failure : failures) {
+            System.err.println("Game " + failure.seed() + " failed: " + failure.cause());
+        }
+        if (!failures.isEmpty()) {
+            failures.get(0).cause().printStackTrace();
+        }
+        System.out.print(runner.getStatistics().snapshot().report());
+        System.out.printf(
+            "%d games (%d failed) in %.1f s on %d threads, %.1f games/s%n",
+            games,
+            failures.size(),
+            seconds,
+            threads,
+            games / seconds
+        );
+    }
+
+    /**
+     * A game that ended with an exception.
+     *
+     * @param seed  the seed of the game
+     * @param cause the exception the game ended with
+     */
+    public record Failure(long seed, Exception cause) {}
+}
@@ -0,0 +1,4 @@
+/**
+ * Contains the headless runner that plays many AI games in parallel.
+ */
+package projekt.controller.simulation;
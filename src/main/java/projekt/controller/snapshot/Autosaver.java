@@ -0,0 +1,97 @@
+package projekt.controller.snapshot;
+
+import javafx.beans.value.ChangeListener;
+import javafx.beans.value.ObservableValue;
+import projekt.controller.GameController;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Saves a {@link GameSnapshot} of a game whenever its round counter reaches a multiple of the interval.
+ * <p>
+ * The game thread only encodes the snapshot into a byte array, which takes a few microseconds and is an
+ * immutable copy of the state at the round boundary. Writing the file happens on a single background
+ * thread shared by all games in the process. If a game's previous autosave has not been written yet,
+ * it is replaced by the newer one, so a slow disk delays autosaves but never piles them up.
+ * Files are replaced atomically, so a crash during a write keeps the previous autosave intact.
+ */
+public class Autosaver implements ChangeListener<Number> {
+    private static final ExecutorService WRITER = Executors.newSingleThreadExecutor(runnable -> {
+        final Thread thread = new Thread(runnable, "AutosaveWriterThread");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private static final Map<Path, byte[]> PENDING = new ConcurrentHashMap<>();
+
+    private final GameController gameController;
+    private final Path path;
+    private final int interval;
+
+    /**
+     * Creates a new autosaver for the given game.
+     * It has to be registered on the game's round counter to take effect.
+     *
+     * @param gameController the game to save
+     * @param path           the file to save to
+     * @param interval       the number of rounds between two saves
+     * @see GameController#getRoundCounterProperty()
+     */
+    public Autosaver(final GameController gameController, final Path path, final int interval) {
+        this.gameController = gameController;
+        this.path = path;
+        this.interval = interval;
+    }
+
+    @Override
+    public void changed(final ObservableValue<? extends Number> observable, final Number oldValue, final Number newValue) {
+        if (newValue.intValue() % interval == 0) {
+            save();
+        }
+    }
+
+    /**
+     * Encodes a snapshot of the game and schedules it to be written.
+     * Must be called on the game thread.
+     */
+    public void save() {
+        final byte[] bytes = GameSnapshot.of(gameController).toByteArray();
+        if (PENDING.put(path, bytes) == null) {
+            WRITER.execute(() -> write(path));
+        }
+    }
+
+    /**
+     * Returns the file this autosaver saves to.
+     *
+     * @return the file
+     */
+    public Path getPath() {
+        return path;
+    }
+
+    /**
+     * Writes the latest pending snapshot for the given file.
+     *
+     * @param path the file
+     */
+    private static void write(final Path path) {
+        final byte[] bytes = PENDING.remove(path);
+        if (bytes == null) {
+            return;
+        }
+        try {
+            final Path temporary = path.resolveSibling(path.getFileName() + ".tmp");
+            Files.write(temporary, bytes);
+            Files.move(temporary, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (final IOException e) {
+            e.printStackTrace();
+        }
+    }
+}
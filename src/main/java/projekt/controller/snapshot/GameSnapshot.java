@@ -0,0 +1,247 @@
+package projekt.controller.snapshot;
+
+import projekt.controller.GameController;
+import projekt.controller.io.ByteBuffers;
+import projekt.controller.journal.BoardLayout;
+import projekt.controller.journal.PlayerHands;
+import projekt.model.DevelopmentCardType;
+import projekt.model.GameState;
+import projekt.model.HexGrid;
+import projekt.model.Intersection;
+import projekt.model.Player;
+import projekt.model.PlayerImpl;
+import projekt.model.ResourceType;
+import projekt.model.TilePosition;
+import projekt.model.buildings.Edge;
+import projekt.model.buildings.Settlement;
+
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A snapshot of a running game: its {@link GameState} and the current round.
+ * <p>
+ * Snapshots are stored in a compact binary format. The board is stored as a {@link BoardLayout},
+ * followed by the robber position, the players with their hands and development cards, and the
+ * owners of all settlements and roads. Tile positions take one byte per coordinate, so a radius-3 board
+ * late in a game takes well under a kilobyte.
+ * Loading maps the file into memory and decodes it in a single pass.
+ * A loaded game is continued with {@link GameController#GameController(GameSnapshot)}.
+ *
+ * @param state the game state
+ * @param round the current round
+ */
+public record GameSnapshot(GameState state, int round) {
+    /**
+     * The magic number every snapshot starts with.
+     */
+    public static final int MAGIC = 0x464F5053;
+
+    /**
+     * The version of the snapshot format.
+     */
+    public static final byte VERSION = 1;
+
+    /**
+     * The file extension of snapshots.
+     */
+    public static final String FILE_EXTENSION = ".snapshot";
+
+    private static final int INITIAL_BUFFER_SIZE = 4 * 1024;
+    private static final byte NO_POSITION = Byte.MIN_VALUE;
+    private static final ResourceType[] RESOURCE_TYPES = ResourceType.values();
+    private static final DevelopmentCardType[] DEVELOPMENT_CARD_TYPES = DevelopmentCardType.values();
+
+    /**
+     * Returns a snapshot of the given game.
+     * The snapshot shares the game's state, so it should be written before the game continues.
+     *
+     * @param gameController the game
+     * @return the snapshot
+     */
+    public static GameSnapshot of(final GameController gameController) {
+        return new GameSnapshot(gameController.getState(), gameController.getRoundCounterProperty().get());
+    }
+
+    /**
+     * Writes this snapshot to the given buffer.
+     *
+     * @param buffer the buffer to write to
+     */
+    public void write(final ByteBuffer buffer) {
+        final HexGrid grid = state.getGrid();
+        buffer.putInt(MAGIC);
+        buffer.put(VERSION);
+        buffer.putInt(round);
+        BoardLayout.of(grid).write(buffer);
+        final TilePosition robberPosition = grid.getRobberPosition();
+        if (robberPosition == null) {
+            buffer.put(NO_POSITION);
+        } else {
+            ByteBuffers.putPosition(buffer, robberPosition);
+        }
+
+        buffer.put((byte) state.getPlayers().size());
+        for (final Player player : state.getPlayers()) {
+            buffer.put((byte) player.getID());
+            ByteBuffers.putString(buffer, player.getName());
+            buffer.putInt(ByteBuffers.toRgba(player.getColor()));
+            buffer.put((byte) (player.isAi() ? 1 : 0));
+            for (final ResourceType resourceType : RESOURCE_TYPES) {
+                buffer.putShort(player.getResources().getOrDefault(resourceType, 0).shortValue());
+            }
+            for (final DevelopmentCardType developmentCardType : DEVELOPMENT_CARD_TYPES) {
+                buffer.put(player.getDevelopmentCards().getOrDefault(developmentCardType, 0).byteValue());
+            }
+            buffer.put((byte) player.getKnightsPlayed());
+        }
+
+        final List<Intersection> settlements = grid.getIntersections().values().stream()
+            .filter(Intersection::hasSettlement)
+            .toList();
+        buffer.putShort((short) settlements.size());
+        for (final Intersection intersection : settlements) {
+            intersection.getAdjacentTilePositions().forEach(position -> ByteBuffers.putPosition(buffer, position));
+            buffer.put((byte) intersection.getSettlement().owner().getID());
+            buffer.put((byte) intersection.getSettlement().type().ordinal());
+        }
+
+        final List<Edge> roads = grid.getEdges().values().stream()
+            .filter(Edge::hasRoad)
+            .toList();
+        buffer.putShort((short) roads.size());
+        for (final Edge road : roads) {
+            ByteBuffers.putPosition(buffer, road.getPosition1());
+            ByteBuffers.putPosition(buffer, road.getPosition2());
+            buffer.put((byte) road.getRoadOwner().getID());
+        }
+    }
+
+    /**
+     * Reads a snapshot written by {@link #write(ByteBuffer)} from the given buffer.
+     *
+     * @param buffer the buffer to read from
+     * @return the snapshot
+     * @throws IllegalArgumentException if the buffer does not contain a snapshot of a known version
+     */
+    public static GameSnapshot read(final ByteBuffer buffer) {
+        if (buffer.getInt() != MAGIC) {
+            throw new IllegalArgumentException("Not a game snapshot");
+        }
+        final byte version = buffer.get();
+        if (version != VERSION) {
+            throw new IllegalArgumentException("Unsupported snapshot version: " + version);
+        }
+        final int round = buffer.getInt();
+        final HexGrid grid = BoardLayout.read(buffer).createGrid();
+        final byte robberQ = buffer.get();
+        grid.setRobberPosition(robberQ == NO_POSITION ? null : new TilePosition(robberQ, buffer.get()));
+
+        final int playerCount = buffer.get();
+        final List<Player> players = new ArrayList<>(playerCount);
+        final Player[] playersById = new Player[256];
+        for (int i = 0; i < playerCount; i++) {
+            final int id = Byte.toUnsignedInt(buffer.get());
+            final Player player = new PlayerImpl.Builder(id)
+                .name(ByteBuffers.getString(buffer))
+                .color(ByteBuffers.fromRgba(buffer.getInt()))
+                .ai(buffer.get() != 0)
+                .build(grid);
+            for (final ResourceType resourceType : RESOURCE_TYPES) {
+                final int amount = buffer.getShort();
+                if (amount > 0) {
+                    player.addResource(resourceType, amount);
+                }
+            }
+            for (final DevelopmentCardType developmentCardType : DEVELOPMENT_CARD_TYPES) {
+                final int amount = buffer.get();
+                for (int j = 0; j < amount; j++) {
+                    player.addDevelopmentCard(developmentCardType);
+                }
+            }
+            PlayerHands.restoreKnightsPlayed(player, buffer.get());
+            players.add(player);
+            playersById[id] = player;
+        }
+
+        final int settlementCount = buffer.getShort();
+        for (int i = 0; i < settlementCount; i++) {
+            final Intersection intersection = grid.getIntersectionAt(
+                ByteBuffers.getPosition(buffer),
+                ByteBuffers.getPosition(buffer),
+                ByteBuffers.getPosition(buffer)
+            );
+            final Player owner = playersById[Byte.toUnsignedInt(buffer.get())];
+            intersection.placeVillage(owner, true);
+            if (Settlement.Type.values()[buffer.get()] == Settlement.Type.CITY) {
+                intersection.upgradeSettlement(owner);
+            }
+        }
+
+        final int roadCount = buffer.getShort();
+        for (int i = 0; i < roadCount; i++) {
+            final Edge edge = grid.getEdge(ByteBuffers.getPosition(buffer), ByteBuffers.getPosition(buffer));
+            edge.getRoadOwnerProperty().setValue(playersById[Byte.toUnsignedInt(buffer.get())]);
+        }
+        return new GameSnapshot(new GameState(grid, players), round);
+    }
+
+    /**
+     * Returns this snapshot in its binary format.
+     *
+     * @return the encoded snapshot
+     */
+    public byte[] toByteArray() {
+        ByteBuffer buffer = ByteBuffer.allocate(INITIAL_BUFFER_SIZE);
+        while (true) {
+            try {
+                write(buffer);
+                return Arrays.copyOf(buffer.array(), buffer.position());
+            } catch (final BufferOverflowException e) {
+                buffer = ByteBuffer.allocate(buffer.capacity() * 2);
+            }
+        }
+    }
+
+    /**
+     * Saves this snapshot to the given file, replacing an existing file.
+     *
+     * @param path the path of the file
+     * @throws IOException if the file cannot be written
+     */
+    public void save(final Path path) throws IOException {
+        final ByteBuffer buffer = ByteBuffer.wrap(toByteArray());
+        try (FileChannel channel = FileChannel.open(
+            path,
+            StandardOpenOption.CREATE,
+            StandardOpenOption.TRUNCATE_EXISTING,
+            StandardOpenOption.WRITE
+        )) {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        }
+    }
+
+    /**
+     * Loads the snapshot stored in the given file.
+     * The file is mapped into memory instead of being copied to the heap.
+     *
+     * @param path the path of the file
+     * @return the snapshot
+     * @throws IOException              if the file cannot be read
+     * @throws IllegalArgumentException if the file is not a snapshot
+     */
+    public static GameSnapshot load(final Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            return read(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        }
+    }
+}
@@ -0,0 +1,4 @@
+/**
+ * Contains the binary snapshot format used to save and load games.
+ */
+package projekt.controller.snapshot;
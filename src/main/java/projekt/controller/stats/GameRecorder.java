@@ -0,0 +1,103 @@
+package projekt.controller.stats;
+
+import javafx.beans.value.ChangeListener;
+import javafx.beans.value.ObservableValue;
+import projekt.controller.GameController;
+import projekt.controller.GameEventListener;
+import projekt.model.BoardChangeListener;
+import projekt.model.Intersection;
+import projekt.model.Player;
+import projekt.model.buildings.Edge;
+import projekt.model.tiles.Tile;
+
+/**
+ * Records the statistics of a single game and adds them to a {@link StatisticsAggregator} once the game ended.
+ * <p>
+ * The recorder listens to the game's events, board and round counter, so all its work happens on the game thread
+ * and needs no synchronization. It has to be attached before the game starts and finished after it ended.
+ */
+public class GameRecorder implements GameEventListener, BoardChangeListener, ChangeListener<Number> {
+    private final GameController gameController;
+    private final StatisticsAggregator aggregator;
+    private final GameStatistics statistics = new GameStatistics();
+    private Player firstBuilder;
+
+    /**
+     * Creates a new recorder for the given game.
+     *
+     * @param gameController the game to record
+     * @param aggregator     the aggregator to add the statistics to
+     */
+    public GameRecorder(final GameController gameController, final StatisticsAggregator aggregator) {
+        this.gameController = gameController;
+        this.aggregator = aggregator;
+    }
+
+    /**
+     * Registers this recorder on the game.
+     */
+    public void attach() {
+        gameController.addGameEventListener(this);
+        gameController.getState().getGrid().addBoardChangeListener(this);
+        gameController.getRoundCounterProperty().addListener(this);
+    }
+
+    /**
+     * Unregisters this recorder from the game and adds the game's statistics to the aggregator.
+     */
+    public void finish() {
+        gameController.removeGameEventListener(this);
+        gameController.getState().getGrid().removeBoardChangeListener(this);
+        gameController.getRoundCounterProperty().removeListener(this);
+        final Player winner = gameController.getState().getWinnerProperty().getValue();
+        // the round counter is advanced once more after the last round
+        statistics.recordGame(
+            Math.max(0, gameController.getRoundCounterProperty().get() - 1),
+            winner != null,
+            firstBuilder != null,
+            firstBuilder != null && firstBuilder.equals(winner)
+        );
+        aggregator.add(statistics);
+    }
+
+    @Override
+    public void changed(final ObservableValue<? extends Number> observable, final Number oldValue, final Number newValue) {
+        final int round = oldValue.intValue();
+        if (round >= 1 && newValue.intValue() > round) {
+            for (final Player player : gameController.getState().getPlayers()) {
+                statistics.recordVictoryPoints(round, player.getVictoryPoints());
+            }
+        }
+    }
+
+    @Override
+    public void diceRolled(final int roll) {
+        statistics.recordDiceRoll(roll);
+    }
+
+    @Override
+    public void resourcesProduced(final Tile tile, final Player player, final int amount) {
+        statistics.recordProduction(tile.getType(), amount);
+    }
+
+    @Override
+    public void roadChanged(final Edge edge) {
+        recordBuild(edge.getRoadOwner());
+    }
+
+    @Override
+    public void settlementChanged(final Intersection intersection) {
+        recordBuild(intersection.getSettlement().owner());
+    }
+
+    /**
+     * Remembers the given player if it is the first to build after the opening round.
+     *
+     * @param builder the player who built
+     */
+    private void recordBuild(final Player builder) {
+        if (firstBuilder == null && builder != null && gameController.getRoundCounterProperty().get() >= 1) {
+            firstBuilder = builder;
+        }
+    }
+}
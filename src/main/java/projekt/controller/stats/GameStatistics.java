@@ -0,0 +1,235 @@
+package projekt.controller.stats;
+
+import projekt.Config;
+import projekt.model.ResourceType;
+import projekt.model.tiles.Tile;
+
+/**
+ * Aggregated statistics over any number of games.
+ * <p>
+ * All statistics are plain counters, so two instances are merged by adding them up and the result does not
+ * depend on the order games were recorded or merged in. Instances are not thread-safe; a
+ * {@link GameRecorder} fills one instance per game on the game thread, and the {@link StatisticsAggregator}
+ * merges them across threads.
+ */
+public final class GameStatistics {
+    private static final ResourceType[] RESOURCE_TYPES = ResourceType.values();
+    private static final Tile.Type[] TILE_TYPES = Tile.Type.values();
+    private static final int MAX_DICE_ROLL = Config.NUMBER_OF_DICE * Config.DICE_SIDES;
+    private static final int MAX_ROUND = Config.STATISTICS_MAX_ROUND;
+
+    private final long[] diceRolls = new long[MAX_DICE_ROLL + 1];
+    private final long[] producedByResource = new long[RESOURCE_TYPES.length];
+    private final long[] producedByTileType = new long[TILE_TYPES.length];
+    private final long[] victoryPointSums = new long[MAX_ROUND + 1];
+    private final long[] victoryPointCounts = new long[MAX_ROUND + 1];
+    private final long[] gameLengths = new long[MAX_ROUND + 1];
+    private long games;
+    private long rounds;
+    private long gamesWithWinner;
+    private long gamesWithFirstBuilder;
+    private long firstBuilderWins;
+
+    /**
+     * Counts a dice roll.
+     *
+     * @param roll the rolled number
+     */
+    void recordDiceRoll(final int roll) {
+        diceRolls[roll]++;
+    }
+
+    /**
+     * Counts resources produced by a tile.
+     *
+     * @param tileType the type of the producing tile
+     * @param amount   the number of produced resources
+     */
+    void recordProduction(final Tile.Type tileType, final int amount) {
+        producedByTileType[tileType.ordinal()] += amount;
+        if (tileType.resourceType != null) {
+            producedByResource[tileType.resourceType.ordinal()] += amount;
+        }
+    }
+
+    /**
+     * Counts the victory points a player had at the end of a round.
+     *
+     * @param round         the round
+     * @param victoryPoints the victory points
+     */
+    void recordVictoryPoints(final int round, final int victoryPoints) {
+        victoryPointSums[Math.min(round, MAX_ROUND)] += victoryPoints;
+        victoryPointCounts[Math.min(round, MAX_ROUND)]++;
+    }
+
+    /**
+     * Counts a finished game.
+     *
+     * @param rounds          the number of rounds played
+     * @param hasWinner       whether a player won
+     * @param hasFirstBuilder whether a player built after the setup rounds
+     * @param firstBuilderWon whether the first player to build after the setup rounds won
+     */
+    void recordGame(final int rounds, final boolean hasWinner, final boolean hasFirstBuilder, final boolean firstBuilderWon) {
+        games++;
+        this.rounds += rounds;
+        gameLengths[Math.min(rounds, MAX_ROUND)]++;
+        if (hasWinner) {
+            gamesWithWinner++;
+        }
+        if (hasFirstBuilder && hasWinner) {
+            gamesWithFirstBuilder++;
+            if (firstBuilderWon) {
+                firstBuilderWins++;
+            }
+        }
+    }
+
+    /**
+     * Adds the given statistics to these statistics.
+     *
+     * @param other the statistics to add
+     */
+    public void merge(final GameStatistics other) {
+        add(diceRolls, other.diceRolls);
+        add(producedByResource, other.producedByResource);
+        add(producedByTileType, other.producedByTileType);
+        add(victoryPointSums, other.victoryPointSums);
+        add(victoryPointCounts, other.victoryPointCounts);
+        add(gameLengths, other.gameLengths);
+        games += other.games;
+        rounds += other.rounds;
+        gamesWithWinner += other.gamesWithWinner;
+        gamesWithFirstBuilder += other.gamesWithFirstBuilder;
+        firstBuilderWins += other.firstBuilderWins;
+    }
+
+    /**
+     * Returns the number of games.
+     *
+     * @return the number of games
+     */
+    public long getGames() {
+        return games;
+    }
+
+    /**
+     * Returns the number of games a player won.
+     *
+     * @return the number of games with a winner
+     */
+    public long getGamesWithWinner() {
+        return gamesWithWinner;
+    }
+
+    /**
+     * Returns how often the given number was rolled.
+     *
+     * @param roll the rolled number
+     * @return the number of rolls
+     */
+    public long getDiceRolls(final int roll) {
+        return roll >= 0 && roll <= MAX_DICE_ROLL ? diceRolls[roll] : 0;
+    }
+
+    /**
+     * Returns the number of resources of the given type produced by dice rolls.
+     *
+     * @param resourceType the resource type
+     * @return the number of produced resources
+     */
+    public long getProduced(final ResourceType resourceType) {
+        return producedByResource[resourceType.ordinal()];
+    }
+
+    /**
+     * Returns the number of resources produced by tiles of the given type.
+     *
+     * @param tileType the tile type
+     * @return the number of produced resources
+     */
+    public long getProduced(final Tile.Type tileType) {
+        return producedByTileType[tileType.ordinal()];
+    }
+
+    /**
+     * Returns the average number of victory points players had at the end of the given round.
+     * Rounds after {@link Config#STATISTICS_MAX_ROUND} are counted as that round.
+     *
+     * @param round the round
+     * @return the average victory points, {@code NaN} if no game reached the round
+     */
+    public double getAverageVictoryPoints(final int round) {
+        final int index = Math.min(round, MAX_ROUND);
+        return (double) victoryPointSums[index] / victoryPointCounts[index];
+    }
+
+    /**
+     * Returns the number of games that took the given number of rounds.
+     * Games longer than {@link Config#STATISTICS_MAX_ROUND} rounds are counted as that many rounds.
+     *
+     * @param rounds the number of rounds
+     * @return the number of games
+     */
+    public long getGameLengths(final int rounds) {
+        return rounds >= 0 && rounds <= MAX_ROUND ? gameLengths[rounds] : 0;
+    }
+
+    /**
+     * Returns the average number of rounds of a game.
+     *
+     * @return the average number of rounds, {@code NaN} if there are no games
+     */
+    public double getAverageGameLength() {
+        return (double) rounds / games;
+    }
+
+    /**
+     * Returns the share of won games that were won by the first player to build after the setup rounds.
+     *
+     * @return the win rate of the first builder, {@code NaN} if there are no such games
+     */
+    public double getFirstBuilderWinRate() {
+        return (double) firstBuilderWins / gamesWithFirstBuilder;
+    }
+
+    /**
+     * Returns a human-readable summary of these statistics.
+     *
+     * @return the summary
+     */
+    public String report() {
+        final StringBuilder builder = new StringBuilder();
+        builder.append(String.format(
+            "Games: %d, won: %d, average length: %.1f rounds%n",
+            games,
+            gamesWithWinner,
+            getAverageGameLength()
+        ));
+        builder.append("Dice rolls:");
+        for (int roll = Config.NUMBER_OF_DICE; roll <= MAX_DICE_ROLL; roll++) {
+            builder.append(String.format(" %d=%d", roll, diceRolls[roll]));
+        }
+        builder.append(String.format("%nProduced resources:"));
+        for (final ResourceType resourceType : RESOURCE_TYPES) {
+            builder.append(String.format(" %s=%d", resourceType, getProduced(resourceType)));
+        }
+        builder.append(String.format("%nProduced by tile:"));
+        for (final Tile.Type tileType : TILE_TYPES) {
+            builder.append(String.format(" %s=%d", tileType, getProduced(tileType)));
+        }
+        builder.append(String.format("%nAverage victory points:"));
+        for (int round = 1; round <= MAX_ROUND && victoryPointCounts[round] > 0; round += 10) {
+            builder.append(String.format(" r%d=%.2f", round, getAverageVictoryPoints(round)));
+        }
+        builder.append(String.format("%nFirst builder win rate: %.3f%n", getFirstBuilderWinRate()));
+        return builder.toString();
+    }
+
+    private static void add(final long[] target, final long[] source) {
+        for (int i = 0; i < target.length; i++) {
+            target[i] += source[i];
+        }
+    }
+}
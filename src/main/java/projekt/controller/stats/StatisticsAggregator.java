@@ -0,0 +1,47 @@
+package projekt.controller.stats;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Collects the {@link GameStatistics} of games running on any number of threads.
+ * <p>
+ * Every thread adds its games to a stripe of its own, so adding a game only takes an uncontended lock and
+ * a few hundred additions, no matter how many threads report at once. The stripes are merged only when a
+ * report is requested with {@link #snapshot()}.
+ */
+public final class StatisticsAggregator {
+    private final Queue<GameStatistics> stripes = new ConcurrentLinkedQueue<>();
+    private final ThreadLocal<GameStatistics> stripe = ThreadLocal.withInitial(() -> {
+        final GameStatistics statistics = new GameStatistics();
+        stripes.add(statistics);
+        return statistics;
+    });
+
+    /**
+     * Adds the given statistics to the stripe of the calling thread.
+     *
+     * @param statistics the statistics to add
+     */
+    public void add(final GameStatistics statistics) {
+        final GameStatistics local = stripe.get();
+        synchronized (local) {
+            local.merge(statistics);
+        }
+    }
+
+    /**
+     * Returns the statistics of all games added so far.
+     *
+     * @return new statistics merged from all stripes
+     */
+    public GameStatistics snapshot() {
+        final GameStatistics result = new GameStatistics();
+        for (final GameStatistics local : stripes) {
+            synchronized (local) {
+                result.merge(local);
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,4 @@
+/**
+ * Contains mergeable statistics over many games and the listeners that collect them.
+ */
+package projekt.controller.stats;
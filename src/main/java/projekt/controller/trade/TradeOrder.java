@@ -0,0 +1,53 @@
+package projekt.controller.trade;
+
+import projekt.model.Player;
+import projekt.model.ResourceType;
+
+import java.util.Map;
+
+/**
+ * A standing trade offer in the {@link TradeOrderBook}.
+ *
+ * @param id                the id of the order, increasing in posting order
+ * @param owner             the player who posted the order
+ * @param give              the resources the owner gives
+ * @param receive           the resources the owner wants in return
+ * @param expiresAfterRound the last round in which the order can be matched
+ */
+public record TradeOrder(
+    long id,
+    Player owner,
+    Map<ResourceType, Integer> give,
+    Map<ResourceType, Integer> receive,
+    int expiresAfterRound
+) {
+    /**
+     * Creates a new trade order with unmodifiable copies of the given resources.
+     */
+    public TradeOrder {
+        give = Map.copyOf(give);
+        receive = Map.copyOf(receive);
+    }
+
+    /**
+     * Returns whether this order gives at least the given resources.
+     *
+     * @param resources the resources to check
+     * @return whether this order covers the given resources
+     */
+    public boolean gives(final Map<ResourceType, Integer> resources) {
+        return resources.entrySet().stream()
+            .allMatch(entry -> give.getOrDefault(entry.getKey(), 0) >= entry.getValue());
+    }
+
+    /**
+     * Returns how many more cards the counterparty receives than it gives when
+     * trading with this order.
+     *
+     * @return the surplus of this order for the counterparty
+     */
+    public int surplus() {
+        return give.values().stream().mapToInt(Integer::intValue).sum()
+            - receive.values().stream().mapToInt(Integer::intValue).sum();
+    }
+}
@@ -0,0 +1,116 @@
+package projekt.controller.trade;
+
+import projekt.model.Player;
+import projekt.model.ResourceType;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * An order book for standing trade offers between players.
+ * <p>
+ * A posted order is matched against the resting orders of other players. A resting order matches
+ * when it gives at least what the posted order wants and wants at most what the posted order gives.
+ * The trade is settled on the terms of the resting order, so neither side gets less than it asked for.
+ * If several resting orders match, the one with the best price for the poster wins, that is the one
+ * with the highest {@link TradeOrder#surplus() surplus}; ties go to the earliest order.
+ * Orders that find no match rest in the book until they are matched, cancelled or expire.
+ * <p>
+ * Resources are not reserved while an order rests. A resting order whose owner can no longer pay
+ * is removed when it would be matched. Matching and settlement happen atomically under the book's lock.
+ */
+public class TradeOrderBook {
+    private final List<TradeOrder> orders = new ArrayList<>();
+    private long nextId = 0;
+
+    /**
+     * A settled trade between two orders.
+     *
+     * @param maker the resting order whose terms were used
+     * @param taker the posted order that matched it
+     */
+    public record Match(TradeOrder maker, TradeOrder taker) {}
+
+    /**
+     * Posts a new order and settles it against the best matching resting order.
+     * The poster must hold the offered resources.
+     *
+     * @param owner             the player posting the order
+     * @param give              the resources the player gives
+     * @param receive           the resources the player wants in return
+     * @param expiresAfterRound the last round in which the order can be matched
+     * @return the settled match, or an empty optional if the order now rests in the book
+     * @throws IllegalArgumentException if the order is malformed or the owner lacks the offered resources
+     */
+    public synchronized Optional<Match> post(
+        final Player owner, final Map<ResourceType, Integer> give,
+        final Map<ResourceType, Integer> receive, final int expiresAfterRound
+    ) {
+        if (give.isEmpty() || receive.isEmpty()
+            || give.values().stream().anyMatch(amount -> amount <= 0)
+            || receive.values().stream().anyMatch(amount -> amount <= 0)) {
+            throw new IllegalArgumentException("Orders must give and receive positive amounts");
+        }
+        if (give.keySet().stream().anyMatch(receive::containsKey)) {
+            throw new IllegalArgumentException("Orders must not give and receive the same resource");
+        }
+        if (!owner.hasResources(give)) {
+            throw new IllegalArgumentException("Player does not have the offered resources");
+        }
+        final TradeOrder taker = new TradeOrder(nextId++, owner, give, receive, expiresAfterRound);
+        TradeOrder best = null;
+        for (final Iterator<TradeOrder> iterator = orders.iterator(); iterator.hasNext(); ) {
+            final TradeOrder maker = iterator.next();
+            if (maker.owner().equals(owner) || !maker.gives(taker.receive()) || !taker.gives(maker.receive())) {
+                continue;
+            }
+            if (!maker.owner().hasResources(maker.give())) {
+                iterator.remove();
+                continue;
+            }
+            if (best == null || maker.surplus() > best.surplus()) {
+                best = maker;
+            }
+        }
+        if (best == null) {
+            orders.add(taker);
+            return Optional.empty();
+        }
+        orders.remove(best);
+        best.owner().removeResources(best.give());
+        owner.removeResources(best.receive());
+        owner.addResources(best.give());
+        best.owner().addResources(best.receive());
+        return Optional.of(new Match(best, taker));
+    }
+
+    /**
+     * Removes all orders that expired before the given round.
+     *
+     * @param round the current round
+     */
+    public synchronized void expire(final int round) {
+        orders.removeIf(order -> order.expiresAfterRound() < round);
+    }
+
+    /**
+     * Removes all orders of the given player.
+     *
+     * @param owner the player whose orders to remove
+     */
+    public synchronized void cancel(final Player owner) {
+        orders.removeIf(order -> order.owner().equals(owner));
+    }
+
+    /**
+     * Returns all resting orders in time priority.
+     *
+     * @return an unmodifiable snapshot of all resting orders
+     */
+    public synchronized List<TradeOrder> getOrders() {
+        return List.copyOf(orders);
+    }
+}
@@ -0,0 +1,4 @@
+/**
+ * Contains the order book players use to post standing trade offers.
+ */
+package projekt.controller.trade;
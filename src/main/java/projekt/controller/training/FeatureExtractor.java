@@ -0,0 +1,266 @@
+package projekt.controller.training;
+
+import projekt.controller.GameController;
+import projekt.controller.PlayerController;
+import projekt.controller.actions.AcceptTradeAction;
+import projekt.controller.actions.BuildRoadAction;
+import projekt.controller.actions.BuildVillageAction;
+import projekt.controller.actions.BuyDevelopmentCardAction;
+import projekt.controller.actions.EndTurnAction;
+import projekt.controller.actions.PlayDevelopmentCardAction;
+import projekt.controller.actions.PlayerAction;
+import projekt.controller.actions.PostTradeOrderAction;
+import projekt.controller.actions.RollDiceAction;
+import projekt.controller.actions.SelectCardsAction;
+import projekt.controller.actions.SelectRobberTileAction;
+import projekt.controller.actions.StealCardAction;
+import projekt.controller.actions.TradeAction;
+import projekt.controller.actions.UpgradeVillageAction;
+import projekt.controller.ai.RollProbabilities;
+import projekt.model.HexGrid;
+import projekt.model.Intersection;
+import projekt.model.Player;
+import projekt.model.PlayerState;
+import projekt.model.ResourceType;
+import projekt.model.TilePosition;
+import projekt.model.buildings.Edge;
+import projekt.model.buildings.Port;
+import projekt.model.buildings.Settlement;
+import projekt.model.tiles.Tile;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Extracts a fixed-length numeric feature vector describing a player's situation at a decision point.
+ * <p>
+ * The features are listed in {@link #FEATURE_NAMES}. They cover the player's {@link PlayerState}, the inventories
+ * of the player and its opponents, the expected production per resource, the trade ratios given by ports and
+ * the reach of the player's road network. The extractor resolves the board's adjacency, ports and tiles once,
+ * so every extraction is a single pass over the intersections and edges without allocating per element.
+ */
+public class FeatureExtractor {
+    /**
+     * The names of all features, in the order they are written.
+     */
+    public static final List<String> FEATURE_NAMES;
+
+    /**
+     * The number of features per sample.
+     */
+    public static final int FEATURE_COUNT;
+
+    private static final ResourceType[] RESOURCE_TYPES = ResourceType.values();
+    private static final List<Class<? extends PlayerAction>> ACTION_TYPES = List.of(
+        AcceptTradeAction.class,
+        BuildRoadAction.class,
+        BuildVillageAction.class,
+        BuyDevelopmentCardAction.class,
+        EndTurnAction.class,
+        PlayDevelopmentCardAction.class,
+        PostTradeOrderAction.class,
+        RollDiceAction.class,
+        SelectCardsAction.class,
+        SelectRobberTileAction.class,
+        StealCardAction.class,
+        TradeAction.class,
+        UpgradeVillageAction.class
+    );
+
+    static {
+        final List<String> names = new ArrayList<>(List.of(
+            "round",
+            "objective",
+            "action",
+            "victory_points",
+            "opponent_max_victory_points",
+            "resources",
+            "opponent_resources",
+            "development_cards",
+            "knights_played",
+            "remaining_roads",
+            "remaining_villages",
+            "remaining_cities",
+            "buildable_villages",
+            "upgradable_villages",
+            "buildable_roads",
+            "players_to_steal_from",
+            "cards_to_select",
+            "roads",
+            "road_reach"
+        ));
+        for (final String prefix : List.of("resources.", "production.", "trade_ratio.")) {
+            for (final ResourceType resourceType : RESOURCE_TYPES) {
+                names.add(prefix + resourceType.name().toLowerCase(Locale.ROOT));
+            }
+        }
+        FEATURE_NAMES = Collections.unmodifiableList(names);
+        FEATURE_COUNT = names.size();
+    }
+
+    private final GameController gameController;
+    private final HexGrid hexGrid;
+    private final Intersection[] intersections;
+    private final Port[] ports;
+    private final Tile[][] adjacentTiles;
+    private final Edge[] edges;
+    private final int[][] edgeIntersections;
+    private final boolean[] reached;
+    private final double[] production = new double[RESOURCE_TYPES.length];
+    private final int[] tradeRatios = new int[RESOURCE_TYPES.length];
+
+    /**
+     * Creates a new extractor for the given game. The game's board must not change its layout afterwards.
+     *
+     * @param gameController the game
+     */
+    public FeatureExtractor(final GameController gameController) {
+        this.gameController = gameController;
+        this.hexGrid = gameController.getState().getGrid();
+        this.intersections = hexGrid.getIntersections().values().toArray(Intersection[]::new);
+        this.ports = new Port[intersections.length];
+        this.adjacentTiles = new Tile[intersections.length][];
+        final Map<Intersection, Integer> intersectionIndices = new HashMap<>();
+        for (int i = 0; i < intersections.length; i++) {
+            intersectionIndices.put(intersections[i], i);
+            ports[i] = intersections[i].getPort();
+            adjacentTiles[i] = intersections[i].getAdjacentTilePositions().stream()
+                .map(hexGrid::getTileAt)
+                .filter(tile -> tile != null && tile.getType().resourceType != null)
+                .toArray(Tile[]::new);
+        }
+        this.edges = hexGrid.getEdges().values().toArray(Edge[]::new);
+        this.edgeIntersections = new int[edges.length][];
+        for (int i = 0; i < edges.length; i++) {
+            edgeIntersections[i] = edges[i].getIntersections().stream()
+                .mapToInt(intersection -> intersectionIndices.getOrDefault(intersection, -1))
+                .filter(index -> index >= 0)
+                .toArray();
+        }
+        this.reached = new boolean[intersections.length];
+    }
+
+    /**
+     * Writes the features of the given player about to execute the given action into the given array.
+     *
+     * @param player   the deciding player
+     * @param action   the action the player decided on
+     * @param features the array to write to
+     * @param offset   the index of the first feature in the array
+     */
+    public void extract(final Player player, final PlayerAction action, final float[] features, final int offset) {
+        final PlayerController playerController = gameController.getPlayerControllers().get(player);
+        final PlayerState playerState = playerController.getPlayerState();
+        int i = offset;
+        features[i++] = gameController.getRoundCounterProperty().get();
+        features[i++] = playerController.getPlayerObjectiveProperty().getValue().ordinal();
+        features[i++] = ACTION_TYPES.indexOf(action.getClass());
+        features[i++] = player.getVictoryPoints();
+        int opponentVictoryPoints = 0;
+        int opponentResources = 0;
+        for (final Player opponent : gameController.getState().getPlayers()) {
+            if (opponent != player) {
+                opponentVictoryPoints = Math.max(opponentVictoryPoints, opponent.getVictoryPoints());
+                opponentResources += sum(opponent.getResources());
+            }
+        }
+        features[i++] = opponentVictoryPoints;
+        features[i++] = sum(player.getResources());
+        features[i++] = opponentResources;
+        features[i++] = player.getTotalDevelopmentCards();
+        features[i++] = player.getKnightsPlayed();
+        features[i++] = player.getRemainingRoads();
+        features[i++] = player.getRemainingVillages();
+        features[i++] = player.getRemainingCities();
+        features[i++] = playerState == null ? 0 : playerState.buildableVillageIntersections().size();
+        features[i++] = playerState == null ? 0 : playerState.upgradableVillageIntersections().size();
+        features[i++] = playerState == null ? 0 : playerState.buildableRoadEdges().size();
+        features[i++] = playerState == null ? 0 : playerState.playersToStealFrom().size();
+        features[i++] = playerState == null ? 0 : playerState.cardsToSelect();
+        i = extractRoads(player, features, i);
+        for (final ResourceType resourceType : RESOURCE_TYPES) {
+            features[i++] = player.getResources().getOrDefault(resourceType, 0);
+        }
+        extractSettlements(player);
+        for (final double value : production) {
+            features[i++] = (float) value;
+        }
+        for (final int ratio : tradeRatios) {
+            features[i++] = ratio;
+        }
+    }
+
+    /**
+     * Writes the number of roads and the number of intersections they reach.
+     *
+     * @param player   the player
+     * @param features the array to write to
+     * @param index    the index of the first feature
+     * @return the index after the written features
+     */
+    private int extractRoads(final Player player, final float[] features, final int index) {
+        Arrays.fill(reached, false);
+        int roads = 0;
+        int reach = 0;
+        for (int i = 0; i < edges.length; i++) {
+            if (edges[i].getRoadOwner() != player) {
+                continue;
+            }
+            roads++;
+            for (final int intersection : edgeIntersections[i]) {
+                if (!reached[intersection]) {
+                    reached[intersection] = true;
+                    reach++;
+                }
+            }
+        }
+        features[index] = roads;
+        features[index + 1] = reach;
+        return index + 2;
+    }
+
+    /**
+     * Computes the expected production per roll and the trade ratios of the player's settlements.
+     * Tiles blocked by the robber do not produce.
+     *
+     * @param player the player
+     */
+    private void extractSettlements(final Player player) {
+        Arrays.fill(production, 0);
+        Arrays.fill(tradeRatios, 4);
+        final TilePosition robber = hexGrid.getRobberPosition();
+        for (int i = 0; i < intersections.length; i++) {
+            final Settlement settlement = intersections[i].getSettlement();
+            if (settlement == null || settlement.owner() != player) {
+                continue;
+            }
+            for (final Tile tile : adjacentTiles[i]) {
+                if (!tile.getPosition().equals(robber)) {
+                    production[tile.getType().resourceType.ordinal()] += RollProbabilities.of(tile.getRollNumber())
+                        * settlement.type().resourceAmount;
+                }
+            }
+            final Port port = ports[i];
+            if (port != null) {
+                for (final ResourceType resourceType : RESOURCE_TYPES) {
+                    if (port.resourceType() == null || port.resourceType() == resourceType) {
+                        tradeRatios[resourceType.ordinal()] = Math.min(tradeRatios[resourceType.ordinal()], port.ratio());
+                    }
+                }
+            }
+        }
+    }
+
+    private static int sum(final Map<ResourceType, Integer> resources) {
+        int sum = 0;
+        for (final int amount : resources.values()) {
+            sum += amount;
+        }
+        return sum;
+    }
+}
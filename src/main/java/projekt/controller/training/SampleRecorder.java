@@ -0,0 +1,88 @@
+package projekt.controller.training;
+
+import projekt.controller.GameController;
+import projekt.controller.GameEventListener;
+import projekt.controller.actions.PlayerAction;
+import projekt.model.Player;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Records a training sample for every action a player of a single game decides on and hands them to a
+ * {@link SampleWriter} once the outcome of the game is known.
+ * <p>
+ * The recorder listens to the game's events, so the features are extracted on the game thread right before
+ * each action is executed, and it needs no synchronization. It has to be attached before the game starts and
+ * finished after it ended.
+ */
+public class SampleRecorder implements GameEventListener {
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private final GameController gameController;
+    private final SampleWriter writer;
+    private final FeatureExtractor extractor;
+    private final List<Player> samplePlayers = new ArrayList<>(INITIAL_CAPACITY);
+    private float[] samples = new float[INITIAL_CAPACITY * SampleWriter.SAMPLE_SIZE];
+    private PlayerAction lastAction;
+
+    /**
+     * Creates a new recorder for the given game.
+     *
+     * @param gameController the game to record
+     * @param writer         the writer to hand the samples to
+     */
+    public SampleRecorder(final GameController gameController, final SampleWriter writer) {
+        this.gameController = gameController;
+        this.writer = writer;
+        this.extractor = new FeatureExtractor(gameController);
+    }
+
+    /**
+     * Registers this recorder on the game.
+     */
+    public void attach() {
+        gameController.addGameEventListener(this);
+    }
+
+    /**
+     * Unregisters this recorder, labels all samples with the outcome of the game and submits them to the writer.
+     *
+     * @throws IOException if the writer failed
+     */
+    public void finish() throws IOException {
+        gameController.removeGameEventListener(this);
+        final Player winner = gameController.getState().getWinnerProperty().getValue();
+        final int finished = gameController.isRoundLimitReached() ? 0 : 1;
+        final int count = samplePlayers.size();
+        for (int sample = 0; sample < count; sample++) {
+            final Player player = samplePlayers.get(sample);
+            final int labels = sample * SampleWriter.SAMPLE_SIZE + FeatureExtractor.FEATURE_COUNT;
+            samples[labels] = player.equals(winner) ? 1 : 0;
+            samples[labels + 1] = player.getVictoryPoints();
+            samples[labels + 2] = finished;
+        }
+        writer.submit(samples, count);
+    }
+
+    @Override
+    public void actionAccepted(final Player player, final PlayerAction action) {
+        final int sample = samplePlayers.size();
+        if ((sample + 1) * SampleWriter.SAMPLE_SIZE > samples.length) {
+            samples = Arrays.copyOf(samples, samples.length * 2);
+        }
+        extractor.extract(player, action, samples, sample * SampleWriter.SAMPLE_SIZE);
+        samplePlayers.add(player);
+        lastAction = action;
+    }
+
+    @Override
+    public void actionRevoked(final Player player, final PlayerAction action) {
+        if (action == lastAction) {
+            samplePlayers.remove(samplePlayers.size() - 1);
+            lastAction = null;
+        }
+    }
+}
@@ -0,0 +1,210 @@
+package projekt.controller.training;
+
+import projekt.Config;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * Writes training samples produced by many games to a single binary file.
+ * <p>
+ * Producers hand over whole batches of samples with {@link #submit(float[], int)}; a single writer thread appends
+ * them to the file in order of submission. The queue between them is bounded by
+ * {@link Config#TRAINING_QUEUE_CAPACITY} batches, so producers block instead of piling up memory if the disk
+ * cannot keep up.
+ * <p>
+ * The file starts with a header of four little-endian ints: {@link #MAGIC}, {@link #VERSION}, the number of
+ * features and the number of labels. It is followed by the samples, each consisting of
+ * {@link FeatureExtractor#FEATURE_COUNT} features and {@link #LABEL_COUNT} labels as little-endian floats,
+ * so the whole file can be loaded as a plain float matrix after skipping the header.
+ */
+public class SampleWriter implements Closeable {
+    /**
+     * The magic number the file starts with.
+     */
+    public static final int MAGIC = 0x464F5054;
+
+    /**
+     * The version of the file format.
+     */
+    public static final int VERSION = 2;
+
+    /**
+     * The size of the header in bytes.
+     */
+    public static final int HEADER_SIZE = 4 * Integer.BYTES;
+
+    /**
+     * The number of labels per sample: whether the player won, the player's victory points at the end of
+     * the game and whether the game was finished rather than stopped at the round limit.
+     * Samples of stopped games have no winner, so they should not be read as losses.
+     */
+    public static final int LABEL_COUNT = 3;
+
+    /**
+     * The number of floats per sample.
+     */
+    public static final int SAMPLE_SIZE = FeatureExtractor.FEATURE_COUNT + LABEL_COUNT;
+
+    private static final int BUFFER_SIZE = 1024 * 1024;
+    private static final Batch END = new Batch(new float[0], 0);
+
+    private final FileChannel channel;
+    private final BlockingQueue<Batch> queue = new ArrayBlockingQueue<>(Config.TRAINING_QUEUE_CAPACITY);
+    private final Thread writerThread;
+    private volatile IOException failure;
+    private long samples = 0;
+    private boolean closed = false;
+
+    /**
+     * Creates the given file, writes its header and starts the writer thread.
+     *
+     * @param file the file, replaced if it exists
+     * @throws IOException if the file cannot be created
+     */
+    public SampleWriter(final Path file) throws IOException {
+        this.channel = FileChannel.open(
+            file,
+            StandardOpenOption.CREATE,
+            StandardOpenOption.TRUNCATE_EXISTING,
+            StandardOpenOption.WRITE
+        );
+        final ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        header.putInt(MAGIC).putInt(VERSION).putInt(FeatureExtractor.FEATURE_COUNT).putInt(LABEL_COUNT).flip();
+        try {
+            while (header.hasRemaining()) {
+                channel.write(header);
+            }
+        } catch (final IOException e) {
+            channel.close();
+            throw e;
+        }
+        this.writerThread = new Thread(this::write, "SampleWriter");
+        writerThread.setDaemon(true);
+        writerThread.start();
+    }
+
+    /**
+     * Queues the given samples for writing, waiting while the queue is full.
+     * The array must not be modified afterwards.
+     *
+     * @param samples the samples, {@link #SAMPLE_SIZE} floats each
+     * @param count   the number of samples to write from the start of the array
+     * @throws IOException if writing previous samples failed or the calling thread was interrupted
+     */
+    public void submit(final float[] samples, final int count) throws IOException {
+        if (failure != null) {
+            throw new IOException("Writing samples failed", failure);
+        }
+        if (count == 0) {
+            return;
+        }
+        try {
+            queue.put(new Batch(samples, count));
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while queueing samples");
+        }
+    }
+
+    /**
+     * Returns the number of samples written so far. Only exact after {@link #close()}.
+     *
+     * @return the number of samples
+     */
+    public synchronized long getSampleCount() {
+        return samples;
+    }
+
+    /**
+     * Waits until all queued samples are written and closes the file.
+     * No samples may be submitted afterwards.
+     *
+     * @throws IOException if writing failed or the calling thread was interrupted
+     */
+    @Override
+    public void close() throws IOException {
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+        }
+        try {
+            queue.put(END);
+            writerThread.join();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while closing the sample writer");
+        } finally {
+            channel.close();
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    /**
+     * Writes queued batches until the end marker is taken. Runs on the writer thread.
+     */
+    private void write() {
+        final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        try {
+            for (Batch batch = queue.take(); batch != END; batch = queue.take()) {
+                final int length = batch.count() * SAMPLE_SIZE;
+                for (int i = 0; i < length; i++) {
+                    if (!buffer.hasRemaining()) {
+                        flush(buffer);
+                    }
+                    buffer.putFloat(batch.samples()[i]);
+                }
+                synchronized (this) {
+                    samples += batch.count();
+                }
+            }
+            flush(buffer);
+        } catch (final IOException e) {
+            failure = e;
+            drain();
+        } catch (final InterruptedException e) {
+            failure = new InterruptedIOException("Sample writer interrupted");
+        }
+    }
+
+    /**
+     * Discards batches until the end marker is taken after writing failed, so producers do not block forever.
+     */
+    private void drain() {
+        try {
+            while (queue.take() != END) {
+                // discard
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void flush(final ByteBuffer buffer) throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    /**
+     * A batch of samples handed from a producer to the writer thread.
+     *
+     * @param samples the samples
+     * @param count   the number of samples
+     */
+    private record Batch(float[] samples, int count) {}
+}
@@ -0,0 +1,4 @@
+/**
+ * Contains the pipeline that turns simulated games into training samples for AI evaluation functions.
+ */
+package projekt.controller.training;
@@ -0,0 +1,33 @@
+package projekt.model;
+
+import projekt.model.buildings.Edge;
+
+/**
+ * A listener for changes of the pieces on a {@link HexGrid}: roads, settlements and the robber.
+ * Listeners are called on the thread that changed the grid, usually the game thread.
+ *
+ * @see HexGrid#addBoardChangeListener(BoardChangeListener)
+ */
+public interface BoardChangeListener {
+    /**
+     * Called after a road was placed on or removed from the given edge.
+     *
+     * @param edge the edge
+     */
+    default void roadChanged(final Edge edge) {}
+
+    /**
+     * Called after a village was placed on the given intersection or its settlement was upgraded.
+     *
+     * @param intersection the intersection
+     */
+    default void settlementChanged(final Intersection intersection) {}
+
+    /**
+     * Called after the robber was moved.
+     *
+     * @param from the previous position of the robber, may be {@code null}
+     * @param to   the new position of the robber, may be {@code null}
+     */
+    default void robberMoved(final TilePosition from, final TilePosition to) {}
+}
@@ -223,4 +223,21 @@ public interface HexGrid {
      * @param position the new position of the robber
      */
     void setRobberPosition(TilePosition position);
+
+
+    // Listeners
+
+    /**
+     * Registers a listener that is called whenever a road, settlement or the robber changes.
+     *
+     * @param listener the listener
+     */
+    void addBoardChangeListener(BoardChangeListener listener);
+
+    /**
+     * Removes a listener registered with {@link #addBoardChangeListener(BoardChangeListener)}.
+     *
+     * @param listener the listener
+     */
+    void removeBoardChangeListener(BoardChangeListener listener);
 }
@@ -20,6 +20,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.function.BiFunction;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
@@ -36,6 +37,8 @@ public class HexGridImpl implements HexGrid {
     private final ObservableDoubleValue tileWidth;
     private final ObservableDoubleValue tileHeight;
     private final DoubleProperty tileSize = new SimpleDoubleProperty(50);
+    private final List<BoardChangeListener> boardChangeListeners = new CopyOnWriteArrayList<>();
+    private boolean roadListenersInstalled = false;
 
     /**
      * Constructs a new hex grid with the specified radius and generators.
@@ -54,6 +57,28 @@ public class HexGridImpl implements HexGrid {
         initRobber();
     }
 
+    /**
+     * Constructs a new hex grid with the specified radius, generators and port mapper.
+     *
+     * @param radius              radius of the grid, center is included
+     * @param rollNumberGenerator a supplier returning a tile's roll number
+     * @param tileTypeGenerator   a supplier returning a tile's type
+     * @param portMapper          a function returning the port of the edge in the given direction of a tile,
+     *                            or {@code null} if the edge has no port
+     * @see Config#generatePortMapper()
+     */
+    public HexGridImpl(
+        final int radius, final Supplier<Integer> rollNumberGenerator, final Supplier<Tile.Type> tileTypeGenerator,
+        final BiFunction<TilePosition, TilePosition.EdgeDirection, Port> portMapper
+    ) {
+        this.tileHeight = Bindings.createDoubleBinding(() -> tileSize.get() * 2, tileSize);
+        this.tileWidth = Bindings.createDoubleBinding(() -> Math.sqrt(3) * tileSize.get(), tileSize);
+        initTiles(radius, rollNumberGenerator, tileTypeGenerator);
+        initIntersections();
+        initEdges(portMapper);
+        initRobber();
+    }
+
     /**
      * Constructs a new hex grid with the specified radius.
      * The generators for roll number and tile type are taken from {@link Config}.
@@ -123,6 +148,33 @@ public class HexGridImpl implements HexGrid {
         }
     }
 
+    /**
+     * Initializes the edges in this grid with the ports of the given port mapper.
+     *
+     * @param portMapper a function returning the port of the edge in the given direction of a tile
+     * @see #initEdges()
+     */
+    private void initEdges(final BiFunction<TilePosition, TilePosition.EdgeDirection, Port> portMapper) {
+        for (final var tile : this.tiles.values()) {
+            Arrays.stream(TilePosition.EdgeDirection.values())
+                .forEach(
+                    ed -> this.edges.putIfAbsent(
+                        Set.of(
+                            tile.getPosition(),
+                            TilePosition.neighbour(tile.getPosition(), ed)
+                        ),
+                        new EdgeImpl(
+                            this,
+                            tile.getPosition(),
+                            TilePosition.neighbour(tile.getPosition(), ed),
+                            new SimpleObjectProperty<>(null),
+                            portMapper.apply(tile.getPosition(), ed)
+                        )
+                    )
+                );
+        }
+    }
+
     /**
      * Initializes the robber.
      */
@@ -282,6 +334,43 @@ public class HexGridImpl implements HexGrid {
 
     @Override
     public void setRobberPosition(final TilePosition position) {
+        final TilePosition previous = robberPosition;
         robberPosition = position;
+        for (final BoardChangeListener listener : boardChangeListeners) {
+            listener.robberMoved(previous, position);
+        }
+    }
+
+
+    // Listeners
+
+    @Override
+    public synchronized void addBoardChangeListener(final BoardChangeListener listener) {
+        if (!roadListenersInstalled) {
+            // roads are only observed once someone listens
+            edges.values().forEach(edge -> edge.getRoadOwnerProperty().addListener((observable, oldOwner, newOwner) -> {
+                for (final BoardChangeListener boardChangeListener : boardChangeListeners) {
+                    boardChangeListener.roadChanged(edge);
+                }
+            }));
+            roadListenersInstalled = true;
+        }
+        boardChangeListeners.add(listener);
+    }
+
+    @Override
+    public void removeBoardChangeListener(final BoardChangeListener listener) {
+        boardChangeListeners.remove(listener);
+    }
+
+    /**
+     * Notifies all listeners that the settlement on the given intersection changed.
+     *
+     * @param intersection the intersection
+     */
+    void fireSettlementChanged(final Intersection intersection) {
+        for (final BoardChangeListener listener : boardChangeListeners) {
+            listener.settlementChanged(intersection);
+        }
     }
 }
@@ -22,6 +22,8 @@ public class IntersectionImpl implements Intersection {
     private final TilePosition position2;
     private final HexGrid hexGrid;
     private Settlement settlement;
+    private Set<Intersection> adjacentIntersections;
+    private Set<Edge> connectedEdges;
 
     /**
      * Creates a new intersection with the given positions.
@@ -89,6 +91,7 @@ public class IntersectionImpl implements Intersection {
             return false;
         }
         settlement = new Settlement(player, Settlement.Type.VILLAGE, this);
+        fireSettlementChanged();
         return true;
     }
 
@@ -99,9 +102,19 @@ public class IntersectionImpl implements Intersection {
             return false;
         }
         settlement = new Settlement(player, Settlement.Type.CITY, this);
+        fireSettlementChanged();
         return true;
     }
 
+    /**
+     * Notifies the listeners of the hex grid that the settlement changed.
+     */
+    private void fireSettlementChanged() {
+        if (hexGrid instanceof final HexGridImpl grid) {
+            grid.fireSettlementChanged(this);
+        }
+    }
+
     @Override
     public Port getPort() {
         return getConnectedEdges().stream()
@@ -113,6 +126,14 @@ public class IntersectionImpl implements Intersection {
 
     @Override
     public Set<Edge> getConnectedEdges() {
+        // like the neighbours, the edges of an intersection never change
+        if (connectedEdges == null) {
+            connectedEdges = findConnectedEdges();
+        }
+        return connectedEdges;
+    }
+
+    private Set<Edge> findConnectedEdges() {
         return Stream.of(
                 Set.of(this.position1, this.position2),
                 Set.of(this.position2, this.position0),
@@ -131,6 +152,14 @@ public class IntersectionImpl implements Intersection {
 
     @Override
     public Set<Intersection> getAdjacentIntersections() {
+        // the topology of the grid never changes, so the neighbours are only searched once
+        if (adjacentIntersections == null) {
+            adjacentIntersections = findAdjacentIntersections();
+        }
+        return adjacentIntersections;
+    }
+
+    private Set<Intersection> findAdjacentIntersections() {
         return hexGrid.getIntersections().entrySet().stream().filter(
                 entry -> entry.getKey().containsAll(Set.of(position0, position1)) ||
                     entry.getKey().containsAll(Set.of(position1, position2)) ||
@@ -79,8 +79,12 @@ public record TilePosition(int q, int r) implements Comparable<TilePosition> {
      * @return all neighbours of the given position
      */
     public static Set<TilePosition> neighbours(final TilePosition position) {
-        return Arrays.stream(EdgeDirection.values()).map(direction -> neighbour(position, direction))
-            .collect(Collectors.toSet());
+        final EdgeDirection[] directions = EdgeDirection.values();
+        final TilePosition[] neighbours = new TilePosition[directions.length];
+        for (int i = 0; i < directions.length; i++) {
+            neighbours[i] = neighbour(position, directions[i]);
+        }
+        return Set.of(neighbours);
     }
 
     /**
@@ -0,0 +1,498 @@
+package projekt.view;
+
+import projekt.model.HexGrid;
+import projekt.model.Intersection;
+import projekt.model.TilePosition;
+import projekt.model.buildings.Edge;
+import projekt.model.tiles.Tile;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The positions of all tiles, intersections, edges and ports of a {@link HexGrid}, stored in flat arrays.
+ * <p>
+ * Positions are in board coordinates with the center of tile {@code (0, 0)} as origin. Every element has an index
+ * into the arrays, which can be looked up once and then used without any allocation. The positions are computed once
+ * for a tile size of {@code 1} and only multiplied with the tile size when {@link HexGrid#tileSizeProperty()} changes,
+ * so listeners on the tile size that are added after this table was created already see the new positions.
+ * <p>
+ * The table is shared by both views of the grid, their hit testing and the placement of the ports.
+ */
+public final class BoardGeometry {
+    private static final double SQRT_3 = Math.sqrt(3);
+    private static final int NONE = -1;
+
+    private final HexGrid grid;
+    private final Tile[] tiles;
+    private final Intersection[] intersections;
+    private final Edge[] edges;
+    private final Map<Tile, Integer> tileIndices = new HashMap<>();
+    private final Map<TilePosition, Integer> tilePositionIndices = new HashMap<>();
+    private final Map<Intersection, Integer> intersectionIndices = new HashMap<>();
+    private final Map<Edge, Integer> edgeIndices = new HashMap<>();
+    private final int[] edgeStarts;
+    private final int[] edgeEnds;
+    private final int[] portEdges;
+    private final TilePosition[] portPositions;
+
+    // positions for a tile size of 1
+    private final double[] unitTileX;
+    private final double[] unitTileY;
+    private final double[] unitIntersectionX;
+    private final double[] unitIntersectionY;
+    private final double[] unitPortX;
+    private final double[] unitPortY;
+
+    // positions for the current tile size
+    private final double[] tileX;
+    private final double[] tileY;
+    private final double[] intersectionX;
+    private final double[] intersectionY;
+    private final double[] edgePoints;
+    private final double[] portX;
+    private final double[] portY;
+    private double tileSize;
+
+    /**
+     * Creates the geometry table of the given grid for its current tile size.
+     *
+     * @param grid the grid
+     */
+    public BoardGeometry(final HexGrid grid) {
+        this.grid = grid;
+        this.tiles = grid.getTiles().values().toArray(Tile[]::new);
+        this.intersections = grid.getIntersections().values().toArray(Intersection[]::new);
+        this.edges = grid.getEdges().values().toArray(Edge[]::new);
+        this.unitTileX = new double[tiles.length];
+        this.unitTileY = new double[tiles.length];
+        for (int i = 0; i < tiles.length; i++) {
+            final TilePosition position = tiles[i].getPosition();
+            tileIndices.put(tiles[i], i);
+            tilePositionIndices.put(position, i);
+            unitTileX[i] = getUnitX(position);
+            unitTileY[i] = getUnitY(position);
+        }
+        this.unitIntersectionX = new double[intersections.length];
+        this.unitIntersectionY = new double[intersections.length];
+        for (int i = 0; i < intersections.length; i++) {
+            intersectionIndices.put(intersections[i], i);
+            for (final TilePosition position : intersections[i].getAdjacentTilePositions()) {
+                unitIntersectionX[i] += getUnitX(position) / 3;
+                unitIntersectionY[i] += getUnitY(position) / 3;
+            }
+        }
+        this.edgeStarts = new int[edges.length];
+        this.edgeEnds = new int[edges.length];
+        final List<Integer> portEdgeList = new ArrayList<>();
+        final List<TilePosition> portPositionList = new ArrayList<>();
+        for (int i = 0; i < edges.length; i++) {
+            edgeIndices.put(edges[i], i);
+            final Intersection[] ends = edges[i].getIntersections().toArray(Intersection[]::new);
+            edgeStarts[i] = intersectionIndices.get(ends[0]);
+            edgeEnds[i] = intersectionIndices.get(ends[1]);
+            // ports are shown on the water tile next to their edge, so ports inside the board are left out
+            final int index = i;
+            if (edges[i].hasPort()) {
+                edges[i].getAdjacentTilePositions().stream()
+                    .filter(position -> !grid.getTiles().containsKey(position))
+                    .findAny()
+                    .ifPresent(position -> {
+                        portEdgeList.add(index);
+                        portPositionList.add(position);
+                    });
+            }
+        }
+        this.portEdges = portEdgeList.stream().mapToInt(Integer::intValue).toArray();
+        this.portPositions = portPositionList.toArray(TilePosition[]::new);
+        this.unitPortX = new double[portEdges.length];
+        this.unitPortY = new double[portEdges.length];
+        for (int i = 0; i < portEdges.length; i++) {
+            unitPortX[i] = getUnitX(portPositions[i]);
+            unitPortY[i] = getUnitY(portPositions[i]);
+        }
+
+        this.tileX = new double[tiles.length];
+        this.tileY = new double[tiles.length];
+        this.intersectionX = new double[intersections.length];
+        this.intersectionY = new double[intersections.length];
+        this.edgePoints = new double[edges.length * 4];
+        this.portX = new double[portEdges.length];
+        this.portY = new double[portEdges.length];
+        rescale();
+        grid.tileSizeProperty().addListener(observable -> rescale());
+    }
+
+    /**
+     * Multiplies the positions for a tile size of {@code 1} with the current tile size.
+     */
+    private void rescale() {
+        tileSize = grid.getTileSize();
+        scale(unitTileX, tileX);
+        scale(unitTileY, tileY);
+        scale(unitIntersectionX, intersectionX);
+        scale(unitIntersectionY, intersectionY);
+        scale(unitPortX, portX);
+        scale(unitPortY, portY);
+        for (int i = 0; i < edges.length; i++) {
+            edgePoints[i * 4] = intersectionX[edgeStarts[i]];
+            edgePoints[i * 4 + 1] = intersectionY[edgeStarts[i]];
+            edgePoints[i * 4 + 2] = intersectionX[edgeEnds[i]];
+            edgePoints[i * 4 + 3] = intersectionY[edgeEnds[i]];
+        }
+    }
+
+    private void scale(final double[] unit, final double[] scaled) {
+        for (int i = 0; i < unit.length; i++) {
+            scaled[i] = unit[i] * tileSize;
+        }
+    }
+
+    /**
+     * Returns the grid of this table.
+     *
+     * @return the grid
+     */
+    public HexGrid getGrid() {
+        return grid;
+    }
+
+    /**
+     * Returns the tile size the positions are currently computed for.
+     *
+     * @return the tile size
+     */
+    public double getTileSize() {
+        return tileSize;
+    }
+
+    // Tiles
+
+    /**
+     * Returns the number of tiles.
+     *
+     * @return the number of tiles
+     */
+    public int getTileCount() {
+        return tiles.length;
+    }
+
+    /**
+     * Returns the tile with the given index.
+     *
+     * @param index the index of the tile
+     * @return the tile
+     */
+    public Tile getTile(final int index) {
+        return tiles[index];
+    }
+
+    /**
+     * Returns the index of the given tile.
+     *
+     * @param tile the tile
+     * @return the index, or {@code -1} if the tile is not part of the grid
+     */
+    public int indexOf(final Tile tile) {
+        return tileIndices.getOrDefault(tile, NONE);
+    }
+
+    /**
+     * Returns the index of the tile at the given position.
+     *
+     * @param position the position, may be {@code null}
+     * @return the index, or {@code -1} if there is no tile at the position
+     */
+    public int indexOfTile(final TilePosition position) {
+        return position == null ? NONE : tilePositionIndices.getOrDefault(position, NONE);
+    }
+
+    /**
+     * Returns the x coordinate of the center of the tile with the given index.
+     *
+     * @param index the index of the tile
+     * @return the x coordinate
+     */
+    public double getTileX(final int index) {
+        return tileX[index];
+    }
+
+    /**
+     * Returns the y coordinate of the center of the tile with the given index.
+     *
+     * @param index the index of the tile
+     * @return the y coordinate
+     */
+    public double getTileY(final int index) {
+        return tileY[index];
+    }
+
+    /**
+     * Returns the x coordinate of the center of the given position, which does not need to hold a tile.
+     *
+     * @param position the position
+     * @return the x coordinate
+     */
+    public double getCenterX(final TilePosition position) {
+        return getUnitX(position) * tileSize;
+    }
+
+    /**
+     * Returns the y coordinate of the center of the given position, which does not need to hold a tile.
+     *
+     * @param position the position
+     * @return the y coordinate
+     */
+    public double getCenterY(final TilePosition position) {
+        return getUnitY(position) * tileSize;
+    }
+
+    /**
+     * Returns the position of the tile containing the given point.
+     * The position does not need to hold a tile.
+     *
+     * @param x the x coordinate of the point
+     * @param y the y coordinate of the point
+     * @return the position
+     */
+    public TilePosition toTilePosition(final double x, final double y) {
+        final double q = (SQRT_3 / 3 * x - 1.0 / 3 * y) / tileSize;
+        final double r = (2.0 / 3 * y) / tileSize;
+        final double s = -q - r;
+        long roundedQ = Math.round(q);
+        long roundedR = Math.round(r);
+        final long roundedS = Math.round(s);
+        final double diffQ = Math.abs(roundedQ - q);
+        final double diffR = Math.abs(roundedR - r);
+        final double diffS = Math.abs(roundedS - s);
+        if (diffQ > diffR && diffQ > diffS) {
+            roundedQ = -roundedR - roundedS;
+        } else if (diffR > diffS) {
+            roundedR = -roundedQ - roundedS;
+        }
+        return new TilePosition((int) roundedQ, (int) roundedR);
+    }
+
+    // Intersections
+
+    /**
+     * Returns the number of intersections.
+     *
+     * @return the number of intersections
+     */
+    public int getIntersectionCount() {
+        return intersections.length;
+    }
+
+    /**
+     * Returns the intersection with the given index.
+     *
+     * @param index the index of the intersection
+     * @return the intersection
+     */
+    public Intersection getIntersection(final int index) {
+        return intersections[index];
+    }
+
+    /**
+     * Returns the index of the given intersection.
+     *
+     * @param intersection the intersection
+     * @return the index, or {@code -1} if the intersection is not part of the grid
+     */
+    public int indexOf(final Intersection intersection) {
+        return intersectionIndices.getOrDefault(intersection, NONE);
+    }
+
+    /**
+     * Returns the x coordinate of the intersection with the given index.
+     *
+     * @param index the index of the intersection
+     * @return the x coordinate
+     */
+    public double getIntersectionX(final int index) {
+        return intersectionX[index];
+    }
+
+    /**
+     * Returns the y coordinate of the intersection with the given index.
+     *
+     * @param index the index of the intersection
+     * @return the y coordinate
+     */
+    public double getIntersectionY(final int index) {
+        return intersectionY[index];
+    }
+
+    // Edges
+
+    /**
+     * Returns the number of edges.
+     *
+     * @return the number of edges
+     */
+    public int getEdgeCount() {
+        return edges.length;
+    }
+
+    /**
+     * Returns the edge with the given index.
+     *
+     * @param index the index of the edge
+     * @return the edge
+     */
+    public Edge getEdge(final int index) {
+        return edges[index];
+    }
+
+    /**
+     * Returns the index of the given edge.
+     *
+     * @param edge the edge
+     * @return the index, or {@code -1} if the edge is not part of the grid
+     */
+    public int indexOf(final Edge edge) {
+        return edgeIndices.getOrDefault(edge, NONE);
+    }
+
+    /**
+     * Returns the index of the intersection the edge with the given index starts at.
+     *
+     * @param index the index of the edge
+     * @return the index of the intersection
+     */
+    public int getEdgeStart(final int index) {
+        return edgeStarts[index];
+    }
+
+    /**
+     * Returns the index of the intersection the edge with the given index ends at.
+     *
+     * @param index the index of the edge
+     * @return the index of the intersection
+     */
+    public int getEdgeEnd(final int index) {
+        return edgeEnds[index];
+    }
+
+    /**
+     * Returns the x coordinate of the start of the edge with the given index.
+     *
+     * @param index the index of the edge
+     * @return the x coordinate
+     */
+    public double getEdgeStartX(final int index) {
+        return edgePoints[index * 4];
+    }
+
+    /**
+     * Returns the y coordinate of the start of the edge with the given index.
+     *
+     * @param index the index of the edge
+     * @return the y coordinate
+     */
+    public double getEdgeStartY(final int index) {
+        return edgePoints[index * 4 + 1];
+    }
+
+    /**
+     * Returns the x coordinate of the end of the edge with the given index.
+     *
+     * @param index the index of the edge
+     * @return the x coordinate
+     */
+    public double getEdgeEndX(final int index) {
+        return edgePoints[index * 4 + 2];
+    }
+
+    /**
+     * Returns the y coordinate of the end of the edge with the given index.
+     *
+     * @param index the index of the edge
+     * @return the y coordinate
+     */
+    public double getEdgeEndY(final int index) {
+        return edgePoints[index * 4 + 3];
+    }
+
+    /**
+     * Returns the squared distance between the given point and the edge with the given index.
+     *
+     * @param index the index of the edge
+     * @param x     the x coordinate of the point
+     * @param y     the y coordinate of the point
+     * @return the squared distance
+     */
+    public double getEdgeDistanceSquared(final int index, final double x, final double y) {
+        final double startX = edgePoints[index * 4];
+        final double startY = edgePoints[index * 4 + 1];
+        final double dx = edgePoints[index * 4 + 2] - startX;
+        final double dy = edgePoints[index * 4 + 3] - startY;
+        final double t = Math.max(0, Math.min(1, ((x - startX) * dx + (y - startY) * dy) / (dx * dx + dy * dy)));
+        final double distanceX = startX + t * dx - x;
+        final double distanceY = startY + t * dy - y;
+        return distanceX * distanceX + distanceY * distanceY;
+    }
+
+    // Ports
+
+    /**
+     * Returns the number of ports that are next to a water tile outside the grid.
+     * Other ports have no place to be shown and are not part of this table.
+     *
+     * @return the number of ports
+     */
+    public int getPortCount() {
+        return portEdges.length;
+    }
+
+    /**
+     * Returns the index of the edge of the port with the given index.
+     *
+     * @param index the index of the port
+     * @return the index of the edge
+     */
+    public int getPortEdge(final int index) {
+        return portEdges[index];
+    }
+
+    /**
+     * Returns the position of the water tile the port with the given index is shown on.
+     *
+     * @param index the index of the port
+     * @return the position
+     */
+    public TilePosition getPortPosition(final int index) {
+        return portPositions[index];
+    }
+
+    /**
+     * Returns the x coordinate of the center of the port with the given index.
+     *
+     * @param index the index of the port
+     * @return the x coordinate
+     */
+    public double getPortX(final int index) {
+        return portX[index];
+    }
+
+    /**
+     * Returns the y coordinate of the center of the port with the given index.
+     *
+     * @param index the index of the port
+     * @return the y coordinate
+     */
+    public double getPortY(final int index) {
+        return portY[index];
+    }
+
+    private static double getUnitX(final TilePosition position) {
+        return SQRT_3 * position.q() + SQRT_3 / 2 * position.r();
+    }
+
+    private static double getUnitY(final TilePosition position) {
+        return 3.0 / 2 * position.r();
+    }
+}
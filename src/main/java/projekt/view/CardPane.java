@@ -1,5 +1,6 @@
 package projekt.view;
 
+import javafx.beans.property.StringProperty;
 import javafx.geometry.Pos;
 import javafx.scene.control.Label;
 import javafx.scene.image.Image;
@@ -15,6 +16,7 @@ import org.tudalgo.algoutils.student.annotation.DoNotTouch;
 @DoNotTouch
 public class CardPane extends StackPane {
     private static final int defaultCardWidth = 40;
+    private final Label valueLabel = new Label();
 
     /**
      * Creates a new CardPane with the given color and no icon or label.
@@ -86,11 +88,21 @@ public class CardPane extends StackPane {
         }
 
         if (labelText != null && !labelText.isBlank()) {
-            final Label valueLabel = new Label(labelText);
+            valueLabel.setText(labelText);
             valueLabel.getStyleClass().add("highlighted-label");
             iconBox.getChildren().add(valueLabel);
         }
         iconBox.setAlignment(Pos.CENTER);
         this.getChildren().add(iconBox);
     }
+
+    /**
+     * Returns the text property of the label, so the label can be bound to a value.
+     * Cards created without a label text do not show the label.
+     *
+     * @return the text property of the label
+     */
+    public StringProperty labelTextProperty() {
+        return valueLabel.textProperty();
+    }
 }
@@ -1,7 +1,5 @@
 package projekt.view;
 
-import javafx.scene.effect.Light;
-import javafx.scene.effect.Lighting;
 import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 import javafx.scene.paint.Color;
@@ -44,16 +42,7 @@ public class ColoredImageView extends ImageView {
             return;
         }
 
-        final Lighting lighting = new Lighting();
-        lighting.setDiffuseConstant(1.0);
-        lighting.setSpecularConstant(0.0);
-        lighting.setSpecularExponent(0.0);
-        lighting.setSurfaceScale(0.0);
-
-        // idk why but these values produces accurate colors, azimuth seems to not
-        // matter that much
-        lighting.setLight(new Light.Distant(0.0, 90.0, color));
-
-        this.setEffect(lighting);
+        // the tinted copy is rasterized once and shared, instead of a lighting effect rendered in every frame
+        setImage(SpriteCache.getTinted(getImage(), color));
     }
 }
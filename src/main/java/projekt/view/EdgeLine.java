@@ -1,6 +1,5 @@
 package projekt.view;
 
-import javafx.collections.ListChangeListener;
 import javafx.geometry.Point2D;
 import javafx.scene.input.MouseEvent;
 import javafx.scene.paint.Color;
@@ -35,10 +34,6 @@ public class EdgeLine extends Line {
         outline.strokeDashOffsetProperty().bind(strokeDashOffsetProperty());
         outline.setStrokeWidth(strokeWidth * 1.4);
         outline.setStroke(Color.TRANSPARENT);
-        getStrokeDashArray().addListener((ListChangeListener<Double>) change -> {
-            outline.getStrokeDashArray().clear();
-            outline.getStrokeDashArray().addAll(change.getList());
-        });
     }
 
     /**
@@ -76,10 +71,11 @@ public class EdgeLine extends Line {
     public void init(final double dashScale) {
         this.distance = new Point2D(getStartX(), getStartY()).distance(getEndX(), getEndY());
         setStrokeWidth(strokeWidth);
+        outline.setStrokeWidth(strokeWidth * 1.4);
         setStroke(edge.hasRoad() ? edge.getRoadOwner().getColor() : Color.TRANSPARENT);
         setStrokeDashOffset(-positionOffset / 2);
-        getStrokeDashArray().clear();
-        getStrokeDashArray().add((distance - positionOffset) * dashScale);
+        getStrokeDashArray().setAll((distance - positionOffset) * dashScale);
+        outline.getStrokeDashArray().setAll(getStrokeDashArray());
         if (edge.hasRoad()) {
             outline.setStroke(Color.BLACK);
         }
@@ -96,6 +92,7 @@ public class EdgeLine extends Line {
         outline.setStrokeWidth(strokeWidth * 1.6);
         getStyleClass().add("selectable");
         getStrokeDashArray().add(10.0);
+        outline.getStrokeDashArray().setAll(getStrokeDashArray());
         setStrokeWidth(strokeWidth * 1.2);
         setOnMouseClicked(handler::accept);
     }
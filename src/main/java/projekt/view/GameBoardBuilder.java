@@ -15,11 +15,15 @@ import javafx.scene.layout.VBox;
 import javafx.scene.paint.Color;
 import javafx.util.Builder;
 import org.tudalgo.algoutils.student.annotation.DoNotTouch;
+import projekt.model.Intersection;
 import projekt.model.Player;
 import projekt.model.ResourceType;
+import projekt.model.buildings.Edge;
+import projekt.view.gameControls.PlayerCounters;
 import projekt.view.gameControls.PlayerInformationBuilder;
 import projekt.view.gameControls.PlayersOverviewBuilder;
 
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Supplier;
@@ -34,6 +38,11 @@ public class GameBoardBuilder implements Builder<Region> {
     private final Region hexGrid;
     private final Supplier<Region> actions;
     private final Pane playerInformation = new VBox();
+    private final Pane currentPlayerInformation = new VBox();
+    private final Pane playersOverview = new VBox();
+    private final Map<Integer, PlayerCounters> playerCounters = new HashMap<>();
+    private final Map<Integer, Region> playerInformationViews = new HashMap<>();
+    private List<Player> overviewPlayers = List.of();
     private final IntegerProperty diceRollProperty = new SimpleIntegerProperty(0);
     private final IntegerProperty roundCounterProperty = new SimpleIntegerProperty(0);
 
@@ -47,6 +56,7 @@ public class GameBoardBuilder implements Builder<Region> {
     public GameBoardBuilder(final Region hexGrid, final Supplier<Region> actions) {
         this.hexGrid = hexGrid;
         this.actions = actions;
+        playerInformation.getChildren().addAll(currentPlayerInformation, playersOverview);
     }
 
     @Override
@@ -108,6 +118,10 @@ public class GameBoardBuilder implements Builder<Region> {
 
     /**
      * Updates the player information and overview.
+     * The views of every player are only built once and then updated through their {@link PlayerCounters};
+     * the overview is only built again if the list of players changed.
+     * Counters and views are kept per player id and replaced along with the player, for example when a replay
+     * restores another state.
      *
      * @param player           The player to update the information for.
      * @param players          The list of all players.
@@ -117,9 +131,65 @@ public class GameBoardBuilder implements Builder<Region> {
         final Player player, final List<Player> players,
         final Map<ResourceType, Integer> changedResources
     ) {
-        playerInformation.getChildren().clear();
-        playerInformation.getChildren().add(new PlayerInformationBuilder(player, changedResources).build());
-        playerInformation.getChildren().add(new PlayersOverviewBuilder(players).build());
+        for (final Player otherPlayer : players) {
+            getPlayerCounters(otherPlayer).update(otherPlayer == player ? changedResources : Map.of());
+        }
+        final PlayerCounters counters = getPlayerCounters(player);
+        final Region view = playerInformationViews.computeIfAbsent(
+            player.getID(),
+            key -> new PlayerInformationBuilder(counters).build()
+        );
+        if (currentPlayerInformation.getChildren().size() != 1 || currentPlayerInformation.getChildren().get(0) != view) {
+            currentPlayerInformation.getChildren().setAll(view);
+        }
+        if (!players.equals(overviewPlayers)) {
+            overviewPlayers = List.copyOf(players);
+            playersOverview.getChildren().setAll(
+                new PlayersOverviewBuilder(overviewPlayers.stream().map(this::getPlayerCounters).toList()).build()
+            );
+        }
+    }
+
+    /**
+     * Updates the road counters of all players for the given edge.
+     *
+     * @param edge The edge.
+     */
+    public void updateRoad(final Edge edge) {
+        if (edge.getRoadOwner() != null) {
+            getPlayerCounters(edge.getRoadOwner());
+        }
+        playerCounters.values().forEach(counters -> counters.updateRoad(edge));
+    }
+
+    /**
+     * Updates the settlement counters of all players for the given intersection.
+     *
+     * @param intersection The intersection.
+     */
+    public void updateSettlement(final Intersection intersection) {
+        if (intersection.getSettlement() != null) {
+            getPlayerCounters(intersection.getSettlement().owner());
+        }
+        playerCounters.values().forEach(counters -> counters.updateSettlement(intersection));
+    }
+
+    /**
+     * Returns the counters of the given player, creating them if needed.
+     * Counters of another player with the same id are replaced, together with the player's information view.
+     *
+     * @param player The player.
+     * @return The counters of the player.
+     */
+    private PlayerCounters getPlayerCounters(final Player player) {
+        final PlayerCounters counters = playerCounters.get(player.getID());
+        if (counters != null && counters.getPlayer() == player) {
+            return counters;
+        }
+        final PlayerCounters replacement = new PlayerCounters(player);
+        playerCounters.put(player.getID(), replacement);
+        playerInformationViews.remove(player.getID());
+        return replacement;
     }
 
     /**
@@ -1,8 +1,13 @@
 package projekt.view;
 
+import javafx.application.Platform;
+import javafx.beans.InvalidationListener;
 import javafx.beans.binding.Bindings;
 import javafx.event.Event;
+import javafx.geometry.Bounds;
 import javafx.geometry.Point2D;
+import javafx.scene.Group;
+import javafx.scene.Node;
 import javafx.scene.control.Button;
 import javafx.scene.input.MouseEvent;
 import javafx.scene.input.ScrollEvent;
@@ -17,13 +22,16 @@ import projekt.model.buildings.Edge;
 import projekt.model.tiles.Tile;
 import projekt.view.tiles.TileBuilder;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.function.BiConsumer;
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
 import java.util.function.IntBinaryOperator;
-import java.util.function.Predicate;
 import java.util.function.ToIntFunction;
 import java.util.stream.Collectors;
 
@@ -32,47 +40,65 @@ import java.util.stream.Collectors;
  * It creates a pane with the hex grid and handles the placement of the tiles,
  * intersections, edges and ports.
  * The hex grid pane can be zoomed, panned and centered.
+ * <p>
+ * Only the tiles in the visible part of the pane, and their edges and intersections, have nodes. Whenever the pane
+ * is panned, zoomed or resized, nodes of elements that left the view are released and nodes for elements that
+ * entered it are created, so the number of nodes depends on the size of the view and not on the size of the grid.
+ * Highlights are kept for released elements and restored when their nodes are created again.
+ * Edges and intersections only have nodes while they show a road, a settlement or a highlight, as all others
+ * would be invisible. Ports are few and always placed.
+ * All nodes are styled by the stylesheet of the scene.
+ * <p>
+ * Positions are taken from the {@link BoardGeometry} of the grid. When the tile size changes, the placed nodes
+ * are moved to their rescaled positions instead of being created again.
  */
-public class HexGridBuilder implements Builder<Region> {
+public class HexGridBuilder implements Builder<Region>, HexGridView {
     private final HexGrid grid;
+    private final BoardGeometry geometry;
     private final BiConsumer<ScrollEvent, Region> scrollHandler;
     private final Consumer<MouseEvent> pressedHandler;
     private final BiConsumer<MouseEvent, Region> draggedHandler;
+    // the corners of the grid for a tile size of 1
     private final Point2D maxPoint;
     private final Point2D minPoint;
     private final BiConsumer<Event, Region> centerButtonHandler;
-    private final Set<IntersectionBuilder> intersectionBuilders;
-    private final Set<EdgeLine> edgeLines;
-    private final Set<TileBuilder> tileBuilders;
+    private final Map<Tile, TileBuilder> tileBuilders = new HashMap<>();
+    private final Map<Tile, Region> tileViews = new HashMap<>();
+    private final Map<Edge, EdgeLine> edgeLines = new HashMap<>();
+    private final Map<Intersection, IntersectionBuilder> intersectionBuilders = new HashMap<>();
+    private final Map<Intersection, Region> intersectionViews = new HashMap<>();
+    private final Map<Tile, Runnable> tileHandlers = new HashMap<>();
+    private final Map<Edge, Consumer<MouseEvent>> edgeHandlers = new HashMap<>();
+    private final Map<Intersection, Consumer<MouseEvent>> intersectionHandlers = new HashMap<>();
+    private final Set<Edge> edgesInView = new HashSet<>();
+    private final Set<Intersection> intersectionsInView = new HashSet<>();
 
     private final Pane hexGridPane = new Pane();
+    private final Group tileLayer = new Group();
+    private final Group edgeLayer = new Group();
+    private final Group intersectionLayer = new Group();
+    private final StackPane mapPane = new StackPane(hexGridPane);
+    private final List<Node> portNodes = new ArrayList<>();
+    private boolean updateScheduled = false;
 
     /**
-     * Creates a new hex grid builder with the given hex grid, intersection
-     * builders, edge lines, tile builders and event handlers.
+     * Creates a new hex grid builder with the given hex grid and event handlers.
      *
-     * @param grid                 The hex grid.
-     * @param intersectionBuilders The intersection builders.
-     * @param edgeLines            The edge lines.
-     * @param tileBuilders         The tile builders.
-     * @param scrollHandler        The handler for the scroll event. Used for
-     *                             zooming.
-     * @param pressedHandler       The handler for the mouse pressed event.
-     * @param draggedHandler       The handler for the mouse dragged event. Used for
-     *                             panning
-     * @param centerButtonHandler  The handler for the center button event.
+     * @param geometry            The positions of the elements of the hex grid.
+     * @param scrollHandler       The handler for the scroll event. Used for
+     *                            zooming.
+     * @param pressedHandler      The handler for the mouse pressed event.
+     * @param draggedHandler      The handler for the mouse dragged event. Used for
+     *                            panning
+     * @param centerButtonHandler The handler for the center button event.
      */
     public HexGridBuilder(
-        final HexGrid grid, final Set<IntersectionBuilder> intersectionBuilders,
-        final Set<EdgeLine> edgeLines,
-        final Set<TileBuilder> tileBuilders, final BiConsumer<ScrollEvent, Region> scrollHandler,
+        final BoardGeometry geometry, final BiConsumer<ScrollEvent, Region> scrollHandler,
         final Consumer<MouseEvent> pressedHandler, final BiConsumer<MouseEvent, Region> draggedHandler,
         final BiConsumer<Event, Region> centerButtonHandler
     ) {
-        this.grid = grid;
-        this.intersectionBuilders = intersectionBuilders;
-        this.edgeLines = edgeLines;
-        this.tileBuilders = tileBuilders;
+        this.grid = geometry.getGrid();
+        this.geometry = geometry;
 
         this.scrollHandler = scrollHandler;
         this.pressedHandler = pressedHandler;
@@ -86,46 +112,51 @@ public class HexGridBuilder implements Builder<Region> {
             .reduce(reduceFunction).getAsInt();
 
         this.maxPoint = new Point2D(
-            calculatePositionTranslation(new TilePosition(reduceTiles.apply(TilePosition::q, Integer::max), 0))
-                .getX(),
-            calculatePositionTranslation(new TilePosition(0, reduceTiles.apply(TilePosition::r, Integer::max)))
-                .getY()
+            Math.sqrt(3) * reduceTiles.apply(TilePosition::q, Integer::max),
+            3.0 / 2 * reduceTiles.apply(TilePosition::r, Integer::max)
         );
         this.minPoint = new Point2D(
-            calculatePositionTranslation(new TilePosition(reduceTiles.apply(TilePosition::q, Integer::min), 0))
-                .getX(),
-            calculatePositionTranslation(new TilePosition(0, reduceTiles.apply(TilePosition::r, Integer::min)))
-                .getY()
+            Math.sqrt(3) * reduceTiles.apply(TilePosition::q, Integer::min),
+            3.0 / 2 * reduceTiles.apply(TilePosition::r, Integer::min)
         );
+
+        final InvalidationListener viewportListener = observable -> requestUpdate();
+        hexGridPane.translateXProperty().addListener(viewportListener);
+        hexGridPane.translateYProperty().addListener(viewportListener);
+        hexGridPane.scaleXProperty().addListener(viewportListener);
+        hexGridPane.scaleYProperty().addListener(viewportListener);
+        mapPane.widthProperty().addListener(viewportListener);
+        mapPane.heightProperty().addListener(viewportListener);
+        // the geometry table listens to the tile size first and is already rescaled here
+        grid.tileSizeProperty().addListener(observable -> rescale());
     }
 
     @Override
     public Region build() {
         hexGridPane.getChildren().clear();
+        mapPane.getChildren().setAll(hexGridPane);
+        releaseAll();
 
-        edgeLines.stream().map(EdgeLine::getEdge).filter(Edge::hasPort).forEach(this::placePort);
+        placePorts();
 
-        hexGridPane.getChildren().addAll(tileBuilders.stream().map(this::placeTile).toList());
+        hexGridPane.getChildren().addAll(tileLayer, edgeLayer, intersectionLayer);
 
         hexGridPane.maxWidthProperty().bind(Bindings
                                                 .createDoubleBinding(
-                                                    () -> Math.abs(minPoint.getX()) + maxPoint.getX() + grid.getTileWidth(),
+                                                    () -> (Math.abs(minPoint.getX()) + maxPoint.getX()) * grid.getTileSize()
+                                                        + grid.getTileWidth(),
                                                     grid.tileSizeProperty()
                                                 ));
         hexGridPane.maxHeightProperty().bind(Bindings
                                                  .createDoubleBinding(
-                                                     () -> Math.abs(minPoint.getY()) + maxPoint.getX() + grid.getTileHeight(),
+                                                     () -> (Math.abs(minPoint.getY()) + maxPoint.getX()) * grid.getTileSize()
+                                                         + grid.getTileHeight(),
                                                      grid.tileSizeProperty()
                                                  ));
         hexGridPane.minWidthProperty().bind(hexGridPane.maxWidthProperty());
         hexGridPane.minHeightProperty().bind(hexGridPane.maxHeightProperty());
 
-        edgeLines.forEach(this::placeEdge);
-        hexGridPane.getChildren().addAll(intersectionBuilders.stream().map(this::placeIntersection).toList());
-
-        final StackPane mapPane = new StackPane(hexGridPane);
-        mapPane.getStylesheets().add("css/hexmap.css");
-        mapPane.getStyleClass().add("hex-grid");
+        mapPane.getStyleClass().setAll("hex-grid");
         mapPane.setOnScroll(event -> scrollHandler.accept(event, hexGridPane));
         mapPane.setOnMousePressed(pressedHandler::accept);
         mapPane.setOnMouseDragged(event -> draggedHandler.accept(event, hexGridPane));
@@ -144,155 +175,464 @@ public class HexGridBuilder implements Builder<Region> {
                                                    ));
 
         mapPane.getChildren().add(centerButton);
+        requestUpdate();
 
         return mapPane;
     }
 
+    /**
+     * Takes over the zoom and position of the hex grid of the given builder.
+     *
+     * @param other The builder to copy the viewport from.
+     */
+    public void copyViewport(final HexGridBuilder other) {
+        hexGridPane.setScaleX(other.hexGridPane.getScaleX());
+        hexGridPane.setScaleY(other.hexGridPane.getScaleY());
+        hexGridPane.setTranslateX(other.hexGridPane.getTranslateX());
+        hexGridPane.setTranslateY(other.hexGridPane.getTranslateY());
+    }
+
+    @Override
+    public void highlightTile(final Tile tile, final Runnable handler) {
+        final Runnable previous = tileHandlers.put(tile, handler);
+        final TileBuilder builder = tileBuilders.get(tile);
+        if (builder != null) {
+            if (previous != null) {
+                builder.unhighlight();
+            }
+            builder.highlight(handler);
+        }
+    }
+
+    @Override
+    public void unhighlightTile(final Tile tile) {
+        if (tileHandlers.remove(tile) != null && tileBuilders.containsKey(tile)) {
+            tileBuilders.get(tile).unhighlight();
+        }
+    }
+
+    @Override
+    public void highlightEdge(final Edge edge, final Consumer<MouseEvent> handler) {
+        final Consumer<MouseEvent> previous = edgeHandlers.put(edge, handler);
+        final EdgeLine edgeLine = edgeLines.get(edge);
+        if (edgeLine != null) {
+            if (previous != null) {
+                edgeLine.unhighlight();
+            }
+            edgeLine.highlight(handler);
+        } else if (isShown(edge)) {
+            placeEdge(edge);
+        }
+    }
+
+    @Override
+    public void unhighlightEdge(final Edge edge) {
+        if (edgeHandlers.remove(edge) == null || !edgeLines.containsKey(edge)) {
+            return;
+        }
+        if (isShown(edge)) {
+            edgeLines.get(edge).unhighlight();
+        } else {
+            releaseEdge(edge);
+        }
+    }
+
+    @Override
+    public void highlightIntersection(final Intersection intersection, final Consumer<MouseEvent> handler) {
+        intersectionHandlers.put(intersection, handler);
+        final IntersectionBuilder builder = intersectionBuilders.get(intersection);
+        if (builder != null) {
+            builder.highlight(handler);
+        } else if (isShown(intersection)) {
+            placeIntersection(intersection);
+        }
+    }
+
+    @Override
+    public void unhighlightIntersection(final Intersection intersection) {
+        if (intersectionHandlers.remove(intersection) == null || !intersectionBuilders.containsKey(intersection)) {
+            return;
+        }
+        if (isShown(intersection)) {
+            intersectionBuilders.get(intersection).unhighlight();
+        } else {
+            releaseIntersection(intersection);
+        }
+    }
+
+    @Override
+    public void updateTile(final Tile tile) {
+        final TileBuilder builder = tileBuilders.get(tile);
+        if (builder != null) {
+            builder.build();
+        }
+    }
+
+    @Override
+    public void updateEdge(final Edge edge) {
+        final EdgeLine edgeLine = edgeLines.get(edge);
+        if (edgeLine == null) {
+            if (isShown(edge)) {
+                placeEdge(edge);
+            }
+            return;
+        }
+        if (edgeHandlers.containsKey(edge)) {
+            edgeLine.unhighlight();
+            edgeLine.highlight(edgeHandlers.get(edge));
+        } else {
+            edgeLine.init();
+        }
+    }
+
+    @Override
+    public void updateIntersection(final Intersection intersection) {
+        final IntersectionBuilder builder = intersectionBuilders.get(intersection);
+        if (builder != null) {
+            builder.build();
+            if (intersectionHandlers.containsKey(intersection)) {
+                builder.highlight(intersectionHandlers.get(intersection));
+            }
+        } else if (isShown(intersection)) {
+            placeIntersection(intersection);
+        }
+    }
+
+    /**
+     * Returns whether the given edge is in view and shows a road or a highlight.
+     *
+     * @param edge the edge
+     * @return whether the edge needs a node
+     */
+    private boolean isShown(final Edge edge) {
+        return edgesInView.contains(edge) && (edge.hasRoad() || edgeHandlers.containsKey(edge));
+    }
+
+    /**
+     * Returns whether the given intersection is in view and shows a settlement or a highlight.
+     *
+     * @param intersection the intersection
+     * @return whether the intersection needs a node
+     */
+    private boolean isShown(final Intersection intersection) {
+        return intersectionsInView.contains(intersection)
+            && (intersection.getSettlement() != null || intersectionHandlers.containsKey(intersection));
+    }
+
+    /**
+     * Returns the number of tiles, edges and intersections that currently have nodes.
+     *
+     * @return the number of placed elements
+     */
+    public int getPlacedElementCount() {
+        return tileBuilders.size() + edgeLines.size() + intersectionBuilders.size();
+    }
+
+    /**
+     * Schedules an update of the placed elements, unless one is already pending.
+     */
+    private void requestUpdate() {
+        if (updateScheduled) {
+            return;
+        }
+        updateScheduled = true;
+        Platform.runLater(this::updateVisibleElements);
+    }
+
+    /**
+     * Places all tiles that are at least partly visible, with those of their edges and intersections that show
+     * something, and releases all other elements.
+     */
+    private void updateVisibleElements() {
+        updateScheduled = false;
+        final Set<Tile> visibleTiles = new HashSet<>();
+        edgesInView.clear();
+        intersectionsInView.clear();
+        for (final Tile tile : findVisibleTiles()) {
+            visibleTiles.add(tile);
+            for (final TilePosition.EdgeDirection direction : TilePosition.EdgeDirection.values()) {
+                final Edge edge = grid.getEdge(tile.getPosition(), TilePosition.neighbour(tile.getPosition(), direction));
+                if (edge != null) {
+                    edgesInView.add(edge);
+                }
+            }
+            for (final TilePosition.IntersectionDirection direction : TilePosition.IntersectionDirection.values()) {
+                final Intersection intersection = tile.getIntersection(direction);
+                if (intersection != null) {
+                    intersectionsInView.add(intersection);
+                }
+            }
+        }
+        final Set<Edge> visibleEdges = edgesInView.stream().filter(this::isShown).collect(Collectors.toSet());
+        final Set<Intersection> visibleIntersections = intersectionsInView.stream()
+            .filter(this::isShown)
+            .collect(Collectors.toSet());
+
+        tileBuilders.keySet().removeIf(tile -> {
+            if (visibleTiles.remove(tile)) {
+                return false;
+            }
+            tileLayer.getChildren().remove(tileViews.remove(tile));
+            return true;
+        });
+        edgeLines.keySet().removeIf(edge -> {
+            if (visibleEdges.remove(edge)) {
+                return false;
+            }
+            final EdgeLine edgeLine = edgeLines.get(edge);
+            edgeLayer.getChildren().removeAll(edgeLine.getOutline(), edgeLine);
+            return true;
+        });
+        intersectionBuilders.keySet().removeIf(intersection -> {
+            if (visibleIntersections.remove(intersection)) {
+                return false;
+            }
+            intersectionLayer.getChildren().remove(intersectionViews.remove(intersection));
+            return true;
+        });
+
+        visibleTiles.forEach(this::placeTile);
+        visibleEdges.forEach(this::placeEdge);
+        visibleIntersections.forEach(this::placeIntersection);
+    }
+
+    /**
+     * Returns the tiles that overlap the visible part of the hex grid pane.
+     * Only the tile positions in the visible rectangle are looked at, not the whole grid.
+     *
+     * @return the visible tiles
+     */
+    private List<Tile> findVisibleTiles() {
+        final List<Tile> tiles = new ArrayList<>();
+        if (mapPane.getWidth() <= 0 || mapPane.getHeight() <= 0) {
+            return tiles;
+        }
+        final Bounds visible = hexGridPane.parentToLocal(mapPane.getLayoutBounds());
+        final double size = grid.getTileSize();
+        final double offsetX = getOffsetX();
+        final double offsetY = getOffsetY();
+        final int minR = (int) Math.floor((visible.getMinY() - offsetY) / (1.5 * size)) - 1;
+        final int maxR = (int) Math.ceil((visible.getMaxY() - offsetY) / (1.5 * size)) + 1;
+        for (int r = minR; r <= maxR; r++) {
+            final int minQ = (int) Math.floor(((visible.getMinX() - offsetX) / size - Math.sqrt(3) / 2 * r) / Math.sqrt(3)) - 1;
+            final int maxQ = (int) Math.ceil(((visible.getMaxX() - offsetX) / size - Math.sqrt(3) / 2 * r) / Math.sqrt(3)) + 1;
+            for (int q = minQ; q <= maxQ; q++) {
+                final Tile tile = grid.getTileAt(q, r);
+                if (tile != null) {
+                    tiles.add(tile);
+                }
+            }
+        }
+        return tiles;
+    }
+
+    /**
+     * Releases the node of the given edge.
+     *
+     * @param edge the edge
+     */
+    private void releaseEdge(final Edge edge) {
+        final EdgeLine edgeLine = edgeLines.remove(edge);
+        edgeLayer.getChildren().removeAll(edgeLine.getOutline(), edgeLine);
+    }
+
+    /**
+     * Releases the node of the given intersection.
+     *
+     * @param intersection the intersection
+     */
+    private void releaseIntersection(final Intersection intersection) {
+        intersectionBuilders.remove(intersection);
+        intersectionLayer.getChildren().remove(intersectionViews.remove(intersection));
+    }
+
+    /**
+     * Releases the nodes of all elements.
+     */
+    private void releaseAll() {
+        tileBuilders.clear();
+        tileViews.clear();
+        edgeLines.clear();
+        intersectionBuilders.clear();
+        intersectionViews.clear();
+        edgesInView.clear();
+        intersectionsInView.clear();
+        tileLayer.getChildren().clear();
+        edgeLayer.getChildren().clear();
+        intersectionLayer.getChildren().clear();
+    }
+
     /**
      * Draws the tiles on the hex grid.
      */
     public void drawTiles() {
-        tileBuilders.forEach(TileBuilder::build);
+        tileBuilders.values().forEach(TileBuilder::build);
     }
 
     /**
      * Places a tile on the hex grid.
      *
-     * @param builder The tile builder.
-     * @return The region of the tile.
+     * @param tile The tile.
      */
-    private Region placeTile(final TileBuilder builder) {
+    private void placeTile(final Tile tile) {
+        final TileBuilder builder = new TileBuilder(tile);
         final Region tileView = builder.build();
-        final Tile tile = builder.getTile();
-        final TilePosition position = tile.getPosition();
-        final Point2D translatedPoint = calculatePositionTranslationOffset(position);
-        tileView.translateXProperty().bind(
-            Bindings.createDoubleBinding(() -> (translatedPoint.getX()), tile.widthProperty()));
-        tileView.translateYProperty().bind(
-            Bindings.createDoubleBinding(() -> translatedPoint.getY(), tile.heightProperty()));
-        return tileView;
+        moveTile(tile, tileView);
+        if (tileHandlers.containsKey(tile)) {
+            builder.highlight(tileHandlers.get(tile));
+        }
+        tileBuilders.put(tile, builder);
+        tileViews.put(tile, tileView);
+        tileLayer.getChildren().add(tileView);
+    }
+
+    /**
+     * Moves the view of the given tile to the position of the tile.
+     *
+     * @param tile     The tile.
+     * @param tileView The view of the tile.
+     */
+    private void moveTile(final Tile tile, final Region tileView) {
+        final int index = geometry.indexOf(tile);
+        tileView.setTranslateX(getOffsetX() + geometry.getTileX(index) - grid.getTileWidth() / 2);
+        tileView.setTranslateY(getOffsetY() + geometry.getTileY(index) - grid.getTileHeight() / 2);
     }
 
     /**
      * Draws the intersections on the hex grid.
      */
     public void drawIntersections() {
-        intersectionBuilders.forEach(IntersectionBuilder::build);
+        intersectionBuilders.keySet().forEach(this::updateIntersection);
     }
 
     /**
      * Places an intersection on the hex grid.
      *
-     * @param builder The intersection builder.
-     * @return The region of the intersection.
+     * @param intersection The intersection.
      */
-    private Region placeIntersection(final IntersectionBuilder builder) {
+    private void placeIntersection(final Intersection intersection) {
+        final IntersectionBuilder builder = new IntersectionBuilder(intersection);
         final Region intersectionView = builder.build();
-        final Point2D translatedPoint = calculateIntersectionTranslation(builder.getIntersection());
+        final int index = geometry.indexOf(intersection);
         intersectionView.translateXProperty().bind(Bindings.createDoubleBinding(
-            () -> (translatedPoint.getX() - intersectionView.getWidth() / 2), intersectionView.widthProperty()));
+            () -> getOffsetX() + geometry.getIntersectionX(index) - intersectionView.getWidth() / 2,
+            intersectionView.widthProperty(), grid.tileSizeProperty()
+        ));
         intersectionView.translateYProperty().bind(Bindings.createDoubleBinding(
-            () -> (translatedPoint.getY() - intersectionView.getHeight() / 2), intersectionView.heightProperty()));
-        return intersectionView;
+            () -> getOffsetY() + geometry.getIntersectionY(index) - intersectionView.getHeight() / 2,
+            intersectionView.heightProperty(), grid.tileSizeProperty()
+        ));
+        if (intersectionHandlers.containsKey(intersection)) {
+            builder.highlight(intersectionHandlers.get(intersection));
+        }
+        intersectionBuilders.put(intersection, builder);
+        intersectionViews.put(intersection, intersectionView);
+        intersectionLayer.getChildren().add(intersectionView);
     }
 
     /**
      * Draws the edges on the hex grid.
      */
     public void drawEdges() {
-        edgeLines.forEach(EdgeLine::init);
+        edgeLines.keySet().forEach(this::updateEdge);
     }
 
     /**
      * Places an edge on the hex grid.
      *
-     * @param edgeLine The edge line.
+     * @param edge The edge.
      */
-    private void placeEdge(final EdgeLine edgeLine) {
-        final List<Intersection> intersections = edgeLine.getEdge().getIntersections().stream().toList();
-        final Point2D translatedStart = calculateIntersectionTranslation(intersections.get(0));
-        final Point2D translatedEnd = calculateIntersectionTranslation(intersections.get(1));
-        edgeLine.setStartX(translatedStart.getX());
-        edgeLine.setStartY(translatedStart.getY());
-        edgeLine.setEndX(translatedEnd.getX());
-        edgeLine.setEndY(translatedEnd.getY());
+    private void placeEdge(final Edge edge) {
+        final EdgeLine edgeLine = new EdgeLine(edge);
+        moveEdge(edge, edgeLine);
         edgeLine.init();
-        hexGridPane.getChildren().add(edgeLine.getOutline());
-        hexGridPane.getChildren().add(edgeLine);
+        if (edgeHandlers.containsKey(edge)) {
+            edgeLine.highlight(edgeHandlers.get(edge));
+        }
+        edgeLines.put(edge, edgeLine);
+        edgeLayer.getChildren().add(edgeLine.getOutline());
+        edgeLayer.getChildren().add(edgeLine);
     }
 
     /**
-     * Places a port on the hex grid.
+     * Moves the given line to the position of the given edge.
      *
-     * @param edge The edge the port is on.
+     * @param edge     The edge.
+     * @param edgeLine The line of the edge.
      */
-    private void placePort(final Edge edge) {
-        final TilePosition position = edge.getAdjacentTilePositions().stream()
-            .filter(Predicate.not(grid.getTiles()::containsKey))
-            .findAny()
-            .orElseThrow();
-        final List<Intersection> intersections = edge.getIntersections().stream().toList();
-        final Point2D node0 = calculateIntersectionTranslation(intersections.get(0));
-        final Point2D node1 = calculateIntersectionTranslation(intersections.get(1));
-        final PortBuilder portBuilder = new PortBuilder(edge, grid.tileWidthProperty(), grid.tileHeightProperty(),
-                                                        node0, node1
-        );
-        final Region portView = portBuilder.build();
-        final Point2D translatedPoint = calculatePositionTranslationOffset(position);
-        portView.translateXProperty().bind(Bindings.createDoubleBinding(
-            () -> (translatedPoint.getX() - portView.getWidth() / 2), grid.tileWidthProperty()));
-        portView.translateYProperty().bind(Bindings.createDoubleBinding(
-            () -> (translatedPoint.getY() - portView.getHeight() / 2), grid.tileHeightProperty()));
-        hexGridPane.getChildren().addAll(portBuilder.initConnections(calculatePositionCenterOffset(position)));
-        hexGridPane.getChildren().addAll(portView);
+    private void moveEdge(final Edge edge, final EdgeLine edgeLine) {
+        final int index = geometry.indexOf(edge);
+        edgeLine.setStartX(getOffsetX() + geometry.getEdgeStartX(index));
+        edgeLine.setStartY(getOffsetY() + geometry.getEdgeStartY(index));
+        edgeLine.setEndX(getOffsetX() + geometry.getEdgeEndX(index));
+        edgeLine.setEndY(getOffsetY() + geometry.getEdgeEndY(index));
+    }
+
+    /**
+     * Places all ports of the geometry table on the hex grid, replacing the ones placed before.
+     * Ports that are not next to a water tile outside the grid are not part of the table and left out.
+     */
+    private void placePorts() {
+        hexGridPane.getChildren().removeAll(portNodes);
+        portNodes.clear();
+        for (int i = 0; i < geometry.getPortCount(); i++) {
+            placePort(i);
+        }
+        hexGridPane.getChildren().addAll(0, portNodes);
     }
 
     /**
-     * Calculates the upper left corner of the tile region.
+     * Creates the nodes of the port with the given index in the geometry table.
      *
-     * @param position The position of the tile.
-     * @return The point of the upper left corner.
+     * @param index The index of the port.
      */
-    private Point2D calculatePositionTranslation(final TilePosition position) {
-        return new Point2D(
-            grid.getTileSize() * (Math.sqrt(3) * position.q() + Math.sqrt(3) / 2 * position.r()),
-            grid.getTileSize() * (3.0 / 2 * position.r())
+    private void placePort(final int index) {
+        final int edge = geometry.getPortEdge(index);
+        final Point2D node0 = new Point2D(getOffsetX() + geometry.getEdgeStartX(edge), getOffsetY() + geometry.getEdgeStartY(edge));
+        final Point2D node1 = new Point2D(getOffsetX() + geometry.getEdgeEndX(edge), getOffsetY() + geometry.getEdgeEndY(edge));
+        final Point2D center = new Point2D(getOffsetX() + geometry.getPortX(index), getOffsetY() + geometry.getPortY(index));
+        final PortBuilder portBuilder = new PortBuilder(geometry.getEdge(edge), grid.tileWidthProperty(),
+                                                        grid.tileHeightProperty(), node0, node1
         );
+        final Region portView = portBuilder.build();
+        portView.translateXProperty().bind(Bindings.createDoubleBinding(
+            () -> (center.getX() - grid.getTileWidth() / 2 - portView.getWidth() / 2), grid.tileWidthProperty()));
+        portView.translateYProperty().bind(Bindings.createDoubleBinding(
+            () -> (center.getY() - grid.getTileHeight() / 2 - portView.getHeight() / 2), grid.tileHeightProperty()));
+        portNodes.addAll(portBuilder.initConnections(center));
+        portNodes.add(portView);
     }
 
     /**
-     * Calculates the upper left corner of the tile region with an offset to move
-     * the coordinate system center to the center of the hex grid.
-     *
-     * @param position The position of the tile.
-     * @return The point of the upper left corner.
+     * Moves all placed nodes to the positions for the current tile size.
      */
-    private Point2D calculatePositionTranslationOffset(final TilePosition position) {
-        return calculatePositionTranslation(position).add(Math.abs(minPoint.getX()), Math.abs(minPoint.getY()));
+    private void rescale() {
+        tileViews.forEach(this::moveTile);
+        edgeLines.forEach((edge, edgeLine) -> {
+            moveEdge(edge, edgeLine);
+            updateEdge(edge);
+        });
+        if (!portNodes.isEmpty()) {
+            placePorts();
+        }
+        requestUpdate();
     }
 
     /**
-     * Calculates the center of the tile region with an offset to move the
-     * coordinate system center to the center of the hex grid.
+     * Returns the x coordinate of the center of tile {@code (0, 0)} in the hex grid pane.
      *
-     * @param position The position of the tile.
-     * @return The point of the center.
+     * @return the x offset of the geometry table
      */
-    private Point2D calculatePositionCenterOffset(final TilePosition position) {
-        return calculatePositionTranslationOffset(position).add(grid.getTileWidth() / 2, grid.getTileHeight() / 2);
+    private double getOffsetX() {
+        return Math.abs(minPoint.getX()) * grid.getTileSize() + grid.getTileWidth() / 2;
     }
 
     /**
-     * Calculates the center of the intersection region with an offset to move the
-     * coordinate system center to the center of the hex grid.
+     * Returns the y coordinate of the center of tile {@code (0, 0)} in the hex grid pane.
      *
-     * @param intersection The intersection.
-     * @return The point of the center.
+     * @return the y offset of the geometry table
      */
-    private Point2D calculateIntersectionTranslation(final Intersection intersection) {
-        final Set<Point2D> adjacentPoints = intersection.getAdjacentTilePositions().stream()
-            .map(this::calculatePositionCenterOffset)
-            .collect(Collectors.toSet());
-        return adjacentPoints.stream().reduce(Point2D::add).get().multiply(1.0 / 3);
+    private double getOffsetY() {
+        return Math.abs(minPoint.getY()) * grid.getTileSize() + grid.getTileHeight() / 2;
     }
 }
@@ -0,0 +1,680 @@
+package projekt.view;
+
+import javafx.geometry.VPos;
+import javafx.scene.Cursor;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.Image;
+import javafx.scene.input.MouseButton;
+import javafx.scene.input.MouseEvent;
+import javafx.scene.input.ScrollEvent;
+import javafx.scene.layout.Region;
+import javafx.scene.paint.Color;
+import javafx.scene.text.Font;
+import javafx.scene.text.FontWeight;
+import javafx.scene.text.TextAlignment;
+import projekt.model.HexGrid;
+import projekt.model.Intersection;
+import projekt.model.Player;
+import projekt.model.ResourceType;
+import projekt.model.TilePosition;
+import projekt.model.buildings.Edge;
+import projekt.model.buildings.Port;
+import projekt.model.buildings.Settlement;
+import projekt.model.tiles.Tile;
+
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * A view of a {@link HexGrid} that draws all tiles, ports, roads and settlements onto a single {@link Canvas}.
+ * <p>
+ * Unlike {@link HexGridBuilder}, which creates several nodes per tile, edge and intersection, this view keeps
+ * the board in plain arrays indexed like its {@link BoardGeometry} and only repaints what changed: every update marks the bounds of the affected
+ * elements as dirty, and the next layout pass repaints the union of the dirty bounds, skipping all elements
+ * outside of it. Panning and zooming repaint the visible part of the board. The canvas has the size of the
+ * view, not of the board, so its cost does not grow with the board.
+ * Clicks are hit-tested against the geometry of the highlighted elements instead of using per-node handlers.
+ * <p>
+ * All methods must be called on the FX application thread.
+ */
+public class HexGridCanvas extends Region implements HexGridView {
+    private static final Color BACKGROUND_COLOR = Color.web("#005aa9");
+    private static final Color SELECTABLE_COLOR = Color.CRIMSON;
+    private static final Color HOVER_COLOR = Color.LIME;
+    private static final double SQRT_3 = Math.sqrt(3);
+    private static final double MIN_SCALE = 0.1;
+    private static final double MAX_SCALE = 4;
+    private static final double TILE_BORDER_WIDTH = 2;
+    private static final double HIGHLIGHT_WIDTH = 5;
+    private static final double ROAD_WIDTH = 5;
+    private static final double ROAD_INSET = 5;
+    private static final double SETTLEMENT_SIZE = 25;
+    private static final double INTERSECTION_RADIUS = 15;
+    private static final double EDGE_HIT_DISTANCE = 8;
+    private static final double MIN_TEXT_SIZE = 4;
+    private static final int NONE = -1;
+    private static final int TILE = 0;
+    private static final int EDGE = 1;
+    private static final int INTERSECTION = 2;
+
+    private final HexGrid grid;
+    private final Canvas canvas = new Canvas();
+    private final BoardGeometry geometry;
+    private Font labelFont;
+
+    // the state of the model that is currently drawn
+    private final Player[] drawnRoadOwners;
+    private final Settlement[] drawnSettlements;
+    private TilePosition drawnRobber;
+
+    private final Runnable[] tileHandlers;
+    private final Consumer<MouseEvent>[] edgeHandlers;
+    private final Consumer<MouseEvent>[] intersectionHandlers;
+    private int hoveredKind = NONE;
+    private int hoveredIndex = NONE;
+
+    private double translateX = 0;
+    private double translateY = 0;
+    private double scale = 1;
+    private double lastX;
+    private double lastY;
+    private double dirtyMinX = Double.POSITIVE_INFINITY;
+    private double dirtyMinY = Double.POSITIVE_INFINITY;
+    private double dirtyMaxX = Double.NEGATIVE_INFINITY;
+    private double dirtyMaxY = Double.NEGATIVE_INFINITY;
+    private final double[] polygonX = new double[6];
+    private final double[] polygonY = new double[6];
+
+    /**
+     * Creates a new canvas view of the grid of the given geometry table.
+     *
+     * @param geometry the positions of the elements of the grid to draw
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public HexGridCanvas(final BoardGeometry geometry) {
+        this.grid = geometry.getGrid();
+        this.geometry = geometry;
+        this.drawnRoadOwners = new Player[geometry.getEdgeCount()];
+        this.drawnSettlements = new Settlement[geometry.getIntersectionCount()];
+        this.tileHandlers = new Runnable[geometry.getTileCount()];
+        this.edgeHandlers = new Consumer[geometry.getEdgeCount()];
+        this.intersectionHandlers = new Consumer[geometry.getIntersectionCount()];
+
+        updateLabelFont();
+        refresh();
+        // the geometry table listens to the tile size first and is already rescaled here
+        grid.tileSizeProperty().addListener(observable -> {
+            updateLabelFont();
+            invalidateAll();
+        });
+
+        canvas.setManaged(false);
+        getChildren().add(canvas);
+        setMinSize(0, 0);
+        setOnMousePressed(this::mousePressed);
+        setOnMouseDragged(this::mouseDragged);
+        setOnMouseMoved(event -> setHovered(event.getX(), event.getY()));
+        setOnMouseExited(event -> setHovered(NONE, NONE));
+        setOnMouseClicked(this::mouseClicked);
+        setOnScroll(this::scrolled);
+    }
+
+    /**
+     * Compares the drawn roads, settlements and robber with the grid and repaints the ones that changed.
+     */
+    public void refresh() {
+        for (int i = 0; i < geometry.getEdgeCount(); i++) {
+            updateEdge(i);
+        }
+        for (int i = 0; i < geometry.getIntersectionCount(); i++) {
+            updateIntersection(i);
+        }
+        updateRobber();
+    }
+
+    @Override
+    public void updateTile(final Tile tile) {
+        updateRobber();
+    }
+
+    @Override
+    public void updateEdge(final Edge edge) {
+        final int index = geometry.indexOf(edge);
+        if (index != NONE) {
+            updateEdge(index);
+        }
+    }
+
+    @Override
+    public void updateIntersection(final Intersection intersection) {
+        final int index = geometry.indexOf(intersection);
+        if (index != NONE) {
+            updateIntersection(index);
+        }
+    }
+
+    private void updateEdge(final int index) {
+        final Player owner = geometry.getEdge(index).getRoadOwner();
+        if (owner != drawnRoadOwners[index]) {
+            drawnRoadOwners[index] = owner;
+            invalidateEdge(index);
+        }
+    }
+
+    private void updateIntersection(final int index) {
+        final Settlement settlement = geometry.getIntersection(index).getSettlement();
+        if (!Objects.equals(settlement, drawnSettlements[index])) {
+            drawnSettlements[index] = settlement;
+            invalidateIntersection(index);
+        }
+    }
+
+    /**
+     * Repaints the tiles the robber moved from and to, if it moved since it was last drawn.
+     */
+    private void updateRobber() {
+        final TilePosition robber = grid.getRobberPosition();
+        if (!Objects.equals(robber, drawnRobber)) {
+            invalidateTile(geometry.indexOfTile(drawnRobber));
+            invalidateTile(geometry.indexOfTile(robber));
+            drawnRobber = robber;
+        }
+    }
+
+    @Override
+    public void highlightTile(final Tile tile, final Runnable handler) {
+        final int index = geometry.indexOf(tile);
+        if (index != NONE) {
+            tileHandlers[index] = handler;
+            invalidateTile(index);
+        }
+    }
+
+    @Override
+    public void unhighlightTile(final Tile tile) {
+        final int index = geometry.indexOf(tile);
+        if (index != NONE && tileHandlers[index] != null) {
+            tileHandlers[index] = null;
+            invalidateTile(index);
+        }
+    }
+
+    @Override
+    public void highlightEdge(final Edge edge, final Consumer<MouseEvent> handler) {
+        final int index = geometry.indexOf(edge);
+        if (index != NONE) {
+            edgeHandlers[index] = handler;
+            invalidateEdge(index);
+        }
+    }
+
+    @Override
+    public void unhighlightEdge(final Edge edge) {
+        final int index = geometry.indexOf(edge);
+        if (index != NONE && edgeHandlers[index] != null) {
+            edgeHandlers[index] = null;
+            invalidateEdge(index);
+        }
+    }
+
+    @Override
+    public void highlightIntersection(final Intersection intersection, final Consumer<MouseEvent> handler) {
+        final int index = geometry.indexOf(intersection);
+        if (index != NONE) {
+            intersectionHandlers[index] = handler;
+            invalidateIntersection(index);
+        }
+    }
+
+    @Override
+    public void unhighlightIntersection(final Intersection intersection) {
+        final int index = geometry.indexOf(intersection);
+        if (index != NONE && intersectionHandlers[index] != null) {
+            intersectionHandlers[index] = null;
+            invalidateIntersection(index);
+        }
+    }
+
+    /**
+     * Moves the board back to the center of the view without changing the zoom.
+     */
+    public void center() {
+        translateX = 0;
+        translateY = 0;
+        invalidateAll();
+    }
+
+    /**
+     * Takes over the position and zoom of the given view.
+     *
+     * @param other the view to copy the viewport from
+     */
+    public void copyViewport(final HexGridCanvas other) {
+        translateX = other.translateX;
+        translateY = other.translateY;
+        scale = other.scale;
+        invalidateAll();
+    }
+
+    @Override
+    protected void layoutChildren() {
+        final double width = getWidth();
+        final double height = getHeight();
+        if (canvas.getWidth() != width || canvas.getHeight() != height) {
+            canvas.setWidth(width);
+            canvas.setHeight(height);
+            markDirty(0, 0, width, height);
+        }
+        final double minX = Math.max(0, Math.floor(dirtyMinX));
+        final double minY = Math.max(0, Math.floor(dirtyMinY));
+        final double maxX = Math.min(width, Math.ceil(dirtyMaxX));
+        final double maxY = Math.min(height, Math.ceil(dirtyMaxY));
+        dirtyMinX = Double.POSITIVE_INFINITY;
+        dirtyMinY = Double.POSITIVE_INFINITY;
+        dirtyMaxX = Double.NEGATIVE_INFINITY;
+        dirtyMaxY = Double.NEGATIVE_INFINITY;
+        if (minX < maxX && minY < maxY) {
+            paint(minX, minY, maxX, maxY);
+        }
+    }
+
+    // Painting
+
+    /**
+     * Repaints the given rectangle of the canvas.
+     *
+     * @param minX the left border in view coordinates
+     * @param minY the upper border in view coordinates
+     * @param maxX the right border in view coordinates
+     * @param maxY the lower border in view coordinates
+     */
+    private void paint(final double minX, final double minY, final double maxX, final double maxY) {
+        final GraphicsContext gc = canvas.getGraphicsContext2D();
+        gc.save();
+        gc.beginPath();
+        gc.rect(minX, minY, maxX - minX, maxY - minY);
+        gc.closePath();
+        gc.clip();
+        gc.setFill(BACKGROUND_COLOR);
+        gc.fillRect(minX, minY, maxX - minX, maxY - minY);
+        gc.translate(getOriginX(), getOriginY());
+        gc.scale(scale, scale);
+
+        final double boardMinX = toBoardX(minX);
+        final double boardMinY = toBoardY(minY);
+        final double boardMaxX = toBoardX(maxX);
+        final double boardMaxY = toBoardY(maxY);
+        final double size = grid.getTileSize();
+        for (int i = 0; i < geometry.getPortCount(); i++) {
+            if (intersects(geometry.getPortX(i), geometry.getPortY(i), size, boardMinX, boardMinY, boardMaxX, boardMaxY)) {
+                paintPort(gc, i);
+            }
+        }
+        for (int i = 0; i < geometry.getTileCount(); i++) {
+            if (intersects(geometry.getTileX(i), geometry.getTileY(i), size, boardMinX, boardMinY, boardMaxX, boardMaxY)) {
+                paintTile(gc, i);
+            }
+        }
+        for (int i = 0; i < geometry.getEdgeCount(); i++) {
+            if ((drawnRoadOwners[i] != null || edgeHandlers[i] != null)
+                && intersects(getEdgeX(i), getEdgeY(i), size, boardMinX, boardMinY, boardMaxX, boardMaxY)) {
+                paintEdge(gc, i);
+            }
+        }
+        for (int i = 0; i < geometry.getIntersectionCount(); i++) {
+            if ((drawnSettlements[i] != null || intersectionHandlers[i] != null)
+                && intersects(geometry.getIntersectionX(i), geometry.getIntersectionY(i), INTERSECTION_RADIUS * 2, boardMinX, boardMinY, boardMaxX, boardMaxY)) {
+                paintIntersection(gc, i);
+            }
+        }
+        gc.restore();
+    }
+
+    private void paintTile(final GraphicsContext gc, final int index) {
+        final Tile tile = geometry.getTile(index);
+        final double size = grid.getTileSize();
+        final double x = geometry.getTileX(index);
+        final double y = geometry.getTileY(index);
+        setHexagon(x, y, size);
+        gc.setFill(tile.getType().color);
+        gc.fillPolygon(polygonX, polygonY, 6);
+        if (tileHandlers[index] != null) {
+            gc.setStroke(isHovered(TILE, index) ? HOVER_COLOR : SELECTABLE_COLOR);
+            gc.setLineWidth(HIGHLIGHT_WIDTH);
+        } else {
+            gc.setStroke(Color.BLACK);
+            gc.setLineWidth(TILE_BORDER_WIDTH);
+        }
+        gc.strokePolygon(polygonX, polygonY, 6);
+
+        final ResourceType resourceType = tile.getType().resourceType;
+        final double tileWidth = SQRT_3 * size;
+        if (resourceType != null) {
+            paintImage(
+                gc,
+                SpriteCache.getSprite(Utils.resourcesSpriteSheet, resourceType.iconIndex, resourceType.color, tileWidth * 0.5),
+                x,
+                y - size * 0.25
+            );
+        }
+        if (tile.getPosition().equals(drawnRobber)) {
+            paintImage(gc, SpriteCache.getImage(Utils.robberImage, Color.BLACK, tileWidth * 0.3), x, y - size * 0.25);
+        }
+        if (tile.getRollNumber() > 0 && labelFont.getSize() * scale >= MIN_TEXT_SIZE) {
+            paintLabel(gc, Integer.toString(tile.getRollNumber()), x, y + size * 0.45);
+        }
+    }
+
+    private void paintPort(final GraphicsContext gc, final int index) {
+        final int edge = geometry.getPortEdge(index);
+        final Port port = geometry.getEdge(edge).getPort();
+        final double x = geometry.getPortX(index);
+        final double y = geometry.getPortY(index);
+        gc.setStroke(Color.BLACK);
+        gc.setLineWidth(3);
+        gc.strokeLine(x, y, geometry.getEdgeStartX(edge), geometry.getEdgeStartY(edge));
+        gc.strokeLine(x, y, geometry.getEdgeEndX(edge), geometry.getEdgeEndY(edge));
+        final double radius = SQRT_3 * grid.getTileSize() / 2 * 0.6;
+        gc.setFill(Color.WHITE);
+        gc.fillOval(x - radius, y - radius, radius * 2, radius * 2);
+        gc.strokeOval(x - radius, y - radius, radius * 2, radius * 2);
+        if (port.resourceType() != null) {
+            paintImage(
+                gc,
+                SpriteCache.getSprite(
+                    Utils.resourcesSpriteSheet,
+                    port.resourceType().iconIndex,
+                    port.resourceType().color,
+                    radius
+                ),
+                x,
+                y - radius * 0.3
+            );
+        }
+        if (labelFont.getSize() * scale >= MIN_TEXT_SIZE) {
+            paintLabel(gc, port.resourceType() == null ? "?" : String.format("%d:1", port.ratio()), x, y + radius * 0.45);
+        }
+    }
+
+    private void paintEdge(final GraphicsContext gc, final int index) {
+        final double startX = geometry.getEdgeStartX(index);
+        final double startY = geometry.getEdgeStartY(index);
+        final double endX = geometry.getEdgeEndX(index);
+        final double endY = geometry.getEdgeEndY(index);
+        final double length = Math.hypot(endX - startX, endY - startY);
+        final double insetX = (endX - startX) / length * ROAD_INSET;
+        final double insetY = (endY - startY) / length * ROAD_INSET;
+        final double x0 = startX + insetX;
+        final double y0 = startY + insetY;
+        final double x1 = endX - insetX;
+        final double y1 = endY - insetY;
+        if (drawnRoadOwners[index] != null) {
+            gc.setStroke(Color.BLACK);
+            gc.setLineWidth(ROAD_WIDTH * 1.4);
+            gc.strokeLine(x0, y0, x1, y1);
+            gc.setStroke(drawnRoadOwners[index].getColor());
+            gc.setLineWidth(ROAD_WIDTH);
+            gc.strokeLine(x0, y0, x1, y1);
+        }
+        if (edgeHandlers[index] != null) {
+            gc.setStroke(Color.BLACK);
+            gc.setLineWidth(ROAD_WIDTH * 1.6);
+            gc.strokeLine(x0, y0, x1, y1);
+            gc.setStroke(isHovered(EDGE, index) ? HOVER_COLOR : SELECTABLE_COLOR);
+            gc.setLineWidth(ROAD_WIDTH * 1.2);
+            gc.setLineDashes(Math.max(2, (length - 2 * ROAD_INSET) * 0.1), 10);
+            gc.strokeLine(x0, y0, x1, y1);
+            gc.setLineDashes((double[]) null);
+        }
+    }
+
+    private void paintIntersection(final GraphicsContext gc, final int index) {
+        final double x = geometry.getIntersectionX(index);
+        final double y = geometry.getIntersectionY(index);
+        final Settlement settlement = drawnSettlements[index];
+        if (settlement != null) {
+            paintImage(
+                gc,
+                SpriteCache.getSprite(
+                    Utils.settlementsSpriteSheet,
+                    settlement.type().ordinal(),
+                    settlement.owner().getColor(),
+                    SETTLEMENT_SIZE
+                ),
+                x,
+                y
+            );
+        }
+        if (intersectionHandlers[index] != null) {
+            gc.setStroke(isHovered(INTERSECTION, index) ? HOVER_COLOR : SELECTABLE_COLOR);
+            gc.setLineWidth(4);
+            gc.strokeOval(x - INTERSECTION_RADIUS, y - INTERSECTION_RADIUS, INTERSECTION_RADIUS * 2, INTERSECTION_RADIUS * 2);
+        }
+    }
+
+    private void paintImage(final GraphicsContext gc, final Image image, final double x, final double y) {
+        gc.drawImage(image, x - image.getWidth() / 2, y - image.getHeight() / 2);
+    }
+
+    private void paintLabel(final GraphicsContext gc, final String text, final double x, final double y) {
+        gc.setFont(labelFont);
+        gc.setTextAlign(TextAlignment.CENTER);
+        gc.setTextBaseline(VPos.CENTER);
+        gc.setFill(Color.WHITE);
+        gc.fillText(text, x, y);
+        gc.setStroke(Color.BLACK);
+        gc.setLineWidth(1);
+        gc.strokeText(text, x, y);
+    }
+
+    // Geometry
+
+    private void updateLabelFont() {
+        labelFont = Font.font(null, FontWeight.BLACK, grid.getTileSize() * 0.4);
+    }
+
+    private double getEdgeX(final int edge) {
+        return (geometry.getEdgeStartX(edge) + geometry.getEdgeEndX(edge)) / 2;
+    }
+
+    private double getEdgeY(final int edge) {
+        return (geometry.getEdgeStartY(edge) + geometry.getEdgeEndY(edge)) / 2;
+    }
+
+    /**
+     * Stores the corners of the pointy-top hexagon with the given center in the polygon arrays.
+     */
+    private void setHexagon(final double x, final double y, final double size) {
+        for (int corner = 0; corner < 6; corner++) {
+            final double angle = Math.toRadians(60 * corner - 30);
+            polygonX[corner] = x + size * Math.cos(angle);
+            polygonY[corner] = y + size * Math.sin(angle);
+        }
+    }
+
+    private static boolean intersects(
+        final double x, final double y, final double radius,
+        final double minX, final double minY, final double maxX, final double maxY
+    ) {
+        return x + radius >= minX && x - radius <= maxX && y + radius >= minY && y - radius <= maxY;
+    }
+
+    private double getOriginX() {
+        return getWidth() / 2 + translateX;
+    }
+
+    private double getOriginY() {
+        return getHeight() / 2 + translateY;
+    }
+
+    private double toBoardX(final double x) {
+        return (x - getOriginX()) / scale;
+    }
+
+    private double toBoardY(final double y) {
+        return (y - getOriginY()) / scale;
+    }
+
+    // Invalidation
+
+    private void invalidateTile(final int index) {
+        if (index != NONE) {
+            invalidate(geometry.getTileX(index), geometry.getTileY(index), grid.getTileSize() + HIGHLIGHT_WIDTH);
+        }
+    }
+
+    private void invalidateEdge(final int index) {
+        invalidate(getEdgeX(index), getEdgeY(index), grid.getTileSize() / 2 + ROAD_WIDTH * 2);
+    }
+
+    private void invalidateIntersection(final int index) {
+        invalidate(geometry.getIntersectionX(index), geometry.getIntersectionY(index), INTERSECTION_RADIUS + HIGHLIGHT_WIDTH);
+    }
+
+    /**
+     * Marks the square with the given center and half size in board coordinates as dirty.
+     */
+    private void invalidate(final double x, final double y, final double radius) {
+        final double originX = getOriginX();
+        final double originY = getOriginY();
+        markDirty(
+            originX + (x - radius) * scale,
+            originY + (y - radius) * scale,
+            originX + (x + radius) * scale,
+            originY + (y + radius) * scale
+        );
+        requestLayout();
+    }
+
+    private void invalidateAll() {
+        markDirty(0, 0, getWidth(), getHeight());
+        requestLayout();
+    }
+
+    private void markDirty(final double minX, final double minY, final double maxX, final double maxY) {
+        dirtyMinX = Math.min(dirtyMinX, minX - 1);
+        dirtyMinY = Math.min(dirtyMinY, minY - 1);
+        dirtyMaxX = Math.max(dirtyMaxX, maxX + 1);
+        dirtyMaxY = Math.max(dirtyMaxY, maxY + 1);
+    }
+
+    // Input
+
+    private void mousePressed(final MouseEvent event) {
+        lastX = event.getX();
+        lastY = event.getY();
+    }
+
+    private void mouseDragged(final MouseEvent event) {
+        if (event.isPrimaryButtonDown()) {
+            translateX += event.getX() - lastX;
+            translateY += event.getY() - lastY;
+            invalidateAll();
+        }
+        lastX = event.getX();
+        lastY = event.getY();
+    }
+
+    /**
+     * Zooms around the mouse position.
+     */
+    private void scrolled(final ScrollEvent event) {
+        if (event.getDeltaY() == 0) {
+            return;
+        }
+        final double newScale = Math.max(MIN_SCALE, Math.min(MAX_SCALE, scale * (1 + event.getDeltaY() / 500)));
+        final double boardX = toBoardX(event.getX());
+        final double boardY = toBoardY(event.getY());
+        scale = newScale;
+        translateX = event.getX() - getWidth() / 2 - boardX * scale;
+        translateY = event.getY() - getHeight() / 2 - boardY * scale;
+        invalidateAll();
+    }
+
+    private void mouseClicked(final MouseEvent event) {
+        if (event.getButton() != MouseButton.PRIMARY || !event.isStillSincePress()) {
+            return;
+        }
+        setHovered(event.getX(), event.getY());
+        if (hoveredKind == INTERSECTION) {
+            intersectionHandlers[hoveredIndex].accept(event);
+        } else if (hoveredKind == EDGE) {
+            edgeHandlers[hoveredIndex].accept(event);
+        } else if (hoveredKind == TILE) {
+            tileHandlers[hoveredIndex].run();
+        }
+    }
+
+    /**
+     * Finds the highlighted element at the given point of the view and marks it as hovered.
+     * Intersections take precedence over edges, edges over tiles.
+     */
+    private void setHovered(final double viewX, final double viewY) {
+        final double x = toBoardX(viewX);
+        final double y = toBoardY(viewY);
+        int kind = NONE;
+        int index = NONE;
+        double best = INTERSECTION_RADIUS * INTERSECTION_RADIUS;
+        for (int i = 0; i < geometry.getIntersectionCount(); i++) {
+            if (intersectionHandlers[i] != null) {
+                final double distance = square(geometry.getIntersectionX(i) - x) + square(geometry.getIntersectionY(i) - y);
+                if (distance <= best) {
+                    best = distance;
+                    kind = INTERSECTION;
+                    index = i;
+                }
+            }
+        }
+        if (kind == NONE) {
+            best = EDGE_HIT_DISTANCE * EDGE_HIT_DISTANCE;
+            for (int i = 0; i < geometry.getEdgeCount(); i++) {
+                if (edgeHandlers[i] != null) {
+                    final double distance = geometry.getEdgeDistanceSquared(i, x, y);
+                    if (distance <= best) {
+                        best = distance;
+                        kind = EDGE;
+                        index = i;
+                    }
+                }
+            }
+        }
+        if (kind == NONE) {
+            final int tile = geometry.indexOfTile(geometry.toTilePosition(x, y));
+            if (tile != NONE && tileHandlers[tile] != null) {
+                kind = TILE;
+                index = tile;
+            }
+        }
+        setHovered(kind, index);
+    }
+
+    private void setHovered(final int kind, final int index) {
+        if (kind == hoveredKind && index == hoveredIndex) {
+            return;
+        }
+        invalidateHovered();
+        hoveredKind = kind;
+        hoveredIndex = index;
+        invalidateHovered();
+        setCursor(kind == NONE ? Cursor.DEFAULT : Cursor.HAND);
+    }
+
+    private void invalidateHovered() {
+        switch (hoveredKind) {
+            case TILE -> invalidateTile(hoveredIndex);
+            case EDGE -> invalidateEdge(hoveredIndex);
+            case INTERSECTION -> invalidateIntersection(hoveredIndex);
+            default -> {
+            }
+        }
+    }
+
+    private boolean isHovered(final int kind, final int index) {
+        return hoveredKind == kind && hoveredIndex == index;
+    }
+
+    private static double square(final double value) {
+        return value * value;
+    }
+}
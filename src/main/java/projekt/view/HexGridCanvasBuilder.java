@@ -0,0 +1,48 @@
+package projekt.view;
+
+import javafx.beans.binding.Bindings;
+import javafx.scene.control.Button;
+import javafx.scene.layout.Region;
+import javafx.scene.layout.StackPane;
+import javafx.util.Builder;
+
+/**
+ * The builder for a {@link HexGridCanvas}.
+ * It creates a pane with the canvas and a button to center the map, like {@link HexGridBuilder} does for the
+ * node based view.
+ */
+public class HexGridCanvasBuilder implements Builder<Region> {
+    private final HexGridCanvas canvas;
+
+    /**
+     * Creates a new builder for the given canvas.
+     *
+     * @param canvas The canvas to show.
+     */
+    public HexGridCanvasBuilder(final HexGridCanvas canvas) {
+        this.canvas = canvas;
+    }
+
+    @Override
+    public Region build() {
+        final StackPane mapPane = new StackPane(canvas);
+        mapPane.getStyleClass().add("hex-grid");
+
+        final Button centerButton = new Button("Center map");
+        centerButton.setOnAction(event -> canvas.center());
+        centerButton.translateXProperty().bind(Bindings
+                                                   .createDoubleBinding(
+                                                       () -> (centerButton.getWidth() - mapPane.getWidth()) / 2 + 10,
+                                                       mapPane.widthProperty()
+                                                   ));
+        centerButton.translateYProperty().bind(Bindings
+                                                   .createDoubleBinding(
+                                                       () -> (mapPane.getHeight() - centerButton.getHeight()) / 2 - 10,
+                                                       mapPane.heightProperty()
+                                                   ));
+
+        mapPane.getChildren().add(centerButton);
+
+        return mapPane;
+    }
+}
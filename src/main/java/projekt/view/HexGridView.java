@@ -0,0 +1,83 @@
+package projekt.view;
+
+import javafx.scene.input.MouseEvent;
+import projekt.model.Intersection;
+import projekt.model.buildings.Edge;
+import projekt.model.tiles.Tile;
+
+import java.util.function.Consumer;
+
+/**
+ * A view of a whole hex grid that highlights its elements and reports clicks on them.
+ * Views may create and release the nodes of single elements at any time, so highlights are set on the view
+ * instead of on the elements' nodes. Views do not watch the grid themselves; changed elements are passed to the
+ * update methods.
+ * All methods must be called on the FX application thread.
+ */
+public interface HexGridView {
+    /**
+     * Highlights the given tile and calls the handler when it is clicked.
+     *
+     * @param tile    the tile
+     * @param handler the handler
+     */
+    void highlightTile(Tile tile, Runnable handler);
+
+    /**
+     * Removes the highlight from the given tile.
+     *
+     * @param tile the tile
+     */
+    void unhighlightTile(Tile tile);
+
+    /**
+     * Highlights the given edge and calls the handler when it is clicked.
+     *
+     * @param edge    the edge
+     * @param handler the handler
+     */
+    void highlightEdge(Edge edge, Consumer<MouseEvent> handler);
+
+    /**
+     * Removes the highlight from the given edge.
+     *
+     * @param edge the edge
+     */
+    void unhighlightEdge(Edge edge);
+
+    /**
+     * Highlights the given intersection and calls the handler when it is clicked.
+     *
+     * @param intersection the intersection
+     * @param handler      the handler
+     */
+    void highlightIntersection(Intersection intersection, Consumer<MouseEvent> handler);
+
+    /**
+     * Removes the highlight from the given intersection.
+     *
+     * @param intersection the intersection
+     */
+    void unhighlightIntersection(Intersection intersection);
+
+    /**
+     * Redraws the given tile, for example after the robber moved onto or away from it.
+     *
+     * @param tile the tile
+     */
+    void updateTile(Tile tile);
+
+    /**
+     * Redraws the given edge after its road changed.
+     *
+     * @param edge the edge
+     */
+    void updateEdge(Edge edge);
+
+    /**
+     * Redraws the given intersection after its settlement changed.
+     *
+     * @param intersection the intersection
+     */
+    void updateIntersection(Intersection intersection);
+}
@@ -1,5 +1,6 @@
 package projekt.view;
 
+import javafx.scene.image.ImageView;
 import javafx.scene.input.MouseEvent;
 import javafx.scene.layout.Region;
 import javafx.scene.layout.StackPane;
@@ -14,12 +15,13 @@ import java.util.function.Consumer;
 /**
  * A Builder to create views for {@link Intersection}s.
  * Renders the {@link Settlement} of the intersection with a sprite from
- * {@link Utils#settlementsSpriteSheet}
+ * {@link Utils#settlementsSpriteSheet}, tinted by the {@link SpriteCache}.
  * Has methods to highlight and unhighlight the intersection.
  */
 public class IntersectionBuilder implements Builder<Region> {
     private final Intersection intersection;
     private final StackPane pane = new StackPane();
+    private final ImageView settlementView = new ImageView();
 
     /**
      * Creates a new IntersectionBuilder for the given {@link Intersection}.
@@ -28,6 +30,7 @@ public class IntersectionBuilder implements Builder<Region> {
      */
     public IntersectionBuilder(final Intersection intersection) {
         this.intersection = intersection;
+        pane.getStyleClass().add("intersection");
     }
 
     @Override
@@ -35,7 +38,6 @@ public class IntersectionBuilder implements Builder<Region> {
         pane.getChildren().clear();
         unhighlight();
         addSettlement();
-        pane.getStyleClass().add("intersection");
         return pane;
     }
 
@@ -48,13 +50,13 @@ public class IntersectionBuilder implements Builder<Region> {
             return;
         }
 
-        final Sprite settlementSprite = new Sprite(Utils.settlementsSpriteSheet, settlement.type().ordinal(),
-                                                   settlement.owner().getColor()
-        );
-        settlementSprite.setFitWidth(25);
-        settlementSprite.setPreserveRatio(true);
-
-        pane.getChildren().add(settlementSprite);
+        settlementView.setImage(SpriteCache.getSprite(
+            Utils.settlementsSpriteSheet,
+            settlement.type().ordinal(),
+            settlement.owner().getColor(),
+            25
+        ));
+        pane.getChildren().add(settlementView);
     }
 
     /**
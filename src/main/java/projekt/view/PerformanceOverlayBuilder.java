@@ -0,0 +1,37 @@
+package projekt.view;
+
+import javafx.beans.property.SimpleStringProperty;
+import javafx.beans.property.StringProperty;
+import javafx.scene.control.Label;
+import javafx.scene.layout.Region;
+import javafx.util.Builder;
+
+/**
+ * A Builder to create the performance overlay, a text box shown on top of a scene.
+ * The overlay does not take part in the layout of the scene and ignores the mouse.
+ */
+public class PerformanceOverlayBuilder implements Builder<Region> {
+    private final StringProperty textProperty = new SimpleStringProperty("");
+
+    @Override
+    public Region build() {
+        final Label label = new Label();
+        label.textProperty().bind(textProperty);
+        label.getStyleClass().add("performance-overlay");
+        label.setMouseTransparent(true);
+        label.setManaged(false);
+        label.relocate(5, 5);
+        // unmanaged nodes are not sized by their parent
+        label.textProperty().addListener((observable, oldValue, newValue) -> label.autosize());
+        return label;
+    }
+
+    /**
+     * Sets the text of the overlay.
+     *
+     * @param text The text.
+     */
+    public void setText(final String text) {
+        textProperty.set(text);
+    }
+}
@@ -1,19 +1,16 @@
 package projekt.view;
 
 import javafx.beans.value.ObservableDoubleValue;
-import javafx.geometry.Insets;
 import javafx.geometry.Point2D;
-import javafx.geometry.Pos;
 import javafx.scene.Node;
-import javafx.scene.control.Label;
 import javafx.scene.image.ImageView;
 import javafx.scene.layout.Region;
 import javafx.scene.layout.StackPane;
-import javafx.scene.layout.VBox;
 import javafx.scene.paint.Color;
 import javafx.scene.shape.Circle;
 import javafx.scene.shape.Line;
 import javafx.scene.text.Font;
+import javafx.scene.text.Text;
 import javafx.util.Builder;
 import projekt.model.buildings.Edge;
 import projekt.model.buildings.Port;
@@ -69,26 +66,25 @@ public class PortBuilder implements Builder<Region> {
         background.setStrokeWidth(3);
         final Node icon;
         if (edge.getPort().resourceType() != null) {
-            final ImageView resourceImage = new Sprite(Utils.resourcesSpriteSheet, edge.getPort().resourceType().iconIndex,
-                                                       edge.getPort().resourceType().color
-            );
-            resourceImage.setFitWidth(background.getRadius() * 2 * 0.5);
-            resourceImage.setPreserveRatio(true);
-            icon = resourceImage;
+            icon = new ImageView(SpriteCache.getSprite(
+                Utils.resourcesSpriteSheet,
+                edge.getPort().resourceType().iconIndex,
+                edge.getPort().resourceType().color,
+                background.getRadius() * 2 * 0.5
+            ));
         } else {
-            final Label missingLabel = new Label("?");
-            missingLabel.setFont(new Font(30));
-            missingLabel.getStyleClass().add("bold");
-            missingLabel.setPadding(new Insets(-5));
-            icon = missingLabel;
+            final Text missingText = new Text("?");
+            missingText.setFont(new Font(30));
+            missingText.getStyleClass().add("bold");
+            icon = missingText;
         }
+        icon.setTranslateY(-background.getRadius() * 0.3);
 
-        final Label ratioLabel = new Label(String.format("%d:1", edge.getPort().ratio()));
-        ratioLabel.setFont(Font.font(10));
-        ratioLabel.getStyleClass().add("highlighted-label");
-        final VBox iconBox = new VBox(icon, ratioLabel);
-        iconBox.setAlignment(Pos.CENTER);
-        mainPane.getChildren().addAll(background, iconBox);
+        final Text ratioText = new Text(String.format("%d:1", edge.getPort().ratio()));
+        ratioText.getStyleClass().add("highlighted-text");
+        ratioText.setStyle("-fx-font-size: 15px");
+        ratioText.setTranslateY(background.getRadius() * 0.45);
+        mainPane.getChildren().addAll(background, icon, ratioText);
         return mainPane;
     }
 
@@ -0,0 +1,102 @@
+package projekt.view;
+
+import javafx.beans.property.IntegerProperty;
+import javafx.beans.property.SimpleStringProperty;
+import javafx.beans.property.StringProperty;
+import javafx.geometry.Insets;
+import javafx.geometry.Pos;
+import javafx.scene.control.Button;
+import javafx.scene.control.Label;
+import javafx.scene.control.Slider;
+import javafx.scene.layout.HBox;
+import javafx.scene.layout.Priority;
+import javafx.scene.layout.Region;
+import javafx.scene.layout.VBox;
+import javafx.util.Builder;
+
+/**
+ * A Builder to create the controls of the replay viewer.
+ * The controls consist of buttons to step through the replay by action and by round,
+ * a slider to jump to any step and a label describing the current step.
+ */
+public class ReplayControlsBuilder implements Builder<Region> {
+    private final int lastStep;
+    private final IntegerProperty stepProperty;
+    private final Runnable previousRoundHandler;
+    private final Runnable nextRoundHandler;
+    private final Runnable returnHandler;
+    private final StringProperty descriptionProperty = new SimpleStringProperty("");
+
+    /**
+     * Creates a new ReplayControlsBuilder.
+     *
+     * @param lastStep             The index of the last step of the replay.
+     * @param stepProperty         The property holding the current step. It is updated by the controls.
+     * @param previousRoundHandler The handler for the previous round button.
+     * @param nextRoundHandler     The handler for the next round button.
+     * @param returnHandler        The handler for the main menu button.
+     */
+    public ReplayControlsBuilder(
+        final int lastStep, final IntegerProperty stepProperty, final Runnable previousRoundHandler,
+        final Runnable nextRoundHandler, final Runnable returnHandler
+    ) {
+        this.lastStep = lastStep;
+        this.stepProperty = stepProperty;
+        this.previousRoundHandler = previousRoundHandler;
+        this.nextRoundHandler = nextRoundHandler;
+        this.returnHandler = returnHandler;
+    }
+
+    @Override
+    public Region build() {
+        final Button firstButton = new Button("|<");
+        firstButton.setOnAction(e -> stepProperty.set(0));
+        final Button previousRoundButton = new Button("<< Round");
+        previousRoundButton.setOnAction(e -> previousRoundHandler.run());
+        final Button previousStepButton = new Button("< Action");
+        previousStepButton.setOnAction(e -> stepProperty.set(Math.max(0, stepProperty.get() - 1)));
+        final Button nextStepButton = new Button("Action >");
+        nextStepButton.setOnAction(e -> stepProperty.set(Math.min(lastStep, stepProperty.get() + 1)));
+        final Button nextRoundButton = new Button("Round >>");
+        nextRoundButton.setOnAction(e -> nextRoundHandler.run());
+        final Button lastButton = new Button(">|");
+        lastButton.setOnAction(e -> stepProperty.set(lastStep));
+        final Button returnButton = new Button("Main Menu");
+        returnButton.setOnAction(e -> returnHandler.run());
+
+        final Slider slider = new Slider(0, Math.max(lastStep, 1), stepProperty.get());
+        slider.setBlockIncrement(1);
+        slider.setMajorTickUnit(1);
+        slider.setMinorTickCount(0);
+        slider.setSnapToTicks(true);
+        slider.setDisable(lastStep == 0);
+        slider.valueProperty().addListener((observable, oldValue, newValue) -> stepProperty.set((int) Math.round(newValue.doubleValue())));
+        stepProperty.addListener((observable, oldValue, newValue) -> slider.setValue(newValue.intValue()));
+        HBox.setHgrow(slider, Priority.ALWAYS);
+
+        final HBox buttonBox = new HBox(
+            returnButton, firstButton, previousRoundButton, previousStepButton,
+            nextStepButton, nextRoundButton, lastButton, slider
+        );
+        buttonBox.setAlignment(Pos.CENTER_LEFT);
+        buttonBox.setSpacing(5);
+
+        final Label description = new Label();
+        description.textProperty().bind(descriptionProperty);
+
+        final VBox mainBox = new VBox(buttonBox, description);
+        mainBox.setSpacing(5);
+        mainBox.setPadding(new Insets(10));
+        mainBox.setMinWidth(600);
+        return mainBox;
+    }
+
+    /**
+     * Sets the description of the current step.
+     *
+     * @param description The description.
+     */
+    public void setDescription(final String description) {
+        descriptionProperty.set(description);
+    }
+}
@@ -0,0 +1,146 @@
+package projekt.view;
+
+import javafx.scene.image.Image;
+import javafx.scene.image.PixelFormat;
+import javafx.scene.image.PixelReader;
+import javafx.scene.image.WritableImage;
+import javafx.scene.paint.Color;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * A cache of tinted images, so colored sprites can be shown as plain images instead of with a
+ * {@link javafx.scene.effect.Lighting} effect that is rendered again in every frame.
+ * <p>
+ * Images are tinted like {@link ColoredImageView} does: every color channel is multiplied with the channel of the
+ * tint, the alpha channel is kept. Scaled images are loaded again from their URL at the target size, which is
+ * smoother and much cheaper to tint than the full-size image. Every image is only rasterized once per sprite
+ * sheet, index, color and size.
+ */
+public final class SpriteCache {
+    private static final Map<Key, Image> IMAGES = new HashMap<>();
+    private static final Map<Key, Image> SCALED_SOURCES = new HashMap<>();
+
+    private SpriteCache() {}
+
+    /**
+     * Returns the given cell of a sprite sheet, tinted with the given color and scaled to the given width.
+     * The sprite sheet must show square cells in a single column, like for {@link Sprite}.
+     *
+     * @param spriteSheet the sprite sheet
+     * @param index       the index of the cell
+     * @param color       the color to tint the sprite with, or {@code null} to not tint it
+     * @param width       the width of the sprite in pixels
+     * @return the tinted sprite
+     */
+    public static synchronized Image getSprite(final Image spriteSheet, final int index, final Color color, final double width) {
+        final int cells = Math.max(1, (int) Math.round(spriteSheet.getHeight() / spriteSheet.getWidth()));
+        return get(spriteSheet, cells, index, color, width);
+    }
+
+    /**
+     * Returns the given image, tinted with the given color and scaled to the given width with its aspect ratio.
+     *
+     * @param image the image
+     * @param color the color to tint the image with, or {@code null} to not tint it
+     * @param width the width of the image in pixels
+     * @return the tinted image
+     */
+    public static synchronized Image getImage(final Image image, final Color color, final double width) {
+        return get(image, 1, 0, color, width);
+    }
+
+    /**
+     * Returns the given image, tinted with the given color at its original size.
+     * Images without URL are tinted again on every call.
+     *
+     * @param image the image
+     * @param color the color to tint the image with
+     * @return the tinted image
+     */
+    public static synchronized Image getTinted(final Image image, final Color color) {
+        if (image.getUrl() == null) {
+            return tint(image, 0, 0, (int) image.getWidth(), (int) image.getHeight(), color);
+        }
+        return get(image, 1, 0, color, 0);
+    }
+
+    /**
+     * Returns the cached tinted cell of the given image, creating it if needed.
+     *
+     * @param image the image, made of cells in a single column
+     * @param cells the number of cells
+     * @param index the index of the cell
+     * @param color the tint, or {@code null}
+     * @param width the width in pixels, or {@code 0} for the original width
+     * @return the image of the cell
+     */
+    private static Image get(final Image image, final int cells, final int index, final Color color, final double width) {
+        final int pixelWidth = width <= 0 ? (int) image.getWidth() : Math.max(1, (int) Math.ceil(width));
+        final Key key = new Key(source(image), index, color, pixelWidth);
+        Image result = IMAGES.get(key);
+        if (result == null) {
+            final Image scaled = getScaledSource(image, pixelWidth);
+            final double cellHeight = scaled.getHeight() / cells;
+            final int minY = (int) Math.round(cellHeight * index);
+            final int maxY = (int) Math.round(cellHeight * (index + 1));
+            result = tint(scaled, 0, minY, (int) scaled.getWidth(), maxY - minY, color);
+            IMAGES.put(key, result);
+        }
+        return result;
+    }
+
+    /**
+     * Returns the given image loaded at the given width, or the image itself if it cannot be loaded again.
+     */
+    private static Image getScaledSource(final Image image, final int width) {
+        if (image.getUrl() == null || width >= image.getWidth()) {
+            return image;
+        }
+        return SCALED_SOURCES.computeIfAbsent(
+            new Key(image.getUrl(), 0, null, width),
+            key -> new Image(image.getUrl(), width, 0, true, true)
+        );
+    }
+
+    private static Object source(final Image image) {
+        return image.getUrl() != null ? image.getUrl() : image;
+    }
+
+    /**
+     * Copies the given rectangle of the image and multiplies its colors with the tint.
+     */
+    private static Image tint(
+        final Image image, final int x, final int y, final int width, final int height, final Color color
+    ) {
+        final PixelReader reader = image.getPixelReader();
+        final int[] pixels = new int[width * height];
+        reader.getPixels(x, y, width, height, PixelFormat.getIntArgbInstance(), pixels, 0, width);
+        if (color != null) {
+            final int red = (int) Math.round(color.getRed() * 255);
+            final int green = (int) Math.round(color.getGreen() * 255);
+            final int blue = (int) Math.round(color.getBlue() * 255);
+            for (int i = 0; i < pixels.length; i++) {
+                final int pixel = pixels[i];
+                pixels[i] = pixel & 0xFF000000
+                    | ((pixel >>> 16 & 0xFF) * red / 255) << 16
+                    | ((pixel >>> 8 & 0xFF) * green / 255) << 8
+                    | (pixel & 0xFF) * blue / 255;
+            }
+        }
+        final WritableImage result = new WritableImage(width, height);
+        result.getPixelWriter().setPixels(0, 0, width, height, PixelFormat.getIntArgbInstance(), pixels, 0, width);
+        return result;
+    }
+
+    /**
+     * The key of a cached image.
+     *
+     * @param source the URL of the source image, or the image itself
+     * @param index  the index of the cell
+     * @param color  the tint
+     * @param width  the width in pixels
+     */
+    private record Key(Object source, int index, Color color, int width) {}
+}
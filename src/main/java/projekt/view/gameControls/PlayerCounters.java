@@ -0,0 +1,231 @@
+package projekt.view.gameControls;
+
+import javafx.beans.property.BooleanProperty;
+import javafx.beans.property.IntegerProperty;
+import javafx.beans.property.ReadOnlyBooleanProperty;
+import javafx.beans.property.ReadOnlyIntegerProperty;
+import javafx.beans.property.SimpleBooleanProperty;
+import javafx.beans.property.SimpleIntegerProperty;
+import projekt.Config;
+import projekt.model.DevelopmentCardType;
+import projekt.model.Intersection;
+import projekt.model.Player;
+import projekt.model.ResourceType;
+import projekt.model.buildings.Edge;
+import projekt.model.buildings.Settlement;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Observable counters of a {@link Player}, which the player information and overview views are bound to.
+ * <p>
+ * Resources and development cards are copied from the player by {@link #update(Map)}. Roads and settlements are
+ * counted once when the counters are created and then kept up to date by {@link #updateRoad(Edge)} and
+ * {@link #updateSettlement(Intersection)}, so the board is not scanned again on every update.
+ * Both methods remember what they counted and can be called any number of times for the same element.
+ * Properties are only changed if their value changes, so bound views are only laid out again if something changed.
+ * <p>
+ * All methods must be called on the FX application thread.
+ */
+public class PlayerCounters {
+    private final Player player;
+    private final Map<ResourceType, IntegerProperty> resources = new EnumMap<>(ResourceType.class);
+    private final Map<ResourceType, BooleanProperty> changedResources = new EnumMap<>(ResourceType.class);
+    private final IntegerProperty resourceCount = new SimpleIntegerProperty();
+    private final Map<DevelopmentCardType, IntegerProperty> developmentCards = new EnumMap<>(DevelopmentCardType.class);
+    private final IntegerProperty developmentCardCount = new SimpleIntegerProperty();
+    private final IntegerProperty knightsPlayed = new SimpleIntegerProperty();
+    private final IntegerProperty remainingRoads = new SimpleIntegerProperty(Config.MAX_ROADS);
+    private final IntegerProperty remainingVillages = new SimpleIntegerProperty(Config.MAX_VILLAGES);
+    private final IntegerProperty remainingCities = new SimpleIntegerProperty(Config.MAX_CITIES);
+    private final IntegerProperty victoryPoints = new SimpleIntegerProperty();
+    private final Set<Edge> roads = new HashSet<>();
+    private final Map<Intersection, Settlement.Type> settlements = new HashMap<>();
+    private int buildingVictoryPoints = 0;
+
+    /**
+     * Creates the counters of the given player and counts its current roads and settlements.
+     *
+     * @param player the player
+     */
+    public PlayerCounters(final Player player) {
+        this.player = player;
+        for (final ResourceType resourceType : ResourceType.values()) {
+            resources.put(resourceType, new SimpleIntegerProperty());
+            changedResources.put(resourceType, new SimpleBooleanProperty());
+        }
+        for (final DevelopmentCardType developmentCardType : DevelopmentCardType.values()) {
+            developmentCards.put(developmentCardType, new SimpleIntegerProperty());
+        }
+        player.getRoads().values().forEach(this::updateRoad);
+        player.getHexGrid().getIntersections().values().forEach(this::updateSettlement);
+        update(Map.of());
+    }
+
+    /**
+     * Returns the player of these counters.
+     *
+     * @return the player
+     */
+    public Player getPlayer() {
+        return player;
+    }
+
+    /**
+     * Copies the resources, development cards and played knights of the player.
+     *
+     * @param changed the resources that changed since the last update
+     */
+    public void update(final Map<ResourceType, Integer> changed) {
+        int totalResources = 0;
+        for (final ResourceType resourceType : ResourceType.values()) {
+            final int amount = player.getResources().getOrDefault(resourceType, 0);
+            resources.get(resourceType).set(amount);
+            changedResources.get(resourceType).set(changed.containsKey(resourceType));
+            totalResources += amount;
+        }
+        resourceCount.set(totalResources);
+        int totalDevelopmentCards = 0;
+        for (final DevelopmentCardType developmentCardType : DevelopmentCardType.values()) {
+            final int amount = player.getDevelopmentCards().getOrDefault(developmentCardType, 0);
+            developmentCards.get(developmentCardType).set(amount);
+            totalDevelopmentCards += amount;
+        }
+        developmentCardCount.set(totalDevelopmentCards);
+        knightsPlayed.set(player.getKnightsPlayed());
+        updateVictoryPoints();
+    }
+
+    /**
+     * Counts the road on the given edge if it belongs to the player, or stops counting it if it does not.
+     *
+     * @param edge the edge
+     */
+    public void updateRoad(final Edge edge) {
+        final boolean changed = player.equals(edge.getRoadOwner()) ? roads.add(edge) : roads.remove(edge);
+        if (changed) {
+            remainingRoads.set(Config.MAX_ROADS - roads.size());
+        }
+    }
+
+    /**
+     * Counts the settlement on the given intersection if it belongs to the player, or stops counting it if it
+     * does not.
+     *
+     * @param intersection the intersection
+     */
+    public void updateSettlement(final Intersection intersection) {
+        final Settlement settlement = intersection.getSettlement();
+        final Settlement.Type type = settlement != null && settlement.owner().equals(player) ? settlement.type() : null;
+        final Settlement.Type previous = type != null ? settlements.put(intersection, type) : settlements.remove(intersection);
+        if (type == previous) {
+            return;
+        }
+        buildingVictoryPoints += (type != null ? type.resourceAmount : 0) - (previous != null ? previous.resourceAmount : 0);
+        final long villages = settlements.values().stream().filter(Settlement.Type.VILLAGE::equals).count();
+        remainingVillages.set(Config.MAX_VILLAGES - (int) villages);
+        remainingCities.set(Config.MAX_CITIES - (settlements.size() - (int) villages));
+        updateVictoryPoints();
+    }
+
+    private void updateVictoryPoints() {
+        victoryPoints.set(buildingVictoryPoints + developmentCards.get(DevelopmentCardType.VICTORY_POINTS).get());
+    }
+
+    /**
+     * Returns the number of resources of the given type the player has.
+     *
+     * @param resourceType the type of the resource
+     * @return the property of the amount
+     */
+    public ReadOnlyIntegerProperty resourceProperty(final ResourceType resourceType) {
+        return resources.get(resourceType);
+    }
+
+    /**
+     * Returns whether the amount of the given resource changed in the last update.
+     *
+     * @param resourceType the type of the resource
+     * @return the property of whether the amount changed
+     */
+    public ReadOnlyBooleanProperty resourceChangedProperty(final ResourceType resourceType) {
+        return changedResources.get(resourceType);
+    }
+
+    /**
+     * Returns the total number of resources the player has.
+     *
+     * @return the property of the number of resources
+     */
+    public ReadOnlyIntegerProperty resourceCountProperty() {
+        return resourceCount;
+    }
+
+    /**
+     * Returns the number of development cards of the given type the player has.
+     *
+     * @param developmentCardType the type of the development card
+     * @return the property of the amount
+     */
+    public ReadOnlyIntegerProperty developmentCardProperty(final DevelopmentCardType developmentCardType) {
+        return developmentCards.get(developmentCardType);
+    }
+
+    /**
+     * Returns the total number of development cards the player has.
+     *
+     * @return the property of the number of development cards
+     */
+    public ReadOnlyIntegerProperty developmentCardCountProperty() {
+        return developmentCardCount;
+    }
+
+    /**
+     * Returns the number of knights the player has played.
+     *
+     * @return the property of the number of knights
+     */
+    public ReadOnlyIntegerProperty knightsPlayedProperty() {
+        return knightsPlayed;
+    }
+
+    /**
+     * Returns the number of roads the player can still build.
+     *
+     * @return the property of the number of roads
+     */
+    public ReadOnlyIntegerProperty remainingRoadsProperty() {
+        return remainingRoads;
+    }
+
+    /**
+     * Returns the number of villages the player can still build.
+     *
+     * @return the property of the number of villages
+     */
+    public ReadOnlyIntegerProperty remainingVillagesProperty() {
+        return remainingVillages;
+    }
+
+    /**
+     * Returns the number of cities the player can still build.
+     *
+     * @return the property of the number of cities
+     */
+    public ReadOnlyIntegerProperty remainingCitiesProperty() {
+        return remainingCities;
+    }
+
+    /**
+     * Returns the victory points of the player.
+     *
+     * @return the property of the victory points
+     */
+    public ReadOnlyIntegerProperty victoryPointsProperty() {
+        return victoryPoints;
+    }
+}
@@ -1,5 +1,7 @@
 package projekt.view.gameControls;
 
+import javafx.beans.binding.Bindings;
+import javafx.beans.value.ObservableIntegerValue;
 import javafx.geometry.Insets;
 import javafx.scene.control.Label;
 import javafx.scene.layout.FlowPane;
@@ -7,83 +9,75 @@ import javafx.scene.layout.Region;
 import javafx.scene.layout.VBox;
 import javafx.util.Builder;
 import projekt.model.DevelopmentCardType;
-import projekt.model.Player;
 import projekt.model.ResourceType;
 import projekt.view.CardPane;
 import projekt.view.DevelopmentCardPane;
 import projekt.view.PlayerLabel;
 import projekt.view.ResourceCardPane;
 
-import java.util.Map;
-
 /**
  * A Builder to create the player information view.
  * The player information view contains information about the player's
  * resources, development cards, remaining roads/villages/cities and victory
  * points.
  * Highlights resources that have changed since the last update.
+ * <p>
+ * The view is bound to the {@link PlayerCounters} of the player and updates itself in place. It has a card for
+ * every type of resource and development card, which is hidden while the player has none of them.
  */
 public class PlayerInformationBuilder implements Builder<Region> {
-    private final Player player;
-    private final Map<ResourceType, Integer> changedResources;
+    private final PlayerCounters counters;
 
     /**
-     * Creates a new PlayerInformationBuilder with the given player and changed
-     * resources.
+     * Creates a new PlayerInformationBuilder with the given player counters.
      *
-     * @param player           the player to display information for
-     * @param changedResources the resources that have changed since the last update
+     * @param counters the counters of the player to display information for
      */
-    public PlayerInformationBuilder(final Player player, final Map<ResourceType, Integer> changedResources) {
-        this.player = player;
-        this.changedResources = changedResources;
+    public PlayerInformationBuilder(final PlayerCounters counters) {
+        this.counters = counters;
     }
 
     @Override
     public Region build() {
         final VBox mainBox = new VBox();
-        mainBox.getStylesheets().add("css/hexmap.css");
-        final Label playerName = new PlayerLabel(player);
+        final Label playerName = new PlayerLabel(counters.getPlayer());
 
         final Label resourcesLabel = new Label("Your Resources:");
         final FlowPane resourcesBox = new FlowPane(5, 5);
-        for (final ResourceType resourceType : player.getResources().keySet()) {
-            if (player.getResources().get(resourceType) == 0) {
-                continue;
-            }
-
-            final ResourceCardPane resourceCard = new ResourceCardPane(
-                resourceType,
-                player.getResources().get(resourceType)
-            );
+        for (final ResourceType resourceType : ResourceType.values()) {
+            final ResourceCardPane resourceCard = new ResourceCardPane(resourceType, 0);
+            bindCard(resourceCard, counters.resourceProperty(resourceType));
+            counters.resourceChangedProperty(resourceType).subscribe(changed -> {
+                if (!changed) {
+                    resourceCard.getStyleClass().remove("highlighted");
+                } else if (!resourceCard.getStyleClass().contains("highlighted")) {
+                    resourceCard.getStyleClass().add("highlighted");
+                }
+            });
             resourcesBox.getChildren().add(resourceCard);
-            if (changedResources.containsKey(resourceType)) {
-                resourceCard.getStyleClass().add("highlighted");
-            }
         }
 
         final Label developmentCardsLabel = new Label("Your Development Cards:");
         final FlowPane developmentCardsBox = new FlowPane(5, 5);
-        for (final DevelopmentCardType developmentCardType : player.getDevelopmentCards().keySet()) {
-            if (player.getDevelopmentCards().get(developmentCardType) == 0) {
-                continue;
-            }
-
-            final CardPane developmentCardTypeCard = new DevelopmentCardPane(
-                developmentCardType,
-                player.getDevelopmentCards().get(developmentCardType)
-            );
+        for (final DevelopmentCardType developmentCardType : DevelopmentCardType.values()) {
+            final CardPane developmentCardTypeCard = new DevelopmentCardPane(developmentCardType, 0);
+            bindCard(developmentCardTypeCard, counters.developmentCardProperty(developmentCardType));
             developmentCardsBox.getChildren().add(developmentCardTypeCard);
         }
 
-        final Label remainingRoadsLabel = new Label(
-            String.format("Your remaining Roads: %d", player.getRemainingRoads()));
-        final Label remainingVillagesLabel = new Label(
-            String.format("Your remaining Villages: %d", player.getRemainingVillages()));
-        final Label remainingCitiesLabel = new Label(
-            String.format("Your remaining Cities: %d", player.getRemainingCities()));
+        final Label remainingRoadsLabel = new Label();
+        remainingRoadsLabel.textProperty().bind(
+            Bindings.format("Your remaining Roads: %d", counters.remainingRoadsProperty()));
+        final Label remainingVillagesLabel = new Label();
+        remainingVillagesLabel.textProperty().bind(
+            Bindings.format("Your remaining Villages: %d", counters.remainingVillagesProperty()));
+        final Label remainingCitiesLabel = new Label();
+        remainingCitiesLabel.textProperty().bind(
+            Bindings.format("Your remaining Cities: %d", counters.remainingCitiesProperty()));
 
-        final Label victoryPointsLabel = new Label(String.format("Your Victory Points: %d", player.getVictoryPoints()));
+        final Label victoryPointsLabel = new Label();
+        victoryPointsLabel.textProperty().bind(
+            Bindings.format("Your Victory Points: %d", counters.victoryPointsProperty()));
 
         mainBox.getChildren().addAll(playerName, resourcesLabel, resourcesBox, developmentCardsLabel,
                                      developmentCardsBox, remainingRoadsLabel, remainingVillagesLabel, remainingCitiesLabel,
@@ -93,4 +87,16 @@ public class PlayerInformationBuilder implements Builder<Region> {
         mainBox.setSpacing(5);
         return mainBox;
     }
+
+    /**
+     * Binds the label of the given card to the given amount and hides the card while the amount is zero.
+     *
+     * @param card   the card
+     * @param amount the amount to show
+     */
+    private static void bindCard(final CardPane card, final ObservableIntegerValue amount) {
+        card.labelTextProperty().bind(Bindings.convert(amount));
+        card.visibleProperty().bind(Bindings.notEqual(0, amount));
+        card.managedProperty().bind(card.visibleProperty());
+    }
 }
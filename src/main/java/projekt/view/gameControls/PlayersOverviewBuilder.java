@@ -1,12 +1,12 @@
 package projekt.view.gameControls;
 
+import javafx.beans.binding.Bindings;
 import javafx.scene.control.Label;
 import javafx.scene.control.TitledPane;
 import javafx.scene.image.Image;
 import javafx.scene.layout.ColumnConstraints;
 import javafx.scene.layout.GridPane;
 import javafx.scene.layout.Region;
-import javafx.scene.layout.StackPane;
 import javafx.scene.layout.VBox;
 import javafx.scene.paint.Color;
 import javafx.scene.shape.Rectangle;
@@ -24,24 +24,26 @@ import java.util.List;
  * It shows the how many resources but not what type of resources the players
  * have, how many development cards they have (also not their type), how many
  * victory points they have and how many knights they have played.
+ * <p>
+ * The panes are bound to the {@link PlayerCounters} of the players and update themselves in place.
  */
 public class PlayersOverviewBuilder implements Builder<Region> {
-    private final List<Player> players;
+    private final List<PlayerCounters> players;
 
     /**
-     * Creates a new PlayersOverviewBuilder with the given players.
+     * Creates a new PlayersOverviewBuilder with the counters of the given players.
      *
-     * @param players the players to display information for
+     * @param players the counters of the players to display information for
      */
-    public PlayersOverviewBuilder(final List<Player> players) {
+    public PlayersOverviewBuilder(final List<PlayerCounters> players) {
         this.players = players;
     }
 
     @Override
     public Region build() {
         final VBox mainBox = new VBox();
-        for (final Player player : players) {
-            mainBox.getChildren().add(createPlayerTiltedPane(player, players.indexOf(player) + 1));
+        for (int i = 0; i < players.size(); i++) {
+            mainBox.getChildren().add(createPlayerTiltedPane(players.get(i), i + 1));
         }
         return mainBox;
     }
@@ -51,29 +53,35 @@ public class PlayersOverviewBuilder implements Builder<Region> {
      * The titled pane contains information about the player's resources,
      * development cards, victory points and knights.
      *
-     * @param player       the player to create the titled pane for
+     * @param counters     the counters of the player to create the titled pane for
      * @param playerNumber the number of the player
      * @return the created titled pane
      */
-    public TitledPane createPlayerTiltedPane(final Player player, final int playerNumber) {
+    public TitledPane createPlayerTiltedPane(final PlayerCounters counters, final int playerNumber) {
+        final Player player = counters.getPlayer();
         final GridPane detailsBox = new GridPane();
 
         final Label resourcesLabel = new Label("Resources:");
         detailsBox.add(resourcesLabel, 0, 0);
-        detailsBox.add(createValuePane(
-            Integer.toString(player.getResources().values().stream().reduce(0, Integer::sum))), 1, 0);
+        final CardPane resourcesPane = createValuePane("0");
+        resourcesPane.labelTextProperty().bind(Bindings.convert(counters.resourceCountProperty()));
+        detailsBox.add(resourcesPane, 1, 0);
 
         final Label developmentCardsLabel = new Label("Development Cards:");
         detailsBox.add(developmentCardsLabel, 0, 1);
-        detailsBox.add(createValuePane(
-            Integer.toString(player.getDevelopmentCards().values().stream().reduce(0, Integer::sum))), 1, 1);
+        final CardPane developmentCardsPane = createValuePane("0");
+        developmentCardsPane.labelTextProperty().bind(Bindings.convert(counters.developmentCardCountProperty()));
+        detailsBox.add(developmentCardsPane, 1, 1);
 
-        final Label victoryPointsLabel = new Label(String.format("Victory Points: %d", player.getVictoryPoints()));
+        final Label victoryPointsLabel = new Label();
+        victoryPointsLabel.textProperty().bind(Bindings.format("Victory Points: %d", counters.victoryPointsProperty()));
         detailsBox.add(victoryPointsLabel, 0, 2);
 
         final Label knightCardsLabel = new Label("Knights:");
         detailsBox.add(knightCardsLabel, 0, 3);
-        detailsBox.add(new DevelopmentCardPane(DevelopmentCardType.KNIGHT, player.getKnightsPlayed()), 1, 3);
+        final CardPane knightsPane = new DevelopmentCardPane(DevelopmentCardType.KNIGHT, 0);
+        knightsPane.labelTextProperty().bind(Bindings.convert(counters.knightsPlayedProperty()));
+        detailsBox.add(knightsPane, 1, 3);
 
         final ColumnConstraints titleColumn = new ColumnConstraints();
         titleColumn.setPercentWidth(50);
@@ -96,7 +104,7 @@ public class PlayersOverviewBuilder implements Builder<Region> {
      * @param value The value to display.
      * @return The created card pane.
      */
-    private StackPane createValuePane(final String value) {
+    private CardPane createValuePane(final String value) {
         return createValuePane(value, null);
     }
 
@@ -107,7 +115,7 @@ public class PlayersOverviewBuilder implements Builder<Region> {
      * @param icon  The icon to display.
      * @return The created card pane.
      */
-    private StackPane createValuePane(final String value, final Image icon) {
+    private CardPane createValuePane(final String value, final Image icon) {
         return new CardPane(Color.LIGHTGRAY, icon, value);
     }
 }
@@ -7,12 +7,13 @@ import javafx.scene.layout.VBox;
 
 /**
  * A Builder to create the main menu.
- * The main menu has buttons to start a new game, open the settings, view the
- * highscores and open the about page.
+ * The main menu has buttons to start a new game, watch a replay, open the
+ * settings, view the highscores and open the about page.
  * The return button is used to quit the application.
  */
 public class MainMenuBuilder extends MenuBuilder {
     private final Runnable loadGameScene;
+    private final Runnable loadReplayScene;
     private final Runnable loadSettingsScene;
     private final Runnable loadHighscoreScene;
     private final Runnable loadAboutScene;
@@ -24,6 +25,8 @@ public class MainMenuBuilder extends MenuBuilder {
      *                           application.
      * @param createGameScene    The handler for the create game button. Opens the
      *                           game scene.
+     * @param loadReplayScene    The handler for the replay button. Opens the
+     *                           replay viewer.
      * @param loadSettingsScene  The handler for the settings button. Opens the
      *                           settings scene.
      * @param loadHighscoreScene The handler for the highscores button. Opens the
@@ -32,11 +35,13 @@ public class MainMenuBuilder extends MenuBuilder {
      *                           scene.
      */
     public MainMenuBuilder(
-        final Runnable quitHandler, final Runnable createGameScene, final Runnable loadSettingsScene,
+        final Runnable quitHandler, final Runnable createGameScene, final Runnable loadReplayScene,
+        final Runnable loadSettingsScene,
         final Runnable loadHighscoreScene, final Runnable loadAboutScene
     ) {
         super("Main Menu", "Quit", quitHandler);
         this.loadGameScene = createGameScene;
+        this.loadReplayScene = loadReplayScene;
         this.loadSettingsScene = loadSettingsScene;
         this.loadHighscoreScene = loadHighscoreScene;
         this.loadAboutScene = loadAboutScene;
@@ -51,6 +56,9 @@ public class MainMenuBuilder extends MenuBuilder {
         final Button startButton = new Button("Create Game");
         startButton.setOnAction(e -> loadGameScene.run());
 
+        final Button replayButton = new Button("Watch Replay");
+        replayButton.setOnAction(e -> loadReplayScene.run());
+
         final Button settingsButton = new Button("Settings");
         settingsButton.setOnAction(e -> loadSettingsScene.run());
 
@@ -60,7 +68,7 @@ public class MainMenuBuilder extends MenuBuilder {
         final Button aboutButton = new Button("About");
         aboutButton.setOnAction(e -> loadAboutScene.run());
 
-        mainBox.getChildren().addAll(startButton, settingsButton, scoresButton, aboutButton);
+        mainBox.getChildren().addAll(startButton, replayButton, settingsButton, scoresButton, aboutButton);
 
         return mainBox;
     }
@@ -1,29 +1,30 @@
 package projekt.view.tiles;
 
-import javafx.geometry.Pos;
-import javafx.scene.control.Label;
 import javafx.scene.image.ImageView;
 import javafx.scene.layout.Background;
 import javafx.scene.layout.Region;
 import javafx.scene.layout.StackPane;
-import javafx.scene.layout.VBox;
 import javafx.scene.paint.Color;
+import javafx.scene.text.Text;
 import javafx.util.Builder;
 import projekt.model.tiles.Tile;
-import projekt.view.ColoredImageView;
-import projekt.view.Sprite;
+import projekt.view.SpriteCache;
 import projekt.view.Utils;
 
 /**
  * A Builder to create views for {@link Tile}s.
  * Renders the {@link Tile} with a resource icon, a label for the roll number
  * and the robber if present.
+ * The tile is a single pane with its icons and label as direct children, which are created once and reused
+ * when the tile is built again. The pane is styled by the stylesheet of the scene.
  * Has methods to highlight and unhighlight the tile.
  */
 public class TileBuilder implements Builder<Region> {
     private final Tile tile;
     private final StackPane pane = new StackPane();
-    private final Sprite resourceIcon;
+    private final ImageView resourceIcon;
+    private final ImageView robber = new ImageView();
+    private final Text rollNumberText;
 
     /**
      * Creates a new TileBuilder for the given {@link Tile}.
@@ -33,17 +34,26 @@ public class TileBuilder implements Builder<Region> {
     public TileBuilder(final Tile tile) {
         this.tile = tile;
         styleAndSizeTile(pane);
+        final double size = tile.heightProperty().get() / 2;
         if (tile.getType().resourceType != null) {
-            this.resourceIcon = new Sprite(
+            this.resourceIcon = new ImageView(SpriteCache.getSprite(
                 Utils.resourcesSpriteSheet,
                 tile.getType().resourceType.iconIndex,
-                tile.getType().resourceType.color
-            );
-            resourceIcon.setPreserveRatio(true);
-            resourceIcon.setFitWidth(tile.widthProperty().get() * 0.5);
+                tile.getType().resourceType.color,
+                tile.widthProperty().get() * 0.5
+            ));
+            resourceIcon.setTranslateY(-size * 0.25);
         } else {
             this.resourceIcon = null;
         }
+        robber.setTranslateY(-size * 0.25);
+        if (tile.getRollNumber() > 0) {
+            this.rollNumberText = new Text(Integer.toString(tile.getRollNumber()));
+            rollNumberText.getStyleClass().add("highlighted-text");
+            rollNumberText.setTranslateY(size * 0.45);
+        } else {
+            this.rollNumberText = null;
+        }
     }
 
     /**
@@ -58,20 +68,16 @@ public class TileBuilder implements Builder<Region> {
     @Override
     public Region build() {
         pane.getChildren().clear();
-        final VBox mainBox = new VBox();
-        final StackPane resourcePane = new StackPane();
         if (resourceIcon != null) {
-            resourcePane.getChildren().add(resourceIcon);
+            pane.getChildren().add(resourceIcon);
         }
         if (tile.hasRobber()) {
-            final ImageView robber = new ColoredImageView(Utils.robberImage, Color.BLACK);
-            robber.setPreserveRatio(true);
-            robber.setFitWidth(tile.widthProperty().get() * 0.3);
-            resourcePane.getChildren().add(robber);
+            robber.setImage(SpriteCache.getImage(Utils.robberImage, Color.BLACK, tile.widthProperty().get() * 0.3));
+            pane.getChildren().add(robber);
+        }
+        if (rollNumberText != null) {
+            pane.getChildren().add(rollNumberText);
         }
-        mainBox.getChildren().addAll(resourcePane, createLabels());
-        mainBox.setAlignment(Pos.CENTER);
-        pane.getChildren().addAll(mainBox);
         return pane;
     }
 
@@ -81,7 +87,6 @@ public class TileBuilder implements Builder<Region> {
      * @param stackPane
      */
     private void styleAndSizeTile(final StackPane stackPane) {
-        stackPane.getStylesheets().add("css/hexmap.css");
         stackPane.getStyleClass().add("hex-tile");
         stackPane.maxHeightProperty().bind(tile.heightProperty());
         stackPane.maxWidthProperty().bind(tile.widthProperty());
@@ -89,28 +94,6 @@ public class TileBuilder implements Builder<Region> {
         stackPane.minWidthProperty().bind(tile.widthProperty());
         stackPane.setBackground(Background.fill(tile.getType().color));
     }
-
-    /**
-     * Creates a VBox with labels for the position, resource and roll number of the
-     * tile.
-     *
-     * @return the created VBox
-     */
-    private VBox createLabels() {
-        final VBox labelBox = new VBox();
-        final Label positionLabel = new Label(tile.getPosition().toString());
-        positionLabel.getStyleClass().add("highlighted-label");
-        final Label resourceLabel = new Label(tile.getType().toString());
-        resourceLabel.getStyleClass().add("highlighted-label");
-        if (tile.getRollNumber() > 0) {
-            final Label rollNumberLabel = new Label(Integer.toString(tile.getRollNumber()));
-            rollNumberLabel.getStyleClass().add("highlighted-label");
-            labelBox.getChildren().add(rollNumberLabel);
-        }
-        labelBox.setAlignment(Pos.CENTER);
-        return labelBox;
-    }
-
     /**
      * Highlights the tile and sets a handler for mouse clicks.
      *
@@ -0,0 +1,139 @@
+package projekt;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import projekt.model.HexGrid;
+import projekt.model.HexGridImpl;
+import projekt.model.Intersection;
+import projekt.model.TilePosition;
+import projekt.model.buildings.Edge;
+import projekt.view.BoardGeometry;
+
+import java.util.Set;
+
+public class BoardGeometryTests {
+    private static final double EPSILON = 1e-9;
+
+    private HexGrid hexGrid;
+    private BoardGeometry geometry;
+
+    @BeforeEach
+    void setUp() {
+        this.hexGrid = new HexGridImpl(3);
+        this.geometry = new BoardGeometry(this.hexGrid);
+    }
+
+    /**
+     * Returns the x coordinate of the center of the given position as the board view computed it before the
+     * geometry table existed.
+     */
+    private double centerX(final TilePosition position) {
+        return this.hexGrid.getTileSize() * (Math.sqrt(3) * position.q() + Math.sqrt(3) / 2 * position.r());
+    }
+
+    /**
+     * Returns the y coordinate of the center of the given position as the board view computed it before the
+     * geometry table existed.
+     */
+    private double centerY(final TilePosition position) {
+        return this.hexGrid.getTileSize() * (3.0 / 2 * position.r());
+    }
+
+    @Test
+    @DisplayName("Every element of the grid has an index")
+    void testIndices() {
+        Assertions.assertEquals(this.hexGrid.getTiles().size(), this.geometry.getTileCount());
+        Assertions.assertEquals(this.hexGrid.getIntersections().size(), this.geometry.getIntersectionCount());
+        Assertions.assertEquals(this.hexGrid.getEdges().size(), this.geometry.getEdgeCount());
+        for (int i = 0; i < this.geometry.getTileCount(); i++) {
+            Assertions.assertEquals(i, this.geometry.indexOf(this.geometry.getTile(i)));
+            Assertions.assertEquals(i, this.geometry.indexOfTile(this.geometry.getTile(i).getPosition()));
+        }
+        for (int i = 0; i < this.geometry.getEdgeCount(); i++) {
+            final Edge edge = this.geometry.getEdge(i);
+            Assertions.assertEquals(i, this.geometry.indexOf(edge));
+            Assertions.assertEquals(edge.getIntersections(), Set.of(
+                this.geometry.getIntersection(this.geometry.getEdgeStart(i)),
+                this.geometry.getIntersection(this.geometry.getEdgeEnd(i))
+            ));
+        }
+        Assertions.assertEquals(-1, this.geometry.indexOfTile(new TilePosition(10, 10)));
+        Assertions.assertEquals(-1, this.geometry.indexOfTile(null));
+    }
+
+    @Test
+    @DisplayName("Intersections lie at the average of their adjacent tile centers")
+    void testIntersectionPositions() {
+        for (int i = 0; i < this.geometry.getIntersectionCount(); i++) {
+            final Intersection intersection = this.geometry.getIntersection(i);
+            double x = 0;
+            double y = 0;
+            for (final TilePosition position : intersection.getAdjacentTilePositions()) {
+                x += centerX(position) / 3;
+                y += centerY(position) / 3;
+                // the corners of a tile are one tile size away from its center
+                Assertions.assertEquals(
+                    this.hexGrid.getTileSize(),
+                    Math.hypot(this.geometry.getIntersectionX(i) - centerX(position), this.geometry.getIntersectionY(i) - centerY(position)),
+                    EPSILON
+                );
+            }
+            Assertions.assertEquals(x, this.geometry.getIntersectionX(i), EPSILON);
+            Assertions.assertEquals(y, this.geometry.getIntersectionY(i), EPSILON);
+        }
+    }
+
+    @Test
+    @DisplayName("Points inside a tile are mapped back to that tile")
+    void testHitTesting() {
+        final double offset = 0.8 * this.hexGrid.getTileSize();
+        for (int i = 0; i < this.geometry.getTileCount(); i++) {
+            final TilePosition position = this.geometry.getTile(i).getPosition();
+            final double x = this.geometry.getTileX(i);
+            final double y = this.geometry.getTileY(i);
+            Assertions.assertEquals(centerX(position), x, EPSILON);
+            Assertions.assertEquals(centerY(position), y, EPSILON);
+            Assertions.assertEquals(position, this.geometry.toTilePosition(x, y));
+            // the inner radius of a tile is sqrt(3) / 2 of its size
+            Assertions.assertEquals(position, this.geometry.toTilePosition(x + offset, y));
+            Assertions.assertEquals(position, this.geometry.toTilePosition(x, y - offset));
+        }
+        for (int i = 0; i < this.geometry.getEdgeCount(); i++) {
+            Assertions.assertEquals(0, this.geometry.getEdgeDistanceSquared(
+                i,
+                (this.geometry.getEdgeStartX(i) + this.geometry.getEdgeEndX(i)) / 2,
+                (this.geometry.getEdgeStartY(i) + this.geometry.getEdgeEndY(i)) / 2
+            ), EPSILON);
+        }
+    }
+
+    @Test
+    @DisplayName("Changing the tile size scales all positions")
+    void testRescale() {
+        final double tileSize = this.hexGrid.getTileSize();
+        final double[] edgePoints = new double[this.geometry.getEdgeCount() * 4];
+        for (int i = 0; i < this.geometry.getEdgeCount(); i++) {
+            edgePoints[i * 4] = this.geometry.getEdgeStartX(i);
+            edgePoints[i * 4 + 1] = this.geometry.getEdgeStartY(i);
+            edgePoints[i * 4 + 2] = this.geometry.getEdgeEndX(i);
+            edgePoints[i * 4 + 3] = this.geometry.getEdgeEndY(i);
+        }
+
+        this.hexGrid.tileSizeProperty().set(2 * tileSize);
+
+        Assertions.assertEquals(2 * tileSize, this.geometry.getTileSize(), EPSILON);
+        for (int i = 0; i < this.geometry.getEdgeCount(); i++) {
+            Assertions.assertEquals(2 * edgePoints[i * 4], this.geometry.getEdgeStartX(i), EPSILON);
+            Assertions.assertEquals(2 * edgePoints[i * 4 + 1], this.geometry.getEdgeStartY(i), EPSILON);
+            Assertions.assertEquals(2 * edgePoints[i * 4 + 2], this.geometry.getEdgeEndX(i), EPSILON);
+            Assertions.assertEquals(2 * edgePoints[i * 4 + 3], this.geometry.getEdgeEndY(i), EPSILON);
+        }
+        for (int i = 0; i < this.geometry.getTileCount(); i++) {
+            final TilePosition position = this.geometry.getTile(i).getPosition();
+            Assertions.assertEquals(centerX(position), this.geometry.getTileX(i), EPSILON);
+            Assertions.assertEquals(position, this.geometry.toTilePosition(this.geometry.getTileX(i), this.geometry.getTileY(i)));
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package projekt;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import projekt.controller.export.ColumnIndex;
+import projekt.controller.export.ColumnType;
+import projekt.controller.export.ColumnarExporter;
+import projekt.controller.export.GameResult;
+import projekt.model.ResourceType;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+public class ExportTests {
+    @TempDir
+    Path directory;
+
+    /**
+     * Returns the result of a game with the given seed, rounds and players, where each player holds
+     * as many victory points and resources of each type as its id plus the round.
+     */
+    private static GameResult result(final long seed, final int rounds, final int... ids) {
+        final List<GameResult.PlayerResult> players = new ArrayList<>();
+        for (final int id : ids) {
+            final int[] victoryPointSeries = new int[rounds];
+            final int[][] resourceSeries = new int[rounds][ResourceType.values().length];
+            for (int round = 0; round < rounds; round++) {
+                victoryPointSeries[round] = id + round;
+                for (int i = 0; i < resourceSeries[round].length; i++) {
+                    resourceSeries[round][i] = id + round + i;
+                }
+            }
+            players.add(new GameResult.PlayerResult(id, GameResult.BASIC_AI, id + rounds, victoryPointSeries, resourceSeries));
+        }
+        return new GameResult(seed, rounds, ids[0], players);
+    }
+
+    /**
+     * Returns the values of the given column as longs, read from all chunks in order.
+     */
+    private static List<Long> values(final ColumnType type, final List<ByteBuffer> chunks) {
+        final List<Long> values = new ArrayList<>();
+        for (final ByteBuffer chunk : chunks) {
+            while (chunk.hasRemaining()) {
+                values.add(switch (type) {
+                    case BYTE -> (long) chunk.get();
+                    case SHORT -> (long) chunk.getShort();
+                    case INT -> (long) chunk.getInt();
+                    case LONG -> chunk.getLong();
+                });
+            }
+        }
+        return values;
+    }
+
+    private ColumnIndex export() throws IOException {
+        try (ColumnarExporter exporter = new ColumnarExporter(directory)) {
+            exporter.add(result(-5, 2, 1, 2));
+            exporter.add(result(Long.MAX_VALUE, 3, 3, 4, 5));
+        }
+        return ColumnIndex.read(directory);
+    }
+
+    @Test
+    @DisplayName("The index lists every column with its type and row count")
+    void testIndex() throws IOException {
+        final ColumnIndex index = export();
+
+        Assertions.assertEquals(new ColumnIndex.Column("game.seed", ColumnType.LONG, 2), index.getColumn("game.seed"));
+        Assertions.assertEquals(new ColumnIndex.Column("player.id", ColumnType.BYTE, 5), index.getColumn("player.id"));
+        Assertions.assertEquals(new ColumnIndex.Column("round.round", ColumnType.SHORT, 13), index.getColumn("round.round"));
+        for (final ColumnIndex.Column column : index.columns()) {
+            Assertions.assertEquals(
+                column.rows() * column.type().width,
+                Files.size(directory.resolve(column.name() + ColumnarExporter.COLUMN_EXTENSION)),
+                column::name
+            );
+        }
+    }
+
+    @Test
+    @DisplayName("Mapped columns hold the exported values of all tables")
+    void testValues() throws IOException {
+        final ColumnIndex index = export();
+
+        Assertions.assertEquals(List.of(-5L, Long.MAX_VALUE), values(ColumnType.LONG, index.map("game.seed")));
+        Assertions.assertEquals(List.of(0L, 2L), values(ColumnType.LONG, index.map("game.player_start")));
+        Assertions.assertEquals(List.of(0L, 4L), values(ColumnType.LONG, index.map("game.round_start")));
+        Assertions.assertEquals(List.of(1L, 3L), values(ColumnType.BYTE, index.map("game.winner_id")));
+        Assertions.assertEquals(List.of(0L, 0L, 1L, 1L, 1L), values(ColumnType.INT, index.map("player.game")));
+        Assertions.assertEquals(List.of(3L, 4L, 6L, 7L, 8L), values(ColumnType.BYTE, index.map("player.victory_points")));
+        Assertions.assertEquals(
+            List.of(1L, 1L, 2L, 2L, 1L, 1L, 1L, 2L, 2L, 2L, 3L, 3L, 3L),
+            values(ColumnType.SHORT, index.map("round.round"))
+        );
+        Assertions.assertEquals(
+            List.of(1L, 2L, 2L, 3L, 3L, 4L, 5L, 4L, 5L, 6L, 5L, 6L, 7L),
+            values(ColumnType.BYTE, index.map("round.victory_points"))
+        );
+        Assertions.assertEquals(
+            values(ColumnType.BYTE, index.map("round.victory_points")).stream()
+                .map(victoryPoints -> victoryPoints + ResourceType.ORE.ordinal())
+                .toList(),
+            values(ColumnType.SHORT, index.map("round.ore"))
+        );
+    }
+
+    @Test
+    @DisplayName("Columns are mapped in chunks of whole rows")
+    void testChunks() throws IOException {
+        final ColumnIndex index = export();
+
+        final List<ByteBuffer> chunks = index.map("round.game", 5);
+
+        Assertions.assertEquals(List.of(20, 20, 12), chunks.stream().map(ByteBuffer::remaining).toList());
+        Assertions.assertEquals(values(ColumnType.INT, index.map("round.game")), values(ColumnType.INT, chunks));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> index.map("round.game", 0));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> index.map("game.seed", Integer.MAX_VALUE));
+    }
+
+    @Test
+    @DisplayName("A closed exporter rejects results and invalid indexes are rejected")
+    void testInvalid() throws IOException {
+        final ColumnarExporter exporter = new ColumnarExporter(directory);
+        exporter.close();
+        exporter.close();
+
+        Assertions.assertThrows(IllegalStateException.class, () -> exporter.add(result(0, 1, 1)));
+        Assertions.assertTrue(ColumnIndex.read(directory).columns().stream().allMatch(column -> column.rows() == 0));
+        Files.write(directory.resolve(ColumnarExporter.INDEX_FILE), new byte[] {1, 2, 3, 4, 5});
+        Assertions.assertThrows(IllegalArgumentException.class, () -> ColumnIndex.read(directory));
+    }
+}
@@ -0,0 +1,118 @@
+package projekt;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import projekt.controller.GameController;
+import projekt.controller.journal.BoardLayout;
+import projekt.controller.simulation.SimulationRunner;
+import projekt.controller.snapshot.GameSnapshot;
+import projekt.model.DevelopmentCardType;
+import projekt.model.GameState;
+import projekt.model.HexGrid;
+import projekt.model.Intersection;
+import projekt.model.Player;
+import projekt.model.ResourceType;
+import projekt.model.TilePosition;
+import projekt.model.buildings.Edge;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Set;
+
+public class GameSnapshotTests {
+    @TempDir
+    Path directory;
+
+    private GameController gameController;
+
+    @BeforeEach
+    void setUp() {
+        this.gameController = SimulationRunner.createGame(7, 3, 10);
+        this.gameController.playGame();
+    }
+
+    /**
+     * Asserts that the given grids have the same layout, robber position, settlements and roads.
+     */
+    private static void assertBoard(final HexGrid expected, final HexGrid actual) {
+        Assertions.assertEquals(BoardLayout.of(expected), BoardLayout.of(actual));
+        Assertions.assertEquals(expected.getRobberPosition(), actual.getRobberPosition());
+        for (final Set<TilePosition> key : expected.getIntersections().keySet()) {
+            final Intersection intersection = expected.getIntersections().get(key);
+            final Intersection restored = actual.getIntersections().get(key);
+            Assertions.assertEquals(intersection.hasSettlement(), restored.hasSettlement());
+            if (intersection.hasSettlement()) {
+                Assertions.assertEquals(intersection.getSettlement().type(), restored.getSettlement().type());
+                Assertions.assertEquals(intersection.getSettlement().owner().getID(), restored.getSettlement().owner().getID());
+            }
+        }
+        for (final Set<TilePosition> key : expected.getEdges().keySet()) {
+            final Edge edge = expected.getEdges().get(key);
+            final Edge restored = actual.getEdges().get(key);
+            Assertions.assertEquals(edge.hasRoad(), restored.hasRoad());
+            if (edge.hasRoad()) {
+                Assertions.assertEquals(edge.getRoadOwner().getID(), restored.getRoadOwner().getID());
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("A saved snapshot is loaded back with the same board, hands and round")
+    void testSaveAndLoad() throws IOException {
+        final Path path = this.directory.resolve("game" + GameSnapshot.FILE_EXTENSION);
+        GameSnapshot.of(this.gameController).save(path);
+
+        final GameSnapshot snapshot = GameSnapshot.load(path);
+
+        final GameState gameState = this.gameController.getState();
+        Assertions.assertEquals(this.gameController.getRoundCounterProperty().get(), snapshot.round());
+        assertBoard(gameState.getGrid(), snapshot.state().getGrid());
+        Assertions.assertEquals(gameState.getPlayers().size(), snapshot.state().getPlayers().size());
+        for (int i = 0; i < gameState.getPlayers().size(); i++) {
+            final Player player = gameState.getPlayers().get(i);
+            final Player restored = snapshot.state().getPlayers().get(i);
+            Assertions.assertEquals(player.getID(), restored.getID());
+            Assertions.assertEquals(player.getName(), restored.getName());
+            Assertions.assertEquals(player.isAi(), restored.isAi());
+            Assertions.assertEquals(player.getVictoryPoints(), restored.getVictoryPoints());
+            Assertions.assertEquals(player.getKnightsPlayed(), restored.getKnightsPlayed());
+            for (final ResourceType resourceType : ResourceType.values()) {
+                Assertions.assertEquals(
+                    player.getResources().getOrDefault(resourceType, 0),
+                    restored.getResources().getOrDefault(resourceType, 0),
+                    resourceType::name
+                );
+            }
+            for (final DevelopmentCardType developmentCardType : DevelopmentCardType.values()) {
+                Assertions.assertEquals(
+                    player.getDevelopmentCards().getOrDefault(developmentCardType, 0),
+                    restored.getDevelopmentCards().getOrDefault(developmentCardType, 0),
+                    developmentCardType::name
+                );
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("A loaded snapshot is continued from its round")
+    void testResume() throws IOException {
+        final Path path = this.directory.resolve("game" + GameSnapshot.FILE_EXTENSION);
+        GameSnapshot.of(this.gameController).save(path);
+        final GameSnapshot snapshot = GameSnapshot.load(path);
+        final int round = snapshot.round();
+        final int[] victoryPoints = snapshot.state().getPlayers().stream().mapToInt(Player::getVictoryPoints).toArray();
+
+        final GameController resumed = new GameController(snapshot);
+        SimulationRunner.configure(resumed, round + 2);
+        resumed.playGame();
+
+        Assertions.assertTrue(resumed.isRoundLimitReached());
+        Assertions.assertEquals(round + 3, resumed.getRoundCounterProperty().get());
+        for (int i = 0; i < victoryPoints.length; i++) {
+            Assertions.assertTrue(snapshot.state().getPlayers().get(i).getVictoryPoints() >= victoryPoints[i]);
+        }
+    }
+}
@@ -5,13 +5,17 @@ import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import projekt.model.BoardChangeListener;
 import projekt.model.GameState;
 import projekt.model.HexGrid;
 import projekt.model.HexGridImpl;
 import projekt.model.Player;
 import projekt.model.PlayerImpl;
+import projekt.model.Intersection;
 import projekt.model.TilePosition;
+import projekt.model.buildings.Edge;
 
+import java.util.ArrayList;
 import java.util.List;
 
 public class HexGridTests {
@@ -64,6 +68,38 @@ public class HexGridTests {
         }
     }
 
+    @Test
+    void testBoardChangeListener() {
+        final List<Object> changes = new ArrayList<>();
+        this.hexGrid.addBoardChangeListener(new BoardChangeListener() {
+            @Override
+            public void roadChanged(final Edge edge) {
+                changes.add(edge);
+            }
+
+            @Override
+            public void settlementChanged(final Intersection intersection) {
+                changes.add(intersection);
+            }
+
+            @Override
+            public void robberMoved(final TilePosition from, final TilePosition to) {
+                changes.add(to);
+            }
+        });
+
+        final var tile = this.hexGrid.getTiles().get(new TilePosition(0, 0));
+        final var intersection = tile.getIntersection(TilePosition.IntersectionDirection.values()[0]);
+        Assertions.assertTrue(intersection.placeVillage(this.player, true));
+        Assertions.assertTrue(intersection.upgradeSettlement(this.player));
+        final var edge = intersection.getConnectedEdges().iterator().next();
+        Assertions.assertTrue(this.hexGrid.addRoad(edge.getPosition1(), edge.getPosition2(), this.player, true));
+        this.hexGrid.removeRoad(edge);
+        this.hexGrid.setRobberPosition(tile.getPosition());
+
+        Assertions.assertEquals(List.of(intersection, intersection, edge, edge, tile.getPosition()), changes);
+    }
+
     @Test
     @DisplayName("longest Edge: trivial case of one road")
     void testLongestRoad1() {
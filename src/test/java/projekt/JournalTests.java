@@ -0,0 +1,215 @@
+package projekt;
+
+import javafx.scene.paint.Color;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import projekt.controller.GameController;
+import projekt.controller.archive.GameIndex;
+import projekt.controller.archive.GameIndexBuilder;
+import projekt.controller.archive.GameSummary;
+import projekt.controller.actions.BuildRoadAction;
+import projekt.controller.actions.BuildVillageAction;
+import projekt.controller.actions.TradeAction;
+import projekt.controller.journal.GameJournal;
+import projekt.controller.journal.JournalEntry;
+import projekt.controller.journal.JournalHeader;
+import projekt.controller.journal.JournalReader;
+import projekt.controller.journal.JournalReplayer;
+import projekt.controller.journal.ReplayTimeline;
+import projekt.controller.simulation.SimulationRunner;
+import projekt.model.GameState;
+import projekt.model.HexGrid;
+import projekt.model.HexGridImpl;
+import projekt.model.Intersection;
+import projekt.model.Player;
+import projekt.model.PlayerImpl;
+import projekt.model.ResourceType;
+import projekt.model.TilePosition;
+import projekt.model.TradePayload;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+public class JournalTests {
+    @TempDir
+    Path directory;
+
+    private GameState createGameState() {
+        final HexGrid hexGrid = new HexGridImpl(2);
+        final List<Player> players = List.of(
+            new PlayerImpl.Builder(1).color(Color.RED).build(hexGrid),
+            new PlayerImpl.Builder(2).color(Color.BLUE).ai(true).build(hexGrid)
+        );
+        return new GameState(hexGrid, players);
+    }
+
+    @Test
+    @DisplayName("A written journal is read back with equal header and records")
+    void testRoundTrip() throws IOException {
+        final GameState gameState = createGameState();
+        final Player player = gameState.getPlayers().get(0);
+        final Intersection intersection = gameState.getGrid().getIntersections().values().iterator().next();
+        final Path path = directory.resolve("game.journal");
+        final JournalHeader header = JournalHeader.of(7, gameState);
+        try (GameJournal journal = new GameJournal(path, 7, gameState)) {
+            journal.actionAccepted(player, new BuildVillageAction(intersection));
+            journal.actionAccepted(player, new TradeAction(new TradePayload(
+                Map.of(ResourceType.WOOD, 2), Map.of(ResourceType.ORE, 1), false, gameState.getPlayers().get(1)
+            )));
+            journal.diceRolled(8);
+        }
+
+        final JournalReader reader = new JournalReader(path);
+        Assertions.assertEquals(header, reader.getHeader());
+        final List<JournalEntry> entries = reader.getEntries();
+        Assertions.assertEquals(3, entries.size());
+        final JournalEntry.Action village = (JournalEntry.Action) entries.get(0);
+        Assertions.assertEquals(player.getID(), village.player().getID());
+        Assertions.assertEquals(intersection, ((BuildVillageAction) village.action()).intersection());
+        final TradePayload payload = ((TradeAction) ((JournalEntry.Action) entries.get(1)).action()).payload();
+        Assertions.assertEquals(Map.of(ResourceType.WOOD, 2), payload.offer());
+        Assertions.assertEquals(Map.of(ResourceType.ORE, 1), payload.request());
+        Assertions.assertEquals(2, payload.player().getID());
+        Assertions.assertEquals(new JournalEntry.Dice(8), entries.get(2));
+    }
+
+    @Test
+    @DisplayName("Replaying an unfinished journal rebuilds the recorded buildings")
+    void testReplayIncomplete() throws IOException {
+        final GameState gameState = createGameState();
+        final Player player = gameState.getPlayers().get(0);
+        final TilePosition center = new TilePosition(0, 0);
+        final TilePosition east = new TilePosition(1, 0);
+        final TilePosition northEast = new TilePosition(1, -1);
+        final Path path = directory.resolve("game.journal");
+        try (GameJournal journal = new GameJournal(path, 7, gameState)) {
+            journal.actionAccepted(player, new BuildVillageAction(gameState.getGrid().getIntersectionAt(center, east, northEast)));
+            journal.actionAccepted(player, new BuildRoadAction(gameState.getGrid().getEdge(center, east)));
+        }
+
+        final JournalReplayer.Result result = JournalReplayer.replay(path);
+        Assertions.assertEquals(JournalReplayer.Status.INCOMPLETE, result.status());
+        Assertions.assertEquals(2, result.records());
+        final HexGrid replayedGrid = result.state().getGrid();
+        Assertions.assertEquals(player.getID(), replayedGrid.getIntersectionAt(center, east, northEast).getSettlement().owner().getID());
+        Assertions.assertTrue(replayedGrid.getEdge(center, east).hasRoad());
+    }
+
+    @Test
+    @DisplayName("Every step of a replay timeline restores the buildings of its records")
+    void testTimelineSteps() throws IOException {
+        final GameState gameState = createGameState();
+        final Player player = gameState.getPlayers().get(0);
+        final TilePosition center = new TilePosition(0, 0);
+        final TilePosition east = new TilePosition(1, 0);
+        final TilePosition northEast = new TilePosition(1, -1);
+        final Path path = directory.resolve("game.journal");
+        try (GameJournal journal = new GameJournal(path, 7, gameState)) {
+            journal.actionAccepted(player, new BuildVillageAction(gameState.getGrid().getIntersectionAt(center, east, northEast)));
+            journal.actionAccepted(player, new BuildRoadAction(gameState.getGrid().getEdge(center, east)));
+        }
+
+        final ReplayTimeline timeline = ReplayTimeline.of(path);
+        Assertions.assertEquals(2, timeline.getLastStep());
+        for (int step = 0; step <= timeline.getLastStep(); step++) {
+            final HexGrid grid = timeline.getStep(step).state().getGrid();
+            Assertions.assertEquals(step >= 1, grid.getIntersectionAt(center, east, northEast).hasSettlement());
+            Assertions.assertEquals(step >= 2, grid.getEdge(center, east).hasRoad());
+        }
+        // seeking backwards restores the earlier state
+        Assertions.assertFalse(timeline.getStep(0).state().getGrid().getEdge(center, east).hasRoad());
+    }
+
+    @Test
+    @DisplayName("A game index finds journaled games by board and flags")
+    void testGameIndex() throws IOException {
+        final TilePosition center = new TilePosition(0, 0);
+        final TilePosition east = new TilePosition(1, 0);
+        final TilePosition northEast = new TilePosition(1, -1);
+        final long[] boardHashes = new long[2];
+        for (int game = 0; game < 2; game++) {
+            final GameState gameState = createGameState();
+            final Player player = gameState.getPlayers().get(0);
+            try (GameJournal journal = new GameJournal(directory.resolve(game + GameJournal.FILE_EXTENSION), game, gameState)) {
+                journal.actionAccepted(player, new BuildVillageAction(gameState.getGrid().getIntersectionAt(center, east, northEast)));
+                journal.actionAccepted(player, new BuildRoadAction(gameState.getGrid().getEdge(center, east)));
+            }
+            boardHashes[game] = JournalHeader.of(game, gameState).layout().stableHash();
+        }
+        final Path indexFile = directory.resolve("games.idx");
+        Assertions.assertEquals(2, GameIndexBuilder.build(directory, indexFile));
+
+        final GameIndex index = GameIndex.open(indexFile);
+        Assertions.assertEquals(2, index.size());
+        for (int game = 0; game < 2; game++) {
+            final List<GameSummary> games = index.findByBoard(boardHashes[game]);
+            Assertions.assertEquals(1, games.size());
+            final GameSummary summary = games.get(0);
+            Assertions.assertEquals(game, summary.seed());
+            Assertions.assertEquals(JournalReplayer.Status.INCOMPLETE, summary.status());
+            Assertions.assertEquals(1, summary.players().get(0).villages());
+            Assertions.assertEquals(1, summary.players().get(0).longestRoad());
+        }
+        Assertions.assertTrue(index.select(GameIndex.Flag.ALL_AI).isEmpty());
+        Assertions.assertTrue(index.find(GameIndex.Flag.HAS_WINNER).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Journals that cannot be read are skipped when building a game index")
+    void testGameIndexSkipsUnreadableJournals() throws IOException {
+        final GameState gameState = createGameState();
+        try (GameJournal journal = new GameJournal(directory.resolve(0 + GameJournal.FILE_EXTENSION), 0, gameState)) {
+            journal.actionAccepted(gameState.getPlayers().get(0), new BuildRoadAction(
+                gameState.getGrid().getEdge(new TilePosition(0, 0), new TilePosition(1, 0))
+            ));
+        }
+        // reading a directory fails with an IOException, reading garbage with an IllegalArgumentException
+        Files.createDirectory(directory.resolve("unreadable" + GameJournal.FILE_EXTENSION));
+        Files.write(directory.resolve("garbage" + GameJournal.FILE_EXTENSION), new byte[] {1, 2, 3, 4, 5, 6, 7, 8});
+        final Path indexFile = directory.resolve("games.idx");
+
+        Assertions.assertEquals(1, GameIndexBuilder.build(directory, indexFile));
+        Assertions.assertEquals(1, GameIndex.open(indexFile).size());
+    }
+
+    @Test
+    @DisplayName("Replaying the journal of a played game reaches the game's final state")
+    void testReplayPlayedGame() throws IOException {
+        final GameController gameController = SimulationRunner.createGame(42, 3, 20);
+        final GameState gameState = gameController.getState();
+        gameController.setJournalDirectory(directory);
+        gameController.playGame();
+        final Path journal;
+        try (Stream<Path> files = Files.list(directory)) {
+            journal = files.filter(file -> file.toString().endsWith(GameJournal.FILE_EXTENSION)).findFirst().orElseThrow();
+        }
+
+        final JournalReplayer.Result result = JournalReplayer.replay(journal);
+        Assertions.assertEquals(JournalReplayer.Status.STOPPED, result.status(), () -> String.valueOf(result.failure()));
+        Assertions.assertEquals(gameController.getRoundCounterProperty().get(), result.round());
+        final GameState replayed = result.state();
+        Assertions.assertEquals(gameState.getGrid().getRobberPosition(), replayed.getGrid().getRobberPosition());
+        for (int i = 0; i < gameState.getPlayers().size(); i++) {
+            final Player player = gameState.getPlayers().get(i);
+            final Player replayedPlayer = replayed.getPlayers().get(i);
+            Assertions.assertEquals(player.getVictoryPoints(), replayedPlayer.getVictoryPoints());
+            Assertions.assertEquals(player.getRemainingRoads(), replayedPlayer.getRemainingRoads());
+            Assertions.assertEquals(player.getRemainingVillages(), replayedPlayer.getRemainingVillages());
+            Assertions.assertEquals(player.getRemainingCities(), replayedPlayer.getRemainingCities());
+            Assertions.assertEquals(player.getKnightsPlayed(), replayedPlayer.getKnightsPlayed());
+            for (final ResourceType resourceType : ResourceType.values()) {
+                Assertions.assertEquals(
+                    player.getResources().getOrDefault(resourceType, 0),
+                    replayedPlayer.getResources().getOrDefault(resourceType, 0),
+                    resourceType::name
+                );
+            }
+        }
+    }
+}
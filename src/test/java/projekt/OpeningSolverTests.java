@@ -0,0 +1,77 @@
+package projekt;
+
+import javafx.scene.paint.Color;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import projekt.controller.ai.OpeningSolver;
+import projekt.model.HexGrid;
+import projekt.model.HexGridImpl;
+import projekt.model.Intersection;
+import projekt.model.Player;
+import projekt.model.PlayerImpl;
+import projekt.model.TilePosition;
+import projekt.model.tiles.Tile;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+public class OpeningSolverTests {
+    private HexGrid hexGrid;
+    private Player player;
+
+    @BeforeEach
+    void setUp() {
+        this.hexGrid = new HexGridImpl(3);
+        this.player = new PlayerImpl.Builder(1).color(Color.AQUA).build(this.hexGrid);
+    }
+
+    @Test
+    @DisplayName("Every candidate is ranked exactly once, best first")
+    void testRanking() {
+        final Set<Intersection> candidates = Set.copyOf(this.hexGrid.getIntersections().values());
+        final List<OpeningSolver.Placement> placements = new OpeningSolver(this.hexGrid).rank(candidates, this.player);
+
+        Assertions.assertEquals(candidates.size(), placements.size());
+        Assertions.assertEquals(candidates, placements.stream().map(OpeningSolver.Placement::intersection).collect(Collectors.toSet()));
+        for (int i = 1; i < placements.size(); i++) {
+            Assertions.assertTrue(placements.get(i - 1).score() >= placements.get(i).score());
+        }
+    }
+
+    @Test
+    @DisplayName("Suggested roads are free and connected to their village")
+    void testRoads() {
+        final List<OpeningSolver.Placement> placements = new OpeningSolver(this.hexGrid)
+            .rank(this.hexGrid.getIntersections().values(), this.player);
+
+        for (final OpeningSolver.Placement placement : placements) {
+            Assertions.assertNotNull(placement.road());
+            Assertions.assertFalse(placement.road().hasRoad());
+            Assertions.assertTrue(placement.intersection().getConnectedEdges().contains(placement.road()));
+        }
+    }
+
+    @Test
+    @DisplayName("The best placement is between the two most productive tiles")
+    void testBestPlacement() {
+        // the center is rolled on a 6, its first neighbour on an 8 and all other tiles on a 2
+        final HexGrid hexGrid = TestBoards.woodland(6, 8, 2, 2, 2, 2, 2);
+        final Player player = TestBoards.players(hexGrid, 1).get(0);
+        final Tile center = hexGrid.getTileAt(new TilePosition(0, 0));
+        final Tile neighbour = hexGrid.getTiles(8).iterator().next();
+        final Set<Intersection> best = new HashSet<>(center.getIntersections());
+        best.retainAll(neighbour.getIntersections());
+
+        final List<OpeningSolver.Placement> placements = new OpeningSolver(hexGrid)
+            .rank(hexGrid.getIntersections().values(), player);
+
+        Assertions.assertEquals(2, best.size());
+        Assertions.assertTrue(best.contains(placements.get(0).intersection()));
+        Assertions.assertTrue(best.contains(placements.get(1).intersection()));
+        Assertions.assertTrue(placements.get(1).score() > placements.get(2).score());
+    }
+}
@@ -0,0 +1,140 @@
+package projekt;
+
+import javafx.scene.paint.Color;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import projekt.controller.ai.OpponentModel;
+import projekt.model.HexGridImpl;
+import projekt.model.Player;
+import projekt.model.PlayerImpl;
+import projekt.model.ResourceType;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+public class OpponentModelTests {
+    private static final double EPSILON = 1e-9;
+
+    private Player alice;
+    private Player bob;
+    private Player carol;
+    private OpponentModel model;
+
+    @BeforeEach
+    void setUp() {
+        final List<Player> players = TestBoards.players(new HexGridImpl(1), 3);
+        this.alice = players.get(0);
+        this.bob = players.get(1);
+        this.carol = players.get(2);
+        this.model = new OpponentModel(this.alice, players);
+    }
+
+    /**
+     * Returns the sum of the expected amounts of all resource types of the given player.
+     */
+    private double expectedTotal(final Player player) {
+        double total = 0;
+        for (final ResourceType resourceType : ResourceType.values()) {
+            total += this.model.getExpectedAmount(player, resourceType);
+        }
+        return total;
+    }
+
+    @Test
+    @DisplayName("Revealed gains and losses are tracked exactly")
+    void testGainAndLose() {
+        this.model.resourcesGained(this.bob, Map.of(ResourceType.WOOD, 2, ResourceType.ORE, 1));
+        this.model.resourcesLost(this.bob, Map.of(ResourceType.WOOD, 1));
+
+        Assertions.assertEquals(2, this.model.getHandSize(this.bob));
+        Assertions.assertEquals(1, this.model.getExpectedAmount(this.bob, ResourceType.WOOD), EPSILON);
+        Assertions.assertEquals(1, this.model.getExpectedAmount(this.bob, ResourceType.ORE), EPSILON);
+        Assertions.assertEquals(0, this.model.getHandSize(this.carol));
+        Assertions.assertEquals(Map.of(ResourceType.WOOD, 1, ResourceType.ORE, 1), this.model.sampleHand(this.bob, new Random(0)));
+    }
+
+    @Test
+    @DisplayName("A steal the observer takes part in moves the known card")
+    void testObservedSteal() {
+        this.model.resourcesGained(this.bob, Map.of(ResourceType.WOOD, 1, ResourceType.ORE, 1));
+
+        this.model.resourceStolen(this.alice, this.bob, ResourceType.ORE);
+
+        Assertions.assertEquals(1, this.model.getHandSize(this.alice));
+        Assertions.assertEquals(1, this.model.getHandSize(this.bob));
+        Assertions.assertEquals(1, this.model.getExpectedAmount(this.alice, ResourceType.ORE), EPSILON);
+        Assertions.assertEquals(0, this.model.getExpectedAmount(this.bob, ResourceType.ORE), EPSILON);
+        Assertions.assertEquals(Map.of(ResourceType.WOOD, 1), this.model.sampleHand(this.bob, new Random(0)));
+    }
+
+    @Test
+    @DisplayName("A hidden steal moves the victim's expectations in proportion to its hand")
+    void testHiddenSteal() {
+        this.model.resourcesGained(this.carol, Map.of(ResourceType.WOOD, 3, ResourceType.ORE, 1));
+
+        this.model.resourceStolen(this.bob, this.carol, ResourceType.ORE);
+
+        Assertions.assertEquals(1, this.model.getHandSize(this.bob));
+        Assertions.assertEquals(3, this.model.getHandSize(this.carol));
+        Assertions.assertEquals(0.75, this.model.getExpectedAmount(this.bob, ResourceType.WOOD), EPSILON);
+        Assertions.assertEquals(0.25, this.model.getExpectedAmount(this.bob, ResourceType.ORE), EPSILON);
+        Assertions.assertEquals(2.25, this.model.getExpectedAmount(this.carol, ResourceType.WOOD), EPSILON);
+        Assertions.assertEquals(0.75, this.model.getExpectedAmount(this.carol, ResourceType.ORE), EPSILON);
+        Assertions.assertEquals(this.model.getHandSize(this.bob), expectedTotal(this.bob), EPSILON);
+        Assertions.assertEquals(this.model.getHandSize(this.carol), expectedTotal(this.carol), EPSILON);
+    }
+
+    @Test
+    @DisplayName("Spending more of a resource than expected takes the difference from the other resources")
+    void testLoseMoreThanExpected() {
+        this.model.resourcesGained(this.carol, Map.of(ResourceType.WOOD, 3, ResourceType.ORE, 1));
+        this.model.resourcesGained(this.bob, Map.of(ResourceType.GRAIN, 1));
+        this.model.resourceStolen(this.bob, this.carol, ResourceType.ORE);
+
+        // the stolen card must have been ore
+        this.model.resourcesLost(this.bob, Map.of(ResourceType.ORE, 1));
+
+        Assertions.assertEquals(1, this.model.getHandSize(this.bob));
+        Assertions.assertEquals(0, this.model.getExpectedAmount(this.bob, ResourceType.ORE), EPSILON);
+        Assertions.assertEquals(this.model.getHandSize(this.bob), expectedTotal(this.bob), EPSILON);
+        Assertions.assertTrue(this.model.getExpectedAmount(this.bob, ResourceType.GRAIN) > this.model.getExpectedAmount(this.bob, ResourceType.WOOD));
+    }
+
+    @Test
+    @DisplayName("Sampled hands match the hand size and follow the expected amounts")
+    void testSampleHand() {
+        this.model.resourcesGained(this.carol, Map.of(ResourceType.WOOD, 3, ResourceType.ORE, 1));
+        this.model.resourceStolen(this.bob, this.carol, ResourceType.ORE);
+        final Random random = new Random(42);
+        final int samples = 4000;
+
+        int wood = 0;
+        for (int i = 0; i < samples; i++) {
+            final Map<ResourceType, Integer> bobHand = this.model.sampleHand(this.bob, random);
+            final Map<ResourceType, Integer> carolHand = this.model.sampleHand(this.carol, random);
+            Assertions.assertEquals(1, bobHand.values().stream().mapToInt(Integer::intValue).sum());
+            Assertions.assertEquals(3, carolHand.values().stream().mapToInt(Integer::intValue).sum());
+            Assertions.assertTrue(ResourceType.WOOD.equals(bobHand.keySet().iterator().next())
+                || ResourceType.ORE.equals(bobHand.keySet().iterator().next()));
+            Assertions.assertTrue(carolHand.getOrDefault(ResourceType.WOOD, 0) >= 2);
+            wood += bobHand.getOrDefault(ResourceType.WOOD, 0);
+        }
+        Assertions.assertEquals(0.75, (double) wood / samples, 0.03);
+    }
+
+    @Test
+    @DisplayName("Players that are not part of the game are ignored")
+    void testUnknownPlayer() {
+        final Player stranger = new PlayerImpl.Builder(4).color(Color.BLACK).build(new HexGridImpl(1));
+
+        this.model.resourcesGained(stranger, Map.of(ResourceType.WOOD, 1));
+        this.model.resourceStolen(stranger, this.bob, ResourceType.WOOD);
+
+        Assertions.assertEquals(0, this.model.getHandSize(stranger));
+        Assertions.assertEquals(0, this.model.getHandSize(this.bob));
+        Assertions.assertTrue(this.model.sampleHand(stranger, new Random(0)).isEmpty());
+    }
+}
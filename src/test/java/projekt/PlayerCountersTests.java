@@ -0,0 +1,98 @@
+package projekt;
+
+import javafx.scene.paint.Color;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import projekt.model.HexGrid;
+import projekt.model.HexGridImpl;
+import projekt.model.Intersection;
+import projekt.model.Player;
+import projekt.model.PlayerImpl;
+import projekt.model.ResourceType;
+import projekt.model.TilePosition;
+import projekt.model.buildings.Edge;
+import projekt.view.gameControls.PlayerCounters;
+
+import java.util.Map;
+
+public class PlayerCountersTests {
+    private HexGrid hexGrid;
+    private Player player;
+    private PlayerCounters counters;
+
+    @BeforeEach
+    void setUp() {
+        this.hexGrid = new HexGridImpl(2);
+        this.player = new PlayerImpl.Builder(1).color(Color.RED).build(this.hexGrid);
+        this.counters = new PlayerCounters(this.player);
+    }
+
+    /**
+     * Asserts that the counters show the victory points and remaining buildings of the player.
+     */
+    private void assertMatchesPlayer(final PlayerCounters counters) {
+        Assertions.assertEquals(this.player.getVictoryPoints(), counters.victoryPointsProperty().get());
+        Assertions.assertEquals(this.player.getRemainingVillages(), counters.remainingVillagesProperty().get());
+        Assertions.assertEquals(this.player.getRemainingCities(), counters.remainingCitiesProperty().get());
+        Assertions.assertEquals(this.player.getRemainingRoads(), counters.remainingRoadsProperty().get());
+    }
+
+    @Test
+    @DisplayName("The counters follow the buildings of the player")
+    void testBuildings() {
+        final Intersection intersection = this.hexGrid.getTileAt(new TilePosition(0, 0)).getIntersections().iterator().next();
+        final Edge edge = intersection.getConnectedEdges().iterator().next();
+        assertMatchesPlayer(this.counters);
+
+        Assertions.assertTrue(intersection.placeVillage(this.player, true));
+        this.counters.updateSettlement(intersection);
+        assertMatchesPlayer(this.counters);
+        Assertions.assertEquals(1, this.counters.victoryPointsProperty().get());
+
+        Assertions.assertTrue(intersection.upgradeSettlement(this.player));
+        this.counters.updateSettlement(intersection);
+        // updates may be repeated for the same element
+        this.counters.updateSettlement(intersection);
+        assertMatchesPlayer(this.counters);
+        Assertions.assertEquals(2, this.counters.victoryPointsProperty().get());
+
+        Assertions.assertTrue(this.hexGrid.addRoad(edge.getPosition1(), edge.getPosition2(), this.player, true));
+        this.counters.updateRoad(edge);
+        this.counters.updateRoad(edge);
+        assertMatchesPlayer(this.counters);
+        Assertions.assertEquals(Config.MAX_ROADS - 1, this.counters.remainingRoadsProperty().get());
+
+        // new counters count the buildings already on the board
+        assertMatchesPlayer(new PlayerCounters(this.player));
+
+        Assertions.assertTrue(this.hexGrid.removeRoad(edge.getPosition1(), edge.getPosition2()));
+        this.counters.updateRoad(edge);
+        assertMatchesPlayer(this.counters);
+        Assertions.assertEquals(Config.MAX_ROADS, this.counters.remainingRoadsProperty().get());
+    }
+
+    @Test
+    @DisplayName("The counters copy the resources of the player and mark the changed ones")
+    void testResources() {
+        this.player.addResource(ResourceType.WOOD, 2);
+        this.player.addResource(ResourceType.ORE, 1);
+
+        this.counters.update(Map.of(ResourceType.WOOD, 2));
+
+        Assertions.assertEquals(2, this.counters.resourceProperty(ResourceType.WOOD).get());
+        Assertions.assertEquals(1, this.counters.resourceProperty(ResourceType.ORE).get());
+        Assertions.assertEquals(3, this.counters.resourceCountProperty().get());
+        Assertions.assertTrue(this.counters.resourceChangedProperty(ResourceType.WOOD).get());
+        Assertions.assertFalse(this.counters.resourceChangedProperty(ResourceType.ORE).get());
+
+        Assertions.assertTrue(this.player.removeResource(ResourceType.WOOD, 2));
+        this.counters.update(Map.of());
+
+        Assertions.assertEquals(0, this.counters.resourceProperty(ResourceType.WOOD).get());
+        Assertions.assertEquals(1, this.counters.resourceCountProperty().get());
+        Assertions.assertFalse(this.counters.resourceChangedProperty(ResourceType.WOOD).get());
+        assertMatchesPlayer(this.counters);
+    }
+}
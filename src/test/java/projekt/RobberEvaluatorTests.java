@@ -0,0 +1,113 @@
+package projekt;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import projekt.controller.ai.RobberEvaluator;
+import projekt.controller.ai.TilePayouts;
+import projekt.model.HexGrid;
+import projekt.model.Intersection;
+import projekt.model.Player;
+import projekt.model.ResourceType;
+import projekt.model.TilePosition;
+import projekt.model.tiles.Tile;
+
+import java.util.List;
+
+public class RobberEvaluatorTests {
+    private HexGrid hexGrid;
+    private Player alice;
+    private Player bob;
+    private Player carol;
+    private TilePayouts payouts;
+
+    @BeforeEach
+    void setUp() {
+        // the center is rolled on a 6, all other tiles on a 2
+        this.hexGrid = TestBoards.woodland(6, 2, 2, 2, 2, 2, 2);
+        final List<Player> players = TestBoards.players(this.hexGrid, 3);
+        this.alice = players.get(0);
+        this.bob = players.get(1);
+        this.carol = players.get(2);
+        this.payouts = new TilePayouts(this.hexGrid, players);
+        this.hexGrid.addBoardChangeListener(this.payouts);
+    }
+
+    /**
+     * Returns the intersection of the given tile that is not shared with the center tile and
+     * not adjacent to any settlement.
+     */
+    private Intersection outerIntersection(final TilePosition position) {
+        final Tile center = this.hexGrid.getTileAt(new TilePosition(0, 0));
+        return this.hexGrid.getTileAt(position).getIntersections().stream()
+            .filter(intersection -> !center.getIntersections().contains(intersection))
+            .filter(intersection -> intersection.getAdjacentTiles().size() == 1)
+            .findFirst()
+            .orElseThrow();
+    }
+
+    @Test
+    @DisplayName("The payout table follows settlements placed on and upgraded on the grid")
+    void testPayoutsFollowBoard() {
+        final Intersection intersection = this.hexGrid.getTileAt(new TilePosition(0, 0)).getIntersections().iterator().next();
+        Assertions.assertTrue(intersection.placeVillage(this.bob, true));
+        Assertions.assertTrue(intersection.upgradeSettlement(this.bob));
+        Assertions.assertTrue(outerIntersection(new TilePosition(1, 0)).placeVillage(this.carol, true));
+
+        final TilePayouts rebuilt = new TilePayouts(this.hexGrid, List.of(this.alice, this.bob, this.carol));
+        for (int tile = 0; tile < this.payouts.getTileCount(); tile++) {
+            for (int player = 0; player < 3; player++) {
+                Assertions.assertEquals(rebuilt.getExpectedPayout(tile, player), this.payouts.getExpectedPayout(tile, player));
+            }
+        }
+        Assertions.assertEquals(2, this.payouts.getSettlementPoints(this.payouts.indexOf(this.bob)));
+        Assertions.assertEquals(1, this.payouts.getSettlementPoints(this.payouts.indexOf(this.carol)));
+    }
+
+    @Test
+    @DisplayName("The robber blocks the leader's best tile and spares the own tiles")
+    void testRankTiles() {
+        final TilePosition aliceTile = new TilePosition(-1, 0);
+        final TilePosition carolTile = new TilePosition(1, 0);
+        Assertions.assertTrue(outerIntersection(aliceTile).placeVillage(this.alice, true));
+        final Intersection bobIntersection = this.hexGrid.getTileAt(new TilePosition(0, 0)).getIntersections().stream()
+            .filter(intersection -> !intersection.getAdjacentTilePositions().contains(aliceTile))
+            .filter(intersection -> !intersection.getAdjacentTilePositions().contains(carolTile))
+            .findFirst()
+            .orElseThrow();
+        Assertions.assertTrue(bobIntersection.placeVillage(this.bob, true));
+        Assertions.assertTrue(outerIntersection(carolTile).placeVillage(this.carol, true));
+
+        final List<RobberEvaluator.TileScore> scores = new RobberEvaluator(this.payouts).rankTiles(this.alice, null);
+
+        Assertions.assertEquals(this.hexGrid.getTiles().size(), scores.size());
+        Assertions.assertEquals(new TilePosition(0, 0), scores.get(0).position());
+        Assertions.assertEquals(aliceTile, scores.get(scores.size() - 1).position());
+        Assertions.assertTrue(scores.get(scores.size() - 1).score() < 0);
+    }
+
+    @Test
+    @DisplayName("The robber is never ranked onto its current tile")
+    void testRankTilesSkipsCurrentPosition() {
+        final TilePosition current = new TilePosition(0, 0);
+
+        final List<RobberEvaluator.TileScore> scores = new RobberEvaluator(this.payouts).rankTiles(this.alice, current);
+
+        Assertions.assertEquals(this.hexGrid.getTiles().size() - 1, scores.size());
+        Assertions.assertTrue(scores.stream().noneMatch(score -> score.position().equals(current)));
+    }
+
+    @Test
+    @DisplayName("Steal targets holding the resources the thief lacks are ranked first")
+    void testRankStealTargets() {
+        this.alice.addResource(ResourceType.WOOD, 4);
+        this.bob.addResource(ResourceType.WOOD, 3);
+        this.carol.addResource(ResourceType.ORE, 1);
+
+        final List<RobberEvaluator.StealTarget> targets = new RobberEvaluator(this.payouts)
+            .rankStealTargets(this.alice, List.of(this.bob, this.carol));
+
+        Assertions.assertEquals(List.of(this.carol, this.bob), targets.stream().map(RobberEvaluator.StealTarget::player).toList());
+    }
+}
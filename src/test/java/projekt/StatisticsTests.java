@@ -0,0 +1,118 @@
+package projekt;
+
+import javafx.scene.paint.Color;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import projekt.controller.GameController;
+import projekt.controller.simulation.SimulationRunner;
+import projekt.controller.stats.GameRecorder;
+import projekt.controller.stats.GameStatistics;
+import projekt.controller.stats.StatisticsAggregator;
+import projekt.model.GameState;
+import projekt.model.HexGrid;
+import projekt.model.HexGridImpl;
+import projekt.model.PlayerImpl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+public class StatisticsTests {
+    private static final double EPSILON = 1e-9;
+
+    /**
+     * Records a game without winner that took the given number of rounds and saw a single dice roll.
+     */
+    private static void recordGame(final StatisticsAggregator aggregator, final int rounds, final int roll) {
+        final HexGrid hexGrid = new HexGridImpl(1);
+        final GameState gameState = new GameState(hexGrid, List.of(
+            new PlayerImpl.Builder(1).color(Color.RED).build(hexGrid),
+            new PlayerImpl.Builder(2).color(Color.BLUE).build(hexGrid)
+        ));
+        final GameController gameController = new GameController(gameState, () -> roll);
+        final GameRecorder recorder = new GameRecorder(gameController, aggregator);
+        recorder.attach();
+        recorder.diceRolled(roll);
+        // the round counter is advanced once more after the last round
+        for (int round = 1; round <= rounds + 1; round++) {
+            gameController.getRoundCounterProperty().set(round);
+        }
+        recorder.finish();
+    }
+
+    /**
+     * Returns the statistics of a game played by AI players with the given seed.
+     */
+    private static GameStatistics playGame(final long seed) {
+        final StatisticsAggregator aggregator = new StatisticsAggregator();
+        final GameController gameController = SimulationRunner.createGame(seed, 3, 15);
+        final GameRecorder recorder = new GameRecorder(gameController, aggregator);
+        recorder.attach();
+        gameController.playGame();
+        recorder.finish();
+        return aggregator.snapshot();
+    }
+
+    @Test
+    @DisplayName("Merged statistics add up the games, rolls and exact lengths")
+    void testMerge() {
+        final StatisticsAggregator shortGames = new StatisticsAggregator();
+        final StatisticsAggregator longGames = new StatisticsAggregator();
+        recordGame(shortGames, 3, 6);
+        recordGame(longGames, Config.SIMULATION_ROUND_LIMIT, 8);
+
+        final GameStatistics merged = new GameStatistics();
+        merged.merge(shortGames.snapshot());
+        merged.merge(longGames.snapshot());
+        final GameStatistics reversed = new GameStatistics();
+        reversed.merge(longGames.snapshot());
+        reversed.merge(shortGames.snapshot());
+
+        Assertions.assertEquals(2, merged.getGames());
+        Assertions.assertEquals(0, merged.getGamesWithWinner());
+        Assertions.assertEquals(1, merged.getDiceRolls(6));
+        Assertions.assertEquals(1, merged.getDiceRolls(8));
+        Assertions.assertEquals(1, merged.getGameLengths(3));
+        Assertions.assertEquals(1, merged.getGameLengths(Config.SIMULATION_ROUND_LIMIT));
+        Assertions.assertEquals((3 + Config.SIMULATION_ROUND_LIMIT) / 2.0, merged.getAverageGameLength(), EPSILON);
+        Assertions.assertEquals(0, merged.getAverageVictoryPoints(Config.SIMULATION_ROUND_LIMIT), EPSILON);
+        Assertions.assertEquals(merged.report(), reversed.report());
+    }
+
+    @Test
+    @DisplayName("The aggregator keeps every game added from concurrent threads")
+    void testAggregator() throws Exception {
+        final StatisticsAggregator aggregator = new StatisticsAggregator();
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            final List<Future<?>> futures = new ArrayList<>();
+            for (int thread = 0; thread < 4; thread++) {
+                futures.add(executor.submit(() -> {
+                    for (int rounds = 1; rounds <= 25; rounds++) {
+                        recordGame(aggregator, rounds, 7);
+                    }
+                }));
+            }
+            for (final Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        final GameStatistics statistics = aggregator.snapshot();
+        Assertions.assertEquals(100, statistics.getGames());
+        Assertions.assertEquals(100, statistics.getDiceRolls(7));
+        Assertions.assertEquals(4, statistics.getGameLengths(25));
+        Assertions.assertEquals(13, statistics.getAverageGameLength(), EPSILON);
+    }
+
+    @Test
+    @DisplayName("Games with the same seed are played the same way")
+    void testSeededGamesAreReproducible() {
+        Assertions.assertEquals(playGame(11).report(), playGame(11).report());
+    }
+}
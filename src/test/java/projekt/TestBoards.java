@@ -0,0 +1,47 @@
+package projekt;
+
+import javafx.scene.paint.Color;
+import projekt.model.HexGrid;
+import projekt.model.HexGridImpl;
+import projekt.model.Player;
+import projekt.model.PlayerImpl;
+import projekt.model.tiles.Tile;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Builds the boards and players the tests share.
+ */
+final class TestBoards {
+    private static final List<Color> COLORS = List.of(Color.RED, Color.BLUE, Color.GREEN, Color.ORANGE);
+
+    private TestBoards() {}
+
+    /**
+     * Returns a grid of radius 2 without ports whose tiles are all woodland.
+     *
+     * @param rollNumbers the roll numbers of the seven tiles, in the spiral order starting at the center
+     * @return the grid
+     */
+    static HexGrid woodland(final Integer... rollNumbers) {
+        final Iterator<Integer> iterator = List.of(rollNumbers).iterator();
+        return new HexGridImpl(2, iterator::next, () -> Tile.Type.WOODLAND, (position, direction) -> null);
+    }
+
+    /**
+     * Returns the given number of players with the ids {@code 1} to {@code count} and distinct colors.
+     *
+     * @param hexGrid the grid of the players
+     * @param count   the number of players, at most four
+     * @return the players
+     */
+    static List<Player> players(final HexGrid hexGrid, final int count) {
+        final List<Player> players = new ArrayList<>(count);
+        for (int id = 1; id <= count; id++) {
+            players.add(new PlayerImpl.Builder(id).color(COLORS.get(id - 1)).build(hexGrid));
+        }
+        return players;
+    }
+}
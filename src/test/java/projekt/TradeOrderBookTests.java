@@ -0,0 +1,125 @@
+package projekt;
+
+import javafx.scene.paint.Color;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import projekt.controller.GameController;
+import projekt.controller.PlayerController;
+import projekt.controller.PlayerObjective;
+import projekt.controller.actions.PlayerAction;
+import projekt.controller.actions.PostTradeOrderAction;
+import projekt.controller.trade.TradeOrderBook;
+import projekt.model.GameState;
+import projekt.model.HexGrid;
+import projekt.model.HexGridImpl;
+import projekt.model.Player;
+import projekt.model.PlayerImpl;
+import projekt.model.ResourceType;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+public class TradeOrderBookTests {
+    private TradeOrderBook orderBook;
+    private Player alice;
+    private Player bob;
+    private Player carol;
+
+    @BeforeEach
+    void setUp() {
+        final HexGrid hexGrid = new HexGridImpl(1);
+        this.orderBook = new TradeOrderBook();
+        this.alice = new PlayerImpl.Builder(1).color(Color.RED).build(hexGrid);
+        this.bob = new PlayerImpl.Builder(2).color(Color.BLUE).build(hexGrid);
+        this.carol = new PlayerImpl.Builder(3).color(Color.GREEN).build(hexGrid);
+        this.alice.addResource(ResourceType.WOOD, 5);
+        this.bob.addResource(ResourceType.ORE, 5);
+        this.carol.addResource(ResourceType.ORE, 5);
+    }
+
+    @Test
+    @DisplayName("Complementary orders are settled on the resting order's terms")
+    void testMatch() {
+        Assertions.assertTrue(this.orderBook.post(this.alice, Map.of(ResourceType.WOOD, 2), Map.of(ResourceType.ORE, 1), 1).isEmpty());
+        final Optional<TradeOrderBook.Match> match = this.orderBook.post(this.bob, Map.of(ResourceType.ORE, 2), Map.of(ResourceType.WOOD, 1), 1);
+
+        Assertions.assertTrue(match.isPresent());
+        Assertions.assertEquals(this.alice, match.get().maker().owner());
+        Assertions.assertEquals(3, this.alice.getResources().get(ResourceType.WOOD));
+        Assertions.assertEquals(1, this.alice.getResources().get(ResourceType.ORE));
+        Assertions.assertEquals(2, this.bob.getResources().get(ResourceType.WOOD));
+        Assertions.assertEquals(4, this.bob.getResources().get(ResourceType.ORE));
+        Assertions.assertTrue(this.orderBook.getOrders().isEmpty());
+    }
+
+    @Test
+    @DisplayName("The best price wins, ties go to the earliest order")
+    void testPriority() {
+        this.orderBook.post(this.bob, Map.of(ResourceType.ORE, 1), Map.of(ResourceType.WOOD, 1), 1);
+        this.orderBook.post(this.carol, Map.of(ResourceType.ORE, 2), Map.of(ResourceType.WOOD, 1), 1);
+        this.orderBook.post(this.bob, Map.of(ResourceType.ORE, 2), Map.of(ResourceType.WOOD, 1), 1);
+
+        final Optional<TradeOrderBook.Match> match = this.orderBook.post(this.alice, Map.of(ResourceType.WOOD, 1), Map.of(ResourceType.ORE, 1), 1);
+
+        Assertions.assertTrue(match.isPresent());
+        Assertions.assertEquals(this.carol, match.get().maker().owner());
+        Assertions.assertEquals(2, this.orderBook.getOrders().size());
+    }
+
+    @Test
+    @DisplayName("Expired orders are removed")
+    void testExpiry() {
+        this.orderBook.post(this.alice, Map.of(ResourceType.WOOD, 1), Map.of(ResourceType.ORE, 1), 2);
+        this.orderBook.expire(2);
+        Assertions.assertEquals(1, this.orderBook.getOrders().size());
+        this.orderBook.expire(3);
+        Assertions.assertTrue(this.orderBook.getOrders().isEmpty());
+    }
+
+    /**
+     * Returns the actions the given player controller has queued so far.
+     */
+    private static List<PlayerAction> drainActions(final PlayerController playerController) throws InterruptedException {
+        final List<PlayerAction> actions = new ArrayList<>();
+        PlayerAction action;
+        while ((action = playerController.pollNextAction(0, TimeUnit.MILLISECONDS)) != null) {
+            actions.add(action);
+        }
+        return actions;
+    }
+
+    @Test
+    @DisplayName("AI players offer a surplus resource for a missing one once per resting order")
+    void testAiPostsOrder() throws InterruptedException {
+        final HexGrid hexGrid = new HexGridImpl(1);
+        final GameState gameState = new GameState(hexGrid, new ArrayList<>());
+        final Player ai = new PlayerImpl.Builder(1).color(Color.RED).ai(true).build(hexGrid);
+        gameState.addPlayer(ai);
+        gameState.addPlayer(new PlayerImpl.Builder(2).color(Color.BLUE).ai(true).build(hexGrid));
+        final GameController gameController = new GameController(gameState);
+        gameController.setAiActionDelay(0);
+        gameController.initPlayerControllers();
+        final PlayerController playerController = gameController.getPlayerControllers().get(ai);
+        ai.addResource(ResourceType.WOOD, 1);
+        ai.addResource(ResourceType.CLAY, Config.AI_TRADE_ORDER_SURPLUS);
+
+        playerController.setPlayerObjective(PlayerObjective.REGULAR_TURN);
+        final PostTradeOrderAction expected = new PostTradeOrderAction(
+            Map.of(ResourceType.CLAY, 1),
+            Map.of(ResourceType.WOOL, 1),
+            Config.AI_TRADE_ORDER_DURATION
+        );
+        final List<PlayerAction> actions = drainActions(playerController);
+        Assertions.assertTrue(actions.contains(expected), actions::toString);
+
+        gameController.getTradeOrderBook().post(ai, expected.give(), expected.receive(), 1);
+        playerController.setPlayerObjective(PlayerObjective.IDLE);
+        playerController.setPlayerObjective(PlayerObjective.REGULAR_TURN);
+        Assertions.assertTrue(drainActions(playerController).stream().noneMatch(PostTradeOrderAction.class::isInstance));
+    }
+}
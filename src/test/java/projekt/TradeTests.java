@@ -0,0 +1,153 @@
+package projekt;
+
+import javafx.scene.paint.Color;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import projekt.controller.GameController;
+import projekt.controller.GameEventListener;
+import projekt.controller.PlayerController;
+import projekt.controller.PlayerObjective;
+import projekt.controller.actions.AcceptTradeAction;
+import projekt.controller.actions.PlayerAction;
+import projekt.model.GameState;
+import projekt.model.HexGrid;
+import projekt.model.HexGridImpl;
+import projekt.model.Player;
+import projekt.model.PlayerImpl;
+import projekt.model.ResourceType;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+public class TradeTests {
+    private static final Map<ResourceType, Integer> OFFER = Map.of(ResourceType.WOOD, 1);
+    private static final Map<ResourceType, Integer> REQUEST = Map.of(ResourceType.ORE, 1);
+
+    private GameController gameController;
+    private PlayerController alice;
+    private PlayerController bob;
+    private PlayerController carol;
+
+    @BeforeEach
+    void setUp() {
+        final HexGrid hexGrid = new HexGridImpl(1);
+        final List<Player> players = new ArrayList<>();
+        for (int id = 1; id <= 3; id++) {
+            players.add(new PlayerImpl.Builder(id).color(Color.gray(id / 4.0)).ai(true).build(hexGrid));
+        }
+        final Map<Player, PlayerController> playerControllers = new LinkedHashMap<>();
+        this.gameController = new GameController(new GameState(hexGrid, players), playerControllers, () -> 1);
+        for (final Player player : players) {
+            playerControllers.put(player, new PlayerController(this.gameController, player));
+        }
+        this.alice = playerControllers.get(players.get(0));
+        this.bob = playerControllers.get(players.get(1));
+        this.carol = playerControllers.get(players.get(2));
+        this.alice.getPlayer().addResources(OFFER);
+        this.bob.getPlayer().addResources(REQUEST);
+        this.carol.getPlayer().addResources(REQUEST);
+    }
+
+    /**
+     * Makes the given player answer every trade offer as soon as it is asked, after running the given hook.
+     */
+    private static void answerWith(final PlayerController playerController, final boolean accepted, final Runnable hook) {
+        playerController.getPlayerObjectiveProperty().addListener((observable, oldValue, newValue) -> {
+            if (newValue == PlayerObjective.ACCEPT_TRADE) {
+                hook.run();
+                playerController.triggerAction(new AcceptTradeAction(accepted));
+            }
+        });
+    }
+
+    /**
+     * Asserts that the given player holds exactly the given resources.
+     */
+    private static void assertResources(final Map<ResourceType, Integer> expected, final Player player) {
+        for (final ResourceType resourceType : ResourceType.values()) {
+            Assertions.assertEquals(
+                expected.getOrDefault(resourceType, 0),
+                player.getResources().getOrDefault(resourceType, 0),
+                resourceType::name
+            );
+        }
+    }
+
+    @Test
+    @DisplayName("An offer is sent to all AI candidates at once")
+    void testBroadcast() {
+        final CountDownLatch asked = new CountDownLatch(2);
+        final List<Boolean> askedTogether = new CopyOnWriteArrayList<>();
+        final Runnable waitForOthers = () -> {
+            asked.countDown();
+            try {
+                // a sequential offer would only ask the next candidate after this one answered
+                askedTogether.add(asked.await(5, TimeUnit.SECONDS));
+            } catch (final InterruptedException e) {
+                askedTogether.add(false);
+            }
+        };
+        answerWith(this.bob, false, waitForOthers);
+        answerWith(this.carol, false, waitForOthers);
+
+        Assertions.assertTimeoutPreemptively(
+            Duration.ofSeconds(10),
+            () -> this.gameController.offerTrade(this.alice.getPlayer(), OFFER, REQUEST)
+        );
+
+        Assertions.assertEquals(List.of(true, true), askedTogether);
+        assertResources(OFFER, this.alice.getPlayer());
+    }
+
+    @Test
+    @DisplayName("Candidates that do not answer in time are treated as declining")
+    void testTimeout() {
+        this.gameController.setTradeResponseTimeout(100);
+
+        Assertions.assertTimeoutPreemptively(
+            Duration.ofSeconds(5),
+            () -> this.gameController.offerTrade(this.alice.getPlayer(), OFFER, REQUEST)
+        );
+
+        assertResources(OFFER, this.alice.getPlayer());
+        assertResources(REQUEST, this.bob.getPlayer());
+        assertResources(REQUEST, this.carol.getPlayer());
+        Assertions.assertEquals(PlayerObjective.IDLE, this.bob.getPlayerObjectiveProperty().getValue());
+        Assertions.assertEquals(PlayerObjective.IDLE, this.carol.getPlayerObjectiveProperty().getValue());
+        Assertions.assertEquals(this.alice, this.gameController.getActivePlayerController());
+    }
+
+    @Test
+    @DisplayName("Only the first acceptance is settled")
+    void testSettlement() {
+        final List<Player> accepted = new CopyOnWriteArrayList<>();
+        this.gameController.addGameEventListener(new GameEventListener() {
+            @Override
+            public void actionAccepted(final Player player, final PlayerAction action) {
+                accepted.add(player);
+            }
+        });
+        answerWith(this.bob, true, () -> {});
+        answerWith(this.carol, true, () -> {});
+
+        Assertions.assertTimeoutPreemptively(
+            Duration.ofSeconds(10),
+            () -> this.gameController.offerTrade(this.alice.getPlayer(), OFFER, REQUEST)
+        );
+
+        assertResources(REQUEST, this.alice.getPlayer());
+        Assertions.assertEquals(1, accepted.size());
+        final Player partner = accepted.get(0);
+        final Player other = partner.equals(this.bob.getPlayer()) ? this.carol.getPlayer() : this.bob.getPlayer();
+        assertResources(OFFER, partner);
+        assertResources(REQUEST, other);
+    }
+}
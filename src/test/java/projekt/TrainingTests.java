@@ -0,0 +1,182 @@
+package projekt;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import projekt.controller.GameController;
+import projekt.controller.PlayerController;
+import projekt.controller.actions.EndTurnAction;
+import projekt.controller.simulation.SimulationRunner;
+import projekt.controller.training.FeatureExtractor;
+import projekt.controller.training.SampleRecorder;
+import projekt.controller.training.SampleWriter;
+import projekt.model.GameState;
+import projekt.model.HexGrid;
+import projekt.model.Intersection;
+import projekt.model.Player;
+import projekt.model.ResourceType;
+import projekt.model.TilePosition;
+import projekt.model.buildings.Edge;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+public class TrainingTests {
+    private static final double EPSILON = 1e-6;
+
+    @TempDir
+    Path directory;
+
+    private HexGrid hexGrid;
+    private GameController gameController;
+    private Player alice;
+    private Player bob;
+
+    @BeforeEach
+    void setUp() {
+        // the center is rolled on a 6, all other tiles on a 2
+        this.hexGrid = TestBoards.woodland(6, 2, 2, 2, 2, 2, 2);
+        final List<Player> players = TestBoards.players(this.hexGrid, 2);
+        this.alice = players.get(0);
+        this.bob = players.get(1);
+        final Map<Player, PlayerController> playerControllers = new LinkedHashMap<>();
+        this.gameController = new GameController(
+            new GameState(this.hexGrid, List.of(this.alice, this.bob)),
+            playerControllers,
+            () -> 1
+        );
+        playerControllers.put(this.alice, new PlayerController(this.gameController, this.alice));
+        playerControllers.put(this.bob, new PlayerController(this.gameController, this.bob));
+    }
+
+    /**
+     * Returns the value of the feature with the given name.
+     */
+    private static float feature(final float[] features, final String name) {
+        final int index = FeatureExtractor.FEATURE_NAMES.indexOf(name);
+        Assertions.assertTrue(index >= 0, name);
+        return features[index];
+    }
+
+    /**
+     * Returns the samples of the given file after checking its header.
+     */
+    private static List<float[]> readSamples(final Path file) throws IOException {
+        final ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(file)).order(ByteOrder.LITTLE_ENDIAN);
+        Assertions.assertEquals(SampleWriter.MAGIC, buffer.getInt());
+        Assertions.assertEquals(SampleWriter.VERSION, buffer.getInt());
+        Assertions.assertEquals(FeatureExtractor.FEATURE_COUNT, buffer.getInt());
+        Assertions.assertEquals(SampleWriter.LABEL_COUNT, buffer.getInt());
+        Assertions.assertEquals(0, buffer.remaining() % (SampleWriter.SAMPLE_SIZE * Float.BYTES));
+        final List<float[]> samples = new ArrayList<>();
+        while (buffer.hasRemaining()) {
+            final float[] sample = new float[SampleWriter.SAMPLE_SIZE];
+            buffer.asFloatBuffer().get(sample);
+            buffer.position(buffer.position() + sample.length * Float.BYTES);
+            samples.add(sample);
+        }
+        return samples;
+    }
+
+    @Test
+    @DisplayName("Features describe the player's buildings, hand and production")
+    void testExtract() {
+        final Intersection intersection = this.hexGrid.getTileAt(new TilePosition(0, 0)).getIntersections().iterator().next();
+        Assertions.assertTrue(intersection.placeVillage(this.alice, true));
+        final Edge edge = intersection.getConnectedEdges().iterator().next();
+        Assertions.assertTrue(this.hexGrid.addRoad(edge.getPosition1(), edge.getPosition2(), this.alice, true));
+        this.alice.addResource(ResourceType.WOOD, 2);
+        this.bob.addResource(ResourceType.ORE, 3);
+        final float[] features = new float[FeatureExtractor.FEATURE_COUNT + 1];
+
+        new FeatureExtractor(this.gameController).extract(this.alice, new EndTurnAction(), features, 1);
+        final float[] aliceFeatures = Arrays.copyOfRange(features, 1, features.length);
+
+        Assertions.assertEquals(FeatureExtractor.FEATURE_COUNT, FeatureExtractor.FEATURE_NAMES.size());
+        Assertions.assertEquals(0, features[0]);
+        Assertions.assertEquals(1, feature(aliceFeatures, "victory_points"));
+        Assertions.assertEquals(0, feature(aliceFeatures, "opponent_max_victory_points"));
+        Assertions.assertEquals(2, feature(aliceFeatures, "resources"));
+        Assertions.assertEquals(3, feature(aliceFeatures, "opponent_resources"));
+        Assertions.assertEquals(2, feature(aliceFeatures, "resources.wood"));
+        Assertions.assertEquals(1, feature(aliceFeatures, "roads"));
+        Assertions.assertEquals(2, feature(aliceFeatures, "road_reach"));
+        Assertions.assertEquals(this.alice.getRemainingVillages(), feature(aliceFeatures, "remaining_villages"));
+        Assertions.assertEquals(7 / 36.0, feature(aliceFeatures, "production.wood"), EPSILON);
+        Assertions.assertEquals(0, feature(aliceFeatures, "production.ore"), EPSILON);
+        Assertions.assertEquals(4, feature(aliceFeatures, "trade_ratio.wood"));
+    }
+
+    @Test
+    @DisplayName("The robber stops the production of its tile")
+    void testExtractWithRobber() {
+        final Intersection intersection = this.hexGrid.getTileAt(new TilePosition(0, 0)).getIntersections().iterator().next();
+        Assertions.assertTrue(intersection.placeVillage(this.alice, true));
+        this.hexGrid.setRobberPosition(new TilePosition(0, 0));
+        final float[] features = new float[FeatureExtractor.FEATURE_COUNT];
+
+        new FeatureExtractor(this.gameController).extract(this.alice, new EndTurnAction(), features, 0);
+
+        Assertions.assertEquals(2 / 36.0, feature(features, "production.wood"), EPSILON);
+    }
+
+    @Test
+    @DisplayName("The writer appends all submitted samples after the header")
+    void testWriter() throws IOException {
+        final Path file = this.directory.resolve("samples.bin");
+        final float[] first = new float[2 * SampleWriter.SAMPLE_SIZE];
+        final float[] second = new float[3 * SampleWriter.SAMPLE_SIZE];
+        for (int i = 0; i < first.length; i++) {
+            first[i] = i;
+        }
+        for (int i = 0; i < second.length; i++) {
+            second[i] = -i;
+        }
+
+        final SampleWriter writer = new SampleWriter(file);
+        writer.submit(first, 2);
+        writer.submit(new float[0], 0);
+        // only the given number of samples is written
+        writer.submit(second, 1);
+        writer.close();
+
+        Assertions.assertEquals(3, writer.getSampleCount());
+
+        final List<float[]> samples = readSamples(file);
+        Assertions.assertEquals(3, samples.size());
+        Assertions.assertArrayEquals(Arrays.copyOfRange(first, SampleWriter.SAMPLE_SIZE, first.length), samples.get(1));
+        Assertions.assertArrayEquals(Arrays.copyOf(second, SampleWriter.SAMPLE_SIZE), samples.get(2));
+    }
+
+    @Test
+    @DisplayName("Samples of a game stopped at the round limit are labelled as unfinished")
+    void testStoppedGameLabels() throws IOException {
+        final Path file = this.directory.resolve("samples.bin");
+        final GameController seededController = SimulationRunner.createGame(3, 3, 3);
+
+        try (SampleWriter writer = new SampleWriter(file)) {
+            final SampleRecorder recorder = new SampleRecorder(seededController, writer);
+            recorder.attach();
+            seededController.playGame();
+            recorder.finish();
+        }
+
+        Assertions.assertTrue(seededController.isRoundLimitReached());
+        final List<float[]> samples = readSamples(file);
+        Assertions.assertFalse(samples.isEmpty());
+        for (final float[] sample : samples) {
+            Assertions.assertEquals(0, sample[FeatureExtractor.FEATURE_COUNT]);
+            Assertions.assertEquals(0, sample[FeatureExtractor.FEATURE_COUNT + 2]);
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package projekt.controller.gui;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicReference;
+
+public class SpscRingBufferTests {
+    @Test
+    @DisplayName("The capacity is rounded up to the next power of two")
+    void testCapacity() {
+        Assertions.assertEquals(2, new SpscRingBuffer<Integer>(1).capacity());
+        Assertions.assertEquals(4, new SpscRingBuffer<Integer>(4).capacity());
+        Assertions.assertEquals(8, new SpscRingBuffer<Integer>(5).capacity());
+    }
+
+    @Test
+    @DisplayName("A full buffer rejects elements until one is polled")
+    void testFull() {
+        final SpscRingBuffer<Integer> buffer = new SpscRingBuffer<>(4);
+        for (int i = 0; i < 4; i++) {
+            Assertions.assertTrue(buffer.offer(i));
+        }
+
+        Assertions.assertFalse(buffer.offer(4));
+        Assertions.assertEquals(4, buffer.size());
+        Assertions.assertEquals(0, buffer.poll());
+        Assertions.assertTrue(buffer.offer(4));
+        Assertions.assertFalse(buffer.offer(5));
+        for (int i = 1; i <= 4; i++) {
+            Assertions.assertEquals(i, buffer.poll());
+        }
+        Assertions.assertNull(buffer.poll());
+        Assertions.assertEquals(0, buffer.size());
+    }
+
+    @Test
+    @DisplayName("Elements keep their order when the buffer wraps around")
+    void testWrapAround() {
+        final SpscRingBuffer<Integer> buffer = new SpscRingBuffer<>(4);
+        int next = 0;
+        int expected = 0;
+        // three elements per pass move the start of the buffer across every slot
+        for (int pass = 0; pass < 10; pass++) {
+            for (int i = 0; i < 3; i++) {
+                Assertions.assertTrue(buffer.offer(next++));
+            }
+            for (int i = 0; i < 3; i++) {
+                Assertions.assertEquals(expected++, buffer.poll());
+            }
+        }
+        Assertions.assertNull(buffer.poll());
+    }
+
+    @Test
+    @DisplayName("A consumer thread receives every element of a producer thread in order")
+    void testConcurrentOrder() {
+        final int count = 5_000_000;
+        final SpscRingBuffer<Integer> buffer = new SpscRingBuffer<>(1024);
+        final AtomicReference<String> failure = new AtomicReference<>();
+        final Thread consumer = new Thread(() -> {
+            int expected = 0;
+            while (expected < count) {
+                final Integer element = buffer.poll();
+                if (element == null) {
+                    Thread.yield();
+                } else if (element != expected++) {
+                    failure.set("Expected " + (expected - 1) + " but got " + element);
+                    return;
+                }
+            }
+        });
+
+        Assertions.assertTimeoutPreemptively(Duration.ofSeconds(60), () -> {
+            consumer.start();
+            for (int i = 0; i < count && failure.get() == null; i++) {
+                while (!buffer.offer(i) && failure.get() == null) {
+                    Thread.yield();
+                }
+            }
+            consumer.join();
+        });
+
+        Assertions.assertNull(failure.get());
+        Assertions.assertEquals(0, buffer.size());
+    }
+}